@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -180,6 +180,30 @@ public final class Apache5ClientProperties {
      */
     public static final String USE_SYSTEM_PROPERTIES = "jersey.config.apache5.client.useSystemProperties";
 
+    /**
+     * A value of {@code true} indicates that the asynchronous requests, e.g. {@link jakarta.ws.rs.client.AsyncInvoker}
+     * or {@link jakarta.ws.rs.client.RxInvoker} requests, are executed by the Apache HTTP asynchronous client
+     * ({@link org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient}) with a
+     * {@link org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager}. No thread waits for the response
+     * then, the response is handed over to the client once its headers are received and the response entity is streamed
+     * as it arrives. A streamed request entity is written by the thread which executes the request.
+     * <p>
+     * The asynchronous client is configured by the same properties as the classic client, except for
+     * {@link #CONNECTION_MANAGER} and {@link org.glassfish.jersey.client.ClientProperties#CHUNKED_ENCODING_SIZE}.
+     * The synchronous requests are always executed by the classic client.
+     * <p>
+     * This property may only be set prior to constructing Apache connector using {@link Apache5ConnectorProvider}.
+     * <p/>
+     * The value MUST be an instance of {@link java.lang.Boolean}.
+     * <p/>
+     * The default value is {@code false}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 4.1.0
+     */
+    public static final String ASYNC_CLIENT = "jersey.config.apache5.client.async";
+
     /**
      * Get the value of the specified property.
      *
@@ -25,16 +25,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Socket;
+import java.net.SocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -70,29 +75,54 @@ import org.apache.hc.client5.http.cookie.StandardCookieSpec;
 import org.apache.hc.client5.http.impl.auth.BasicAuthCache;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.auth.BasicScheme;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.BasicHttpClientResponseHandler;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ConnectionReuseStrategy;
+import org.apache.hc.core5.http.EntityDetails;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.config.Http1Config;
 import org.apache.hc.core5.http.config.Registry;
 import org.apache.hc.core5.http.config.RegistryBuilder;
 import org.apache.hc.core5.http.impl.DefaultContentLengthStrategy;
 import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
 import org.apache.hc.core5.http.io.entity.BufferedHttpEntity;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.nio.support.classic.SharedInputBuffer;
+import org.apache.hc.core5.http.nio.support.classic.SharedOutputBuffer;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.net.NamedEndpoint;
+import org.apache.hc.core5.reactor.ssl.SSLBufferMode;
+import org.apache.hc.core5.reactor.ssl.SSLSessionInitializer;
+import org.apache.hc.core5.reactor.ssl.SSLSessionVerifier;
+import org.apache.hc.core5.reactor.ssl.TlsDetails;
+import org.apache.hc.core5.reactor.ssl.TransportSecurityLayer;
 import org.apache.hc.core5.ssl.SSLContexts;
 import org.apache.hc.core5.util.TextUtils;
 import org.apache.hc.core5.util.Timeout;
@@ -105,6 +135,7 @@ import org.glassfish.jersey.client.innate.ClientProxy;
 import org.glassfish.jersey.client.innate.http.SSLParamConfigurator;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
 import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.innate.VirtualThreadUtil;
 import org.glassfish.jersey.innate.io.InputStreamWrapper;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.message.internal.HeaderUtils;
@@ -186,6 +217,7 @@ class Apache5Connector implements Connector {
 
     private static final Logger LOGGER = Logger.getLogger(Apache5Connector.class.getName());
     private static final String JERSEY_REQUEST_ATTR_NAME = "JerseyRequestAttribute";
+    private static final int ASYNC_BUFFER_SIZE = 64 * 1024;
     private static final VersionInfo vi;
     private static final String release;
 
@@ -195,6 +227,8 @@ class Apache5Connector implements Connector {
     }
 
     private final CloseableHttpClient client;
+    private final CloseableHttpAsyncClient asyncClient;
+    private final ExecutorService callbackExecutor;
     private final CookieStore cookieStore;
     private final boolean preemptiveBasicAuth;
     private final RequestConfig requestConfig;
@@ -266,9 +300,16 @@ class Apache5Connector implements Connector {
 
         final SSLContext sslContext = client.getSslContext();
         final HttpClientBuilder clientBuilder = HttpClientBuilder.create();
+        final HttpAsyncClientBuilder asyncClientBuilder =
+                PropertiesHelper.isProperty(config.getProperties(), Apache5ClientProperties.ASYNC_CLIENT)
+                        ? HttpAsyncClientBuilder.create()
+                        : null;
 
         if (useSystemProperties) {
             clientBuilder.useSystemProperties();
+            if (asyncClientBuilder != null) {
+                asyncClientBuilder.useSystemProperties();
+            }
         }
 
         clientBuilder.setConnectionManager(getConnectionManager(client, config, sslContext, useSystemProperties));
@@ -286,17 +327,32 @@ class Apache5Connector implements Connector {
         if (reuseStrategy != null) {
             clientBuilder.setConnectionReuseStrategy((ConnectionReuseStrategy) reuseStrategy);
         }
+        if (asyncClientBuilder != null) {
+            asyncClientBuilder.setConnectionManager(createAsyncConnectionManager(client, sslContext, useSystemProperties));
+            if (keepAliveStrategy != null) {
+                asyncClientBuilder.setKeepAliveStrategy((ConnectionKeepAliveStrategy) keepAliveStrategy);
+            }
+            if (reuseStrategy != null) {
+                asyncClientBuilder.setConnectionReuseStrategy((ConnectionReuseStrategy) reuseStrategy);
+            }
+        }
 
         final RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
 
         final Object credentialsProvider = config.getProperty(Apache5ClientProperties.CREDENTIALS_PROVIDER);
         if (credentialsProvider != null && (credentialsProvider instanceof CredentialsProvider)) {
             clientBuilder.setDefaultCredentialsProvider((CredentialsProvider) credentialsProvider);
+            if (asyncClientBuilder != null) {
+                asyncClientBuilder.setDefaultCredentialsProvider((CredentialsProvider) credentialsProvider);
+            }
         }
 
         final Object retryHandler = config.getProperties().get(Apache5ClientProperties.RETRY_STRATEGY);
         if (retryHandler != null && (retryHandler instanceof HttpRequestRetryStrategy)) {
             clientBuilder.setRetryStrategy((HttpRequestRetryStrategy) retryHandler);
+            if (asyncClientBuilder != null) {
+                asyncClientBuilder.setRetryStrategy((HttpRequestRetryStrategy) retryHandler);
+            }
         }
 
         final Optional<ClientProxy> proxy = ClientProxy.proxyFromConfiguration(config);
@@ -310,8 +366,14 @@ class Apache5Connector implements Connector {
                         new UsernamePasswordCredentials(clientProxy.userName(), clientProxy.password().toCharArray())
                 );
                 clientBuilder.setDefaultCredentialsProvider(credsProvider);
+                if (asyncClientBuilder != null) {
+                    asyncClientBuilder.setDefaultCredentialsProvider(credsProvider);
+                }
             }
             clientBuilder.setProxy(proxyHost);
+            if (asyncClientBuilder != null) {
+                asyncClientBuilder.setProxy(proxyHost);
+            }
         });
 
         final Boolean preemptiveBasicAuthProperty = (Boolean) config.getProperties()
@@ -339,10 +401,16 @@ class Apache5Connector implements Connector {
         if (requestConfig.getCookieSpec() == null || !requestConfig.getCookieSpec().equals(StandardCookieSpec.IGNORE)) {
             this.cookieStore = new BasicCookieStore();
             clientBuilder.setDefaultCookieStore(cookieStore);
+            if (asyncClientBuilder != null) {
+                asyncClientBuilder.setDefaultCookieStore(cookieStore);
+            }
         } else {
             this.cookieStore = null;
         }
         clientBuilder.setDefaultRequestConfig(requestConfig);
+        if (asyncClientBuilder != null) {
+            asyncClientBuilder.setDefaultRequestConfig(requestConfig);
+        }
 
         LinkedList<Object> contracts = config.getInstances().stream()
                 .filter(Apache5HttpClientBuilderConfigurator.class::isInstance)
@@ -354,6 +422,19 @@ class Apache5Connector implements Connector {
         }
 
         this.client = configuredBuilder.build();
+
+        if (asyncClientBuilder != null) {
+            HttpAsyncClientBuilder configuredAsyncBuilder = asyncClientBuilder;
+            for (Object configurator : contracts) {
+                configuredAsyncBuilder = ((Apache5HttpClientBuilderConfigurator) configurator).configure(configuredAsyncBuilder);
+            }
+            this.asyncClient = configuredAsyncBuilder.build();
+            this.asyncClient.start();
+            this.callbackExecutor = VirtualThreadUtil.withConfig(config).newCachedThreadPool();
+        } else {
+            this.asyncClient = null;
+            this.callbackExecutor = null;
+        }
     }
 
     private HttpClientConnectionManager getConnectionManager(final Client client,
@@ -438,6 +519,47 @@ class Apache5Connector implements Connector {
         return connectionManager;
     }
 
+    private static AsyncClientConnectionManager createAsyncConnectionManager(final Client client,
+                                                                             final SSLContext sslContext,
+                                                                             final boolean useSystemProperties) {
+        final ClientTlsStrategyBuilder tlsStrategyBuilder = ClientTlsStrategyBuilder.create();
+        if (sslContext != null) {
+            tlsStrategyBuilder.setSslContext(sslContext);
+        } else {
+            tlsStrategyBuilder.setSslContext(useSystemProperties
+                    ? SSLContexts.createSystemDefault() : SSLContexts.createDefault());
+        }
+        if (client.getHostnameVerifier() != null) {
+            tlsStrategyBuilder.setHostnameVerifier(client.getHostnameVerifier());
+        }
+
+        final PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder =
+                PoolingAsyncClientConnectionManagerBuilder.create();
+
+        if (useSystemProperties) {
+            final String[] supportedProtocols = split(System.getProperty("https.protocols"));
+            if (supportedProtocols != null) {
+                tlsStrategyBuilder.setTlsVersions(supportedProtocols);
+            }
+            final String[] supportedCipherSuites = split(System.getProperty("https.cipherSuites"));
+            if (supportedCipherSuites != null) {
+                tlsStrategyBuilder.setCiphers(supportedCipherSuites);
+            }
+
+            String s = System.getProperty("http.keepAlive", "true");
+            if ("true".equalsIgnoreCase(s)) {
+                s = System.getProperty("http.maxConnections", "5");
+                final int max = Integer.parseInt(s);
+                connectionManagerBuilder.setMaxConnPerRoute(max);
+                connectionManagerBuilder.setMaxConnTotal(2 * max);
+            }
+        }
+
+        return connectionManagerBuilder
+                .setTlsStrategy(new SniTlsStrategy(tlsStrategyBuilder.build(), client.getConfiguration()))
+                .build();
+    }
+
     private static String[] split(final String s) {
         if (TextUtils.isBlank(s)) {
             return null;
@@ -472,65 +594,14 @@ class Apache5Connector implements Connector {
 
         try {
             final CloseableHttpResponse response;
-            final HttpClientContext context = HttpClientContext.create();
             final HttpHost httpHost = getHost(request);
+            final HttpClientContext context = createHttpContext(clientRequest, httpHost);
 
-            // If a request-specific CredentialsProvider exists, use it instead of the default one
-            CredentialsProvider credentialsProvider =
-                    clientRequest.resolveProperty(Apache5ClientProperties.CREDENTIALS_PROVIDER, CredentialsProvider.class);
-            if (credentialsProvider != null) {
-                context.setCredentialsProvider(credentialsProvider);
-            }
-
-            if (preemptiveBasicAuth) {
-                final AuthCache authCache = new BasicAuthCache();
-                final BasicScheme basicScheme = new BasicScheme();
-                final AuthScope authScope = new AuthScope(httpHost);
-                basicScheme.initPreemptive(credentialsProvider.getCredentials(authScope, context));
-                context.resetAuthExchange(httpHost, basicScheme);
-                authCache.put(httpHost, basicScheme); // must be after initPreemptive
-                context.setAuthCache(authCache);
-            }
-
-            context.setAttribute(JERSEY_REQUEST_ATTR_NAME, clientRequest);
             response = client.execute(httpHost, request, context);
             HeaderUtils.checkHeaderChanges(clientHeadersSnapshot, clientRequest.getHeaders(),
                     this.getClass().getName(), clientRequest.getConfiguration());
 
-            final Response.StatusType status = response.getReasonPhrase() == null
-                    ? Statuses.from(response.getCode())
-                    : Statuses.from(response.getCode(), response.getReasonPhrase());
-
-            final ClientResponse responseContext = new ClientResponse(status, clientRequest);
-            final List<URI> redirectLocations = context.getRedirectLocations().getAll();
-            if (redirectLocations != null && !redirectLocations.isEmpty()) {
-                responseContext.setResolvedRequestUri(redirectLocations.get(redirectLocations.size() - 1));
-            }
-
-            final Header[] respHeaders = response.getHeaders();
-            final MultivaluedMap<String, String> headers = responseContext.getHeaders();
-            for (final Header header : respHeaders) {
-                final String headerName = header.getName();
-                List<String> list = headers.get(headerName);
-                if (list == null) {
-                    list = new ArrayList<>();
-                }
-                list.add(header.getValue());
-                headers.put(headerName, list);
-            }
-
-            final HttpEntity entity = response.getEntity();
-
-            if (entity != null) {
-                if (headers.get(HttpHeaders.CONTENT_LENGTH) == null && entity.getContentLength() >= 0) {
-                    headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(entity.getContentLength()));
-                }
-
-                final String contentEncoding = entity.getContentEncoding();
-                if (headers.get(HttpHeaders.CONTENT_ENCODING) == null && contentEncoding != null && !contentEncoding.isEmpty()) {
-                    headers.add(HttpHeaders.CONTENT_ENCODING, contentEncoding);
-                }
-            }
+            final ClientResponse responseContext = translateResponse(clientRequest, response, response.getEntity(), context);
 
             try {
                 final ConnectionClosingMechanism closingMechanism = new ConnectionClosingMechanism(clientRequest, request);
@@ -547,6 +618,10 @@ class Apache5Connector implements Connector {
 
     @Override
     public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        // Apache HTTP entities and request specific SNI host names are only supported by the classic client
+        if (asyncClient != null && !HttpEntity.class.isInstance(request.getEntity()) && !requiresRequestSni(request)) {
+            return applyAsync(request, callback);
+        }
         try {
             ClientResponse response = apply(request);
             callback.response(response);
@@ -559,6 +634,157 @@ class Apache5Connector implements Connector {
         }
     }
 
+    private Future<?> applyAsync(final ClientRequest clientRequest, final AsyncConnectorCallback callback) {
+        final AtomicBoolean callbackInvoked = new AtomicBoolean(false);
+        Future<ClientResponse> future = null;
+        try {
+            final URI uri = clientRequest.getUri();
+            final BasicHttpRequest request = new BasicHttpRequest(clientRequest.getMethod(), uri);
+            final Map<String, String> clientHeadersSnapshot = writeOutBoundHeaders(clientRequest, request);
+            final HttpClientContext context = createHttpContext(clientRequest, getHost(uri));
+            context.setRequestConfig(getRequestConfig(clientRequest));
+
+            final AsyncEntityProducer entityProducer;
+            final StreamingEntityProducer streamingEntityProducer;
+            if (clientRequest.getEntity() == null) {
+                entityProducer = null;
+                streamingEntityProducer = null;
+            } else if (clientRequest.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING,
+                    RequestEntityProcessing.class) == RequestEntityProcessing.BUFFERED) {
+                final ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+                clientRequest.setStreamProvider(contentLength -> buffer);
+                clientRequest.writeEntity();
+                entityProducer = new BasicAsyncEntityProducer(buffer.toByteArray(), null);
+                streamingEntityProducer = null;
+            } else {
+                streamingEntityProducer = new StreamingEntityProducer();
+                entityProducer = streamingEntityProducer;
+            }
+
+            final ResponseConsumer responseConsumer = new ResponseConsumer(clientRequest, context);
+            future = asyncClient.execute(new BasicRequestProducer(request, entityProducer), responseConsumer, context,
+                    new FutureCallback<ClientResponse>() {
+                        @Override
+                        public void completed(final ClientResponse response) {
+                            if (callbackInvoked.compareAndSet(false, true)) {
+                                // the response entity is read by the callback, it must not block the I/O reactor thread
+                                callbackExecutor.execute(() -> callback.response(response));
+                            }
+                        }
+
+                        @Override
+                        public void failed(final Exception ex) {
+                            if (callbackInvoked.compareAndSet(false, true)) {
+                                callbackExecutor.execute(() -> callback.failure(ex));
+                            }
+                        }
+
+                        @Override
+                        public void cancelled() {
+                            failed(new CancellationException());
+                        }
+                    });
+
+            if (streamingEntityProducer != null) {
+                streamingEntityProducer.writeEntity(clientRequest);
+            }
+            HeaderUtils.checkHeaderChanges(clientHeadersSnapshot, clientRequest.getHeaders(),
+                    this.getClass().getName(), clientRequest.getConfiguration());
+            return future;
+        } catch (final Throwable t) {
+            if (future != null) {
+                future.cancel(true);
+            }
+            if (callbackInvoked.compareAndSet(false, true)) {
+                callback.failure(t instanceof ProcessingException ? t : new ProcessingException(t));
+            }
+            final CompletableFuture<Object> failed = new CompletableFuture<>();
+            failed.completeExceptionally(t);
+            return failed;
+        }
+    }
+
+    /**
+     * Check whether the request needs an SNI host name other than the one the async TLS strategy sets from the client
+     * configuration, e.g. because of its {@code Host} header. The TLS strategy does not see the requests.
+     */
+    private static boolean requiresRequestSni(final ClientRequest clientRequest) {
+        if (!"https".equalsIgnoreCase(clientRequest.getUri().getScheme())) {
+            return false;
+        }
+        final SSLParamConfigurator requestSni = SSLParamConfigurator.builder().request(clientRequest)
+                .setSNIHostName(clientRequest).build();
+        if (!requestSni.isSNIRequired()) {
+            return false;
+        }
+        final SSLParamConfigurator clientSni = SSLParamConfigurator.builder().uri(clientRequest.getUri())
+                .setSNIHostName(clientRequest.getConfiguration()).build();
+        return !clientSni.isSNIRequired() || !clientSni.getSNIHostName().equals(requestSni.getSNIHostName());
+    }
+
+    private HttpClientContext createHttpContext(final ClientRequest clientRequest, final HttpHost httpHost) {
+        final HttpClientContext context = HttpClientContext.create();
+
+        // If a request-specific CredentialsProvider exists, use it instead of the default one
+        CredentialsProvider credentialsProvider =
+                clientRequest.resolveProperty(Apache5ClientProperties.CREDENTIALS_PROVIDER, CredentialsProvider.class);
+        if (credentialsProvider != null) {
+            context.setCredentialsProvider(credentialsProvider);
+        }
+
+        if (preemptiveBasicAuth) {
+            final AuthCache authCache = new BasicAuthCache();
+            final BasicScheme basicScheme = new BasicScheme();
+            final AuthScope authScope = new AuthScope(httpHost);
+            basicScheme.initPreemptive(credentialsProvider.getCredentials(authScope, context));
+            context.resetAuthExchange(httpHost, basicScheme);
+            authCache.put(httpHost, basicScheme); // must be after initPreemptive
+            context.setAuthCache(authCache);
+        }
+
+        context.setAttribute(JERSEY_REQUEST_ATTR_NAME, clientRequest);
+        return context;
+    }
+
+    private static ClientResponse translateResponse(final ClientRequest clientRequest,
+                                                    final HttpResponse response,
+                                                    final EntityDetails entity,
+                                                    final HttpClientContext context) {
+        final Response.StatusType status = response.getReasonPhrase() == null
+                ? Statuses.from(response.getCode())
+                : Statuses.from(response.getCode(), response.getReasonPhrase());
+
+        final ClientResponse responseContext = new ClientResponse(status, clientRequest);
+        final List<URI> redirectLocations = context.getRedirectLocations().getAll();
+        if (redirectLocations != null && !redirectLocations.isEmpty()) {
+            responseContext.setResolvedRequestUri(redirectLocations.get(redirectLocations.size() - 1));
+        }
+
+        final Header[] respHeaders = response.getHeaders();
+        final MultivaluedMap<String, String> headers = responseContext.getHeaders();
+        for (final Header header : respHeaders) {
+            final String headerName = header.getName();
+            List<String> list = headers.get(headerName);
+            if (list == null) {
+                list = new ArrayList<>();
+            }
+            list.add(header.getValue());
+            headers.put(headerName, list);
+        }
+
+        if (entity != null) {
+            if (headers.get(HttpHeaders.CONTENT_LENGTH) == null && entity.getContentLength() >= 0) {
+                headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(entity.getContentLength()));
+            }
+
+            final String contentEncoding = entity.getContentEncoding();
+            if (headers.get(HttpHeaders.CONTENT_ENCODING) == null && contentEncoding != null && !contentEncoding.isEmpty()) {
+                headers.add(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+            }
+        }
+        return responseContext;
+    }
+
     @Override
     public String getName() {
         return "Apache HttpClient " + release;
@@ -568,16 +794,38 @@ class Apache5Connector implements Connector {
     public void close() {
         try {
             client.close();
+            if (asyncClient != null) {
+                asyncClient.close();
+                callbackExecutor.shutdown();
+            }
         } catch (final IOException e) {
             throw new ProcessingException(LocalizationMessages.FAILED_TO_STOP_CLIENT(), e);
         }
     }
 
     private HttpHost getHost(final HttpUriRequest request) throws URISyntaxException {
-        return new HttpHost(request.getUri().getScheme(), request.getUri().getHost(), request.getUri().getPort());
+        return getHost(request.getUri());
+    }
+
+    private static HttpHost getHost(final URI uri) {
+        return new HttpHost(uri.getScheme(), uri.getHost(), uri.getPort());
     }
 
     private HttpUriRequest getUriHttpRequest(final ClientRequest clientRequest) {
+        final RequestConfig config = getRequestConfig(clientRequest);
+
+        final Boolean bufferingEnabled = clientRequest.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING,
+                RequestEntityProcessing.class) == RequestEntityProcessing.BUFFERED;
+        final HttpEntity entity = getHttpEntity(clientRequest, bufferingEnabled);
+
+        HttpUriRequestBase httpUriRequestBase = new HttpUriRequestBase(clientRequest.getMethod(), clientRequest.getUri());
+        httpUriRequestBase.setConfig(config);
+        httpUriRequestBase.setEntity(entity);
+
+        return httpUriRequestBase;
+    }
+
+    private RequestConfig getRequestConfig(final ClientRequest clientRequest) {
         final RequestConfig.Builder requestConfigBuilder = RequestConfig.copy(requestConfig);
 
         final int connectTimeout = clientRequest.resolveProperty(ClientProperties.CONNECT_TIMEOUT, -1);
@@ -594,15 +842,7 @@ class Apache5Connector implements Connector {
                 clientRequest.resolveProperty(ClientProperties.FOLLOW_REDIRECTS, requestConfig.isRedirectsEnabled());
         requestConfigBuilder.setRedirectsEnabled(redirectsEnabled);
 
-        final Boolean bufferingEnabled = clientRequest.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING,
-                RequestEntityProcessing.class) == RequestEntityProcessing.BUFFERED;
-        final HttpEntity entity = getHttpEntity(clientRequest, bufferingEnabled);
-
-        HttpUriRequestBase httpUriRequestBase = new HttpUriRequestBase(clientRequest.getMethod(), clientRequest.getUri());
-        httpUriRequestBase.setConfig(requestConfigBuilder.build());
-        httpUriRequestBase.setEntity(entity);
-
-        return httpUriRequestBase;
+        return requestConfigBuilder.build();
     }
 
     private HttpEntity getHttpEntity(final ClientRequest clientRequest, final boolean bufferingEnabled) {
@@ -733,7 +973,7 @@ class Apache5Connector implements Connector {
     }
 
     private static Map<String, String> writeOutBoundHeaders(final ClientRequest clientRequest,
-                                                            final HttpUriRequest request) {
+                                                            final HttpRequest request) {
         final Map<String, String> stringHeaders =
                 HeaderUtils.asStringHeadersSingleValue(clientRequest.getHeaders(), clientRequest.getConfiguration());
 
@@ -896,6 +1136,318 @@ class Apache5Connector implements Connector {
         }
     }
 
+    /**
+     * TLS strategy of the async client setting the {@link javax.net.ssl.SNIHostName} configured by the
+     * {@link ClientProperties#SNI_HOST_NAME} client property. The requests with a request specific SNI host name are
+     * executed by the classic client.
+     */
+    private static final class SniTlsStrategy implements TlsStrategy {
+
+        private final TlsStrategy delegate;
+        private final Configuration configuration;
+
+        private SniTlsStrategy(final TlsStrategy delegate, final Configuration configuration) {
+            this.delegate = delegate;
+            this.configuration = configuration;
+        }
+
+        @Override
+        @Deprecated
+        public boolean upgrade(final TransportSecurityLayer sessionLayer,
+                               final HttpHost host,
+                               final SocketAddress localAddress,
+                               final SocketAddress remoteAddress,
+                               final Object attachment,
+                               final Timeout handshakeTimeout) {
+            return delegate.upgrade(sniLayer(sessionLayer, host), host, localAddress, remoteAddress, attachment,
+                    handshakeTimeout);
+        }
+
+        @Override
+        public void upgrade(final TransportSecurityLayer sessionLayer,
+                            final NamedEndpoint endpoint,
+                            final Object attachment,
+                            final Timeout handshakeTimeout,
+                            final FutureCallback<TransportSecurityLayer> callback) {
+            delegate.upgrade(sniLayer(sessionLayer, endpoint), endpoint, attachment, handshakeTimeout, callback);
+        }
+
+        private TransportSecurityLayer sniLayer(final TransportSecurityLayer sessionLayer, final NamedEndpoint endpoint) {
+            final URI uri;
+            try {
+                uri = new URI("https", null, endpoint.getHostName(), endpoint.getPort(), null, null, null);
+            } catch (final URISyntaxException e) {
+                return sessionLayer;
+            }
+            final SSLParamConfigurator sniConfig = SSLParamConfigurator.builder().uri(uri)
+                    .setSNIHostName(configuration).build();
+            return sniConfig.isSNIRequired() ? new SniTransportSecurityLayer(sessionLayer, sniConfig) : sessionLayer;
+        }
+    }
+
+    /**
+     * Transport security layer setting the SNI host name once the TLS session is initialized by the TLS strategy.
+     */
+    private static final class SniTransportSecurityLayer implements TransportSecurityLayer {
+
+        private final TransportSecurityLayer delegate;
+        private final SSLParamConfigurator sniConfig;
+
+        private SniTransportSecurityLayer(final TransportSecurityLayer delegate, final SSLParamConfigurator sniConfig) {
+            this.delegate = delegate;
+            this.sniConfig = sniConfig;
+        }
+
+        @Override
+        public void startTls(final SSLContext sslContext,
+                             final NamedEndpoint endpoint,
+                             final SSLBufferMode sslBufferMode,
+                             final SSLSessionInitializer initializer,
+                             final SSLSessionVerifier verifier,
+                             final Timeout handshakeTimeout) {
+            delegate.startTls(sslContext, endpoint, sslBufferMode, sniInitializer(initializer), verifier, handshakeTimeout);
+        }
+
+        @Override
+        public void startTls(final SSLContext sslContext,
+                             final NamedEndpoint endpoint,
+                             final SSLBufferMode sslBufferMode,
+                             final SSLSessionInitializer initializer,
+                             final SSLSessionVerifier verifier,
+                             final Timeout handshakeTimeout,
+                             final FutureCallback<TransportSecurityLayer> callback) {
+            delegate.startTls(sslContext, endpoint, sslBufferMode, sniInitializer(initializer), verifier, handshakeTimeout,
+                    callback);
+        }
+
+        @Override
+        public TlsDetails getTlsDetails() {
+            return delegate.getTlsDetails();
+        }
+
+        private SSLSessionInitializer sniInitializer(final SSLSessionInitializer initializer) {
+            return (endpoint, sslEngine) -> {
+                if (initializer != null) {
+                    initializer.initialize(endpoint, sslEngine);
+                }
+                sniConfig.setSNIServerName(sslEngine);
+            };
+        }
+    }
+
+    /**
+     * Request entity producer streaming the entity written by the thread executing the request to the I/O reactor.
+     */
+    private static final class StreamingEntityProducer implements AsyncEntityProducer {
+
+        private final SharedOutputBuffer buffer = new SharedOutputBuffer(ASYNC_BUFFER_SIZE);
+
+        private void writeEntity(final ClientRequest clientRequest) throws IOException {
+            final OutputStream outputStream = new OutputStream() {
+                private boolean closed;
+
+                @Override
+                public void write(final int b) throws IOException {
+                    buffer.write(b);
+                }
+
+                @Override
+                public void write(final byte[] b, final int off, final int len) throws IOException {
+                    buffer.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    if (!closed) {
+                        closed = true;
+                        buffer.writeCompleted();
+                    }
+                }
+            };
+            try {
+                clientRequest.setStreamProvider(contentLength -> outputStream);
+                clientRequest.writeEntity();
+                outputStream.close();
+            } catch (final IOException | RuntimeException e) {
+                buffer.abort();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return false;
+        }
+
+        @Override
+        public void failed(final Exception cause) {
+            buffer.abort();
+        }
+
+        @Override
+        public long getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public String getContentType() {
+            return null;
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return null;
+        }
+
+        @Override
+        public boolean isChunked() {
+            return true;
+        }
+
+        @Override
+        public Set<String> getTrailerNames() {
+            return null;
+        }
+
+        @Override
+        public int available() {
+            return buffer.length();
+        }
+
+        @Override
+        public void produce(final DataStreamChannel channel) throws IOException {
+            buffer.flush(channel);
+        }
+
+        @Override
+        public void releaseResources() {
+            buffer.abort();
+        }
+    }
+
+    /**
+     * Response consumer completing the response once its headers are received. The response entity is streamed from
+     * the I/O reactor to the thread reading the entity.
+     */
+    private static final class ResponseConsumer implements AsyncResponseConsumer<ClientResponse> {
+
+        private final ClientRequest clientRequest;
+        private final HttpClientContext context;
+        private final SharedInputBuffer buffer = new SharedInputBuffer(ASYNC_BUFFER_SIZE);
+
+        private volatile CapacityChannel capacityChannel;
+        private volatile Exception failure;
+        private volatile boolean streamEnded;
+        private volatile boolean closed;
+
+        private ResponseConsumer(final ClientRequest clientRequest, final HttpClientContext context) {
+            this.clientRequest = clientRequest;
+            this.context = context;
+        }
+
+        @Override
+        public void consumeResponse(final HttpResponse response,
+                                    final EntityDetails entityDetails,
+                                    final HttpContext httpContext,
+                                    final FutureCallback<ClientResponse> resultCallback) {
+            final ClientResponse responseContext = translateResponse(clientRequest, response, entityDetails, context);
+            if (entityDetails == null) {
+                responseContext.setEntityStream(InputStream.nullInputStream());
+            } else {
+                final InputStream i = new CancellableInputStream(new EntityInputStream(), clientRequest::isCancelled);
+                responseContext.setEntityStream(ReaderWriter.AUTOSIZE_BUFFER ? new BufferedInputStream(i)
+                        : new BufferedInputStream(i, ReaderWriter.BUFFER_SIZE));
+            }
+            resultCallback.completed(responseContext);
+        }
+
+        @Override
+        public void informationResponse(final HttpResponse response, final HttpContext httpContext) {
+            // no-op
+        }
+
+        @Override
+        public void updateCapacity(final CapacityChannel capacityChannel) throws IOException {
+            this.capacityChannel = capacityChannel;
+            buffer.updateCapacity(capacityChannel);
+        }
+
+        @Override
+        public void consume(final ByteBuffer src) throws IOException {
+            if (closed) {
+                // the rest of the entity is not read, the connection cannot be reused
+                throw new IOException(LocalizationMessages.RESPONSE_ENTITY_STREAM_CLOSED());
+            }
+            buffer.fill(src);
+        }
+
+        @Override
+        public void streamEnd(final List<? extends Header> trailers) {
+            streamEnded = true;
+            buffer.markEndStream();
+        }
+
+        @Override
+        public void failed(final Exception cause) {
+            failure = cause;
+            buffer.abort();
+        }
+
+        @Override
+        public void releaseResources() {
+            // the buffered entity is still read after the exchange is completed
+        }
+
+        private final class EntityInputStream extends InputStream {
+
+            @Override
+            public int read() throws IOException {
+                final int b = buffer.read();
+                if (b == -1) {
+                    checkFailure();
+                }
+                return b;
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                if (len == 0) {
+                    return 0;
+                }
+                final int n = buffer.read(b, off, len);
+                if (n == -1) {
+                    checkFailure();
+                }
+                return n;
+            }
+
+            @Override
+            public int available() {
+                return buffer.length();
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (!streamEnded && !closed) {
+                    closed = true;
+                    buffer.abort();
+                    final CapacityChannel channel = capacityChannel;
+                    if (channel != null) {
+                        // let the I/O reactor receive more data, so that the exchange is discarded
+                        channel.update(Integer.MAX_VALUE);
+                    }
+                }
+            }
+
+            private void checkFailure() throws IOException {
+                final Exception cause = failure;
+                if (cause != null) {
+                    throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+                }
+            }
+        }
+    }
+
     private static class CancellableInputStream extends InputStreamWrapper {
         private final InputStream in;
         private final Supplier<Boolean> isCancelled;
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.apache5.connector.test;
+
+import java.util.Arrays;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.glassfish.jersey.apache5.connector.Apache5ClientProperties;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Asynchronous connector test using the Apache HTTP asynchronous client.
+ */
+public class AsyncClientTest extends AsyncTest {
+
+    private static final byte[] LARGE_ENTITY = new byte[1024 * 1024];
+
+    static {
+        for (int i = 0; i < LARGE_ENTITY.length; i++) {
+            LARGE_ENTITY[i] = (byte) i;
+        }
+    }
+
+    @Path("echo")
+    public static class EchoResource {
+
+        @POST
+        public byte[] echo(final byte[] entity) {
+            return entity;
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return ((ResourceConfig) super.configure()).register(EchoResource.class);
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        super.configureClient(config);
+        config.property(Apache5ClientProperties.ASYNC_CLIENT, true);
+    }
+
+    @Test
+    public void testAsyncStreamedEntity() throws Exception {
+        final Future<Response> future = target("echo").request()
+                .async().post(Entity.entity(LARGE_ENTITY, MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        final Response response = future.get(10 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS);
+
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(LARGE_ENTITY, response.readEntity(byte[].class));
+    }
+
+    @Test
+    public void testAsyncBufferedEntity() throws Exception {
+        final byte[] entity = Arrays.copyOf(LARGE_ENTITY, 1000);
+        final Future<byte[]> future = target("echo").request()
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.BUFFERED)
+                .async().post(Entity.entity(entity, MediaType.APPLICATION_OCTET_STREAM_TYPE), byte[].class);
+
+        assertArrayEquals(entity, future.get(10 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAsyncEntityNotRead() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            final Response response = target("echo").request()
+                    .async().post(Entity.entity(LARGE_ENTITY, MediaType.APPLICATION_OCTET_STREAM_TYPE))
+                    .get(10 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS);
+            assertEquals(200, response.getStatus());
+            response.close();
+        }
+    }
+}
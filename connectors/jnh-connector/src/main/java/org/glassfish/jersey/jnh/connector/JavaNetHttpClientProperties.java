@@ -95,6 +95,34 @@ public class JavaNetHttpClientProperties {
     public static final String HTTP_VERSION =
             "jersey.config.jnh.client.httpVersion";
 
+    /**
+     * <p>
+     *     The maximal number of chunks of a streamed request entity buffered before the thread writing the entity is blocked
+     *     until the {@link HttpClient} sends the buffered chunks. The request entity is streamed when
+     *     {@link org.glassfish.jersey.client.ClientProperties#REQUEST_ENTITY_PROCESSING} is set to
+     *     {@link org.glassfish.jersey.client.RequestEntityProcessing#CHUNKED}, the size of the chunks is given by
+     *     {@link org.glassfish.jersey.client.ClientProperties#CHUNKED_ENCODING_SIZE}.
+     * </p>
+     * <p>
+     *     The value MUST be an instance of {@link java.lang.Integer}.
+     *     If the property is absent the default value is {@value #DEFAULT_STREAMING_BUFFER_SIZE}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 4.1.0
+     */
+    public static final String STREAMING_BUFFER_SIZE =
+            "jersey.config.jnh.client.streamingBufferSize";
+
+    /**
+     * Default value of the {@link #STREAMING_BUFFER_SIZE} property.
+     *
+     * @since 4.1.0
+     */
+    public static final int DEFAULT_STREAMING_BUFFER_SIZE = 16;
+
 
     /**
      * Prevent this class from instantiation.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,6 +23,7 @@ import jakarta.ws.rs.core.MultivaluedMap;
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.ClientRequest;
 import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.RequestEntityProcessing;
 import org.glassfish.jersey.client.innate.ClientProxy;
 import org.glassfish.jersey.client.innate.Expect100ContinueUsage;
 import org.glassfish.jersey.client.innate.http.SSLParamConfigurator;
@@ -54,6 +55,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -68,6 +71,12 @@ import java.util.logging.Logger;
  *     <li>{@link JavaNetHttpClientProperties#COOKIE_HANDLER}</li>
  *     <li>{@link JavaNetHttpClientProperties#SSL_PARAMETERS}</li>
  * </ul>
+ * <p>
+ * The request entity is buffered by default. When {@link ClientProperties#REQUEST_ENTITY_PROCESSING} is set to
+ * {@link RequestEntityProcessing#CHUNKED}, the entity is streamed to the {@link HttpClient} while it is being written,
+ * buffering at most {@link JavaNetHttpClientProperties#STREAMING_BUFFER_SIZE} chunks of
+ * {@link ClientProperties#CHUNKED_ENCODING_SIZE} bytes. A streamed entity cannot be resent, e.g. on a redirect.
+ * </p>
  *
  * @author Steffen Nießing
  */
@@ -160,20 +169,112 @@ public class JavaNetHttpConnector implements Connector {
      * for a {@link ByteArrayOutputStream}.
      */
     private static class ByteArrayOutputStreamProvider implements OutboundMessageContext.StreamProvider {
-        private ByteArrayOutputStream byteArrayOutputStream;
+        private EntityByteArrayOutputStream byteArrayOutputStream;
 
-        public ByteArrayOutputStream getByteArrayOutputStream() {
-            return byteArrayOutputStream;
+        public HttpRequest.BodyPublisher getBodyPublisher() {
+            return byteArrayOutputStream.getBodyPublisher();
         }
 
         @Override
         public OutputStream getOutputStream(int contentLength) throws IOException {
-            this.byteArrayOutputStream = contentLength > 0 ? new ByteArrayOutputStream(contentLength)
-                    : new ByteArrayOutputStream();
+            this.byteArrayOutputStream = contentLength > 0 ? new EntityByteArrayOutputStream(contentLength)
+                    : new EntityByteArrayOutputStream(32);
             return this.byteArrayOutputStream;
         }
     }
 
+    /**
+     * {@link ByteArrayOutputStream} publishing its buffer without copying it.
+     */
+    private static class EntityByteArrayOutputStream extends ByteArrayOutputStream {
+
+        private EntityByteArrayOutputStream(int size) {
+            super(size);
+        }
+
+        private HttpRequest.BodyPublisher getBodyPublisher() {
+            return HttpRequest.BodyPublishers.ofByteArray(buf, 0, count);
+        }
+    }
+
+    /**
+     * Implements a {@link org.glassfish.jersey.message.internal.OutboundMessageContext.StreamProvider}
+     * sending the request once the entity stream is committed and streaming the entity to the {@link HttpClient}.
+     */
+    private class StreamingOutputStreamProvider implements OutboundMessageContext.StreamProvider {
+        private final ClientRequest request;
+        private StreamingBodyPublisher bodyPublisher;
+        private CompletableFuture<HttpResponse<InputStream>> response;
+
+        private StreamingOutputStreamProvider(ClientRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public OutputStream getOutputStream(int contentLength) throws IOException {
+            final int chunkSize = request.resolveProperty(ClientProperties.CHUNKED_ENCODING_SIZE,
+                    ClientProperties.DEFAULT_CHUNK_SIZE);
+            final int bufferSize = request.resolveProperty(JavaNetHttpClientProperties.STREAMING_BUFFER_SIZE,
+                    JavaNetHttpClientProperties.DEFAULT_STREAMING_BUFFER_SIZE);
+            // the client subscribes once connected, the response is not expected later than the read timeout then
+            final int connectTimeout = request.resolveProperty(ClientProperties.CONNECT_TIMEOUT, 0);
+            final int readTimeout = request.resolveProperty(ClientProperties.READ_TIMEOUT, 0);
+            final long subscribeTimeout = connectTimeout > 0 || readTimeout > 0 ? (long) connectTimeout + readTimeout : 0;
+            final StreamingBodyPublisher publisher =
+                    new StreamingBodyPublisher(contentLength, chunkSize, bufferSize, subscribeTimeout);
+            // the headers are committed now, the request is sent while the entity is being written
+            response = httpClient.sendAsync(getHttpRequest(request, publisher), HttpResponse.BodyHandlers.ofInputStream());
+            response.whenComplete((httpResponse, throwable) -> publisher.complete(unwrap(throwable)));
+            bodyPublisher = publisher;
+            return publisher.getOutputStream();
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    /**
+     * Checks whether the request entity is streamed to the {@link HttpClient}.
+     *
+     * @param request the Jersey request
+     * @return {@code true} if the request entity is streamed
+     */
+    private static boolean isStreaming(ClientRequest request) {
+        return request.hasEntity() && RequestEntityProcessing.CHUNKED
+                == request.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.class);
+    }
+
+    /**
+     * Sends the request with the entity streamed to the {@link HttpClient}. The entity is written by the calling thread.
+     *
+     * @param request the Jersey request
+     * @return the response future
+     */
+    private CompletableFuture<HttpResponse<InputStream>> sendStreaming(ClientRequest request) {
+        final StreamingOutputStreamProvider streamProvider = new StreamingOutputStreamProvider(request);
+        request.setStreamProvider(streamProvider);
+        try {
+            request.writeEntity();
+        } catch (IOException | RuntimeException e) {
+            if (streamProvider.bodyPublisher == null) {
+                throw new ProcessingException(LocalizationMessages.ERROR_INVALID_ENTITY(), e);
+            }
+            if (!streamProvider.bodyPublisher.isFailed()) {
+                // the entity could not be written, the exchange is aborted
+                streamProvider.bodyPublisher.abort(e);
+                throw new ProcessingException(LocalizationMessages.ERROR_INVALID_ENTITY(), e);
+            }
+            // the exchange failed, the response future reports the cause
+        }
+        if (streamProvider.response == null) {
+            // no entity stream has been committed
+            return httpClient.sendAsync(getHttpRequest(request, HttpRequest.BodyPublishers.noBody()),
+                    HttpResponse.BodyHandlers.ofInputStream());
+        }
+        return streamProvider.response;
+    }
+
     /**
      * Builds a request for the {@link HttpClient} from Jersey's {@link ClientRequest}.
      *
@@ -181,28 +282,37 @@ public class JavaNetHttpConnector implements Connector {
      * @return the {@link HttpRequest} instance for the {@link HttpClient} request
      */
     private HttpRequest getHttpRequest(ClientRequest request) {
-        final SSLParamConfigurator sniConfig = SSLParamConfigurator.builder()
-                .uri(request.getUri())
-                .configuration(request.getConfiguration())
-                .build();
-
-        final URI sniUri = sniConfig.isSNIRequired() ? sniConfig.toIPRequestUri() : request.getUri();
-
-        HttpRequest.Builder builder = HttpRequest.newBuilder();
-        builder.uri(sniUri);
         HttpRequest.BodyPublisher bodyPublisher = HttpRequest.BodyPublishers.noBody();
         if (request.hasEntity()) {
             try {
                 ByteArrayOutputStreamProvider byteBufferStreamProvider = new ByteArrayOutputStreamProvider();
                 request.setStreamProvider(byteBufferStreamProvider);
                 request.writeEntity();
-                bodyPublisher = HttpRequest.BodyPublishers.ofByteArray(
-                        byteBufferStreamProvider.getByteArrayOutputStream().toByteArray()
-                );
+                bodyPublisher = byteBufferStreamProvider.getBodyPublisher();
             } catch (IOException e) {
                 throw new ProcessingException(LocalizationMessages.ERROR_INVALID_ENTITY(), e);
             }
         }
+        return getHttpRequest(request, bodyPublisher);
+    }
+
+    /**
+     * Builds a request for the {@link HttpClient} from Jersey's {@link ClientRequest}.
+     *
+     * @param request the Jersey request to get request data from
+     * @param bodyPublisher the publisher of the request entity
+     * @return the {@link HttpRequest} instance for the {@link HttpClient} request
+     */
+    private HttpRequest getHttpRequest(ClientRequest request, HttpRequest.BodyPublisher bodyPublisher) {
+        final SSLParamConfigurator sniConfig = SSLParamConfigurator.builder()
+                .uri(request.getUri())
+                .configuration(request.getConfiguration())
+                .build();
+
+        final URI sniUri = sniConfig.isSNIRequired() ? sniConfig.toIPRequestUri() : request.getUri();
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder();
+        builder.uri(sniUri);
         builder.method(request.getMethod(), bodyPublisher);
         for (Map.Entry<String, List<String>> entry : request.getRequestHeaders().entrySet()) {
             String headerName = entry.getKey();
@@ -285,6 +395,16 @@ public class JavaNetHttpConnector implements Connector {
 
     @Override
     public ClientResponse apply(ClientRequest request) {
+        if (isStreaming(request)) {
+            try {
+                return buildClientResponse(request, sendStreaming(request).get());
+            } catch (ExecutionException e) {
+                throw new ProcessingException(unwrap(e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProcessingException(e);
+            }
+        }
         HttpRequest httpRequest = getHttpRequest(request);
         try {
             HttpResponse<InputStream> response = this.httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
@@ -296,10 +416,11 @@ public class JavaNetHttpConnector implements Connector {
 
     @Override
     public Future<?> apply(ClientRequest request, AsyncConnectorCallback callback) {
-        HttpRequest httpRequest = getHttpRequest(request);
-        CompletableFuture<ClientResponse> response = this.httpClient
-                .sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream())
-                .thenApply(httpResponse -> buildClientResponse(request, httpResponse));
+        CompletableFuture<HttpResponse<InputStream>> httpResponse = isStreaming(request)
+                ? sendStreaming(request)
+                : this.httpClient.sendAsync(getHttpRequest(request), HttpResponse.BodyHandlers.ofInputStream());
+        CompletableFuture<ClientResponse> response = httpResponse
+                .thenApply(r -> buildClientResponse(request, r));
         response.thenAccept(callback::response);
         return response;
     }
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jnh.connector;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link HttpRequest.BodyPublisher} publishing the request entity while it is being written to the
+ * {@link #getOutputStream() output stream}. The written bytes are published in chunks and at most a fixed number of chunks
+ * is buffered, the writing thread is blocked until the {@link java.net.http.HttpClient} consumes the buffered chunks.
+ * <p>
+ * The entity can be published only once, a repeated subscription, e.g. by a redirect or an authentication retry,
+ * is signalled an error.
+ * </p>
+ * <p>
+ * The writing thread waits for the {@link java.net.http.HttpClient} to subscribe at most the given subscribe timeout,
+ * a write fails with an {@link IOException} once the timeout elapses or once the exchange has been completed.
+ * </p>
+ */
+final class StreamingBodyPublisher implements HttpRequest.BodyPublisher {
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final long contentLength;
+    private final int chunkSize;
+    private final long subscribeTimeoutMillis;
+    private final SubmissionPublisher<ByteBuffer> publisher;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final CountDownLatch subscribedLatch = new CountDownLatch(1);
+    private final EntityOutputStream outputStream = new EntityOutputStream();
+
+    private volatile boolean discarding;
+    private volatile Throwable failure;
+
+    /**
+     * Create new streaming body publisher.
+     *
+     * @param contentLength length of the entity or {@code -1} if unknown, the entity is sent chunked then.
+     * @param chunkSize     size of the published chunks.
+     * @param bufferSize    maximal number of the buffered chunks.
+     * @param subscribeTimeoutMillis maximal time in milliseconds to wait for the subscription, {@code 0} to wait
+     *                               until the exchange is completed.
+     */
+    StreamingBodyPublisher(final long contentLength, final int chunkSize, final int bufferSize,
+                           final long subscribeTimeoutMillis) {
+        this.contentLength = contentLength;
+        this.chunkSize = chunkSize;
+        this.subscribeTimeoutMillis = subscribeTimeoutMillis;
+        this.publisher = new SubmissionPublisher<>(Runnable::run, bufferSize);
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+        if (subscribed.compareAndSet(false, true)) {
+            publisher.subscribe(subscriber);
+            subscribedLatch.countDown();
+        } else {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IOException(LocalizationMessages.ERROR_STREAMING_ENTITY_REPEATED()));
+        }
+    }
+
+    /**
+     * Get the output stream the entity is written to.
+     *
+     * @return entity output stream.
+     */
+    OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * Notify the publisher the exchange is completed. The rest of the entity written after a successful completion, e.g. when
+     * the server responds before reading the whole entity, is discarded. A failure of the exchange makes the writing of the
+     * entity fail.
+     *
+     * @param cause cause of the exchange failure or {@code null} if the response has been received.
+     */
+    void complete(final Throwable cause) {
+        if (cause != null) {
+            failure = cause;
+        } else {
+            discarding = true;
+        }
+        publisher.close();
+        subscribedLatch.countDown();
+    }
+
+    /**
+     * Abort the exchange because the entity could not be written.
+     *
+     * @param cause cause of the entity write failure.
+     */
+    void abort(final Throwable cause) {
+        discarding = true;
+        publisher.closeExceptionally(cause);
+        subscribedLatch.countDown();
+    }
+
+    /**
+     * Check whether the exchange failed.
+     *
+     * @return {@code true} if the exchange failed.
+     */
+    boolean isFailed() {
+        return failure != null;
+    }
+
+    private void publish(final ByteBuffer chunk) throws IOException {
+        awaitSubscription();
+        try {
+            // the subscriber buffer is bounded, wait for the subscriber to request more chunks
+            while (!discarding && failure == null
+                    && publisher.offer(chunk, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS, null) < 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new IOException(new InterruptedException());
+                }
+            }
+        } catch (final IllegalStateException e) {
+            // the exchange has been completed concurrently and the publisher is closed
+            checkFailure();
+            if (!discarding) {
+                throw new IOException(LocalizationMessages.ERROR_STREAMING_ENTITY_CLOSED(), e);
+            }
+        }
+        checkFailure();
+    }
+
+    private void awaitSubscription() throws IOException {
+        try {
+            if (subscribeTimeoutMillis > 0) {
+                if (!subscribedLatch.await(subscribeTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    throw new IOException(LocalizationMessages.ERROR_STREAMING_ENTITY_SUBSCRIBE_TIMEOUT(subscribeTimeoutMillis));
+                }
+            } else {
+                subscribedLatch.await();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        final Throwable cause = failure;
+        if (cause != null) {
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+    }
+
+    /**
+     * Output stream aggregating the written bytes into chunks.
+     */
+    private final class EntityOutputStream extends OutputStream {
+
+        private byte[] chunk;
+        private int count;
+        private boolean closed;
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException(LocalizationMessages.ERROR_STREAMING_ENTITY_CLOSED());
+            }
+            checkFailure();
+            while (len > 0 && !discarding) {
+                if (chunk == null) {
+                    chunk = new byte[chunkSize];
+                }
+                final int length = Math.min(len, chunkSize - count);
+                System.arraycopy(b, off, chunk, count, length);
+                count += length;
+                off += length;
+                len -= length;
+                if (count == chunkSize) {
+                    publishChunk();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!closed) {
+                publishChunk();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                publishChunk();
+                closed = true;
+                publisher.close();
+            }
+        }
+
+        private void publishChunk() throws IOException {
+            if (count > 0 && !discarding) {
+                // the published chunk is not reused, the subscriber may hold it until the bytes are sent
+                final ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, count);
+                chunk = null;
+                count = 0;
+                publish(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jnh.connector.test;
+
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.jnh.connector.JavaNetHttpConnectorProvider;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks, that request entities are streamed with {@link RequestEntityProcessing#CHUNKED}.
+ */
+public class StreamingEntityTest extends JerseyTest {
+    private static final int CHUNK = 10_000;
+    private static final int CHUNKS = 5_000;
+
+    @Path("count")
+    public static class CountResource {
+        @POST
+        public String count(InputStream entity) throws IOException {
+            final byte[] buffer = new byte[8192];
+            long count = 0;
+            int read;
+            while ((read = entity.read(buffer)) != -1) {
+                count += read;
+            }
+            return Long.toString(count);
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(CountResource.class);
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        config.connectorProvider(new JavaNetHttpConnectorProvider());
+        config.property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED);
+    }
+
+    private static Entity<StreamingOutput> entity() {
+        return Entity.entity(output -> {
+            final byte[] chunk = new byte[CHUNK];
+            for (int i = 0; i < CHUNKS; i++) {
+                output.write(chunk);
+            }
+        }, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+    }
+
+    /**
+     * Checks, that a 50 MB entity is streamed to the server.
+     */
+    @Test
+    public void testStreamedEntity() {
+        Response response = target("count").request().post(entity());
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.readEntity(String.class)).isEqualTo(Long.toString((long) CHUNK * CHUNKS));
+    }
+
+    /**
+     * Checks, that a 50 MB entity is streamed to the server by an asynchronous request.
+     */
+    @Test
+    public void testStreamedEntityAsync() throws ExecutionException, InterruptedException {
+        String count = target("count").request().async().post(entity(), String.class).get();
+        assertThat(count).isEqualTo(Long.toString((long) CHUNK * CHUNKS));
+    }
+
+    /**
+     * Checks, that a small entity is streamed to the server.
+     */
+    @Test
+    public void testSmallStreamedEntity() {
+        assertThat(target("count").request().post(Entity.text("small"), String.class)).isEqualTo("5");
+    }
+}
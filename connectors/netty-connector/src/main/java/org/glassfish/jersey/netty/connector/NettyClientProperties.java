@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -97,6 +97,57 @@ public class NettyClientProperties {
      */
     public static final String MAX_CONNECTIONS_TOTAL = "jersey.config.client.maxTotalConnections";
 
+    /**
+     * <p>
+     *    This property determines the maximum number of connections leased by requests at the same time, per destination.
+     *    The requests over the limit wait for a connection to be released, see {@link #MAX_PENDING_ACQUIRES} and
+     *    {@link #CONNECTION_ACQUIRE_TIMEOUT}. The default is 0 which means no limit.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 4.1.0
+     */
+    public static final String MAX_LEASED_CONNECTIONS = "jersey.config.client.netty.maxLeasedConnections";
+
+    /**
+     * <p>
+     *    This property determines the maximum number of requests waiting for a connection, per destination, when
+     *    the {@link #MAX_LEASED_CONNECTIONS maximum number of leased connections} is reached. A request over the limit fails
+     *    immediately. The default is {@value #DEFAULT_MAX_PENDING_ACQUIRES}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 4.1.0
+     */
+    public static final String MAX_PENDING_ACQUIRES = "jersey.config.client.netty.maxPendingAcquires";
+
+    /**
+     * Default value of the {@link #MAX_PENDING_ACQUIRES} property.
+     * @since 4.1.0
+     */
+    public static final int DEFAULT_MAX_PENDING_ACQUIRES = 1024;
+
+    /**
+     * <p>
+     *    This property determines the number of milliseconds a request waits for a connection when
+     *    the {@link #MAX_LEASED_CONNECTIONS maximum number of leased connections} is reached. The value is expected to be
+     *    a {@link Long}. The default is {@value #DEFAULT_CONNECTION_ACQUIRE_TIMEOUT}, 0 means waiting indefinitely.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 4.1.0
+     */
+    public static final String CONNECTION_ACQUIRE_TIMEOUT = "jersey.config.client.netty.connectionAcquireTimeout";
+
+    /**
+     * Default value of the {@link #CONNECTION_ACQUIRE_TIMEOUT} property.
+     * @since 4.1.0
+     */
+    public static final long DEFAULT_CONNECTION_ACQUIRE_TIMEOUT = 30_000L;
+
     /**
      * The maximal number of redirects during single request.
      * <p/>
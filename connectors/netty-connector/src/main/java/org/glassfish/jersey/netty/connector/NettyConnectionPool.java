@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.jersey.netty.connector;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.ws.rs.ProcessingException;
+
+import io.netty.channel.Channel;
+
+/**
+ * Pool of the connections of a {@link NettyConnector}, kept per connection group (destination).
+ * <p>
+ * The idle connections are kept in a lock-free deque and reused in the LIFO order, so that the most recently used
+ * (warm) connection is reused first. An idle connection is checked to be still active before it is reused.
+ * The number of the leased connections per destination can be limited, the requests over the limit wait in a bounded
+ * queue for a connection to be released. The waiting threads are not blocked, the lease is completed asynchronously
+ * by the thread releasing the connection.
+ * </p>
+ * <p>
+ * A destination is removed from the pool once it has no leased connection, no waiting request and no idle connection.
+ * </p>
+ */
+final class NettyConnectionPool implements NettyConnectionPoolStatistics {
+
+    private final ConcurrentHashMap<String, Destination> destinations = new ConcurrentHashMap<>();
+    private final AtomicInteger idle = new AtomicInteger();
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+
+    private final int maxLeased;
+    private final int maxPending;
+    private final long acquireTimeout;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Create new connection pool.
+     *
+     * @param maxLeased      maximum number of the leased connections per destination, {@code 0} for no limit.
+     * @param maxPending     maximum number of the requests waiting for a connection per destination.
+     * @param acquireTimeout maximum time in milliseconds a request waits for a connection, {@code 0} to wait indefinitely.
+     * @param scheduler      scheduler of the acquire timeouts.
+     */
+    NettyConnectionPool(final int maxLeased, final int maxPending, final long acquireTimeout,
+                        final ScheduledExecutorService scheduler) {
+        this.maxLeased = maxLeased;
+        this.maxPending = maxPending;
+        this.acquireTimeout = acquireTimeout;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Lease a connection slot of the given destination. If the number of the leased connections is limited and reached,
+     * the returned lease is completed once a slot is released by another request. The lease is completed exceptionally
+     * with a {@link java.util.concurrent.CompletionException} caused by a {@link ProcessingException} if the number
+     * of waiting requests is exceeded or no slot is available in time. The slot has to be
+     * {@link #release(Destination, Channel, int, int) released} once the connection is not used by the request any more.
+     *
+     * @param key connection group of the destination.
+     * @return lease of the destination to take the connection from.
+     */
+    CompletableFuture<Destination> lease(final String key) {
+        final Destination destination = destinations.compute(key, (k, current) -> {
+            final Destination leasedDestination = current == null ? new Destination(k) : current;
+            // referenced within the computation, so that the destination is not removed concurrently
+            leasedDestination.references.incrementAndGet();
+            return leasedDestination;
+        });
+        return destination.acquire().whenComplete((d, throwable) -> {
+            if (throwable == null) {
+                leased.incrementAndGet();
+            } else {
+                unreference(destination);
+            }
+        });
+    }
+
+    /**
+     * Get the most recently released active idle connection of the destination.
+     *
+     * @param destination leased destination.
+     * @param handlers    names of the handlers added to the pipeline of the idle connections, to be removed.
+     * @return the idle connection or {@code null} if there is none.
+     */
+    Channel pollIdle(final Destination destination, final String... handlers) {
+        Channel channel;
+        while ((channel = destination.idle.pollFirst()) != null) {
+            destination.idleCount.decrementAndGet();
+            idle.decrementAndGet();
+            for (final String handler : handlers) {
+                try {
+                    channel.pipeline().remove(handler);
+                } catch (NoSuchElementException e) {
+                    /*
+                     *  Eat it.
+                     *  It could happen that the channel was closed, pipeline cleared,
+                     *  and then it will fail to remove the names with this exception.
+                     */
+                }
+            }
+            if (channel.isActive()) {
+                return channel;
+            }
+            channel.close();
+        }
+        return null;
+    }
+
+    /**
+     * Register a new connection created for the destination.
+     *
+     * @param destination leased destination.
+     * @param channel     new connection.
+     */
+    void created(final Destination destination, final Channel channel) {
+        created.increment();
+        channel.closeFuture().addListener(future -> {
+            closed.increment();
+            if (destination.idle.remove(channel)) {
+                destination.idleCount.decrementAndGet();
+                idle.decrementAndGet();
+                evict(destination);
+            }
+        });
+    }
+
+    /**
+     * Release the connection slot of the destination and return the connection to the pool for reuse, if the limits of the
+     * idle connections allow.
+     *
+     * @param destination  leased destination.
+     * @param channel      connection to be reused or {@code null} if the connection cannot be reused.
+     * @param maxIdle      maximum number of the idle connections per destination.
+     * @param maxIdleTotal maximum number of the idle connections in total, {@code 0} for no limit.
+     * @return {@code true} if the connection has been returned to the pool, {@code false} if the caller has to close it.
+     */
+    boolean release(final Destination destination, final Channel channel, final int maxIdle, final int maxIdleTotal) {
+        boolean pooled = false;
+        if (channel != null && channel.isActive() && reserve(destination.idleCount, maxIdle)) {
+            if (maxIdleTotal == 0) {
+                idle.incrementAndGet();
+                pooled = true;
+            } else {
+                pooled = reserve(idle, maxIdleTotal);
+            }
+            if (pooled) {
+                destination.idle.offerFirst(channel);
+            } else {
+                destination.idleCount.decrementAndGet();
+            }
+        }
+        leased.decrementAndGet();
+        destination.release();
+        unreference(destination);
+        return pooled;
+    }
+
+    private void unreference(final Destination destination) {
+        if (destination.references.decrementAndGet() == 0) {
+            evict(destination);
+        }
+    }
+
+    private void evict(final Destination destination) {
+        destinations.computeIfPresent(destination.key, (key, current) ->
+                current == destination && current.references.get() == 0 && current.idleCount.get() == 0 ? null : current);
+    }
+
+    private static boolean reserve(final AtomicInteger counter, final int max) {
+        if (counter.incrementAndGet() <= max) {
+            return true;
+        }
+        counter.decrementAndGet();
+        return false;
+    }
+
+    /**
+     * Get the number of the destinations kept by the pool.
+     *
+     * @return number of the destinations.
+     */
+    int getDestinationCount() {
+        return destinations.size();
+    }
+
+    @Override
+    public int getLeasedConnections() {
+        return leased.get();
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return idle.get();
+    }
+
+    @Override
+    public int getPendingAcquires() {
+        return pending.get();
+    }
+
+    @Override
+    public long getCreatedConnections() {
+        return created.sum();
+    }
+
+    @Override
+    public long getClosedConnections() {
+        return closed.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "NettyConnectionPool{leased=" + getLeasedConnections()
+                + ", idle=" + getIdleConnections()
+                + ", pending=" + getPendingAcquires()
+                + ", created=" + getCreatedConnections()
+                + ", closed=" + getClosedConnections() + '}';
+    }
+
+    /**
+     * Connections of a single connection group.
+     */
+    final class Destination {
+
+        private final String key;
+        private final ConcurrentLinkedDeque<Channel> idle = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicInteger references = new AtomicInteger();
+        private final ConcurrentLinkedQueue<CompletableFuture<Destination>> waiters = new ConcurrentLinkedQueue<>();
+        private final Semaphore permits;
+
+        private Destination(final String key) {
+            this.key = key;
+            this.permits = maxLeased > 0 ? new Semaphore(maxLeased, true) : null;
+        }
+
+        private CompletableFuture<Destination> acquire() {
+            if (permits == null || permits.tryAcquire()) {
+                return CompletableFuture.completedFuture(this);
+            }
+            if (pendingCount.incrementAndGet() > maxPending) {
+                pendingCount.decrementAndGet();
+                final CompletableFuture<Destination> rejected = new CompletableFuture<>();
+                rejected.completeExceptionally(
+                        new ProcessingException(LocalizationMessages.POOL_PENDING_ACQUIRES_EXCEEDED(key, maxPending)));
+                return rejected;
+            }
+            pending.incrementAndGet();
+            final CompletableFuture<Destination> waiter = new CompletableFuture<>();
+            final ScheduledFuture<?> timeout = acquireTimeout > 0
+                    ? scheduler.schedule(() -> waiter.completeExceptionally(
+                            new ProcessingException(LocalizationMessages.POOL_ACQUIRE_TIMEOUT(key, acquireTimeout))),
+                            acquireTimeout, TimeUnit.MILLISECONDS)
+                    : null;
+            final CompletableFuture<Destination> lease = waiter.whenComplete((d, throwable) -> {
+                pending.decrementAndGet();
+                pendingCount.decrementAndGet();
+                if (timeout != null) {
+                    timeout.cancel(false);
+                }
+                if (throwable != null) {
+                    waiters.remove(waiter);
+                }
+            });
+            waiters.offer(waiter);
+            // a slot may have been released before the waiter has been queued
+            if (permits.tryAcquire()) {
+                waiters.remove(waiter);
+                if (!waiter.complete(this)) {
+                    // timed out or already handed a released slot over
+                    release();
+                }
+            }
+            return lease;
+        }
+
+        private void release() {
+            if (permits == null || handOver()) {
+                return;
+            }
+            permits.release();
+            // a waiter queued after the poll above may have missed the released slot, take the slot back for it
+            while (!waiters.isEmpty() && permits.tryAcquire()) {
+                if (!handOver()) {
+                    permits.release();
+                }
+            }
+        }
+
+        private boolean handOver() {
+            CompletableFuture<Destination> waiter;
+            while ((waiter = waiters.poll()) != null) {
+                // the slot is handed over to the waiting request
+                if (waiter.complete(this)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Get the connection group of the destination.
+         *
+         * @return connection group.
+         */
+        String getKey() {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.jersey.netty.connector;
+
+/**
+ * Statistics of the connection pool of a Netty connector. The values are a snapshot taken when the statistics are obtained.
+ *
+ * @see NettyConnectorProvider#getConnectionPoolStatistics(jakarta.ws.rs.core.Configurable)
+ * @since 4.1.0
+ */
+public interface NettyConnectionPoolStatistics {
+
+    /**
+     * Get the number of the connections currently used by requests.
+     *
+     * @return number of the leased connections.
+     */
+    int getLeasedConnections();
+
+    /**
+     * Get the number of the open connections kept in the pool for reuse.
+     *
+     * @return number of the idle connections.
+     */
+    int getIdleConnections();
+
+    /**
+     * Get the number of the requests waiting for a connection because the
+     * {@link NettyClientProperties#MAX_LEASED_CONNECTIONS maximum number of the leased connections} has been reached.
+     *
+     * @return number of the pending connection acquisitions.
+     */
+    int getPendingAcquires();
+
+    /**
+     * Get the total number of the connections created by the connector.
+     *
+     * @return number of the created connections.
+     */
+    long getCreatedConnections();
+
+    /**
+     * Get the total number of the connections created by the connector that have been closed.
+     *
+     * @return number of the closed connections.
+     */
+    long getClosedConnections();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,12 +19,9 @@ package org.glassfish.jersey.netty.connector;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -76,6 +73,7 @@ import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.resolver.NoopAddressResolverGroup;
 import io.netty.util.concurrent.GenericFutureListener;
+import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.ClientRequest;
 import org.glassfish.jersey.client.ClientResponse;
 import org.glassfish.jersey.client.innate.ClientProxy;
@@ -99,7 +97,7 @@ class NettyConnector implements Connector {
     final ExecutorService executorService;
     final EventLoopGroup group;
     final Client client;
-    final HashMap<String, ArrayList<Channel>> connections = new HashMap<>();
+    final NettyConnectionPool connectionPool;
     final NettyConnectorProvider.Config.RW clientConfiguration;
 
     private static final LazyValue<String> NETTY_VERSION = Values.lazy(
@@ -136,6 +134,27 @@ class NettyConnector implements Connector {
                                 .newCachedThreadPool();
             this.group = new NioEventLoopGroup();
         }
+
+        final Map<String, Object> properties = configuration.getProperties();
+        this.connectionPool = new NettyConnectionPool(
+                ClientProperties.getValue(properties,
+                        clientConfiguration.prefixed(NettyClientProperties.MAX_LEASED_CONNECTIONS), 0, Integer.class),
+                ClientProperties.getValue(properties,
+                        clientConfiguration.prefixed(NettyClientProperties.MAX_PENDING_ACQUIRES),
+                        NettyClientProperties.DEFAULT_MAX_PENDING_ACQUIRES, Integer.class),
+                ClientProperties.getValue(properties,
+                        clientConfiguration.prefixed(NettyClientProperties.CONNECTION_ACQUIRE_TIMEOUT),
+                        NettyClientProperties.DEFAULT_CONNECTION_ACQUIRE_TIMEOUT, Long.class),
+                group);
+    }
+
+    /**
+     * Get the statistics of the connection pool of the connector.
+     *
+     * @return connection pool statistics.
+     */
+    NettyConnectionPoolStatistics getConnectionPoolStatistics() {
+        return connectionPool;
     }
 
     @Override
@@ -178,49 +197,59 @@ class NettyConnector implements Connector {
             throw new ProcessingException(LocalizationMessages.WRONG_READ_TIMEOUT(readTimeout));
         }
 
-        final CompletableFuture<?> responseDone = new CompletableFuture<>();
-
         final URI requestUri = jerseyRequest.getUri();
         final String host = requestUri.getHost();
         final int port = requestUri.getPort() != -1
                 ? requestUri.getPort()
                 : "https".equalsIgnoreCase(requestUri.getScheme()) ? 443 : 80;
 
+        final SSLParamConfigurator sslConfig = SSLParamConfigurator.builder(requestConfiguration)
+                .request(jerseyRequest).setSNIAlways(true).setSNIHostName(jerseyRequest).build();
+
+        final String key = requestConfiguration
+                            .connectionController()
+                            .getConnectionGroup(jerseyRequest, requestUri, sslConfig.getSNIHostName(), port);
+        final CompletableFuture<NettyConnectionPool.Destination> lease = connectionPool.lease(key);
+        if (!lease.isDone()) {
+            // the lease is completed by a thread releasing a connection, possibly an event loop which must not block
+            lease.whenCompleteAsync((destination, th) -> {
+                if (th != null) {
+                    responseAvailable.completeExceptionally(th.getCause() != null ? th.getCause() : th);
+                    return;
+                }
+                try {
+                    execute(jerseyRequest, redirectUriHistory, responseAvailable, requestConfiguration,
+                            requestUri, host, port, sslConfig, destination);
+                } catch (RuntimeException e) {
+                    responseAvailable.completeExceptionally(e);
+                }
+            }, executorService);
+            return;
+        }
+
+        final NettyConnectionPool.Destination destination;
         try {
-            final SSLParamConfigurator sslConfig = SSLParamConfigurator.builder(requestConfiguration)
-                    .request(jerseyRequest).setSNIAlways(true).setSNIHostName(jerseyRequest).build();
-
-            final String key = requestConfiguration
-                                .connectionController()
-                                .getConnectionGroup(jerseyRequest, requestUri, sslConfig.getSNIHostName(), port);
-            ArrayList<Channel> conns;
-            synchronized (connections) {
-               conns = connections.get(key);
-               if (conns == null) {
-                  conns = new ArrayList<>(0);
-                  connections.put(key, conns);
-               }
-            }
+            destination = lease.join();
+        } catch (CompletionException e) {
+            responseAvailable.completeExceptionally(e.getCause());
+            return;
+        }
+        execute(jerseyRequest, redirectUriHistory, responseAvailable, requestConfiguration,
+                requestUri, host, port, sslConfig, destination);
+    }
 
-            Channel chan = null;
-            synchronized (conns) {
-               while (chan == null && !conns.isEmpty()) {
-                  chan = conns.remove(conns.size() - 1);
-                  try {
-                      chan.pipeline().remove(INACTIVE_POOLED_CONNECTION_HANDLER);
-                      chan.pipeline().remove(PRUNE_INACTIVE_POOL);
-                  } catch (NoSuchElementException e) {
-                      /*
-                       *  Eat it.
-                       *  It could happen that the channel was closed, pipeline cleared,
-                       *  and then it will fail to remove the names with this exception.
-                       */
-                  }
-                  if (!chan.isOpen()) {
-                      chan = null;
-                  }
-               }
-            }
+    private void execute(final ClientRequest jerseyRequest, final Set<URI> redirectUriHistory,
+                         final CompletableFuture<ClientResponse> responseAvailable,
+                         final NettyConnectorProvider.Config.RW requestConfiguration,
+                         final URI requestUri, final String host, final int port,
+                         final SSLParamConfigurator sslConfig, final NettyConnectionPool.Destination destination) {
+        final CompletableFuture<?> responseDone = new CompletableFuture<>();
+        // the destination is released here until the responseDone callback takes it over
+        boolean leased = true;
+        Channel chan = null;
+
+        try {
+            chan = connectionPool.pollIdle(destination, INACTIVE_POOLED_CONNECTION_HANDLER, PRUNE_INACTIVE_POOL);
 
             final JerseyExpectContinueHandler expect100ContinueHandler = new JerseyExpectContinueHandler();
 
@@ -295,9 +324,12 @@ class NettyConnector implements Connector {
                 try {
                     chan = b.connect(host, port).sync().channel();
                 } catch (Exception e) {
+                    leased = false;
+                    connectionPool.release(destination, null, 0, 0);
                     responseAvailable.completeExceptionally(e);
                     return;
                 }
+                connectionPool.created(destination, chan);
             }
 
             // assert: clientHandler will always notify responseDone: either normally, or exceptionally
@@ -322,37 +354,21 @@ class NettyConnector implements Connector {
                if (th == null) {
                   ch.pipeline().addLast(INACTIVE_POOLED_CONNECTION_HANDLER,
                           new IdleStateHandler(0, 0, requestConfiguration.maxPoolIdle.get()));
-                  ch.pipeline().addLast(PRUNE_INACTIVE_POOL, new PruneIdlePool(connections, key));
-                  boolean added = true;
-                  synchronized (connections) {
-                     ArrayList<Channel> conns1 = connections.get(key);
-                     if (conns1 == null) {
-                        conns1 = new ArrayList<>(1);
-                        conns1.add(ch);
-                        connections.put(key, conns1);
-                     } else {
-                        synchronized (conns1) {
-                           if ((requestConfiguration.maxPoolSizeTotal.get() == 0
-                                   || connections.size() < requestConfiguration.maxPoolSizeTotal.get())
-                                   && conns1.size() < requestConfiguration.maxPoolSize.get()) {
-                              conns1.add(ch);
-                           } else { // else do not add the Channel to the idle pool
-                              added = false;
-                           }
-                        }
-                     }
-                  }
-
-                  if (!added) {
+                  ch.pipeline().addLast(PRUNE_INACTIVE_POOL, new PruneIdlePool());
+                  if (!connectionPool.release(destination, ch,
+                          requestConfiguration.maxPoolSize.get(), requestConfiguration.maxPoolSizeTotal.get())) {
+                      // do not add the Channel to the idle pool
                       ch.close();
                   }
                } else {
+                  connectionPool.release(destination, null, 0, 0);
                   ch.close();
                   // if responseAvailable has been completed, no-op: jersey will encounter IOException while reading response body
                   // if responseAvailable has not been completed, abort
                   responseAvailable.completeExceptionally(th);
                }
             });
+            leased = false;
 
             HttpRequest nettyRequest;
             String pathWithQuery = buildPathWithQueryParameters(requestUri);
@@ -493,6 +509,17 @@ class NettyConnector implements Connector {
 
         } catch (IOException | InterruptedException e) {
             responseDone.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            // releases the destination once the responseDone callback has taken it over
+            responseDone.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (leased) {
+                connectionPool.release(destination, null, 0, 0);
+                if (chan != null) {
+                    chan.close();
+                }
+            }
         }
     }
 
@@ -521,14 +548,10 @@ class NettyConnector implements Connector {
         executorService.shutdown();
     }
 
+    /**
+     * Closes the pooled connection idle for too long, the connection is removed from the pool once closed.
+     */
     protected static class PruneIdlePool extends ChannelDuplexHandler {
-       HashMap<String, ArrayList<Channel>> connections;
-       String key;
-
-       public PruneIdlePool(HashMap<String, ArrayList<Channel>> connections, String key) {
-          this.connections = connections;
-          this.key = key;
-       }
 
        @Override
        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
@@ -536,15 +559,6 @@ class NettyConnector implements Connector {
              IdleStateEvent e = (IdleStateEvent) evt;
              if (e.state() == IdleState.ALL_IDLE) {
                 ctx.close();
-                synchronized (connections) {
-                   ArrayList<Channel> chans = connections.get(key);
-                   synchronized (chans) {
-                      chans.remove(ctx.channel());
-                      if (chans.isEmpty()) {
-                         connections.remove(key);
-                      }
-                   }
-                }
              }
           } else {
               super.userEventTriggered(ctx, evt);
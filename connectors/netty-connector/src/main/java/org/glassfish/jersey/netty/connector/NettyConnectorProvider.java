@@ -17,9 +17,11 @@
 package org.glassfish.jersey.netty.connector;
 
 import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.core.Configurable;
 import jakarta.ws.rs.core.Configuration;
 
 import org.glassfish.jersey.Beta;
+import org.glassfish.jersey.client.Initializable;
 import org.glassfish.jersey.client.spi.Connector;
 import org.glassfish.jersey.client.spi.ConnectorProvider;
 
@@ -66,6 +68,30 @@ public class NettyConnectorProvider implements ConnectorProvider {
         return new NettyConnector(client, config.rw());
     }
 
+    /**
+     * Retrieve the statistics of the connection pool of the Netty connector used by the given component.
+     *
+     * @param component the client, web target or invocation builder using the Netty connector.
+     * @return statistics of the connection pool.
+     * @throws java.lang.IllegalArgumentException if the component does not use the Netty connector.
+     * @since 4.1.0
+     */
+    public static NettyConnectionPoolStatistics getConnectionPoolStatistics(Configurable<?> component) {
+        if (!(component instanceof Initializable)) {
+            throw new IllegalArgumentException(
+                    LocalizationMessages.INVALID_CONFIGURABLE_COMPONENT_TYPE(component.getClass().getName()));
+        }
+        final Initializable<?> initializable = (Initializable<?>) component;
+        Connector connector = initializable.getConfiguration().getConnector();
+        if (connector == null) {
+            connector = initializable.preInitialize().getConfiguration().getConnector();
+        }
+        if (connector instanceof NettyConnector) {
+            return ((NettyConnector) connector).getConnectionPoolStatistics();
+        }
+        throw new IllegalArgumentException(LocalizationMessages.EXPECTED_CONNECTOR_PROVIDER_NOT_USED());
+    }
+
     /**
      * Instantiate a builder allowing to configure the NettyConnectorProvider.
      * @return a new {@link Config} instance.
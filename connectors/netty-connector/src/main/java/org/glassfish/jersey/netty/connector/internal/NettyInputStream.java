@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,19 +20,28 @@ import java.io.InputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 
 /**
  * Input stream which servers as Request entity input.
  * <p>
  * Converts Netty NIO buffers to an input streams and stores them in the queue,
  * waiting for Jersey to process it.
+ * <p>
+ * If created with a channel and a high watermark, the stream pauses reading from the channel (by switching off
+ * the channel {@code autoRead}) once the number of the buffered bytes reaches the high watermark and resumes reading
+ * once the consumer drains the buffered bytes to the low watermark.
  *
  * @author Pavel Bucek
  */
 public class NettyInputStream extends InputStream {
 
+    private static final Logger LOGGER = Logger.getLogger(NettyInputStream.class.getName());
+
     private volatile boolean end = false;
     private Throwable cause;
 
@@ -43,8 +52,32 @@ public class NettyInputStream extends InputStream {
     private byte[] ONE_BYTE;
     private boolean reading;
 
+    // flow control
+    private final Channel channel;
+    private final long highWatermark;
+    private final long lowWatermark;
+    private long bufferedBytes;
+    private long peakBufferedBytes;
+    private long pauseCount;
+    private boolean paused;
+
     public NettyInputStream() {
+        this(null, 0, 0);
+    }
+
+    /**
+     * Create a new input stream with flow control.
+     *
+     * @param channel       channel the content is read from.
+     * @param highWatermark number of buffered bytes at which reading from the channel is paused,
+     *                      a value lower than or equal to {@code 0} disables the flow control.
+     * @param lowWatermark  number of buffered bytes at which reading from the channel is resumed.
+     */
+    public NettyInputStream(final Channel channel, final long highWatermark, final long lowWatermark) {
         this.isList = new ArrayDeque<>();
+        this.channel = channel;
+        this.highWatermark = channel == null ? 0 : highWatermark;
+        this.lowWatermark = Math.min(lowWatermark, highWatermark);
     }
 
     @Override
@@ -96,7 +129,9 @@ public class NettyInputStream extends InputStream {
 
     private void releaseByteBuf() {
         if (current != null) {
+            final int size = current.readableBytes();
             current.release();
+            released(size);
         }
 
         current = null;
@@ -130,17 +165,32 @@ public class NettyInputStream extends InputStream {
     protected synchronized void cleanup(boolean drain) {
        if (drain) {
           while (!isList.isEmpty()) {
-             isList.poll().release();
+             final ByteBuf content = isList.poll();
+             released(content.readableBytes());
+             content.release();
           }
        }
 
        end = true;
+       // no more content is expected, let the channel be read, e.g. the rest of the discarded content or the next message
+       resume();
 
        if (reading) {
           notifyAll();
        }
     }
 
+    /**
+     * Release the buffered content and discard any content published later if the whole content has not been published
+     * yet, e.g. when the request processing finished without consuming the whole entity. Paused reading from the channel
+     * is resumed.
+     */
+    public synchronized void discard() {
+        if (!end) {
+            cleanup(true);
+        }
+    }
+
     @Override
     public int available() throws IOException {
         return buffer == null ? 0 : buffer.remaining();
@@ -153,12 +203,13 @@ public class NettyInputStream extends InputStream {
        }
 
        isList.add(content);
+       buffered(content.readableBytes());
        if (reading) {
           notifyAll();
        }
     }
 
-    public void clear() {
+    public synchronized void clear() {
         end = false;
         reading = false;
 
@@ -167,5 +218,66 @@ public class NettyInputStream extends InputStream {
         current = null;
 
         isList.clear();
+        bufferedBytes = 0;
+        resume();
+    }
+
+    private void buffered(final int size) {
+        bufferedBytes += size;
+        if (bufferedBytes > peakBufferedBytes) {
+            peakBufferedBytes = bufferedBytes;
+        }
+        if (highWatermark > 0 && !paused && bufferedBytes >= highWatermark) {
+            paused = true;
+            pauseCount++;
+            if (LOGGER.isLoggable(Level.FINEST)) {
+                LOGGER.finest("Pausing reading from " + channel + ", buffered bytes: " + bufferedBytes);
+            }
+            channel.config().setAutoRead(false);
+        }
+    }
+
+    private synchronized void released(final int size) {
+        bufferedBytes = Math.max(0, bufferedBytes - size);
+        if (bufferedBytes <= lowWatermark) {
+            resume();
+        }
+    }
+
+    private void resume() {
+        if (paused) {
+            paused = false;
+            if (LOGGER.isLoggable(Level.FINEST)) {
+                LOGGER.finest("Resuming reading from " + channel + ", buffered bytes: " + bufferedBytes);
+            }
+            channel.config().setAutoRead(true);
+        }
+    }
+
+    /**
+     * Get the number of bytes received from the channel and not yet consumed.
+     *
+     * @return number of buffered bytes.
+     */
+    public synchronized long getBufferedBytes() {
+        return bufferedBytes;
+    }
+
+    /**
+     * Get the highest number of bytes buffered at one time since the stream was created.
+     *
+     * @return peak number of buffered bytes.
+     */
+    public synchronized long getPeakBufferedBytes() {
+        return peakBufferedBytes;
+    }
+
+    /**
+     * Get the number of times reading from the channel was paused because the buffered bytes reached the high watermark.
+     *
+     * @return number of pauses.
+     */
+    public synchronized long getPauseCount() {
+        return pauseCount;
     }
 }
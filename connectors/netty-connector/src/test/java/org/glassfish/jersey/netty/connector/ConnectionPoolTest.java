@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.netty.connector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.Application;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the Netty connector connection pool.
+ */
+public class ConnectionPoolTest extends JerseyTest {
+
+    private static final CountDownLatch RELEASE_LATCH = new CountDownLatch(1);
+
+    @Path("pool")
+    public static class PoolResource {
+
+        @GET
+        public String get() {
+            return "pooled";
+        }
+
+        @GET
+        @Path("slow")
+        public String slow() throws InterruptedException {
+            RELEASE_LATCH.await(10, TimeUnit.SECONDS);
+            return "slow";
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(PoolResource.class);
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        config.property(NettyClientProperties.MAX_LEASED_CONNECTIONS, 1);
+        config.property(NettyClientProperties.CONNECTION_ACQUIRE_TIMEOUT, 500L);
+        config.connectorProvider(new NettyConnectorProvider());
+    }
+
+    @Test
+    public void testReuse() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals("pooled", target("pool").request().get(String.class));
+        }
+
+        final NettyConnectionPoolStatistics statistics = NettyConnectorProvider.getConnectionPoolStatistics(client());
+        assertEquals(1, statistics.getCreatedConnections());
+        assertEquals(0, statistics.getClosedConnections());
+        assertEquals(0, statistics.getLeasedConnections());
+        assertEquals(1, statistics.getIdleConnections());
+    }
+
+    @Test
+    public void testAcquireTimeout() throws ExecutionException, InterruptedException {
+        final Future<String> slow = target("pool/slow").request().async().get(String.class);
+        final NettyConnectionPoolStatistics statistics = NettyConnectorProvider.getConnectionPoolStatistics(client());
+        while (statistics.getLeasedConnections() == 0) {
+            Thread.sleep(10);
+        }
+
+        final ProcessingException exception =
+                assertThrows(ProcessingException.class, () -> target("pool").request().get(String.class));
+        assertTrue(exception.getMessage().contains("500"), exception.getMessage());
+
+        RELEASE_LATCH.countDown();
+        assertEquals("slow", slow.get());
+        assertEquals("pooled", target("pool").request().get(String.class));
+        assertEquals(0, statistics.getPendingAcquires());
+    }
+
+    @Test
+    public void testLeaseCompletedOnRelease() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final NettyConnectionPool pool = new NettyConnectionPool(1, 1, 0, scheduler);
+            final NettyConnectionPool.Destination destination = pool.lease("a").get();
+
+            final CompletableFuture<NettyConnectionPool.Destination> waiting = pool.lease("a");
+            assertFalse(waiting.isDone());
+            assertEquals(1, pool.getPendingAcquires());
+            final ExecutionException exceeded = assertThrows(ExecutionException.class, () -> pool.lease("a").get());
+            assertInstanceOf(ProcessingException.class, exceeded.getCause());
+
+            pool.release(destination, null, 0, 0);
+            assertEquals(destination, waiting.get(1, TimeUnit.SECONDS));
+            assertEquals(0, pool.getPendingAcquires());
+            assertEquals(1, pool.getLeasedConnections());
+
+            pool.release(destination, null, 0, 0);
+            assertEquals(0, pool.getLeasedConnections());
+            assertEquals(0, pool.getDestinationCount());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLeaseTimeout() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final NettyConnectionPool pool = new NettyConnectionPool(1, 1, 100, scheduler);
+            final NettyConnectionPool.Destination destination = pool.lease("a").get();
+
+            final ExecutionException timeout = assertThrows(ExecutionException.class, () -> pool.lease("a").get());
+            assertInstanceOf(ProcessingException.class, timeout.getCause());
+            assertEquals(0, pool.getPendingAcquires());
+
+            pool.release(destination, null, 0, 0);
+            assertEquals(0, pool.getDestinationCount());
+            pool.release(pool.lease("a").get(), null, 0, 0);
+            assertEquals(0, pool.getDestinationCount());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentLeaseAndRelease() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final NettyConnectionPool pool = new NettyConnectionPool(1, 100, 0, scheduler);
+            final List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                tasks.add(executor.submit(() -> {
+                    for (int j = 0; j < 2000; j++) {
+                        // a lost hand-over of the released slot leaves the lease waiting forever
+                        final NettyConnectionPool.Destination destination = pool.lease("a").get(10, TimeUnit.SECONDS);
+                        pool.release(destination, null, 0, 0);
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> task : tasks) {
+                task.get(60, TimeUnit.SECONDS);
+            }
+            assertEquals(0, pool.getLeasedConnections());
+            assertEquals(0, pool.getPendingAcquires());
+            assertEquals(0, pool.getDestinationCount());
+        } finally {
+            executor.shutdownNow();
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.netty.connector.internal;
+
+import java.io.IOException;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests pausing and resuming of the channel reading by {@link NettyInputStream}.
+ */
+public class NettyInputStreamFlowControlTest {
+
+    @Test
+    public void testPauseAndResume() throws IOException {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final NettyInputStream stream = new NettyInputStream(channel, 20, 10);
+
+        stream.publish(Unpooled.wrappedBuffer(new byte[10]));
+        assertTrue(channel.config().isAutoRead());
+        stream.publish(Unpooled.wrappedBuffer(new byte[10]));
+        assertFalse(channel.config().isAutoRead());
+        assertEquals(20, stream.getBufferedBytes());
+        assertEquals(1, stream.getPauseCount());
+
+        // a partially consumed buffer is still buffered
+        assertEquals(5, stream.read(new byte[5]));
+        assertFalse(channel.config().isAutoRead());
+
+        // the first buffer is consumed, the buffered bytes drop to the low watermark
+        assertEquals(5, stream.read(new byte[10]));
+        assertTrue(channel.config().isAutoRead());
+        assertEquals(10, stream.getBufferedBytes());
+
+        assertEquals(10, stream.read(new byte[10]));
+        assertEquals(0, stream.getBufferedBytes());
+        assertEquals(20, stream.getPeakBufferedBytes());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testResumeOnDiscard() {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final NettyInputStream stream = new NettyInputStream(channel, 10, 5);
+
+        stream.publish(Unpooled.wrappedBuffer(new byte[10]));
+        assertFalse(channel.config().isAutoRead());
+
+        stream.discard();
+        assertTrue(channel.config().isAutoRead());
+        assertEquals(0, stream.getBufferedBytes());
+        channel.finishAndReleaseAll();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,6 +21,8 @@ import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +44,7 @@ import org.glassfish.jersey.innate.inject.InternalBinder;
 import org.glassfish.jersey.internal.inject.ReferencingFactory;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
 import org.glassfish.jersey.internal.util.collection.Ref;
+import org.glassfish.jersey.io.spi.FileRegionOutput;
 import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ContainerException;
@@ -54,6 +57,7 @@ import org.glassfish.jersey.server.spi.Container;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
 
 import org.glassfish.grizzly.CompletionHandler;
+import org.glassfish.grizzly.WriteResult;
 import org.glassfish.grizzly.http.server.HttpHandler;
 import org.glassfish.grizzly.http.server.Request;
 import org.glassfish.grizzly.http.server.Response;
@@ -164,6 +168,82 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
         }
     };
 
+    private static final CompletionHandler<WriteResult> SENDFILE_COMPLETION_HANDLER = new CompletionHandler<WriteResult>() {
+
+        @Override
+        public void cancelled() {
+            // no-op
+        }
+
+        @Override
+        public void failed(final Throwable throwable) {
+            logger.log(Level.FINE, "Sending the file region failed.", throwable);
+        }
+
+        @Override
+        public void completed(final WriteResult result) {
+            // no-op
+        }
+
+        @Override
+        public void updated(final WriteResult result) {
+            // no-op
+        }
+    };
+
+    /**
+     * Response entity stream sending the file regions by the Grizzly {@code sendfile} support when enabled.
+     */
+    private static final class ResponseOutputStream extends OutputStream implements FileRegionOutput {
+
+        private final Response grizzlyResponse;
+        private final OutputStream output;
+
+        private ResponseOutputStream(final Response grizzlyResponse) {
+            this.grizzlyResponse = grizzlyResponse;
+            this.output = grizzlyResponse.getOutputStream();
+        }
+
+        @Override
+        public boolean writeFileRegion(final Path file, final long position, final long count) throws IOException {
+            if (!grizzlyResponse.isSendFileEnabled() || file.getFileSystem() != FileSystems.getDefault()) {
+                return false;
+            }
+            // the suspended response is resumed once the container response writer is committed; the file transfer
+            // is queued before the end of the response
+            if (!grizzlyResponse.isSuspended()) {
+                grizzlyResponse.suspend();
+            }
+            grizzlyResponse.getOutputBuffer().sendfile(file.toFile(), position, count, SENDFILE_COMPLETION_HANDLER);
+            return true;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            output.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b) throws IOException {
+            output.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            output.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+    }
+
     private static final class ResponseWriter implements ContainerResponseWriter {
 
         private final String name;
@@ -254,7 +334,7 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
                     }
                 }
 
-                return grizzlyResponse.getOutputStream();
+                return new ResponseOutputStream(grizzlyResponse);
             } finally {
                 logger.debugLog("{0} - writeResponseStatusAndHeaders() called", name);
             }
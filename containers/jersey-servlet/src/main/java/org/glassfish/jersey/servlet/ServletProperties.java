@@ -109,6 +109,91 @@ public final class ServletProperties {
     // TODO implement generic support
     public static final String JAXRS_APPLICATION_CLASS = "jakarta.ws.rs.Application";
 
+    /**
+     * If {@code true} then the Servlet 3.1 non-blocking I/O is used to read the request entities and to write
+     * the response entities.
+     * <p>
+     * Every request is put into the asynchronous mode. A request entity of a known length not greater than
+     * {@link #NON_BLOCKING_IO_MAX_REQUEST_BUFFER} is read by a {@link jakarta.servlet.ReadListener} into pooled buffers
+     * before the request is processed, so that no container thread waits for a slow client to send the entity. Other
+     * request entities are read with the blocking I/O as usual. The response entity is written into pooled buffers
+     * which a {@link jakarta.servlet.WriteListener} sends to the client, so that the request thread is released while
+     * the bytes are on the wire. The thread writing the response waits only when more than
+     * {@link #NON_BLOCKING_IO_MAX_RESPONSE_BUFFER} bytes are waiting to be sent.
+     * </p>
+     * <p>
+     * The non-blocking I/O is not used if the request does not support the asynchronous mode or if
+     * {@link #FILTER_FORWARD_ON_404} is enabled, as the forwarding needs the response status when the Jersey filter
+     * returns.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 4.1.0
+     */
+    public static final String NON_BLOCKING_IO = "jersey.config.servlet.nonBlockingIo";
+
+    /**
+     * Size in bytes of the pooled buffers used by the {@link #NON_BLOCKING_IO non-blocking I/O}.
+     * <p>
+     * The default value is {@value #DEFAULT_NON_BLOCKING_IO_BUFFER_SIZE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 4.1.0
+     */
+    public static final String NON_BLOCKING_IO_BUFFER_SIZE = "jersey.config.servlet.nonBlockingIo.bufferSize";
+
+    /**
+     * Default size in bytes of the pooled buffers used by the {@link #NON_BLOCKING_IO non-blocking I/O}.
+     *
+     * @since 4.1.0
+     */
+    public static final int DEFAULT_NON_BLOCKING_IO_BUFFER_SIZE = 8192;
+
+    /**
+     * Maximum length in bytes of a request entity read into memory by the {@link #NON_BLOCKING_IO non-blocking I/O}
+     * before the request is processed. Request entities of an unknown length or larger than the limit are read with
+     * the blocking I/O.
+     * <p>
+     * The default value is {@value #DEFAULT_NON_BLOCKING_IO_MAX_BUFFER}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 4.1.0
+     */
+    public static final String NON_BLOCKING_IO_MAX_REQUEST_BUFFER = "jersey.config.servlet.nonBlockingIo.maxRequestBuffer";
+
+    /**
+     * Maximum number of response bytes buffered by the {@link #NON_BLOCKING_IO non-blocking I/O} while waiting to be
+     * sent to the client. The thread writing a response entity waits for the buffered bytes to be sent when the limit
+     * is exceeded.
+     * <p>
+     * The default value is {@value #DEFAULT_NON_BLOCKING_IO_MAX_BUFFER}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 4.1.0
+     */
+    public static final String NON_BLOCKING_IO_MAX_RESPONSE_BUFFER = "jersey.config.servlet.nonBlockingIo.maxResponseBuffer";
+
+    /**
+     * Default maximum number of request or response bytes buffered by the {@link #NON_BLOCKING_IO non-blocking I/O}.
+     *
+     * @since 4.1.0
+     */
+    public static final int DEFAULT_NON_BLOCKING_IO_MAX_BUFFER = 1024 * 1024;
+
     /**
      * Indicates that Jersey should scan the whole web app for application-specific resources and
      * providers. If the property is present and the value is not {@code false}, the whole web app
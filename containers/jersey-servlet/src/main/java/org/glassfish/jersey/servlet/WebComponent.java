@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -33,6 +33,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
+import org.glassfish.jersey.innate.inject.ContextDelegates;
 import org.glassfish.jersey.innate.inject.InjectionIds;
 import org.glassfish.jersey.innate.inject.InternalBinder;
 import org.glassfish.jersey.internal.ServiceFinderBinder;
@@ -55,6 +56,9 @@ import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.InternalServerProperties;
 import org.glassfish.jersey.server.spi.RequestScopedInitializer;
 import org.glassfish.jersey.servlet.internal.l10n.LocalizationMessages;
+import org.glassfish.jersey.servlet.internal.BufferPool;
+import org.glassfish.jersey.servlet.internal.HttpServletRequestDelegate;
+import org.glassfish.jersey.servlet.internal.NonBlockingEntityReader;
 import org.glassfish.jersey.servlet.internal.PersistenceUnitBinder;
 import org.glassfish.jersey.servlet.internal.ResponseWriter;
 import org.glassfish.jersey.servlet.internal.ServletContainerProviderFactory;
@@ -107,6 +111,11 @@ public class WebComponent {
     private static final Type REQUEST_TYPE = (new GenericType<Ref<HttpServletRequest>>() {}).getType();
     private static final Type RESPONSE_TYPE = (new GenericType<Ref<HttpServletResponse>>() {}).getType();
 
+    /**
+     * Maximum number of idle buffers kept by the non-blocking I/O buffer pool.
+     */
+    private static final int NON_BLOCKING_IO_MAX_IDLE_BUFFERS = 256;
+
     private static final AsyncContextDelegate DEFAULT_ASYNC_DELEGATE = new AsyncContextDelegate() {
 
         @Override
@@ -190,7 +199,10 @@ public class WebComponent {
 
             if (!requestResponseBindingExternalized) {
 
-                // request
+                // request, injected into the singletons as a delegate instead of a proxy
+                bind(new ContextDelegates.Registration<>(HttpServletRequest.class, HttpServletRequestDelegate::new))
+                        .to(ContextDelegates.Registration.class)
+                        .id(InjectionIds.SERVLET_HTTP_SERVLET_REQUEST_DELEGATE.id());
                 bindFactory(HttpServletRequestReferencingFactory.class).to(HttpServletRequest.class)
                         .proxy(true).proxyForSameScope(false).in(RequestScoped.class)
                         .id(InjectionIds.SERVLET_HTTP_SERVLET_REQUEST.id());
@@ -286,6 +298,13 @@ public class WebComponent {
      */
     private final boolean queryParamsAsFormParams;
 
+    /**
+     * Buffer pool of the non-blocking I/O, {@code null} if the non-blocking I/O is not enabled.
+     */
+    private final BufferPool nonBlockingBufferPool;
+    private final int nonBlockingMaxRequestBuffer;
+    private final int nonBlockingMaxResponseBuffer;
+
     /**
      * Create and initialize new web component instance.
      *
@@ -346,6 +365,19 @@ public class WebComponent {
                 ServerProperties.RESPONSE_SET_STATUS_OVER_SEND_ERROR, false, Boolean.class);
         this.backgroundTaskScheduler = appHandler.getInjectionManager()
                 .getInstance(ScheduledExecutorService.class, BackgroundSchedulerLiteral.INSTANCE);
+
+        final Map<String, Object> properties = resourceConfig.getProperties();
+        this.nonBlockingBufferPool = resourceConfig.isProperty(ServletProperties.NON_BLOCKING_IO) && !forwardOn404
+                ? new BufferPool(ServerProperties.getValue(properties, ServletProperties.NON_BLOCKING_IO_BUFFER_SIZE,
+                        ServletProperties.DEFAULT_NON_BLOCKING_IO_BUFFER_SIZE, Integer.class),
+                        NON_BLOCKING_IO_MAX_IDLE_BUFFERS)
+                : null;
+        this.nonBlockingMaxRequestBuffer = ServerProperties.getValue(properties,
+                ServletProperties.NON_BLOCKING_IO_MAX_REQUEST_BUFFER, ServletProperties.DEFAULT_NON_BLOCKING_IO_MAX_BUFFER,
+                Integer.class);
+        this.nonBlockingMaxResponseBuffer = ServerProperties.getValue(properties,
+                ServletProperties.NON_BLOCKING_IO_MAX_RESPONSE_BUFFER, ServletProperties.DEFAULT_NON_BLOCKING_IO_MAX_BUFFER,
+                Integer.class);
     }
 
     /**
@@ -404,12 +436,94 @@ public class WebComponent {
             final HttpServletRequest servletRequest,
             final HttpServletResponse servletResponse) throws ServletException, IOException {
 
+        final AsyncContextDelegate asyncExt = asyncExtensionDelegate.createDelegate(servletRequest, servletResponse);
+        final boolean nonBlocking = startNonBlocking(servletRequest, asyncExt);
         final ResponseWriter responseWriter = new ResponseWriter(
                 forwardOn404,
                 configSetStatusOverSendError,
                 servletResponse,
-                asyncExtensionDelegate.createDelegate(servletRequest, servletResponse),
-                backgroundTaskScheduler);
+                asyncExt,
+                backgroundTaskScheduler,
+                nonBlocking ? nonBlockingBufferPool : null,
+                nonBlockingMaxResponseBuffer);
+
+        if (nonBlocking && isEntityPreRead(servletRequest)) {
+            // the request is processed once the whole entity is read, the current thread is released
+            NonBlockingEntityReader.read(servletRequest.getInputStream(), nonBlockingBufferPool,
+                    new NonBlockingEntityReader.Callback() {
+                        @Override
+                        public void onEntity(final InputStream entityStream) {
+                            try {
+                                handle(baseUri, requestUri, servletRequest, servletResponse, responseWriter, entityStream);
+                            } catch (final Exception e) {
+                                LOGGER.log(Level.FINE, LocalizationMessages.NON_BLOCKING_REQUEST_FAILED(), e);
+                                try {
+                                    if (!servletResponse.isCommitted()) {
+                                        servletResponse.setStatus(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
+                                    }
+                                } finally {
+                                    responseWriter.completeNonBlocking();
+                                }
+                            }
+                        }
+
+                        @Override
+                        public void onError(final Throwable error) {
+                            // typically the client has aborted the request, there is nobody to send a status to
+                            LOGGER.log(Level.FINE, LocalizationMessages.NON_BLOCKING_REQUEST_FAILED(), error);
+                            responseWriter.completeNonBlocking();
+                        }
+                    });
+            return responseWriter;
+        }
+
+        try {
+            handle(baseUri, requestUri, servletRequest, servletResponse, responseWriter, null);
+        } catch (final ServletException | IOException | RuntimeException e) {
+            responseWriter.completeNonBlocking();
+            throw e;
+        }
+        return responseWriter;
+    }
+
+    /**
+     * Put the request into the asynchronous mode if the non-blocking I/O is to be used for the request.
+     *
+     * @return {@code true} if the non-blocking I/O is to be used for the request.
+     */
+    private boolean startNonBlocking(final HttpServletRequest servletRequest, final AsyncContextDelegate asyncExt) {
+        if (nonBlockingBufferPool == null || !servletRequest.isAsyncSupported()) {
+            return false;
+        }
+        try {
+            asyncExt.suspend();
+            return true;
+        } catch (final IllegalStateException | UnsupportedOperationException e) {
+            LOGGER.log(Level.FINE, LocalizationMessages.NON_BLOCKING_IO_NOT_STARTED(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Check whether the request entity is to be read into memory by the non-blocking I/O before the request is processed.
+     */
+    private boolean isEntityPreRead(final HttpServletRequest servletRequest) {
+        final long contentLength = servletRequest.getContentLengthLong();
+        return contentLength > 0 && contentLength <= nonBlockingMaxRequestBuffer;
+    }
+
+    /**
+     * Create the container request and let the Jersey application handle it.
+     *
+     * @param entityStream request entity stream, {@code null} to read the entity from the servlet request.
+     */
+    private void handle(
+            final URI baseUri,
+            final URI requestUri,
+            final HttpServletRequest servletRequest,
+            final HttpServletResponse servletResponse,
+            final ResponseWriter responseWriter,
+            final InputStream entityStream) throws ServletException, IOException {
 
         try {
             final ContainerRequest requestContext = new ContainerRequest(baseUri, requestUri, servletRequest.getMethod(),
@@ -417,9 +531,14 @@ public class WebComponent {
                     appHandler.getConfiguration()
             );
 
-            initContainerRequest(requestContext, servletRequest, servletResponse, responseWriter);
+            initContainerRequest(requestContext, servletRequest, servletResponse, responseWriter, entityStream);
 
-            appHandler.handle(requestContext);
+            responseWriter.setContainerThread(Thread.currentThread());
+            try {
+                appHandler.handle(requestContext);
+            } finally {
+                responseWriter.setContainerThread(null);
+            }
         } catch (final HeaderValueException hve) {
             if (LOGGER.isLoggable(Level.FINE)) {
                 LOGGER.log(Level.FINE, LocalizationMessages.HEADER_VALUE_READ_FAILED(), hve);
@@ -433,10 +552,10 @@ public class WebComponent {
             } else {
                 servletResponse.sendError(status.getStatusCode(), status.getReasonPhrase());
             }
+            responseWriter.completeNonBlocking();
         } catch (final Exception e) {
             throw new ServletException(e);
         }
-        return responseWriter;
     }
 
     /**
@@ -446,26 +565,31 @@ public class WebComponent {
             final ContainerRequest requestContext,
             final HttpServletRequest servletRequest,
             final HttpServletResponse servletResponse,
-            final ResponseWriter responseWriter) throws IOException {
-
-        try {
-            requestContext.setEntityStream(new InputStreamWrapper() {
-
-                private ServletInputStream wrappedStream;
-                @Override
-                protected InputStream getWrapped() {
-                    if (wrappedStream == null) {
-                        try {
-                            wrappedStream = servletRequest.getInputStream();
-                        } catch (IOException e) {
-                            throw new UncheckedIOException(e);
+            final ResponseWriter responseWriter,
+            final InputStream entityStream) throws IOException {
+
+        if (entityStream != null) {
+            requestContext.setEntityStream(entityStream);
+        } else {
+            try {
+                requestContext.setEntityStream(new InputStreamWrapper() {
+
+                    private ServletInputStream wrappedStream;
+                    @Override
+                    protected InputStream getWrapped() {
+                        if (wrappedStream == null) {
+                            try {
+                                wrappedStream = servletRequest.getInputStream();
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
                         }
+                        return wrappedStream;
                     }
-                    return wrappedStream;
-                }
-            });
-        } catch (UncheckedIOException e) {
-            throw e.getCause();
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
         }
 
         requestContext.setRequestScopedInitializer(requestScopedInitializer.get(new RequestContextProvider() {
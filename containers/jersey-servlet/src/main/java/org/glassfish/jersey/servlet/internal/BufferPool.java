@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.servlet.internal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of byte buffers of the same size, used by the non-blocking I/O.
+ * <p>
+ * The pool does not limit the number of the buffers in use, it only limits the number of the idle buffers kept
+ * for reuse.
+ * </p>
+ *
+ * @see org.glassfish.jersey.servlet.ServletProperties#NON_BLOCKING_IO
+ */
+public final class BufferPool {
+
+    private final int bufferSize;
+    private final int maxIdle;
+    private final Queue<byte[]> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /**
+     * Create new buffer pool.
+     *
+     * @param bufferSize size of the buffers.
+     * @param maxIdle    maximum number of the idle buffers kept for reuse.
+     */
+    public BufferPool(final int bufferSize, final int maxIdle) {
+        this.bufferSize = bufferSize;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Get the size of the pooled buffers.
+     *
+     * @return buffer size.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Take a buffer from the pool, or create a new one if there is no idle buffer.
+     *
+     * @return buffer of the {@link #getBufferSize() pool buffer size}.
+     */
+    public byte[] acquire() {
+        final byte[] buffer = idle.poll();
+        if (buffer == null) {
+            return new byte[bufferSize];
+        }
+        idleCount.decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * Return a buffer to the pool. The buffer must not be used by the caller anymore.
+     *
+     * @param buffer buffer acquired from this pool.
+     */
+    public void release(final byte[] buffer) {
+        if (buffer.length != bufferSize) {
+            return;
+        }
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(buffer);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+}
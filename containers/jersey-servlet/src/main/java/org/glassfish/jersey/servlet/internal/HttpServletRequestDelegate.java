@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.servlet.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletConnection;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpUpgradeHandler;
+import jakarta.servlet.http.Part;
+import jakarta.servlet.http.PushBuilder;
+
+/**
+ * {@link HttpServletRequest} delegating all the calls to the request of the current request scope.
+ * <p>
+ * The delegate is injected into the instances of a wider scope than the request scope in place of a reflective proxy,
+ * see {@link org.glassfish.jersey.innate.inject.ContextDelegates.Registration}.
+ * </p>
+ */
+public final class HttpServletRequestDelegate implements HttpServletRequest {
+
+    private final Supplier<HttpServletRequest> supplier;
+
+    /**
+     * Create new delegate of the current servlet request.
+     *
+     * @param supplier supplier of the servlet request of the current request scope.
+     */
+    public HttpServletRequestDelegate(final Supplier<HttpServletRequest> supplier) {
+        this.supplier = supplier;
+    }
+
+    private HttpServletRequest current() {
+        return supplier.get();
+    }
+
+    @Override
+    public String getAuthType() {
+        return current().getAuthType();
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return current().getCookies();
+    }
+
+    @Override
+    public long getDateHeader(final String name) {
+        return current().getDateHeader(name);
+    }
+
+    @Override
+    public String getHeader(final String name) {
+        return current().getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(final String name) {
+        return current().getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return current().getHeaderNames();
+    }
+
+    @Override
+    public int getIntHeader(final String name) {
+        return current().getIntHeader(name);
+    }
+
+    @Override
+    public HttpServletMapping getHttpServletMapping() {
+        return current().getHttpServletMapping();
+    }
+
+    @Override
+    public String getMethod() {
+        return current().getMethod();
+    }
+
+    @Override
+    public String getPathInfo() {
+        return current().getPathInfo();
+    }
+
+    @Override
+    public String getPathTranslated() {
+        return current().getPathTranslated();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public PushBuilder newPushBuilder() {
+        return current().newPushBuilder();
+    }
+
+    @Override
+    public String getContextPath() {
+        return current().getContextPath();
+    }
+
+    @Override
+    public String getQueryString() {
+        return current().getQueryString();
+    }
+
+    @Override
+    public String getRemoteUser() {
+        return current().getRemoteUser();
+    }
+
+    @Override
+    public boolean isUserInRole(final String role) {
+        return current().isUserInRole(role);
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return current().getUserPrincipal();
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        return current().getRequestedSessionId();
+    }
+
+    @Override
+    public String getRequestURI() {
+        return current().getRequestURI();
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        return current().getRequestURL();
+    }
+
+    @Override
+    public String getServletPath() {
+        return current().getServletPath();
+    }
+
+    @Override
+    public HttpSession getSession(final boolean create) {
+        return current().getSession(create);
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return current().getSession();
+    }
+
+    @Override
+    public String changeSessionId() {
+        return current().changeSessionId();
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        return current().isRequestedSessionIdValid();
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromCookie() {
+        return current().isRequestedSessionIdFromCookie();
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromURL() {
+        return current().isRequestedSessionIdFromURL();
+    }
+
+    @Override
+    public boolean authenticate(final HttpServletResponse response) throws IOException, ServletException {
+        return current().authenticate(response);
+    }
+
+    @Override
+    public void login(final String username, final String password) throws ServletException {
+        current().login(username, password);
+    }
+
+    @Override
+    public void logout() throws ServletException {
+        current().logout();
+    }
+
+    @Override
+    public Collection<Part> getParts() throws IOException, ServletException {
+        return current().getParts();
+    }
+
+    @Override
+    public Part getPart(final String name) throws IOException, ServletException {
+        return current().getPart(name);
+    }
+
+    @Override
+    public <T extends HttpUpgradeHandler> T upgrade(final Class<T> handlerClass) throws IOException, ServletException {
+        return current().upgrade(handlerClass);
+    }
+
+    @Override
+    public Map<String, String> getTrailerFields() {
+        return current().getTrailerFields();
+    }
+
+    @Override
+    public boolean isTrailerFieldsReady() {
+        return current().isTrailerFieldsReady();
+    }
+
+    @Override
+    public Object getAttribute(final String name) {
+        return current().getAttribute(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return current().getAttributeNames();
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return current().getCharacterEncoding();
+    }
+
+    @Override
+    public void setCharacterEncoding(final String encoding) throws UnsupportedEncodingException {
+        current().setCharacterEncoding(encoding);
+    }
+
+    @Override
+    public void setCharacterEncoding(final Charset encoding) {
+        current().setCharacterEncoding(encoding);
+    }
+
+    @Override
+    public int getContentLength() {
+        return current().getContentLength();
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return current().getContentLengthLong();
+    }
+
+    @Override
+    public String getContentType() {
+        return current().getContentType();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        return current().getInputStream();
+    }
+
+    @Override
+    public String getParameter(final String name) {
+        return current().getParameter(name);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return current().getParameterNames();
+    }
+
+    @Override
+    public String[] getParameterValues(final String name) {
+        return current().getParameterValues(name);
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return current().getParameterMap();
+    }
+
+    @Override
+    public String getProtocol() {
+        return current().getProtocol();
+    }
+
+    @Override
+    public String getScheme() {
+        return current().getScheme();
+    }
+
+    @Override
+    public String getServerName() {
+        return current().getServerName();
+    }
+
+    @Override
+    public int getServerPort() {
+        return current().getServerPort();
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        return current().getReader();
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return current().getRemoteAddr();
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return current().getRemoteHost();
+    }
+
+    @Override
+    public void setAttribute(final String name, final Object o) {
+        current().setAttribute(name, o);
+    }
+
+    @Override
+    public void removeAttribute(final String name) {
+        current().removeAttribute(name);
+    }
+
+    @Override
+    public Locale getLocale() {
+        return current().getLocale();
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return current().getLocales();
+    }
+
+    @Override
+    public boolean isSecure() {
+        return current().isSecure();
+    }
+
+    @Override
+    public RequestDispatcher getRequestDispatcher(final String path) {
+        return current().getRequestDispatcher(path);
+    }
+
+    @Override
+    public int getRemotePort() {
+        return current().getRemotePort();
+    }
+
+    @Override
+    public String getLocalName() {
+        return current().getLocalName();
+    }
+
+    @Override
+    public String getLocalAddr() {
+        return current().getLocalAddr();
+    }
+
+    @Override
+    public int getLocalPort() {
+        return current().getLocalPort();
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return current().getServletContext();
+    }
+
+    @Override
+    public AsyncContext startAsync() throws IllegalStateException {
+        return current().startAsync();
+    }
+
+    @Override
+    public AsyncContext startAsync(final ServletRequest servletRequest, final ServletResponse servletResponse)
+            throws IllegalStateException {
+        return current().startAsync(servletRequest, servletResponse);
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return current().isAsyncStarted();
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return current().isAsyncSupported();
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        return current().getAsyncContext();
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return current().getDispatcherType();
+    }
+
+    @Override
+    public String getRequestId() {
+        return current().getRequestId();
+    }
+
+    @Override
+    public String getProtocolRequestId() {
+        return current().getProtocolRequestId();
+    }
+
+    @Override
+    public ServletConnection getServletConnection() {
+        return current().getServletConnection();
+    }
+
+    @Override
+    public int hashCode() {
+        return current().hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj == this || current().equals(obj);
+    }
+
+    @Override
+    public String toString() {
+        return current().toString();
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.servlet.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+/**
+ * Servlet {@link ReadListener} that reads the whole request entity into pooled buffers without blocking
+ * a container thread. Once the entity is read, it is passed as an input stream over the buffers to the
+ * {@link Callback}. The buffers are returned to the pool as the stream is read or when it is closed.
+ *
+ * @see org.glassfish.jersey.servlet.ServletProperties#NON_BLOCKING_IO
+ */
+public final class NonBlockingEntityReader implements ReadListener {
+
+    /**
+     * Callback notified when the request entity is read.
+     */
+    public interface Callback {
+
+        /**
+         * Invoked when the whole request entity has been read.
+         *
+         * @param entityStream input stream of the read request entity.
+         */
+        void onEntity(InputStream entityStream);
+
+        /**
+         * Invoked when reading the request entity failed.
+         *
+         * @param error read failure.
+         */
+        void onError(Throwable error);
+    }
+
+    private final ServletInputStream inputStream;
+    private final BufferPool bufferPool;
+    private final Callback callback;
+    private final Deque<byte[]> buffers = new ArrayDeque<>();
+    private byte[] current;
+    private int position;
+
+    private NonBlockingEntityReader(final ServletInputStream inputStream, final BufferPool bufferPool, final Callback callback) {
+        this.inputStream = inputStream;
+        this.bufferPool = bufferPool;
+        this.callback = callback;
+    }
+
+    /**
+     * Start reading the request entity from the servlet input stream. The servlet request must be in the asynchronous mode.
+     *
+     * @param inputStream servlet request input stream.
+     * @param bufferPool  pool of the buffers to read the entity into.
+     * @param callback    callback notified when the entity is read.
+     */
+    public static void read(final ServletInputStream inputStream, final BufferPool bufferPool, final Callback callback) {
+        inputStream.setReadListener(new NonBlockingEntityReader(inputStream, bufferPool, callback));
+    }
+
+    @Override
+    public void onDataAvailable() throws IOException {
+        while (!inputStream.isFinished() && inputStream.isReady()) {
+            if (current == null || position == current.length) {
+                current = bufferPool.acquire();
+                buffers.addLast(current);
+                position = 0;
+            }
+            final int read = inputStream.read(current, position, current.length - position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+        }
+    }
+
+    @Override
+    public void onAllDataRead() {
+        callback.onEntity(new PooledInputStream(buffers, current == null ? 0 : position, bufferPool));
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        byte[] buffer;
+        while ((buffer = buffers.pollFirst()) != null) {
+            bufferPool.release(buffer);
+        }
+        callback.onError(t);
+    }
+
+    /**
+     * Input stream over a sequence of pooled buffers, all of them full except for the last one.
+     */
+    private static final class PooledInputStream extends InputStream {
+
+        private final Deque<byte[]> buffers;
+        private final int lastLength;
+        private final BufferPool bufferPool;
+        private byte[] current;
+        private int position;
+        private int limit;
+
+        private PooledInputStream(final Deque<byte[]> buffers, final int lastLength, final BufferPool bufferPool) {
+            this.buffers = buffers;
+            this.lastLength = lastLength;
+            this.bufferPool = bufferPool;
+        }
+
+        private boolean nextBuffer() {
+            if (current != null && position < limit) {
+                return true;
+            }
+            if (current != null) {
+                bufferPool.release(current);
+                current = null;
+            }
+            while (!buffers.isEmpty()) {
+                current = buffers.pollFirst();
+                position = 0;
+                limit = buffers.isEmpty() ? lastLength : current.length;
+                if (limit > 0) {
+                    return true;
+                }
+                bufferPool.release(current);
+                current = null;
+            }
+            return false;
+        }
+
+        @Override
+        public int read() {
+            return nextBuffer() ? current[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextBuffer()) {
+                return -1;
+            }
+            final int read = Math.min(len, limit - position);
+            System.arraycopy(current, position, b, off, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return nextBuffer() ? limit - position : 0;
+        }
+
+        @Override
+        public void close() {
+            if (current != null) {
+                bufferPool.release(current);
+                current = null;
+            }
+            byte[] buffer;
+            while ((buffer = buffers.pollFirst()) != null) {
+                bufferPool.release(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.servlet.internal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+/**
+ * Output stream buffering the response entity in pooled buffers which are sent to the client by a servlet
+ * {@link WriteListener} whenever the servlet output stream is ready, so that the thread writing the entity
+ * does not wait for a slow client.
+ * <p>
+ * The writing thread waits only when more than the maximum number of buffered bytes is waiting to be sent, until
+ * the container signals {@link #onWritePossible()}. The {@link #setContainerThread(Thread) container thread} processing
+ * the request never waits, since a container may not notify the write listener before the thread returns.
+ * {@link #flush() Flushing} the stream flushes the servlet output stream once the bytes written before are sent.
+ * Closing the stream does not close the servlet output stream, the buffered bytes are still sent afterwards.
+ * The {@link #whenDrained(Runnable) drain callback} is invoked once all the bytes are sent, or once sending them fails.
+ * </p>
+ * <p>
+ * A buffer passed to the servlet output stream may still be used by the container until the stream is ready again,
+ * hence it is returned to the pool only once {@link ServletOutputStream#isReady()} returns {@code true} afterwards.
+ * </p>
+ */
+final class NonBlockingOutputStream extends OutputStream implements WriteListener {
+
+    private static final Logger LOGGER = Logger.getLogger(NonBlockingOutputStream.class.getName());
+
+    private final ServletOutputStream outputStream;
+    private final BufferPool bufferPool;
+    private final int maxBufferedBytes;
+    private final Deque<Chunk> chunks = new ArrayDeque<>();
+
+    private byte[] current;
+    private byte[] inFlight;
+    private int position;
+    private int bufferedBytes;
+    private boolean flushPending;
+    private boolean closed;
+    private boolean drained;
+    private Throwable failure;
+    private Runnable drainCallback;
+    private Thread containerThread;
+
+    private static final class Chunk {
+        private final byte[] buffer;
+        private final int length;
+
+        private Chunk(final byte[] buffer, final int length) {
+            this.buffer = buffer;
+            this.length = length;
+        }
+    }
+
+    private NonBlockingOutputStream(final ServletOutputStream outputStream, final BufferPool bufferPool,
+                                    final int maxBufferedBytes) {
+        this.outputStream = outputStream;
+        this.bufferPool = bufferPool;
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    /**
+     * Create new non-blocking output stream and register it as the write listener of the servlet output stream.
+     * The servlet request must be in the asynchronous mode.
+     *
+     * @param outputStream     servlet response output stream.
+     * @param bufferPool       pool of the buffers to write the entity into.
+     * @param maxBufferedBytes maximum number of buffered bytes before the writing thread waits.
+     * @return new non-blocking output stream.
+     */
+    static NonBlockingOutputStream create(final ServletOutputStream outputStream, final BufferPool bufferPool,
+                                          final int maxBufferedBytes) {
+        final NonBlockingOutputStream stream = new NonBlockingOutputStream(outputStream, bufferPool, maxBufferedBytes);
+        outputStream.setWriteListener(stream);
+        return stream;
+    }
+
+    @Override
+    public synchronized void write(final int b) throws IOException {
+        ensureOpen();
+        if (current == null) {
+            current = bufferPool.acquire();
+            position = 0;
+        }
+        current[position++] = (byte) b;
+        if (position == current.length) {
+            enqueueCurrent();
+            awaitDrain();
+        }
+    }
+
+    @Override
+    public synchronized void write(final byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (current == null) {
+                current = bufferPool.acquire();
+                position = 0;
+            }
+            final int count = Math.min(len, current.length - position);
+            System.arraycopy(b, off, current, position, count);
+            position += count;
+            off += count;
+            len -= count;
+            if (position == current.length) {
+                enqueueCurrent();
+            }
+        }
+        awaitDrain();
+    }
+
+    /**
+     * Set the container thread processing the request, which must not wait for the buffered bytes to be sent.
+     *
+     * @param thread container thread or {@code null} once the container thread has finished processing the request.
+     */
+    synchronized void setContainerThread(final Thread thread) {
+        containerThread = thread;
+    }
+
+    /**
+     * Wait until the number of the buffered bytes drops to the limit. Must be invoked with the monitor held.
+     */
+    private void awaitDrain() throws IOException {
+        if (bufferedBytes > maxBufferedBytes) {
+            drain();
+            if (Thread.currentThread() == containerThread) {
+                return;
+            }
+            // the buffered bytes are sent by the container calling onWritePossible, which notifies this thread
+            while (bufferedBytes > maxBufferedBytes && failure == null) {
+                try {
+                    wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            ensureOpen();
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        ensureOpen();
+        enqueueCurrent();
+        flushPending = true;
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        final Runnable callback;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            enqueueCurrent();
+            callback = failure != null ? drained() : drain();
+        }
+        run(callback);
+    }
+
+    /**
+     * Register the callback to be invoked once all the written bytes have been sent or sending them has failed.
+     * The stream is closed if it has not been closed yet. If the bytes have already been sent, the callback is
+     * invoked immediately.
+     *
+     * @param callback drain callback.
+     */
+    void whenDrained(final Runnable callback) {
+        final Runnable toRun;
+        synchronized (this) {
+            drainCallback = callback;
+            closed = true;
+            enqueueCurrent();
+            toRun = failure != null ? drained() : drain();
+        }
+        run(toRun);
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+        final Runnable callback;
+        synchronized (this) {
+            callback = drain();
+        }
+        run(callback);
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        LOGGER.log(Level.FINE, "Writing the response entity failed.", t);
+        final Runnable callback;
+        synchronized (this) {
+            callback = fail(t);
+        }
+        run(callback);
+    }
+
+    /**
+     * Discard the buffered bytes after a write failure. Must be invoked with the monitor held.
+     *
+     * @return drain callback to be invoked without the monitor held, or {@code null}.
+     */
+    private Runnable fail(final Throwable t) {
+        if (failure == null) {
+            failure = t;
+        }
+        Chunk chunk;
+        while ((chunk = chunks.pollFirst()) != null) {
+            bufferPool.release(chunk.buffer);
+        }
+        if (current != null) {
+            bufferPool.release(current);
+            current = null;
+        }
+        // the container may still hold the buffer of the failed write, it is not reused
+        inFlight = null;
+        bufferedBytes = 0;
+        notifyAll();
+        return drained();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (failure != null) {
+            throw failure instanceof IOException ? (IOException) failure : new IOException(failure);
+        }
+        if (closed) {
+            throw new IOException("Stream closed.");
+        }
+    }
+
+    private void enqueueCurrent() {
+        if (current != null && position > 0) {
+            chunks.addLast(new Chunk(current, position));
+            bufferedBytes += position;
+            current = null;
+        }
+    }
+
+    /**
+     * Write the buffered chunks as long as the servlet output stream is ready. Must be invoked with the monitor held.
+     *
+     * @return drain callback to be invoked without the monitor held, or {@code null}.
+     */
+    private Runnable drain() {
+        if (failure != null) {
+            return null;
+        }
+        try {
+            while ((inFlight != null || !chunks.isEmpty()) && outputStream.isReady()) {
+                // the previous write has completed, its buffer is not used by the container any more
+                if (inFlight != null) {
+                    bufferPool.release(inFlight);
+                    inFlight = null;
+                }
+                final Chunk chunk = chunks.pollFirst();
+                if (chunk != null) {
+                    bufferedBytes -= chunk.length;
+                    inFlight = chunk.buffer;
+                    outputStream.write(chunk.buffer, 0, chunk.length);
+                }
+            }
+            // the writes only fill the container buffer, e.g. a chunk of a streamed response is pushed to the client by flush
+            if (flushPending && chunks.isEmpty() && inFlight == null && outputStream.isReady()) {
+                flushPending = false;
+                outputStream.flush();
+            }
+        } catch (final IOException | IllegalStateException e) {
+            LOGGER.log(Level.FINE, "Writing the response entity failed.", e);
+            return fail(e);
+        }
+        notifyAll();
+        return chunks.isEmpty() && inFlight == null && closed ? drained() : null;
+    }
+
+    private Runnable drained() {
+        if (drainCallback == null || drained) {
+            return null;
+        }
+        drained = true;
+        return drainCallback;
+    }
+
+    private static void run(final Runnable callback) {
+        if (callback != null) {
+            callback.run();
+        }
+    }
+}
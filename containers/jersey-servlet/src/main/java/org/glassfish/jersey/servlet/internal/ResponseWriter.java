@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -70,6 +70,14 @@ public class ResponseWriter implements ContainerResponseWriter {
 
     private final JerseyRequestTimeoutHandler requestTimeoutHandler;
 
+    /**
+     * Buffer pool of the non-blocking I/O, {@code null} if the response is written with the blocking I/O.
+     */
+    private final BufferPool nonBlockingBufferPool;
+    private final int nonBlockingMaxBufferedBytes;
+    private volatile NonBlockingOutputStream nonBlockingOutputStream;
+    private volatile Thread containerThread;
+
     /**
      * Creates a new instance to write a single Jersey response.
      *
@@ -86,6 +94,40 @@ public class ResponseWriter implements ContainerResponseWriter {
                           final HttpServletResponse response,
                           final AsyncContextDelegate asyncExt,
                           final ScheduledExecutorService timeoutTaskExecutor) {
+        this(useSetStatusOn404, configSetStatusOverSendError, response, asyncExt, timeoutTaskExecutor, null, 0);
+    }
+
+    /**
+     * Creates a new instance to write a single Jersey response, optionally with the Servlet non-blocking I/O.
+     * <p>
+     * If the non-blocking I/O is used, the servlet request must already be in the asynchronous mode, i.e. the
+     * {@link AsyncContextDelegate#suspend()} must have been invoked. The asynchronous context is completed once all
+     * the response bytes are sent.
+     * </p>
+     *
+     * @param useSetStatusOn404            true if status should be written explicitly when 404 is returned
+     * @param configSetStatusOverSendError if {@code true} method {@link HttpServletResponse#setStatus} is used over
+     *                                     {@link HttpServletResponse#sendError}
+     * @param response                     original HttpResponseRequest
+     * @param asyncExt                     delegate to use for async features implementation
+     * @param timeoutTaskExecutor          Jersey runtime executor used for background execution of timeout
+     *                                     handling tasks.
+     * @param nonBlockingBufferPool        pool of the buffers of the non-blocking I/O, {@code null} if the response is to be
+     *                                     written with the blocking I/O.
+     * @param nonBlockingMaxBufferedBytes  maximum number of response bytes buffered by the non-blocking I/O before the
+     *                                     writing thread waits for them to be sent.
+     * @see org.glassfish.jersey.servlet.ServletProperties#NON_BLOCKING_IO
+     * @since 4.1.0
+     */
+    public ResponseWriter(final boolean useSetStatusOn404,
+                          final boolean configSetStatusOverSendError,
+                          final HttpServletResponse response,
+                          final AsyncContextDelegate asyncExt,
+                          final ScheduledExecutorService timeoutTaskExecutor,
+                          final BufferPool nonBlockingBufferPool,
+                          final int nonBlockingMaxBufferedBytes) {
+        this.nonBlockingBufferPool = nonBlockingBufferPool;
+        this.nonBlockingMaxBufferedBytes = nonBlockingMaxBufferedBytes;
         this.useSetStatusOn404 = useSetStatusOn404;
         this.configSetStatusOverSendError = configSetStatusOverSendError;
         this.response = response;
@@ -153,6 +195,14 @@ public class ResponseWriter implements ContainerResponseWriter {
             return null;
         } else {
             try {
+                if (nonBlockingBufferPool != null) {
+                    final NonBlockingOutputStream outputStream = NonBlockingOutputStream.create(
+                            response.getOutputStream(), nonBlockingBufferPool, nonBlockingMaxBufferedBytes);
+                    outputStream.setContainerThread(containerThread);
+                    nonBlockingOutputStream = outputStream;
+                    return outputStream;
+                }
+
                 final OutputStream outputStream = response.getOutputStream();
 
                 // delegating output stream prevents closing the underlying servlet output stream,
@@ -169,11 +219,50 @@ public class ResponseWriter implements ContainerResponseWriter {
         try {
             callSendError();
         } finally {
-            requestTimeoutHandler.close();
-            asyncExt.complete();
+            final NonBlockingOutputStream outputStream = nonBlockingOutputStream;
+            if (outputStream != null) {
+                // complete the async context only once the buffered response bytes are sent
+                outputStream.whenDrained(this::complete);
+            } else {
+                complete();
+            }
+        }
+    }
+
+    /**
+     * Complete the asynchronous context started for the non-blocking I/O when the request is not going to be processed
+     * by the Jersey application, e.g. because reading the request entity failed. Does nothing if the non-blocking I/O
+     * is not used.
+     *
+     * @since 4.1.0
+     */
+    public void completeNonBlocking() {
+        if (nonBlockingBufferPool != null) {
+            complete();
         }
     }
 
+    /**
+     * Set the container thread processing the request. The non-blocking I/O does not let the container thread wait
+     * for the buffered response bytes to be sent, since a container may not notify the write listener before the thread
+     * returns. Does nothing if the non-blocking I/O is not used.
+     *
+     * @param thread container thread or {@code null} once the container thread has finished processing the request.
+     * @since 4.1.0
+     */
+    public void setContainerThread(final Thread thread) {
+        containerThread = thread;
+        final NonBlockingOutputStream outputStream = nonBlockingOutputStream;
+        if (outputStream != null) {
+            outputStream.setContainerThread(thread);
+        }
+    }
+
+    private void complete() {
+        requestTimeoutHandler.close();
+        asyncExt.complete();
+    }
+
     /**
      * According to configuration and response processing status it calls {@link HttpServletResponse#sendError(int, String)} over
      * common {@link HttpServletResponse#setStatus(int)}.
@@ -234,6 +323,10 @@ public class ResponseWriter implements ContainerResponseWriter {
             }
         } finally {
             requestTimeoutHandler.close();
+            if (nonBlockingBufferPool != null) {
+                // the async context was started for the non-blocking I/O, make sure it is completed
+                asyncExt.complete();
+            }
             responseContext.completeExceptionally(error);
             rethrow(error);
         }
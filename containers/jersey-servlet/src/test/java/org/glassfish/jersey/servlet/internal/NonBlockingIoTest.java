@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.servlet.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Servlet non-blocking I/O tests.
+ */
+public class NonBlockingIoTest {
+
+    private static final byte[] ENTITY = "0123456789abcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Servlet input stream which provides the data in the given number of bytes per {@code onDataAvailable} round.
+     */
+    private static class TestInputStream extends ServletInputStream {
+
+        private final int bytesPerRound;
+        private ReadListener listener;
+        private int position;
+        private int roundEnd;
+
+        private TestInputStream(final int bytesPerRound) {
+            this.bytesPerRound = bytesPerRound;
+        }
+
+        private void nextRound() throws IOException {
+            roundEnd = Math.min(ENTITY.length, position + bytesPerRound);
+            listener.onDataAvailable();
+            if (isFinished()) {
+                listener.onAllDataRead();
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return position == ENTITY.length;
+        }
+
+        @Override
+        public boolean isReady() {
+            return position < roundEnd;
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            this.listener = readListener;
+        }
+
+        @Override
+        public int read() {
+            return isReady() ? ENTITY[position++] : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            final int count = Math.min(len, roundEnd - position);
+            System.arraycopy(ENTITY, position, b, off, count);
+            position += count;
+            return count;
+        }
+    }
+
+    /**
+     * Servlet output stream which accepts the writes only when it is made ready by the test. Like a container writing
+     * asynchronously, it reads the written buffer only once it is made ready again.
+     */
+    private static class TestOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private WriteListener listener;
+        private volatile boolean ready;
+        private int flushed;
+        private byte[] pending;
+        private int pendingOffset;
+        private int pendingLength;
+
+        private synchronized void makeReady() throws IOException {
+            // the volatile read makes the pending write of the writing thread visible
+            if (!ready && pending != null) {
+                written.write(pending, pendingOffset, pendingLength);
+                pending = null;
+            }
+            ready = true;
+            listener.onWritePossible();
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            this.listener = writeListener;
+        }
+
+        @Override
+        public void write(final int b) {
+            if (!ready) {
+                throw new IllegalStateException("Not ready.");
+            }
+            written.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            if (!ready) {
+                throw new IllegalStateException("Not ready.");
+            }
+            pending = b;
+            pendingOffset = off;
+            pendingLength = len;
+            // one write per readiness
+            ready = false;
+        }
+
+        @Override
+        public void flush() {
+            if (!ready) {
+                throw new IllegalStateException("Not ready.");
+            }
+            flushed = written.size();
+        }
+    }
+
+    @Test
+    public void testEntityReadInRounds() throws IOException {
+        final BufferPool bufferPool = new BufferPool(8, 16);
+        final TestInputStream servletStream = new TestInputStream(5);
+        final AtomicReference<InputStream> entityStream = new AtomicReference<>();
+
+        NonBlockingEntityReader.read(servletStream, bufferPool, new NonBlockingEntityReader.Callback() {
+            @Override
+            public void onEntity(final InputStream stream) {
+                entityStream.set(stream);
+            }
+
+            @Override
+            public void onError(final Throwable error) {
+                Assertions.fail(error);
+            }
+        });
+
+        while (entityStream.get() == null) {
+            servletStream.nextRound();
+        }
+
+        final ByteArrayOutputStream read = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[3];
+        int count;
+        while ((count = entityStream.get().read(buffer, 0, buffer.length)) != -1) {
+            read.write(buffer, 0, count);
+        }
+        entityStream.get().close();
+
+        Assertions.assertArrayEquals(ENTITY, read.toByteArray());
+    }
+
+    @Test
+    public void testResponseDrainedAsynchronously() throws IOException {
+        final TestOutputStream servletStream = new TestOutputStream();
+        final NonBlockingOutputStream outputStream = NonBlockingOutputStream.create(
+                servletStream, new BufferPool(8, 16), ENTITY.length);
+        final AtomicInteger drained = new AtomicInteger();
+
+        // the servlet stream is not ready, all the bytes are buffered
+        outputStream.write(ENTITY);
+        outputStream.close();
+        outputStream.whenDrained(drained::incrementAndGet);
+        Assertions.assertEquals(0, servletStream.written.size());
+        Assertions.assertEquals(0, drained.get());
+
+        while (drained.get() == 0) {
+            servletStream.makeReady();
+        }
+
+        Assertions.assertArrayEquals(ENTITY, servletStream.written.toByteArray());
+        Assertions.assertEquals(1, drained.get());
+    }
+
+    @Test
+    public void testDrainCallbackOnError() throws IOException {
+        final TestOutputStream servletStream = new TestOutputStream();
+        final NonBlockingOutputStream outputStream = NonBlockingOutputStream.create(
+                servletStream, new BufferPool(8, 16), ENTITY.length);
+        final AtomicInteger drained = new AtomicInteger();
+
+        outputStream.write(ENTITY);
+        servletStream.listener.onError(new IOException("Connection reset."));
+        Assertions.assertThrows(IOException.class, () -> outputStream.write(ENTITY));
+
+        outputStream.whenDrained(drained::incrementAndGet);
+        Assertions.assertEquals(1, drained.get());
+    }
+
+    @Test
+    public void testBufferReusedOnlyAfterWriteCompleted() throws IOException {
+        final TestOutputStream servletStream = new TestOutputStream();
+        servletStream.ready = true;
+        final NonBlockingOutputStream outputStream = NonBlockingOutputStream.create(
+                servletStream, new BufferPool(8, 16), ENTITY.length);
+        final AtomicInteger drained = new AtomicInteger();
+
+        // the first buffer is still held by the servlet stream while the rest of the entity is written
+        outputStream.write(ENTITY, 0, 8);
+        outputStream.flush();
+        outputStream.write(ENTITY, 8, ENTITY.length - 8);
+        outputStream.close();
+        outputStream.whenDrained(drained::incrementAndGet);
+
+        while (drained.get() == 0) {
+            servletStream.makeReady();
+        }
+
+        Assertions.assertArrayEquals(ENTITY, servletStream.written.toByteArray());
+    }
+
+    @Test
+    public void testFlushedBeforeClose() throws IOException {
+        final TestOutputStream servletStream = new TestOutputStream();
+        final NonBlockingOutputStream outputStream = NonBlockingOutputStream.create(
+                servletStream, new BufferPool(8, 16), ENTITY.length);
+
+        // a chunk of a streamed response
+        outputStream.write(ENTITY, 0, 5);
+        outputStream.flush();
+        Assertions.assertEquals(0, servletStream.flushed);
+
+        // the servlet stream is flushed once the chunk has been written
+        for (int i = 0; i < 3 && servletStream.flushed == 0; i++) {
+            servletStream.makeReady();
+        }
+        Assertions.assertEquals(5, servletStream.flushed);
+
+        final AtomicInteger drained = new AtomicInteger();
+        outputStream.write(ENTITY, 5, ENTITY.length - 5);
+        outputStream.close();
+        outputStream.whenDrained(drained::incrementAndGet);
+        while (drained.get() == 0) {
+            servletStream.makeReady();
+        }
+        Assertions.assertArrayEquals(ENTITY, servletStream.written.toByteArray());
+    }
+
+    @Test
+    public void testWriterWaitsForWritePossible() throws Exception {
+        final TestOutputStream servletStream = new TestOutputStream();
+        final NonBlockingOutputStream outputStream = NonBlockingOutputStream.create(
+                servletStream, new BufferPool(8, 16), 8);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        final Thread writer = new Thread(() -> {
+            try {
+                outputStream.write(ENTITY);
+                outputStream.close();
+            } catch (final IOException e) {
+                failure.set(e);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            servletStream.makeReady();
+            writer.join(10);
+        }
+        final AtomicInteger drained = new AtomicInteger();
+        outputStream.whenDrained(drained::incrementAndGet);
+        while (drained.get() == 0) {
+            servletStream.makeReady();
+        }
+
+        Assertions.assertNull(failure.get());
+        Assertions.assertArrayEquals(ENTITY, servletStream.written.toByteArray());
+    }
+
+    @Test
+    public void testContainerThreadDoesNotWait() throws IOException {
+        final TestOutputStream servletStream = new TestOutputStream();
+        final NonBlockingOutputStream outputStream = NonBlockingOutputStream.create(
+                servletStream, new BufferPool(8, 16), 8);
+        outputStream.setContainerThread(Thread.currentThread());
+
+        // no write listener notification is to come while the container thread is busy
+        outputStream.write(ENTITY);
+        outputStream.close();
+        outputStream.setContainerThread(null);
+
+        final AtomicInteger drained = new AtomicInteger();
+        outputStream.whenDrained(drained::incrementAndGet);
+        while (drained.get() == 0) {
+            servletStream.makeReady();
+        }
+        Assertions.assertArrayEquals(ENTITY, servletStream.written.toByteArray());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,13 +16,20 @@
 
 package org.glassfish.jersey.jetty;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -33,6 +40,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.Application;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.SecurityContext;
@@ -44,7 +52,9 @@ import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.io.Content;
 import org.eclipse.jetty.security.AuthenticationState;
+import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.util.Blocker;
 import org.eclipse.jetty.util.Callback;
 import org.eclipse.jetty.util.thread.Scheduler;
 import org.glassfish.jersey.innate.inject.InternalBinder;
@@ -52,6 +62,8 @@ import org.glassfish.jersey.internal.MapPropertiesDelegate;
 import org.glassfish.jersey.internal.inject.ReferencingFactory;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
 import org.glassfish.jersey.internal.util.collection.Ref;
+import org.glassfish.jersey.io.spi.FileRegionOutput;
+import org.glassfish.jersey.jetty.internal.HttpFieldsMultivaluedMap;
 import org.glassfish.jersey.jetty.internal.LocalizationMessages;
 import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.ApplicationHandler;
@@ -135,26 +147,56 @@ public final class JettyHttpContainer extends Handler.Abstract implements Contai
         }
     }
 
+    private static final String HEX_DIGITS = "0123456789abcdefABCDEF";
+    private static final String PLAIN_URI_CHARACTERS = "-._~!$&'()*+,;=:@/?";
+
     private volatile ApplicationHandler appHandler;
 
+    /**
+     * Base URI of the most recent request per connector. The base URI is derived from the request authority and
+     * the context path, which rarely change for requests received by a single connector.
+     */
+    private final Map<Connector, BaseUri> baseUris = new ConcurrentHashMap<>();
+
     @Override
     public boolean handle(Request request, Response response, Callback callback) throws Exception {
 
         final ResponseWriter responseWriter = new ResponseWriter(request, response, callback, configSetStatusOverSendError);
         try {
             LOGGER.debugLog(LocalizationMessages.CONTAINER_STARTED());
-            final URI baseUri = getBaseUri(request);
-            final URI requestUri = getRequestUri(request, baseUri);
-            final ContainerRequest requestContext = new ContainerRequest(
-                    baseUri,
-                    requestUri,
-                    request.getMethod(),
-                    getSecurityContext(request),
-                    new MapPropertiesDelegate(),
-                    appHandler.getConfiguration());
+            final BaseUri baseUri = getBaseUri(request);
+            final String path = request.getHttpURI().getPath();
+            final String query = request.getHttpURI().getQuery();
+            final ContainerRequest requestContext;
+            if (path != null && !path.isEmpty() && path.charAt(0) == '/'
+                    && isPlainUriComponent(path) && (query == null || isPlainUriComponent(query))) {
+                requestContext = new ContainerRequest(
+                        baseUri.uri,
+                        path,
+                        () -> {
+                            try {
+                                return getRequestUri(baseUri.serverAddress, path, query);
+                            } catch (final URISyntaxException e) {
+                                throw new BadRequestException(e);
+                            }
+                        },
+                        request.getMethod(),
+                        new JettySecurityContext(request),
+                        new MapPropertiesDelegate(),
+                        appHandler.getConfiguration(),
+                        new HttpFieldsMultivaluedMap(request.getHeaders()));
+            } else {
+                requestContext = new ContainerRequest(
+                        baseUri.uri,
+                        getRequestUri(baseUri.serverAddress, path, query),
+                        request.getMethod(),
+                        new JettySecurityContext(request),
+                        new MapPropertiesDelegate(),
+                        appHandler.getConfiguration());
+                request.getHeaders().forEach(httpField ->
+                        requestContext.headers(httpField.getName(), httpField.getValue() == null ? "" : httpField.getValue()));
+            }
             requestContext.setEntityStream(Request.asInputStream(request));
-            request.getHeaders().forEach(httpField ->
-                    requestContext.headers(httpField.getName(), httpField.getValue() == null ? "" : httpField.getValue()));
             requestContext.setWriter(responseWriter);
             requestContext.setRequestScopedInitializer(injectionManager -> {
                 injectionManager.<Ref<Request>>getInstance(REQUEST_TYPE).set(request);
@@ -172,11 +214,10 @@ public final class JettyHttpContainer extends Handler.Abstract implements Contai
         }
     }
 
-    private URI getRequestUri(final Request request, final URI baseUri) throws URISyntaxException {
-        final String serverAddress = getServerAddress(baseUri);
-        String uri = request.getHttpURI().getPath();
+    private static URI getRequestUri(final String serverAddress, final String path, final String queryString)
+            throws URISyntaxException {
+        String uri = path;
 
-        final String queryString = request.getHttpURI().getQuery();
         if (queryString != null) {
             uri = uri + "?" + ContainerUtils.encodeUnsafeCharacters(queryString);
         }
@@ -184,6 +225,33 @@ public final class JettyHttpContainer extends Handler.Abstract implements Contai
         return new URI(serverAddress + uri);
     }
 
+    /**
+     * Cheap check whether the raw request URI component consists of the characters that are always accepted by
+     * {@link URI#URI(String)}. Components containing other characters or malformed escapes are parsed eagerly,
+     * so that an invalid request URI is rejected with the container's 400 response before the request is processed.
+     *
+     * @param component raw request path or query.
+     * @return {@code true} if the component can be parsed lazily.
+     */
+    private static boolean isPlainUriComponent(final String component) {
+        final int length = component.length();
+        for (int i = 0; i < length; i++) {
+            final char c = component.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= length
+                        || HEX_DIGITS.indexOf(component.charAt(i + 1)) < 0
+                        || HEX_DIGITS.indexOf(component.charAt(i + 2)) < 0) {
+                    return false;
+                }
+                i += 2;
+            } else if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || PLAIN_URI_CHARACTERS.indexOf(c) >= 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void setResponseForInvalidUri(final Request request, final Response response,
                                           final Callback callback, final Throwable throwable) {
         LOGGER.log(Level.FINER, "Error while processing request.", throwable);
@@ -198,7 +266,7 @@ public final class JettyHttpContainer extends Handler.Abstract implements Contai
         }
     }
 
-    private String getServerAddress(URI baseUri) {
+    private static String getServerAddress(URI baseUri) {
         String serverAddress = baseUri.toString();
         if (serverAddress.charAt(serverAddress.length() - 1) == '/') {
             return serverAddress.substring(0, serverAddress.length() - 1);
@@ -206,38 +274,85 @@ public final class JettyHttpContainer extends Handler.Abstract implements Contai
         return serverAddress;
     }
 
-    private SecurityContext getSecurityContext(final Request request) {
+    /**
+     * Security context of a Jetty request.
+     */
+    private static final class JettySecurityContext implements SecurityContext {
 
-        AuthenticationState.Succeeded authenticationState = AuthenticationState.authenticate(request);
+        private final Request request;
+        private final AuthenticationState.Succeeded authenticationState;
 
-        return new SecurityContext() {
+        JettySecurityContext(final Request request) {
+            this.request = request;
+            this.authenticationState = AuthenticationState.authenticate(request);
+        }
 
-            @Override
-            public boolean isUserInRole(final String role) {
-                return authenticationState != null && authenticationState.isUserInRole(role);
-            }
+        @Override
+        public boolean isUserInRole(final String role) {
+            return authenticationState != null && authenticationState.isUserInRole(role);
+        }
 
-            @Override
-            public boolean isSecure() {
-                return request.isSecure();
-            }
+        @Override
+        public boolean isSecure() {
+            return request.isSecure();
+        }
 
-            @Override
-            public Principal getUserPrincipal() {
-                return authenticationState != null ? authenticationState.getUserIdentity().getUserPrincipal() : null;
-            }
+        @Override
+        public Principal getUserPrincipal() {
+            return authenticationState != null ? authenticationState.getUserIdentity().getUserPrincipal() : null;
+        }
 
-            @Override
-            public String getAuthenticationScheme() {
-                return authenticationState != null ? authenticationState.getAuthenticationType() : null;
-            }
-        };
+        @Override
+        public String getAuthenticationScheme() {
+            return authenticationState != null ? authenticationState.getAuthenticationType() : null;
+        }
     }
 
+    /**
+     * Base URI of the requests, together with the request properties it has been created from.
+     */
+    private static final class BaseUri {
+
+        private final String scheme;
+        private final String serverName;
+        private final int serverPort;
+        private final String basePath;
+        private final URI uri;
+        private final String serverAddress;
+
+        private BaseUri(final String scheme, final String serverName, final int serverPort, final String basePath)
+                throws URISyntaxException {
+            this.scheme = scheme;
+            this.serverName = serverName;
+            this.serverPort = serverPort;
+            this.basePath = basePath;
+            this.uri = new URI(scheme, null, serverName, serverPort, basePath, null, null);
+            this.serverAddress = getServerAddress(uri);
+        }
 
-    private URI getBaseUri(final Request request) throws URISyntaxException {
-        return new URI(request.getHttpURI().getScheme(), null, Request.getServerName(request),
-                Request.getServerPort(request), getBasePath(request), null, null);
+        private boolean matches(final String scheme, final String serverName, final int serverPort, final String basePath) {
+            return this.serverPort == serverPort
+                    && this.serverName.equals(serverName)
+                    && this.basePath.equals(basePath)
+                    && Objects.equals(this.scheme, scheme);
+        }
+    }
+
+    private BaseUri getBaseUri(final Request request) throws URISyntaxException {
+        final String scheme = request.getHttpURI().getScheme();
+        final String serverName = Request.getServerName(request);
+        final int serverPort = Request.getServerPort(request);
+        final String basePath = getBasePath(request);
+
+        final Connector connector = request.getConnectionMetaData().getConnector();
+        BaseUri baseUri = connector == null ? null : baseUris.get(connector);
+        if (baseUri == null || !baseUri.matches(scheme, serverName, serverPort, basePath)) {
+            baseUri = new BaseUri(scheme, serverName, serverPort, basePath);
+            if (connector != null) {
+                baseUris.put(connector, baseUri);
+            }
+        }
+        return baseUri;
     }
 
     private String getBasePath(final Request request) {
@@ -252,6 +367,59 @@ public final class JettyHttpContainer extends Handler.Abstract implements Contai
         }
     }
 
+    /**
+     * Response entity stream writing the file regions as read-only mapped buffers, so that the file content is not
+     * copied to the Java heap.
+     */
+    private static final class ResponseOutputStream extends OutputStream implements FileRegionOutput {
+
+        private final Response response;
+        private final OutputStream output;
+
+        private ResponseOutputStream(final Response response) {
+            this.response = response;
+            this.output = Content.Sink.asOutputStream(response);
+        }
+
+        @Override
+        public boolean writeFileRegion(final Path file, final long position, final long count) throws IOException {
+            if (count > Integer.MAX_VALUE || file.getFileSystem() != FileSystems.getDefault()) {
+                return false;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                 Blocker.Callback callback = Blocker.callback()) {
+                response.write(false, channel.map(FileChannel.MapMode.READ_ONLY, position, count), callback);
+                callback.block();
+            }
+            return true;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            output.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b) throws IOException {
+            output.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            output.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+    }
+
     private static class ResponseWriter implements ContainerResponseWriter {
 
         private final Request request;
@@ -318,7 +486,7 @@ public final class JettyHttpContainer extends Handler.Abstract implements Contai
                 }
             }
 
-            return Content.Sink.asOutputStream(response);
+            return new ResponseOutputStream(response);
         }
 
         @Override
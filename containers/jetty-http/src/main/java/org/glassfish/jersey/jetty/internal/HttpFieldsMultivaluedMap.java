@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jetty.internal;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpFields;
+import org.glassfish.jersey.message.internal.HeaderUtils;
+
+/**
+ * Case-insensitive {@link MultivaluedMap} view of the Jetty request {@link HttpFields}.
+ * <p>
+ * The {@link #get(Object)}, {@link #getFirst(String)}, {@link #containsKey(Object)} and {@link #isEmpty()} lookups
+ * are served directly from the Jetty fields, so that the request headers do not need to be copied for every request.
+ * The value lists returned by {@link #get(Object)} are unmodifiable until the headers are copied. The headers are copied
+ * into a regular inbound headers map on the first modification or bulk read, such as {@link #entrySet()}, because
+ * the bulk views may be modified by the caller; all the operations are served by the copy afterwards.
+ * </p>
+ * <p>
+ * The map is not thread-safe, it is meant to be used by a single request.
+ * </p>
+ */
+public final class HttpFieldsMultivaluedMap implements MultivaluedMap<String, String> {
+
+    private final HttpFields fields;
+    private MultivaluedMap<String, String> copy;
+
+    /**
+     * Create new view of the Jetty request headers.
+     *
+     * @param fields Jetty request headers.
+     */
+    public HttpFieldsMultivaluedMap(final HttpFields fields) {
+        this.fields = fields;
+    }
+
+    private static String value(final HttpField field) {
+        final String value = field.getValue();
+        return value == null ? "" : value;
+    }
+
+    private MultivaluedMap<String, String> copy() {
+        if (copy == null) {
+            final MultivaluedMap<String, String> headers = HeaderUtils.createInbound();
+            for (final HttpField field : fields) {
+                headers.add(field.getName(), value(field));
+            }
+            copy = headers;
+        }
+        return copy;
+    }
+
+    @Override
+    public List<String> get(final Object key) {
+        if (copy != null) {
+            return copy.get(key);
+        }
+        if (!(key instanceof String)) {
+            return null;
+        }
+        final List<String> values = fields.getValuesList((String) key);
+        return values.isEmpty() ? null : Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public String getFirst(final String key) {
+        if (copy != null) {
+            return copy.getFirst(key);
+        }
+        final HttpField field = fields.getField(key);
+        return field == null ? null : value(field);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        if (copy != null) {
+            return copy.containsKey(key);
+        }
+        return key instanceof String && fields.getField((String) key) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return copy != null ? copy.isEmpty() : fields.size() == 0;
+    }
+
+    @Override
+    public int size() {
+        return copy().size();
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return copy().containsValue(value);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return copy().keySet();
+    }
+
+    @Override
+    public Collection<List<String>> values() {
+        return copy().values();
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        return copy().entrySet();
+    }
+
+    @Override
+    public void putSingle(final String key, final String value) {
+        copy().putSingle(key, value);
+    }
+
+    @Override
+    public void add(final String key, final String value) {
+        copy().add(key, value);
+    }
+
+    @Override
+    public void addAll(final String key, final String... newValues) {
+        copy().addAll(key, newValues);
+    }
+
+    @Override
+    public void addAll(final String key, final List<String> valueList) {
+        copy().addAll(key, valueList);
+    }
+
+    @Override
+    public void addFirst(final String key, final String value) {
+        copy().addFirst(key, value);
+    }
+
+    @Override
+    public boolean equalsIgnoreValueOrder(final MultivaluedMap<String, String> otherMap) {
+        return copy().equalsIgnoreValueOrder(otherMap);
+    }
+
+    @Override
+    public List<String> put(final String key, final List<String> value) {
+        return copy().put(key, value);
+    }
+
+    @Override
+    public List<String> remove(final Object key) {
+        return copy().remove(key);
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends List<String>> m) {
+        copy().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        copy().clear();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || copy().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return copy().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return copy().toString();
+    }
+}
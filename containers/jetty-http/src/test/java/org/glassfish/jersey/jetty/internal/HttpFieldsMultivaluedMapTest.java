@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jetty.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jetty.http.HttpFields;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of the {@link HttpFieldsMultivaluedMap}.
+ */
+public class HttpFieldsMultivaluedMapTest {
+
+    private static HttpFieldsMultivaluedMap headers() {
+        return new HttpFieldsMultivaluedMap(HttpFields.build()
+                .add("Accept", "text/plain")
+                .add("X-Test", "a")
+                .add("x-test", "b")
+                .asImmutable());
+    }
+
+    @Test
+    public void testRead() {
+        final HttpFieldsMultivaluedMap headers = headers();
+
+        assertEquals(Collections.singletonList("text/plain"), headers.get("accept"));
+        assertEquals(Arrays.asList("a", "b"), headers.get("X-TEST"));
+        assertEquals("a", headers.getFirst("x-Test"));
+        assertTrue(headers.containsKey("ACCEPT"));
+        assertFalse(headers.containsKey("Content-Type"));
+        assertNull(headers.get("Content-Type"));
+        assertNull(headers.getFirst("Content-Type"));
+        assertFalse(headers.isEmpty());
+        assertEquals(2, headers.size());
+    }
+
+    @Test
+    public void testUnmodifiableValues() {
+        final HttpFieldsMultivaluedMap headers = headers();
+        final List<String> values = headers.get("Accept");
+
+        assertThrows(UnsupportedOperationException.class, () -> values.add("text/html"));
+
+        headers.add("Accept", "text/html");
+        assertEquals(Arrays.asList("text/plain", "text/html"), headers.get("accept"));
+        assertEquals(Collections.singletonList("text/plain"), values);
+        assertEquals(2, headers.get("X-Test").size());
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        final HttpFieldsMultivaluedMap headers = headers();
+
+        headers.add("Accept", "text/html");
+        headers.remove("X-Test");
+        headers.putSingle("Content-Type", "text/plain");
+
+        assertEquals(Arrays.asList("text/plain", "text/html"), headers.get("accept"));
+        assertFalse(headers.containsKey("x-test"));
+        assertEquals("text/plain", headers.getFirst("content-type"));
+
+        headers.get("Accept").add("*/*");
+        assertEquals(3, headers.get("Accept").size());
+    }
+}
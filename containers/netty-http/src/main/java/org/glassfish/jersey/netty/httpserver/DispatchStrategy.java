@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.netty.httpserver;
+
+/**
+ * Strategy used by the Netty HTTP container to dispatch the request processing off the I/O thread that read the request.
+ *
+ * @see NettyServerProperties#DISPATCH_STRATEGY
+ * @since 4.1.0
+ */
+public enum DispatchStrategy {
+
+    /**
+     * The requests are processed by the {@link org.glassfish.jersey.spi.ExecutorServiceProvider executor service} of the
+     * application. This is the default strategy.
+     */
+    EXECUTOR,
+
+    /**
+     * The requests without an entity are processed directly on the Netty event loop that read them, saving the hand-off
+     * to another thread. The requests with an entity are processed by the executor service of the application, since
+     * the entity cannot be read on the event loop.
+     * <p>
+     * The strategy is only suitable for the applications whose resources, filters and providers never block.
+     * A blocking operation stalls all the connections served by the event loop.
+     * </p>
+     */
+    EVENT_LOOP,
+
+    /**
+     * The requests are processed by a new virtual thread each, suitable for blocking resources. The virtual threads are
+     * created by the {@link org.glassfish.jersey.CommonProperties#THREAD_FACTORY thread factory} if configured.
+     * On JDK versions without virtual threads, a cached pool of platform threads is used instead.
+     */
+    VIRTUAL_THREAD
+}
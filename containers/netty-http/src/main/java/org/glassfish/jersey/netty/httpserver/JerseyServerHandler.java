@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -39,6 +39,7 @@ import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.netty.connector.internal.NettyInputStream;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.ContainerUtils;
 
 /**
@@ -52,7 +53,9 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
 
     private final URI baseUri;
     private final String applicationPath;
-    private final NettyInputStream nettyInputStream = new NettyInputStream();
+    private NettyInputStream nettyInputStream = new NettyInputStream();
+    private boolean flowControl;
+    private DispatchStrategy dispatchStrategy = DispatchStrategy.EXECUTOR;
     private final NettyHttpContainer container;
     private final ResourceConfig resourceConfig;
 
@@ -82,6 +85,22 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
         this.applicationPath = applicationPath;
     }
 
+    @Override
+    public void handlerAdded(final ChannelHandlerContext ctx) {
+        final Map<String, Object> properties = container.getApplicationHandler().getConfiguration().getProperties();
+        final long highWatermark = ServerProperties.getValue(properties,
+                NettyServerProperties.REQUEST_BUFFER_HIGH_WATERMARK, 0L, Long.class);
+        if (highWatermark > 0) {
+            final long lowWatermark = ServerProperties.getValue(properties,
+                    NettyServerProperties.REQUEST_BUFFER_LOW_WATERMARK, highWatermark / 2, Long.class);
+            nettyInputStream = new NettyInputStream(ctx.channel(), highWatermark, lowWatermark);
+            flowControl = true;
+        }
+        ctx.channel().attr(RequestBufferStatistics.CHANNEL_ATTRIBUTE).set(new InputStreamStatistics(nettyInputStream));
+        dispatchStrategy = ServerProperties.getValue(properties,
+                NettyServerProperties.DISPATCH_STRATEGY, DispatchStrategy.EXECUTOR, DispatchStrategy.class);
+    }
+
     @Override
     public void channelRead(final ChannelHandlerContext ctx, Object msg) {
 
@@ -91,8 +110,9 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
             nettyInputStream.clear(); // clearing the content - possible leftover from previous request processing.
             final ContainerRequest requestContext = createContainerRequest(ctx, req);
 
-            requestContext.setWriter(new NettyResponseWriter(ctx, req, container));
+            requestContext.setWriter(new NettyResponseWriter(ctx, req, container, flowControl ? nettyInputStream : null));
 
+            boolean hasEntity = false;
             long contentLength = req.headers().contains(HttpHeaderNames.CONTENT_LENGTH) ? HttpUtil.getContentLength(req)
                     : -1L;
             if (contentLength >= MAX_REQUEST_ENTITY_BYTES) {
@@ -112,6 +132,7 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
                 if ((!isJson && contentLength != -1) || HttpUtil.isTransferEncodingChunked(req)
                         || (isJson && contentLength >= 2)) {
                     requestContext.setEntityStream(nettyInputStream);
+                    hasEntity = true;
                 }
             }
 
@@ -120,13 +141,28 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
                 requestContext.headers(name, req.headers().getAll(name));
             }
 
-            // must be like this, since there is a blocking read from Jersey
-            container.getExecutorService().execute(new Runnable() {
+            final Runnable handling = new Runnable() {
                 @Override
                 public void run() {
                     container.getApplicationHandler().handle(requestContext);
                 }
-            });
+            };
+            switch (dispatchStrategy) {
+                case EVENT_LOOP:
+                    if (!hasEntity) {
+                        handling.run();
+                        break;
+                    }
+                    // there is a blocking read from Jersey
+                    container.getExecutorService().execute(handling);
+                    break;
+                case VIRTUAL_THREAD:
+                    container.getVirtualThreadExecutorService().execute(handling);
+                    break;
+                default:
+                    // must be like this, since there is a blocking read from Jersey
+                    container.getExecutorService().execute(handling);
+            }
         }
 
         if (msg instanceof HttpContent) {
@@ -204,4 +240,27 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
         ctx.close();
     }
 
+    private static final class InputStreamStatistics implements RequestBufferStatistics {
+
+        private final NettyInputStream inputStream;
+
+        private InputStreamStatistics(final NettyInputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        @Override
+        public long getBufferedBytes() {
+            return inputStream.getBufferedBytes();
+        }
+
+        @Override
+        public long getPeakBufferedBytes() {
+            return inputStream.getPeakBufferedBytes();
+        }
+
+        @Override
+        public long getPauseCount() {
+            return inputStream.getPauseCount();
+        }
+    }
 }
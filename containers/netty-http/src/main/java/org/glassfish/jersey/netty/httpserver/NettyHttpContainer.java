@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,6 +21,10 @@ import java.util.concurrent.ScheduledExecutorService;
 
 import jakarta.ws.rs.core.Application;
 
+import org.glassfish.jersey.innate.VirtualThreadUtil;
+import org.glassfish.jersey.internal.util.collection.LazyValue;
+import org.glassfish.jersey.internal.util.collection.Value;
+import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.spi.Container;
@@ -36,6 +40,8 @@ class NettyHttpContainer implements Container {
 
     private volatile ApplicationHandler appHandler;
 
+    private volatile LazyValue<ExecutorService> virtualThreadExecutorService = createVirtualThreadExecutorService();
+
     public NettyHttpContainer(Application application) {
         this.appHandler = new ApplicationHandler(application);
         this.appHandler.onStartup(this);
@@ -64,12 +70,35 @@ class NettyHttpContainer implements Container {
     @Override
     public void reload(ResourceConfig configuration) {
         appHandler.onShutdown(this);
+        shutdownVirtualThreadExecutorService();
 
         appHandler = new ApplicationHandler(configuration);
         appHandler.onReload(this);
         appHandler.onStartup(this);
     }
 
+    /**
+     * Shut down the application and the executors created by this container.
+     */
+    void shutdown() {
+        appHandler.onShutdown(this);
+        shutdownVirtualThreadExecutorService();
+    }
+
+    private LazyValue<ExecutorService> createVirtualThreadExecutorService() {
+        return Values.lazy((Value<ExecutorService>)
+                () -> VirtualThreadUtil.withConfig(getConfiguration(), true).newCachedThreadPool());
+    }
+
+    private void shutdownVirtualThreadExecutorService() {
+        final LazyValue<ExecutorService> executorService = virtualThreadExecutorService;
+        virtualThreadExecutorService = createVirtualThreadExecutorService();
+        if (executorService.isInitialized()) {
+            // the running requests are let finish
+            executorService.get().shutdown();
+        }
+    }
+
     /**
      * Get {@link java.util.concurrent.ExecutorService}.
      *
@@ -79,6 +108,15 @@ class NettyHttpContainer implements Container {
         return appHandler.getInjectionManager().getInstance(ExecutorServiceProvider.class).getExecutorService();
     }
 
+    /**
+     * Get {@link java.util.concurrent.ExecutorService} running each task in a new virtual thread.
+     *
+     * @return Virtual thread executor service associated with this container.
+     */
+    ExecutorService getVirtualThreadExecutorService() {
+        return virtualThreadExecutorService.get();
+    }
+
     /**
      * Get {@link ScheduledExecutorService}.
      *
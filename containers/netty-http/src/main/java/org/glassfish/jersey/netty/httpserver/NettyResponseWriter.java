@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,7 +16,10 @@
 
 package org.glassfish.jersey.netty.httpserver;
 
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
@@ -24,24 +27,31 @@ import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.glassfish.jersey.io.spi.FileRegionOutput;
 import org.glassfish.jersey.netty.connector.internal.JerseyChunkedInput;
+import org.glassfish.jersey.netty.connector.internal.NettyInputStream;
 import org.glassfish.jersey.server.ContainerException;
 import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
 
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
 
 /**
  * Netty implementation of {@link ContainerResponseWriter}.
@@ -62,6 +72,7 @@ class NettyResponseWriter implements ContainerResponseWriter {
     private final ChannelHandlerContext ctx;
     private final HttpRequest req;
     private final NettyHttpContainer container;
+    private final NettyInputStream requestStream;
 
     private volatile ScheduledFuture<?> suspendTimeoutFuture;
     private volatile Runnable suspendTimeoutHandler;
@@ -69,9 +80,15 @@ class NettyResponseWriter implements ContainerResponseWriter {
     private boolean responseWritten = false;
 
     NettyResponseWriter(ChannelHandlerContext ctx, HttpRequest req, NettyHttpContainer container) {
+        this(ctx, req, container, null);
+    }
+
+    NettyResponseWriter(ChannelHandlerContext ctx, HttpRequest req, NettyHttpContainer container,
+                        NettyInputStream requestStream) {
         this.ctx = ctx;
         this.req = req;
         this.container = container;
+        this.requestStream = requestStream;
     }
 
     @Override
@@ -117,6 +134,17 @@ class NettyResponseWriter implements ContainerResponseWriter {
 
         if (req.method() != HttpMethod.HEAD && (contentLength > 0 || contentLength == -1)) {
 
+            final boolean fileRegionSupported = isFileRegionSupported(response);
+
+            if (ctx.executor().inEventLoop()) {
+                // the chunked input is drained by the event loop, it would not be drained while the entity is written
+                return new EventLoopOutputStream(ctx, fileRegionSupported);
+            }
+
+            if (fileRegionSupported) {
+                return new FileRegionOutputStream(ctx);
+            }
+
             JerseyChunkedInput jerseyChunkedInput = new JerseyChunkedInput(ctx.channel());
 
             if (HttpUtil.isTransferEncodingChunked(response)) {
@@ -132,6 +160,14 @@ class NettyResponseWriter implements ContainerResponseWriter {
         }
     }
 
+    /**
+     * File regions are written to the channel as they are, i.e. they are neither encoded by the chunked transfer
+     * encoding nor encrypted.
+     */
+    private boolean isFileRegionSupported(HttpResponse response) {
+        return !HttpUtil.isTransferEncodingChunked(response) && ctx.pipeline().get(SslHandler.class) == null;
+    }
+
     @Override
     public boolean suspend(long timeOut, TimeUnit timeUnit, final ContainerResponseWriter.TimeoutHandler
             timeoutHandler) {
@@ -172,6 +208,10 @@ class NettyResponseWriter implements ContainerResponseWriter {
     @Override
     public void commit() {
         ctx.flush();
+        if (requestStream != null) {
+            // the request entity not consumed by the application must not keep the connection paused
+            requestStream.discard();
+        }
     }
 
     @Override
@@ -184,4 +224,122 @@ class NettyResponseWriter implements ContainerResponseWriter {
     public boolean enableResponseBuffering() {
         return true;
     }
+
+    /**
+     * Entity output stream writing the content directly to the channel, used when the response is written on the event
+     * loop of the channel.
+     */
+    private static class EventLoopOutputStream extends OutputStream implements FileRegionOutput {
+
+        private final ChannelHandlerContext ctx;
+        private final boolean fileRegionSupported;
+        private volatile boolean open = true;
+
+        private EventLoopOutputStream(ChannelHandlerContext ctx, boolean fileRegionSupported) {
+            this.ctx = ctx;
+            this.fileRegionSupported = fileRegionSupported;
+        }
+
+        @Override
+        public boolean writeFileRegion(Path file, long position, long count) throws IOException {
+            if (!open) {
+                throw new IOException("Stream already closed.");
+            }
+            if (!fileRegionSupported || file.getFileSystem() != FileSystems.getDefault()) {
+                return false;
+            }
+            ctx.write(new DefaultFileRegion(file.toFile(), position, count));
+            return true;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (!open) {
+                throw new IOException("Stream already closed.");
+            }
+            if (len > 0) {
+                ctx.write(new DefaultHttpContent(Unpooled.copiedBuffer(b, off, len)));
+            }
+        }
+
+        @Override
+        public void flush() {
+            ctx.flush();
+        }
+
+        @Override
+        public void close() {
+            if (open) {
+                open = false;
+                ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+            }
+        }
+    }
+
+    /**
+     * Entity output stream of a response with a known content length written outside of the event loop. The entity is
+     * either sent as a file region or written by a chunked input created when the first byte is written.
+     */
+    private static class FileRegionOutputStream extends OutputStream implements FileRegionOutput {
+
+        private final ChannelHandlerContext ctx;
+        private OutputStream output;
+        private boolean fileRegionWritten = false;
+
+        private FileRegionOutputStream(ChannelHandlerContext ctx) {
+            this.ctx = ctx;
+        }
+
+        @Override
+        public boolean writeFileRegion(Path file, long position, long count) {
+            if (output != null || fileRegionWritten || file.getFileSystem() != FileSystems.getDefault()) {
+                return false;
+            }
+            fileRegionWritten = true;
+            ctx.write(new DefaultFileRegion(file.toFile(), position, count));
+            ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+            return true;
+        }
+
+        private OutputStream output() throws IOException {
+            if (fileRegionWritten) {
+                throw new IOException("Stream already closed.");
+            }
+            if (output == null) {
+                final JerseyChunkedInput jerseyChunkedInput = new JerseyChunkedInput(ctx.channel());
+                ctx.write(new HttpChunkedInput(jerseyChunkedInput)).addListener(FLUSH_FUTURE);
+                output = jerseyChunkedInput;
+            }
+            return output;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            output().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            output().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (output != null) {
+                output.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!fileRegionWritten) {
+                output().close();
+            }
+        }
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.netty.httpserver;
+
+import org.glassfish.jersey.internal.util.PropertiesClass;
+
+/**
+ * Configuration options specific to the Netty HTTP container.
+ *
+ * @since 4.1.0
+ */
+@PropertiesClass
+public final class NettyServerProperties {
+
+    /**
+     * <p>
+     *     The number of bytes of a request entity received from a connection and not yet consumed by the application
+     *     at which the container stops reading from the connection. The reading is resumed once the application consumes
+     *     the buffered bytes down to the {@link #REQUEST_BUFFER_LOW_WATERMARK low watermark}.
+     * </p>
+     * <p>
+     *     The value MUST be an instance convertible to {@link java.lang.Long}. The default value is {@code 0} which means
+     *     that the container does not limit the buffered request entity bytes.
+     * </p>
+     * <p>
+     *     The buffered bytes of a connection can be monitored using the {@link RequestBufferStatistics} channel attribute.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String REQUEST_BUFFER_HIGH_WATERMARK = "jersey.config.server.netty.request.buffer.highWatermark";
+
+    /**
+     * <p>
+     *     The number of buffered bytes of a request entity at which the container resumes reading from a connection paused
+     *     by reaching the {@link #REQUEST_BUFFER_HIGH_WATERMARK high watermark}.
+     * </p>
+     * <p>
+     *     The value MUST be an instance convertible to {@link java.lang.Long}. The default value is half of the high
+     *     watermark.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String REQUEST_BUFFER_LOW_WATERMARK = "jersey.config.server.netty.request.buffer.lowWatermark";
+
+    /**
+     * <p>
+     *     The {@link DispatchStrategy strategy} used to dispatch the processing of the requests read from the connections.
+     * </p>
+     * <p>
+     *     The value MUST be an instance of {@link DispatchStrategy} or its name. The default value is
+     *     {@link DispatchStrategy#EXECUTOR}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String DISPATCH_STRATEGY = "jersey.config.server.netty.dispatch.strategy";
+
+    private NettyServerProperties() {
+        // prevents instantiation
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.netty.httpserver;
+
+import io.netty.util.AttributeKey;
+
+/**
+ * Statistics of the request entity bytes buffered by the Netty container for a single connection.
+ * <p>
+ * The statistics are available in the {@link #CHANNEL_ATTRIBUTE} attribute of the HTTP/1.1 connection channel and are
+ * updated as the request entities are received and consumed.
+ * </p>
+ *
+ * @see NettyServerProperties#REQUEST_BUFFER_HIGH_WATERMARK
+ * @since 4.1.0
+ */
+public interface RequestBufferStatistics {
+
+    /**
+     * Channel attribute holding the request buffer statistics of the connection.
+     */
+    AttributeKey<RequestBufferStatistics> CHANNEL_ATTRIBUTE = AttributeKey.valueOf(RequestBufferStatistics.class.getName());
+
+    /**
+     * Get the number of bytes received from the channel and not yet consumed.
+     *
+     * @return number of buffered bytes.
+     */
+    long getBufferedBytes();
+
+    /**
+     * Get the highest number of bytes buffered at one time since the connection was opened.
+     *
+     * @return peak number of buffered bytes.
+     */
+    long getPeakBufferedBytes();
+
+    /**
+     * Get the number of times reading from the channel was paused because the buffered bytes reached the
+     * {@link NettyServerProperties#REQUEST_BUFFER_HIGH_WATERMARK high watermark}.
+     *
+     * @return number of pauses.
+     */
+    long getPauseCount();
+}
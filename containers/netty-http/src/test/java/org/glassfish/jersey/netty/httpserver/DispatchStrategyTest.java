@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.netty.httpserver;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.UriBuilder;
+
+import org.glassfish.jersey.server.ResourceConfig;
+
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.FastThreadLocalThread;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Tests of the {@link DispatchStrategy request dispatch strategies}.
+ */
+public class DispatchStrategyTest {
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        public String get() {
+            return Boolean.toString(Thread.currentThread() instanceof FastThreadLocalThread);
+        }
+
+        @POST
+        public String post(final String entity) {
+            return entity + ":" + get();
+        }
+    }
+
+    @Test
+    @Timeout(value = 15000L, unit = TimeUnit.MILLISECONDS)
+    public void testEventLoop() {
+        test(DispatchStrategy.EVENT_LOOP, target -> {
+            assertThat(target.request().get(String.class), is("true"));
+            // the entity is read off the event loop
+            assertThat(target.request().post(Entity.text("entity"), String.class), is("entity:false"));
+        });
+    }
+
+    @Test
+    @Timeout(value = 15000L, unit = TimeUnit.MILLISECONDS)
+    public void testVirtualThread() {
+        test(DispatchStrategy.VIRTUAL_THREAD, target -> {
+            assertThat(target.request().get(String.class), is("false"));
+            assertThat(target.request().post(Entity.text("entity"), String.class), is("entity:false"));
+        });
+    }
+
+    @Test
+    @Timeout(value = 15000L, unit = TimeUnit.MILLISECONDS)
+    public void testExecutor() {
+        test(DispatchStrategy.EXECUTOR, target -> {
+            assertThat(target.request().get(String.class), is("false"));
+        });
+    }
+
+    private static void test(final DispatchStrategy strategy, final Consumer<WebTarget> requests) {
+        final ResourceConfig config = new ResourceConfig(Resource.class)
+                .property(NettyServerProperties.DISPATCH_STRATEGY, strategy.name());
+        final Channel server = NettyHttpContainerProvider.createServer(URI.create("http://localhost:0/"), config, false);
+        final Client client = ClientBuilder.newClient();
+        try {
+            final int port = ((InetSocketAddress) server.localAddress()).getPort();
+            requests.accept(client.target(UriBuilder.newInstance().scheme("http").host("localhost").port(port).build()));
+        } finally {
+            client.close();
+            server.close();
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.glassfish.jersey.client;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
@@ -56,7 +57,7 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
     private static final Logger LOGGER = Logger.getLogger(ChunkedInput.class.getName());
 
     private final AtomicBoolean closed = new AtomicBoolean(false);
-    private ChunkParser parser = createParser("\r\n");
+    private ChunkParser parser;
     private MediaType mediaType;
 
     private final InputStream inputStream;
@@ -98,6 +99,66 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
         return new FixedMultiBoundaryParser(boundaries);
     }
 
+    /**
+     * Create new buffered chunk parser that will split the response entity input stream
+     * based on a fixed boundary sequence of bytes.
+     * <p>
+     * Unlike the {@link #createParser(byte[]) fixed boundary parser}, the buffered parser reads the entity stream
+     * in blocks and keeps the bytes read beyond the current chunk for the next chunks. The parser is therefore bound
+     * to a single entity input stream and must not be shared by multiple chunked inputs.
+     * </p>
+     *
+     * @param boundary chunk boundary.
+     * @return new buffered fixed boundary sequence-based chunk parser.
+     * @since 4.1.0
+     */
+    public static ChunkParser createBufferedParser(final byte[] boundary) {
+        return new BufferedBoundaryParser(Collections.singletonList(boundary));
+    }
+
+    /**
+     * Create a new buffered chunk multi-parser that will split the response entity input stream
+     * based on multiple fixed boundary strings. A chunk ends with the boundary found first in the stream,
+     * the shortest one if more boundaries start at the same position.
+     * <p>
+     * Unlike the {@link #createMultiParser(String...) fixed boundary multi-parser}, the buffered parser reads the entity
+     * stream in blocks and keeps the bytes read beyond the current chunk for the next chunks. The parser is therefore
+     * bound to a single entity input stream and must not be shared by multiple chunked inputs.
+     * </p>
+     *
+     * @param boundaries chunk boundaries.
+     * @return new buffered fixed boundary string-based chunk parser.
+     * @since 4.1.0
+     */
+    public static ChunkParser createBufferedMultiParser(final String... boundaries) {
+        final List<byte[]> delimiters = new ArrayList<>(boundaries.length);
+        for (final String boundary : boundaries) {
+            delimiters.add(boundary.getBytes());
+        }
+        return new BufferedBoundaryParser(delimiters);
+    }
+
+    /**
+     * Create new chunk parser for the response entity input stream of this chunked input, based on one or more fixed
+     * boundary strings.
+     * <p>
+     * The {@link #createBufferedMultiParser(String...) buffered parser} is used unless the entity input stream is already
+     * buffered in memory, in which case reading the stream byte by byte is cheap and the
+     * {@link #createMultiParser(String...) fixed boundary parser} is used, leaving the stream positioned right after
+     * the last chunk read.
+     * </p>
+     *
+     * @param boundaries chunk boundaries.
+     * @return new chunk parser for the entity input stream of this chunked input.
+     * @since 4.1.0
+     */
+    protected final ChunkParser createStreamParser(final String... boundaries) {
+        if (inputStream instanceof ByteArrayInputStream || inputStream instanceof BufferedInputStream) {
+            return boundaries.length == 1 ? createParser(boundaries[0]) : createMultiParser(boundaries);
+        }
+        return createBufferedMultiParser(boundaries);
+    }
+
     private abstract static class AbstractBoundaryParser implements ChunkParser {
 
         @Override
@@ -311,6 +372,158 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
         }
     }
 
+    /**
+     * Chunk parser reading the entity input stream in blocks into a reusable buffer. The delimiters are searched
+     * in the buffered bytes, by looking up the bytes a delimiter may start with first. The chunks are returned as copies
+     * of the buffer slices, as a chunk (e.g. read as an {@code InputStream}) may still be in use once the buffer is reused.
+     * <p>
+     * The parser keeps the bytes read beyond the current chunk, hence it is bound to a single entity input stream.
+     * </p>
+     */
+    private static final class BufferedBoundaryParser implements ChunkParser {
+
+        private static final int BLOCK_SIZE = 8192;
+
+        // delimiters sorted by length, the shortest first
+        private final byte[][] delimiters;
+        // bytes a delimiter starts with
+        private final boolean[] delimiterStarts = new boolean[256];
+
+        private InputStream source;
+        private byte[] buffer = new byte[0];
+        // start of the bytes not returned as a chunk yet
+        private int position;
+        // position the delimiter search continues from
+        private int scan;
+        // end of the bytes read
+        private int limit;
+        private boolean eof;
+
+        // the chunk found by the last call of nextChunk
+        private int chunkOffset;
+        private int chunkLength;
+        // length of the delimiter found by the last search
+        private int matchLength;
+
+        private BufferedBoundaryParser(final List<byte[]> boundaries) {
+            final List<byte[]> delimiters = new ArrayList<>(boundaries.size());
+            for (final byte[] boundary : boundaries) {
+                if (boundary.length > 0) {
+                    delimiters.add(Arrays.copyOf(boundary, boundary.length));
+                    delimiterStarts[boundary[0] & 0xFF] = true;
+                }
+            }
+            delimiters.sort(Comparator.comparingInt(delimiter -> delimiter.length));
+            this.delimiters = delimiters.toArray(new byte[0][]);
+        }
+
+        @Override
+        public byte[] readChunk(final InputStream in) throws IOException {
+            return nextChunk(in) ? Arrays.copyOfRange(buffer, chunkOffset, chunkOffset + chunkLength) : null;
+        }
+
+        private boolean nextChunk(final InputStream in) throws IOException {
+            if (in != source) {
+                source = in;
+                position = 0;
+                scan = 0;
+                limit = 0;
+                eof = false;
+            }
+
+            while (true) {
+                final int end = search();
+                if (end >= 0) {
+                    final int start = position;
+                    position = end + matchLength;
+                    scan = position;
+                    if (end > start) {
+                        chunkOffset = start;
+                        chunkLength = end - start;
+                        return true;
+                    }
+                    // skip an empty chunk
+                    continue;
+                }
+
+                if (eof) {
+                    if (limit > position) {
+                        // the rest of the stream, including a partially matched delimiter
+                        chunkOffset = position;
+                        chunkLength = limit - position;
+                        position = limit;
+                        scan = limit;
+                        return true;
+                    }
+                    return false;
+                }
+
+                fill(in);
+            }
+        }
+
+        /**
+         * Find the next delimiter in the bytes read.
+         *
+         * @return start of the delimiter, or {@code -1} if no complete delimiter has been found.
+         */
+        private int search() {
+            final byte[] buffer = this.buffer;
+            final int limit = this.limit;
+
+            for (int i = scan; i < limit; i++) {
+                if (!delimiterStarts[buffer[i] & 0xFF]) {
+                    continue;
+                }
+                for (final byte[] delimiter : delimiters) {
+                    final int length = Math.min(delimiter.length, limit - i);
+                    if (!matches(buffer, i, delimiter, length)) {
+                        continue;
+                    }
+                    if (length == delimiter.length) {
+                        matchLength = length;
+                        return i;
+                    }
+                    // the bytes read end with the beginning of a delimiter, read more
+                    scan = i;
+                    return -1;
+                }
+            }
+
+            scan = limit;
+            return -1;
+        }
+
+        private static boolean matches(final byte[] buffer, final int offset, final byte[] delimiter, final int length) {
+            for (int j = 0; j < length; j++) {
+                if (buffer[offset + j] != delimiter[j]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void fill(final InputStream in) throws IOException {
+            if (position > 0) {
+                // move the pending bytes to the beginning of the buffer
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                limit -= position;
+                scan -= position;
+                position = 0;
+            }
+            if (limit == buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(BLOCK_SIZE, buffer.length * 2));
+            }
+
+            final int read = in.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+    }
+
     /**
      * Package-private constructor used by the {@link ChunkedInputReader}.
      *
@@ -338,6 +551,7 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
         this.headers = headers;
         this.messageBodyWorkers = messageBodyWorkers;
         this.propertiesDelegate = propertiesDelegate;
+        this.parser = createStreamParser("\r\n");
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -67,6 +67,7 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
     private final Stage<ClientResponse> responseProcessingRoot;
 
     private final Connector connector;
+    private final boolean nonBlockingConnector;
     private final ClientConfig config;
 
     private final RequestScope requestScope;
@@ -119,6 +120,7 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
         this.managedObjectsFinalizer = bootstrapBag.getManagedObjectsFinalizer();
         this.config = config;
         this.connector = connector;
+        this.nonBlockingConnector = connector.isAsyncNonBlocking();
         this.requestScope = bootstrapBag.getRequestScope();
         this.asyncRequestExecutor = Values.lazy((Value<ExecutorService>) () ->
                 config.getExecutorService() == null
@@ -153,7 +155,7 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
         try {
             requestScope.runInScope(() -> preInvocationInterceptorStage.beforeRequest(request));
         } catch (Throwable throwable) {
-            return () -> requestScope.runInScope(() -> processFailure(request, throwable, callback));
+            return () -> requestScope.runInScope(() -> complete(() -> processFailure(request, throwable, callback)));
         }
 
         return () -> requestScope.runInScope(() -> {
@@ -165,7 +167,7 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
                     processedRequest = Stages.process(request, requestProcessingRoot);
                     processedRequest = addUserAgent(processedRequest, connector.getName());
                 } catch (final AbortException aborted) {
-                    processResponse(request, aborted.getAbortResponse(), callback);
+                    complete(() -> processResponse(request, aborted.getAbortResponse(), callback));
                     return;
                 }
 
@@ -184,11 +186,47 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
 
                 connector.apply(processedRequest, connectorCallback);
             } catch (final Throwable throwable) {
-                processFailure(request, throwable, callback);
+                complete(() -> processFailure(request, throwable, callback));
             }
         });
     }
 
+    /**
+     * Complete the asynchronous processing of a request that has not been handed to the connector, e.g. aborted
+     * by a request filter. If the connector {@link Connector#isAsyncNonBlocking() does not block}, the request is
+     * processed on the invoking thread and the completion is submitted to the async request executor, so that
+     * the response callback never runs on the invoking thread.
+     *
+     * @param completion completion of the request processing.
+     */
+    private void complete(final Runnable completion) {
+        if (nonBlockingConnector) {
+            submit(() -> requestScope.runInScope(completion));
+        } else {
+            completion.run();
+        }
+    }
+
+    /**
+     * Submit a {@code Runnable} created by {@link #createRunnableForAsyncProcessing(ClientRequest, ResponseCallback)}
+     * for asynchronous processing.
+     * <p>
+     * If the connector {@link Connector#isAsyncNonBlocking() does not block} the invoking thread, the {@code Runnable}
+     * is run on the invoking thread, i.e. the request filters run on the invoking thread. The response is processed
+     * and the response callback is invoked on a thread of the connector, or on a thread of the async request executor
+     * if the request does not reach the connector, e.g. when a request filter aborts the request. Otherwise
+     * the {@code Runnable} is submitted to the async request executor.
+     *
+     * @param task {@code Runnable} processing the client request.
+     */
+    void submitForAsyncProcessing(final Runnable task) {
+        if (nonBlockingConnector) {
+            task.run();
+        } else {
+            submit(task);
+        }
+    }
+
     @Override
     public <T> Future<T> submit(Callable<T> task) {
         return asyncRequestExecutor.get().submit(task);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -109,6 +109,56 @@ public class HttpUrlConnectorProvider implements ConnectorProvider {
     public static final String SET_METHOD_WORKAROUND =
             "jersey.config.client.httpUrlConnection.setMethodWorkaround";
 
+    /**
+     * If {@code true}, the {@link HttpUrlConnector} (if used) processes each asynchronous request on its own
+     * connector thread, which is a virtual thread when the virtual threads are available.
+     * <p>
+     * The blocking {@link java.net.HttpURLConnection} exchange of an asynchronous request then does not occupy
+     * a thread of the client {@link ClientConfig#executorService(java.util.concurrent.ExecutorService) async executor}.
+     * The client runtime runs the request filters of an asynchronous request on the invoking thread and hands
+     * the request to the connector directly, the response is processed on the connector thread.
+     * </p>
+     * <p>
+     * The number of the asynchronous requests to the same destination processed at the same time can be limited
+     * by the {@link #MAX_CONNECTIONS_PER_DESTINATION} property.
+     * </p>
+     * <p>
+     * The value MUST be an instance of {@link java.lang.Boolean}.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 4.1.0
+     */
+    public static final String ASYNC = "jersey.config.client.httpUrlConnector.async";
+
+    /**
+     * The maximum number of the {@link #ASYNC asynchronous} requests to the same destination, that is the same scheme,
+     * host and port, the {@link HttpUrlConnector} (if used) sends and waits for the response headers at the same time.
+     * The other asynchronous requests to the destination wait on their connector threads until a previous request
+     * receives its response headers.
+     * <p>
+     * The limit only applies to the asynchronous requests when the {@link #ASYNC} property is enabled.
+     * </p>
+     * <p>
+     * The value MUST be an instance of {@link java.lang.Integer}. The value of {@code 0} means no limit.
+     * </p>
+     * <p>
+     * The default value is {@code 0}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 4.1.0
+     */
+    public static final String MAX_CONNECTIONS_PER_DESTINATION =
+            "jersey.config.client.httpUrlConnector.maxConnectionsPerDestination";
+
     protected final Config config;
 
     /**
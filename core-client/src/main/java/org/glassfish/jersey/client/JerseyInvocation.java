@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -722,7 +722,7 @@ public class JerseyInvocation implements jakarta.ws.rs.client.Invocation {
         final ClientRuntime runtime = request().getClientRuntime();
 
         requestContext.setCancellable(responseFuture);
-        runtime.submit(runtime.createRunnableForAsyncProcessing(requestForCall(requestContext),
+        runtime.submitForAsyncProcessing(runtime.createRunnableForAsyncProcessing(requestForCall(requestContext),
                 new InvocationResponseCallback<>(responseFuture, (request, scope) -> translate(request, scope, Response.class))));
 
         return responseFuture;
@@ -737,7 +737,7 @@ public class JerseyInvocation implements jakarta.ws.rs.client.Invocation {
         final ClientRuntime runtime = request().getClientRuntime();
 
         requestContext.setCancellable(responseFuture);
-        runtime.submit(runtime.createRunnableForAsyncProcessing(requestForCall(requestContext),
+        runtime.submitForAsyncProcessing(runtime.createRunnableForAsyncProcessing(requestForCall(requestContext),
                 new InvocationResponseCallback<T>(responseFuture, (request, scope) -> translate(request, scope, responseType))));
 
         return responseFuture;
@@ -777,7 +777,7 @@ public class JerseyInvocation implements jakarta.ws.rs.client.Invocation {
         final ClientRuntime runtime = request().getClientRuntime();
 
         requestContext.setCancellable(responseFuture);
-        runtime.submit(runtime.createRunnableForAsyncProcessing(requestForCall(requestContext),
+        runtime.submitForAsyncProcessing(runtime.createRunnableForAsyncProcessing(requestForCall(requestContext),
                 new InvocationResponseCallback<T>(responseFuture, (request, scope) -> translate(request, scope, responseType))));
 
         return responseFuture;
@@ -902,7 +902,8 @@ public class JerseyInvocation implements jakarta.ws.rs.client.Invocation {
             };
             final ClientRuntime runtime = request().getClientRuntime();
             requestContext.setCancellable(responseFuture);
-            runtime.submit(runtime.createRunnableForAsyncProcessing(requestForCall(requestContext), responseCallback));
+            runtime.submitForAsyncProcessing(
+                    runtime.createRunnableForAsyncProcessing(requestForCall(requestContext), responseCallback));
         } catch (final Throwable error) {
             final ProcessingException ce;
             //noinspection ChainOfInstanceofChecks
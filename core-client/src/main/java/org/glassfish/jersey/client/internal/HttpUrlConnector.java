@@ -39,7 +39,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -66,6 +71,7 @@ import org.glassfish.jersey.client.innate.ClientProxy;
 import org.glassfish.jersey.client.innate.http.SSLParamConfigurator;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
 import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.innate.VirtualThreadUtil;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.internal.util.collection.LRU;
 import org.glassfish.jersey.internal.util.collection.LazyValue;
@@ -121,6 +127,9 @@ public class HttpUrlConnector implements Connector {
     private final ConnectorExtension<HttpURLConnection, IOException> connectorExtension
             = new HttpUrlExpect100ContinueConnectorExtension();
 
+    private final LazyValue<ExecutorService> asyncExecutor;
+    private final Map<String, DestinationLimiter> destinationLimiters = new ConcurrentHashMap<>();
+
     /**
      * Create new {@code HttpUrlConnector} instance.
      *
@@ -157,6 +166,22 @@ public class HttpUrlConnector implements Connector {
                 return client.getSslContext().getSocketFactory();
             }
         });
+        this.asyncExecutor = clientConfig.async.get()
+                ? Values.lazy((Value<ExecutorService>) () -> VirtualThreadUtil.withConfig(configuration,
+                        VirtualThreadUtil.threadFactoryBuilder("jersey-http-url-connector-", 0L), true).newCachedThreadPool())
+                : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The connector processes the asynchronous requests on its own threads if {@link HttpUrlConnectorProvider#ASYNC}
+     * is enabled.
+     * </p>
+     */
+    @Override
+    public boolean isAsyncNonBlocking() {
+        return asyncExecutor != null;
     }
 
     private static InputStream getInputStream(final HttpURLConnection uc, final ClientRequest clientRequest) throws IOException {
@@ -281,21 +306,82 @@ public class HttpUrlConnector implements Connector {
 
     @Override
     public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        if (asyncExecutor != null) {
+            final String destination = getLimitedDestination(request.getUri());
+            if (destination == null) {
+                return asyncExecutor.get().submit(() -> apply(request, callback, null));
+            }
+            final FutureTask<?> task = new LimitedRequestTask(request, callback, referenceLimiter(destination));
+            try {
+                asyncExecutor.get().execute(task);
+            } catch (RuntimeException e) {
+                // the task has not started, the limiter is unreferenced on the cancellation
+                task.cancel(false);
+                throw e;
+            }
+            return task;
+        }
+
+        apply(request, callback, null);
+        return CompletableFuture.completedFuture(null);
+    }
 
+    private void apply(final ClientRequest request, final AsyncConnectorCallback callback, final DestinationLimiter limiter) {
         try {
-            callback.response(_apply(request));
+            callback.response(limiter == null ? _apply(request) : applyLimited(request, limiter));
         } catch (IOException ex) {
             callback.failure(new ProcessingException(ex));
         } catch (Throwable t) {
             callback.failure(t);
         }
+    }
 
-        return CompletableFuture.completedFuture(null);
+    private ClientResponse applyLimited(final ClientRequest request, final DestinationLimiter limiter) throws IOException {
+        try {
+            try {
+                limiter.permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProcessingException(e);
+            }
+            try {
+                return _apply(request);
+            } finally {
+                limiter.permits.release();
+            }
+        } finally {
+            unreferenceLimiter(limiter);
+        }
+    }
+
+    private String getLimitedDestination(final URI uri) {
+        if (clientConfig.maxConnectionsPerDestination.get() == 0) {
+            return null;
+        }
+        final int port = uri.getPort() != -1 ? uri.getPort() : "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        return (uri.getScheme() + "://" + uri.getHost() + ":" + port).toLowerCase(Locale.ROOT);
+    }
+
+    private DestinationLimiter referenceLimiter(final String destination) {
+        return destinationLimiters.compute(destination, (key, limiter) -> {
+            final DestinationLimiter referenced = limiter == null
+                    ? new DestinationLimiter(key, clientConfig.maxConnectionsPerDestination.get())
+                    : limiter;
+            referenced.references++;
+            return referenced;
+        });
+    }
+
+    private void unreferenceLimiter(final DestinationLimiter limiter) {
+        destinationLimiters.computeIfPresent(limiter.destination,
+                (key, current) -> current != limiter || --current.references > 0 ? current : null);
     }
 
     @Override
     public void close() {
-        // do nothing
+        if (asyncExecutor != null && asyncExecutor.isInitialized()) {
+            asyncExecutor.get().shutdown();
+        }
     }
 
     /**
@@ -726,4 +812,57 @@ public class HttpUrlConnector implements Connector {
             this.sniConfigs.remove();
         }
     }
+
+    /**
+     * Limit of the asynchronous requests to a destination processed at the same time. The limiter is removed from
+     * the map once no request to the destination is processed or waiting for a permit.
+     */
+    private static final class DestinationLimiter {
+
+        private final String destination;
+        private final Semaphore permits;
+        // number of the requests using the limiter, modified by the map compute functions only
+        private int references;
+
+        private DestinationLimiter(final String destination, final int maxConnections) {
+            this.destination = destination;
+            this.permits = new Semaphore(maxConnections, true);
+        }
+    }
+
+    /**
+     * Asynchronous request to a limited destination. The request unreferences the limiter once it has run; a task
+     * cancelled before the request has started unreferences the limiter on its completion.
+     */
+    private final class LimitedRequestTask extends FutureTask<Void> {
+
+        private final DestinationLimiter limiter;
+        private final AtomicBoolean started;
+
+        private LimitedRequestTask(final ClientRequest request,
+                                   final AsyncConnectorCallback callback,
+                                   final DestinationLimiter limiter) {
+            this(request, callback, limiter, new AtomicBoolean());
+        }
+
+        private LimitedRequestTask(final ClientRequest request,
+                                   final AsyncConnectorCallback callback,
+                                   final DestinationLimiter limiter,
+                                   final AtomicBoolean started) {
+            super(() -> {
+                if (started.compareAndSet(false, true)) {
+                    apply(request, callback, limiter);
+                }
+            }, null);
+            this.limiter = limiter;
+            this.started = started;
+        }
+
+        @Override
+        protected void done() {
+            if (started.compareAndSet(false, true)) {
+                unreferenceLimiter(limiter);
+            }
+        }
+    }
 }
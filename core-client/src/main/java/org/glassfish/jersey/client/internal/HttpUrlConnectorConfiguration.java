@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2025, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -51,12 +51,16 @@ public abstract class HttpUrlConnectorConfiguration<C extends HttpUrlConnectorCo
     /* package */ Ref<Boolean> isRestrictedHeaderPropertySet = NullableRef.empty();
     protected Ref<Boolean> useFixedLengthStreaming = NullableRef.empty();
     protected Ref<Boolean> useSetMethodWorkaround = NullableRef.empty();
+    protected Ref<Boolean> async = NullableRef.empty();
+    protected Ref<Integer> maxConnectionsPerDestination = NullableRef.empty();
 
     protected void preInit(Map<String, Object> properties) {
         connectionFactory.ifEmptySet(DEFAULT_CONNECTION_FACTORY);
         ((NullableRef<Integer>) chunkSize).ifEmptySet(ClientProperties.DEFAULT_CHUNK_SIZE);
         ((NullableRef<Boolean>) useFixedLengthStreaming).ifEmptySet(Boolean.FALSE);
         ((NullableRef<Boolean>) useSetMethodWorkaround).ifEmptySet(Boolean.FALSE);
+        ((NullableRef<Boolean>) async).ifEmptySet(Boolean.FALSE);
+        ((NullableRef<Integer>) maxConnectionsPerDestination).ifEmptySet(0);
 
         int computedChunkSize = ClientProperties.getValue(properties,
                 _prefixed(ClientProperties.CHUNKED_ENCODING_SIZE), chunkSize.get(), Integer.class);
@@ -72,6 +76,18 @@ public abstract class HttpUrlConnectorConfiguration<C extends HttpUrlConnectorCo
         useSetMethodWorkaround(ClientProperties.getValue(properties,
                 _prefixed(HttpUrlConnectorProvider.SET_METHOD_WORKAROUND),
                 useSetMethodWorkaround.get(), Boolean.class));
+        async(ClientProperties.getValue(properties,
+                _prefixed(HttpUrlConnectorProvider.ASYNC), async.get(), Boolean.class));
+
+        int computedMaxConnections = ClientProperties.getValue(properties,
+                _prefixed(HttpUrlConnectorProvider.MAX_CONNECTIONS_PER_DESTINATION),
+                maxConnectionsPerDestination.get(), Integer.class);
+        if (computedMaxConnections < 0) {
+            LOGGER.warning(LocalizationMessages.NEGATIVE_MAX_CONNECTIONS_PER_DESTINATION(
+                    computedMaxConnections, maxConnectionsPerDestination.get()));
+        } else {
+            maxConnectionsPerDestination.set(computedMaxConnections);
+        }
     }
 
     private String _prefixed(String property) {
@@ -149,6 +165,44 @@ public abstract class HttpUrlConnectorConfiguration<C extends HttpUrlConnectorCo
         return self();
     }
 
+    /**
+     * Instruct the provided connectors to process the asynchronous requests on virtual threads, if available.
+     * See {@link HttpUrlConnectorProvider#ASYNC} property documentation for more details.
+     * <p>
+     * Note that this programmatically set value can be overridden by
+     * setting the {@code ASYNC} property specified in the Jersey client instance configuration.
+     * </p>
+     *
+     * @param async whether the asynchronous requests are processed on connector threads.
+     * @return updated configuration.
+     * @since 4.1.0
+     */
+    public C async(boolean async) {
+        this.async.set(async);
+        return self();
+    }
+
+    /**
+     * Set the maximum number of the asynchronous requests to the same destination processed at the same time.
+     * See {@link HttpUrlConnectorProvider#MAX_CONNECTIONS_PER_DESTINATION} property documentation for more details.
+     * <p>
+     * Note that this programmatically set value can be overridden by setting the
+     * {@code MAX_CONNECTIONS_PER_DESTINATION} property specified in the Jersey client instance configuration.
+     * </p>
+     *
+     * @param maxConnections maximum number of requests per destination, {@code 0} for no limit.
+     * @return updated configuration.
+     * @throws java.lang.IllegalArgumentException in case the specified number is negative.
+     * @since 4.1.0
+     */
+    public C maxConnectionsPerDestination(final int maxConnections) {
+        if (maxConnections < 0) {
+            throw new IllegalArgumentException(LocalizationMessages.NEGATIVE_INPUT_PARAMETER("maxConnections"));
+        }
+        this.maxConnectionsPerDestination.set(maxConnections);
+        return self();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -172,6 +226,12 @@ public abstract class HttpUrlConnectorConfiguration<C extends HttpUrlConnectorCo
         if (!isRestrictedHeaderPropertySet.equals(that.isRestrictedHeaderPropertySet)) {
             return false;
         }
+        if (!async.equals(that.async)) {
+            return false;
+        }
+        if (!maxConnectionsPerDestination.equals(that.maxConnectionsPerDestination)) {
+            return false;
+        }
 
         return connectionFactory.equals(that.connectionFactory);
     }
@@ -179,7 +239,7 @@ public abstract class HttpUrlConnectorConfiguration<C extends HttpUrlConnectorCo
     @Override
     public int hashCode() {
         return Objects.hash(connectionFactory, chunkSize, useFixedLengthStreaming,
-                useSetMethodWorkaround, isRestrictedHeaderPropertySet);
+                useSetMethodWorkaround, isRestrictedHeaderPropertySet, async, maxConnectionsPerDestination);
     }
 
     /* package */ ReadWrite rw() {
@@ -204,6 +264,9 @@ public abstract class HttpUrlConnectorConfiguration<C extends HttpUrlConnectorCo
             ((NullableRef<Boolean>) this.useFixedLengthStreaming).setNonEmpty(
                     (NullableRef<Boolean>) other.useFixedLengthStreaming);
             ((NullableRef<Boolean>) this.useSetMethodWorkaround).setNonEmpty((NullableRef<Boolean>) other.useSetMethodWorkaround);
+            ((NullableRef<Boolean>) this.async).setNonEmpty((NullableRef<Boolean>) other.async);
+            ((NullableRef<Integer>) this.maxConnectionsPerDestination).setNonEmpty(
+                    (NullableRef<Integer>) other.maxConnectionsPerDestination);
         }
 
         @Override
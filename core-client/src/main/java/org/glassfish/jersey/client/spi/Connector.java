@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -62,6 +62,23 @@ public interface Connector extends Inflector<ClientRequest, ClientResponse> {
      */
     Future<?> apply(ClientRequest request, AsyncConnectorCallback callback);
 
+    /**
+     * Check whether the {@link #apply(ClientRequest, AsyncConnectorCallback) asynchronous processing} of the connector
+     * returns without blocking the invoking thread, i.e. the request is sent and the response is received on
+     * the threads of the connector.
+     * <p>
+     * If {@code true}, Jersey client runtime runs the request filters of an asynchronous request on the invoking thread
+     * and hands the request to the connector directly, instead of submitting the request processing to the client
+     * async executor. The default implementation returns {@code false}.
+     * </p>
+     *
+     * @return {@code true} if the asynchronous processing does not block the invoking thread.
+     * @since 4.1.0
+     */
+    default boolean isAsyncNonBlocking() {
+        return false;
+    }
+
     /**
      * Get name of current connector.
      *
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests several parsing use-cases of the buffered ChunkedInput parser.
+ */
+public class BufferedBoundaryParserTest {
+
+    public static final String DELIMITER_4 = "1234";
+
+    public static final String DELIMITER_1 = "#";
+
+    @Test
+    public void testBufferedParserNullInput() throws IOException {
+        final ChunkParser parser = ChunkedInput.createBufferedParser(DELIMITER_4.getBytes());
+        assertNull(parser.readChunk(new ByteArrayInputStream(new byte[] {})));
+    }
+
+    @Test
+    public void testBufferedParserDelimiter4() throws IOException {
+        assertNull(parse(DELIMITER_4, DELIMITER_4));
+        assertEquals("123", parse(DELIMITER_4, DELIMITER_4 + "123"));
+        assertEquals("abc", parse(DELIMITER_4, "abc" + DELIMITER_4 + "def"));
+        assertEquals("abc123", parse(DELIMITER_4, "abc123"));
+        assertEquals("abc1235", parse(DELIMITER_4, "abc1235"));
+        assertEquals("abc1231", parse(DELIMITER_4, "abc1231"));
+        assertEquals("12", parse(DELIMITER_4, "121234"));
+        assertEquals("1231", parse(DELIMITER_4, "1231"));
+    }
+
+    @Test
+    public void testBufferedParserDelimiter1() throws IOException {
+        assertNull(parse(DELIMITER_1, DELIMITER_1));
+        assertEquals("123", parse(DELIMITER_1, DELIMITER_1 + "123"));
+        assertEquals("abc", parse(DELIMITER_1, "abc" + DELIMITER_1 + "def"));
+        assertEquals("abc123", parse(DELIMITER_1, "abc123"));
+    }
+
+    @Test
+    public void delimiterWithRepeatedInitialCharacters() throws IOException {
+        assertEquals("1*", parse("**b**", "1***b**"));
+    }
+
+    @Test
+    public void testBufferedParserFlow() throws IOException {
+        final ChunkParser parser = ChunkedInput.createBufferedParser(DELIMITER_4.getBytes());
+        final InputStream stream = new TrickleInputStream(
+                (DELIMITER_4 + "abc" + DELIMITER_4 + DELIMITER_4 + "edf" + DELIMITER_4 + "ghi").getBytes());
+
+        assertEquals("abc", new String(parser.readChunk(stream)));
+        assertEquals("edf", new String(parser.readChunk(stream)));
+        assertEquals("ghi", new String(parser.readChunk(stream)));
+        assertNull(parser.readChunk(stream));
+    }
+
+    @Test
+    public void testBufferedParserLargeChunk() throws IOException {
+        final ChunkParser parser = ChunkedInput.createBufferedParser("\r\n".getBytes());
+        final byte[] large = new byte[100000];
+        Arrays.fill(large, (byte) 'x');
+        final InputStream stream = new ByteArrayInputStream((new String(large) + "\r\nabc\r\n").getBytes());
+
+        assertEquals(large.length, parser.readChunk(stream).length);
+        assertEquals("abc", new String(parser.readChunk(stream)));
+        assertNull(parser.readChunk(stream));
+    }
+
+    @Test
+    public void testBufferedMultiParserCRLFwithLF() throws IOException {
+        final ChunkParser parser = ChunkedInput.createBufferedMultiParser("\n\n", "\r\n\r\n");
+        final InputStream stream = new TrickleInputStream(
+                ("\r\n\r\n" + "abc" + "\r\n\r\n" + "edf" + "\n\n" + "ghi" + "\r\n\r").getBytes());
+
+        assertEquals("abc", new String(parser.readChunk(stream)));
+        assertEquals("edf", new String(parser.readChunk(stream)));
+        assertEquals("ghi\r\n\r", new String(parser.readChunk(stream)));
+        assertNull(parser.readChunk(stream));
+    }
+
+    @Test
+    public void testBufferedMultiParserFirstDelimiterWins() throws IOException {
+        final ChunkParser parser = ChunkedInput.createBufferedMultiParser(DELIMITER_4, DELIMITER_1);
+        final InputStream stream = new TrickleInputStream(("ab1#cd1234ef").getBytes());
+
+        assertEquals("ab1", new String(parser.readChunk(stream)));
+        assertEquals("cd", new String(parser.readChunk(stream)));
+        assertEquals("ef", new String(parser.readChunk(stream)));
+    }
+
+    private static String parse(final String delimiter, final String str) throws IOException {
+        final byte[] bytes = ChunkedInput.createBufferedParser(delimiter.getBytes())
+                .readChunk(new TrickleInputStream(str.getBytes()));
+        return bytes == null ? null : new String(bytes);
+    }
+
+    /**
+     * Input stream returning at most two bytes per read.
+     */
+    private static class TrickleInputStream extends ByteArrayInputStream {
+
+        TrickleInputStream(final byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(final byte[] b, final int off, final int len) {
+            return super.read(b, off, Math.min(len, 2));
+        }
+    }
+}
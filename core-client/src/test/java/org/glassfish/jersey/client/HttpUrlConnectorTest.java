@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -27,9 +27,16 @@ import java.net.URL;
 import java.security.Permission;
 import java.security.Principal;
 import java.security.cert.Certificate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Entity;
@@ -50,6 +57,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Various tests for the default client connector.
@@ -772,6 +782,63 @@ public class HttpUrlConnectorTest {
         return result;
     }
 
+    /**
+     * Test that the asynchronous requests are processed on the connector threads, not on the invoking thread.
+     */
+    @Test
+    public void testAsyncRequestOnConnectorThread() throws Exception {
+        final AtomicReference<Thread> connectionThread = new AtomicReference<>();
+        final HttpUrlConnectorProvider.ConnectionFactory factory = url -> {
+            connectionThread.set(Thread.currentThread());
+            throw new IOException("Expected");
+        };
+        final Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(HttpUrlConnectorProvider.config().async(true).connectionFactory(factory).build()));
+        try {
+            final Future<Response> future = client.target("http://localhost:8080").request().async().get();
+            final ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(ProcessingException.class, e.getCause());
+            assertNotSame(Thread.currentThread(), connectionThread.get());
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Test that the number of the asynchronous requests to the same destination processed at the same time is limited.
+     */
+    @Test
+    public void testAsyncMaxConnectionsPerDestination() throws Exception {
+        final AtomicInteger connections = new AtomicInteger();
+        final AtomicInteger maxConnections = new AtomicInteger();
+        final HttpUrlConnectorProvider.ConnectionFactory factory = url -> {
+            maxConnections.accumulateAndGet(connections.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                connections.decrementAndGet();
+            }
+            throw new IOException("Expected");
+        };
+        final Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(HttpUrlConnectorProvider.config().async(true).connectionFactory(factory).build())
+                .property(HttpUrlConnectorProvider.MAX_CONNECTIONS_PER_DESTINATION, 2));
+        try {
+            final List<Future<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(client.target("http://localhost:8080").request().async().get());
+            }
+            for (Future<Response> future : futures) {
+                assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            }
+            Assertions.assertTrue(maxConnections.get() <= 2, "Too many concurrent connections: " + maxConnections.get());
+        } finally {
+            client.close();
+        }
+    }
+
     private WebTarget createNonRoutableTarget() {
         Client client = ClientBuilder.newClient();
         client.property(ClientProperties.CONNECT_TIMEOUT, TimeoutBASE);
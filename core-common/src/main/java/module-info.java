@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -61,7 +61,9 @@ module org.glassfish.jersey.core.common {
                                            org.glassfish.jersey.container.grizzly2.http,
                                            org.glassfish.jersey.container.servlet,
                                            org.glassfish.jersey.container.jetty.http,
+                                           org.glassfish.jersey.container.netty.http,
                                            org.glassfish.jersey.netty.connector,
+                                           org.glassfish.jersey.apache5.connector,
                                            org.glassfish.jersey.ext.mp.rest.client,
                                            org.glassfish.jersey.inject.cdi2.se,
                                            org.glassfish.jersey.incubator.cdi.inject.weld;
@@ -90,9 +92,12 @@ module org.glassfish.jersey.core.common {
             org.glassfish.jersey.inject.cdi2.se,
             org.glassfish.jersey.gf.ejb,
             org.glassfish.jersey.security.oauth1.signature;
-    exports org.glassfish.jersey.innate.virtual to org.glassfish.jersey.container.grizzly2.http,
+    exports org.glassfish.jersey.innate.virtual to org.glassfish.jersey.core.client,
+                                                   org.glassfish.jersey.container.grizzly2.http,
                                                    org.glassfish.jersey.container.jetty.http,
+                                                   org.glassfish.jersey.container.netty.http,
                                                    org.glassfish.jersey.netty.connector,
+                                                   org.glassfish.jersey.apache5.connector,
                                                    org.glassfish.jersey.ext.mp.rest.client;
 
     opens org.glassfish.jersey.innate.virtual to org.glassfish.jersey.container.grizzly2.http,
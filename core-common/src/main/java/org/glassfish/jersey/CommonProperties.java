@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -349,6 +349,30 @@ public final class CommonProperties {
      */
     public static final String JSON_JACKSON_DISABLED_MODULES_SERVER = "jersey.config.server.json.jackson.disabled.modules";
 
+    /**
+     * Maximum number of Jackson object writers with the entity-filtering filters applied, cached by the entity-filtering
+     * Jackson provider. A writer is cached per the entity type, the annotations of the entity and the entity-filtering
+     * scopes of the response, so that writing a filtered entity costs the same as writing an unfiltered one once warmed up.
+     * A non-positive value disables the caching.
+     * <p>
+     * The default value is {@value #JSON_JACKSON_FILTERING_WRITER_CACHE_DEFAULT_SIZE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 4.1.0
+     */
+    public static final String JSON_JACKSON_FILTERING_WRITER_CACHE_SIZE = "jersey.config.json.jackson.filtering.writerCacheSize";
+
+    /**
+     * The default maximum number ({@value}) of Jackson object writers with the entity-filtering filters applied cached by
+     * the entity-filtering Jackson provider.
+     *
+     * @since 4.1.0
+     */
+    public static final int JSON_JACKSON_FILTERING_WRITER_CACHE_DEFAULT_SIZE = 1000;
+
     /**
      * <p>
      *  Force the {@link jakarta.ws.rs.ext.ParamConverter} to throw {@link IllegalArgumentException} as mandated in javadoc.
@@ -365,6 +389,28 @@ public final class CommonProperties {
      */
     public static final String PARAM_CONVERTERS_THROW_IAE = "jersey.config.paramconverters.throw.iae";
 
+    /**
+     * <p>
+     *     Defines whether the {@link org.glassfish.jersey.process.internal.RequestScope request scope} keeps the current
+     *     request context in a {@code java.lang.ScopedValue} instead of a {@code ThreadLocal}. A scoped value is bound only
+     *     for the execution of a task run in the request scope, so no per-thread map entry is kept by the virtual threads
+     *     and binding the request context for an asynchronous continuation is cheap.
+     * </p>
+     * <p>
+     *     The property is only applicable on JDK 25+, where the scoped values are final, and it is ignored otherwise.
+     *     As the request scope is created before the application configuration is available, the property is read
+     *     from the system properties only.
+     * </p>
+     * <p>
+     *     The default value is {@code false}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 4.1.0
+     */
+    public static final String REQUEST_SCOPE_SCOPED_VALUE = "jersey.config.requestScope.scopedValue";
+
     /**
      * <p>
      *     Defines the {@link java.util.concurrent.ThreadFactory} to be used by internal default Executor Services.
@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.innate.inject;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.PathSegment;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.UriBuilder;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.core.Variant;
+
+/**
+ * Delegating implementations of the request scoped JAX-RS context interfaces.
+ * <p>
+ * A delegate obtains the current instance from the given supplier on every method call and forwards the call to it, the same
+ * way a proxy injected into a singleton does, but without {@link java.lang.reflect.Proxy reflection}. The delegates are
+ * available for {@link HttpHeaders}, {@link Request}, {@link UriInfo}, {@link SecurityContext} and {@link ResourceInfo}.
+ * A container can bind a {@link Registration} of a delegate of its own request scoped interface to the injection manager
+ * of the application.
+ * </p>
+ * <p>
+ * The injection managers use the delegates in place of the proxies of the request scoped instances injected into
+ * the instances of a wider scope. The instances of the request scope are still injected directly. With HK2, the delegates
+ * replace the proxies of the {@code @Context} injection points, the {@code @Inject} injection points are resolved
+ * by HK2 itself and get the HK2 proxies.
+ * </p>
+ *
+ * @since 4.1.0
+ */
+public final class ContextDelegates {
+
+    private ContextDelegates() {
+        throw new AssertionError("Utility class instantiation forbidden.");
+    }
+
+    /**
+     * Create a delegate of the given JAX-RS context interface reading the current instance from the supplier.
+     *
+     * @param type     JAX-RS context interface.
+     * @param supplier supplier of the current instance of the interface.
+     * @param <T>      type of the interface.
+     * @return delegate of the interface or {@code null} if there is no delegate for the type.
+     */
+    public static <T> T delegate(Class<T> type, Supplier<?> supplier) {
+        return delegate(type, supplier, Collections.emptyList());
+    }
+
+    /**
+     * Create a delegate of the given JAX-RS context interface or of an interface of the given registrations reading
+     * the current instance from the supplier.
+     *
+     * @param type          JAX-RS context interface or interface of a registration.
+     * @param supplier      supplier of the current instance of the interface.
+     * @param registrations registrations of the delegates bound to the injection manager.
+     * @param <T>           type of the interface.
+     * @return delegate of the interface or {@code null} if there is no delegate for the type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T delegate(Class<T> type, Supplier<?> supplier, Iterable<Registration<?>> registrations) {
+        if (type == HttpHeaders.class) {
+            return (T) new HttpHeadersDelegate((Supplier<HttpHeaders>) supplier);
+        } else if (type == Request.class) {
+            return (T) new RequestDelegate((Supplier<Request>) supplier);
+        } else if (type == UriInfo.class) {
+            return (T) new UriInfoDelegate((Supplier<UriInfo>) supplier);
+        } else if (type == SecurityContext.class) {
+            return (T) new SecurityContextDelegate((Supplier<SecurityContext>) supplier);
+        } else if (type == ResourceInfo.class) {
+            return (T) new ResourceInfoDelegate((Supplier<ResourceInfo>) supplier);
+        }
+        for (Registration<?> registration : registrations) {
+            if (registration.type == type) {
+                return (T) registration.create(supplier);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Delegate of a request scoped interface provided by a container, such as the servlet request. The container binds
+     * the registration to the injection manager of the application, so the delegate is available only to that application.
+     *
+     * @param <T> type of the interface.
+     */
+    public static final class Registration<T> {
+
+        private final Class<T> type;
+        private final Function<Supplier<T>, ? extends T> factory;
+
+        /**
+         * Create new registration of a delegate.
+         *
+         * @param type    request scoped interface.
+         * @param factory factory creating a delegate of the interface from the supplier of the current instance.
+         */
+        public Registration(Class<T> type, Function<Supplier<T>, ? extends T> factory) {
+            this.type = type;
+            this.factory = factory;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T create(Supplier<?> supplier) {
+            return factory.apply((Supplier<T>) supplier);
+        }
+    }
+
+    private abstract static class Delegate<T> {
+
+        private final Supplier<T> supplier;
+
+        private Delegate(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        T current() {
+            return supplier.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return current().hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj == this || current().equals(obj);
+        }
+
+        @Override
+        public String toString() {
+            return current().toString();
+        }
+    }
+
+    private static final class HttpHeadersDelegate extends Delegate<HttpHeaders> implements HttpHeaders {
+
+        private HttpHeadersDelegate(Supplier<HttpHeaders> supplier) {
+            super(supplier);
+        }
+
+        @Override
+        public List<String> getRequestHeader(String name) {
+            return current().getRequestHeader(name);
+        }
+
+        @Override
+        public String getHeaderString(String name) {
+            return current().getHeaderString(name);
+        }
+
+        @Override
+        public boolean containsHeaderString(String name, String valueSeparatorRegex, Predicate<String> valuePredicate) {
+            return current().containsHeaderString(name, valueSeparatorRegex, valuePredicate);
+        }
+
+        @Override
+        public boolean containsHeaderString(String name, Predicate<String> valuePredicate) {
+            return current().containsHeaderString(name, valuePredicate);
+        }
+
+        @Override
+        public MultivaluedMap<String, String> getRequestHeaders() {
+            return current().getRequestHeaders();
+        }
+
+        @Override
+        public List<MediaType> getAcceptableMediaTypes() {
+            return current().getAcceptableMediaTypes();
+        }
+
+        @Override
+        public List<Locale> getAcceptableLanguages() {
+            return current().getAcceptableLanguages();
+        }
+
+        @Override
+        public MediaType getMediaType() {
+            return current().getMediaType();
+        }
+
+        @Override
+        public Locale getLanguage() {
+            return current().getLanguage();
+        }
+
+        @Override
+        public Map<String, Cookie> getCookies() {
+            return current().getCookies();
+        }
+
+        @Override
+        public Date getDate() {
+            return current().getDate();
+        }
+
+        @Override
+        public int getLength() {
+            return current().getLength();
+        }
+    }
+
+    private static final class RequestDelegate extends Delegate<Request> implements Request {
+
+        private RequestDelegate(Supplier<Request> supplier) {
+            super(supplier);
+        }
+
+        @Override
+        public String getMethod() {
+            return current().getMethod();
+        }
+
+        @Override
+        public Variant selectVariant(List<Variant> variants) {
+            return current().selectVariant(variants);
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(EntityTag eTag) {
+            return current().evaluatePreconditions(eTag);
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(Date lastModified) {
+            return current().evaluatePreconditions(lastModified);
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(Date lastModified, EntityTag eTag) {
+            return current().evaluatePreconditions(lastModified, eTag);
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions() {
+            return current().evaluatePreconditions();
+        }
+    }
+
+    private static final class UriInfoDelegate extends Delegate<UriInfo> implements UriInfo {
+
+        private UriInfoDelegate(Supplier<UriInfo> supplier) {
+            super(supplier);
+        }
+
+        @Override
+        public String getPath() {
+            return current().getPath();
+        }
+
+        @Override
+        public String getPath(boolean decode) {
+            return current().getPath(decode);
+        }
+
+        @Override
+        public List<PathSegment> getPathSegments() {
+            return current().getPathSegments();
+        }
+
+        @Override
+        public List<PathSegment> getPathSegments(boolean decode) {
+            return current().getPathSegments(decode);
+        }
+
+        @Override
+        public URI getRequestUri() {
+            return current().getRequestUri();
+        }
+
+        @Override
+        public UriBuilder getRequestUriBuilder() {
+            return current().getRequestUriBuilder();
+        }
+
+        @Override
+        public URI getAbsolutePath() {
+            return current().getAbsolutePath();
+        }
+
+        @Override
+        public UriBuilder getAbsolutePathBuilder() {
+            return current().getAbsolutePathBuilder();
+        }
+
+        @Override
+        public URI getBaseUri() {
+            return current().getBaseUri();
+        }
+
+        @Override
+        public UriBuilder getBaseUriBuilder() {
+            return current().getBaseUriBuilder();
+        }
+
+        @Override
+        public MultivaluedMap<String, String> getPathParameters() {
+            return current().getPathParameters();
+        }
+
+        @Override
+        public MultivaluedMap<String, String> getPathParameters(boolean decode) {
+            return current().getPathParameters(decode);
+        }
+
+        @Override
+        public MultivaluedMap<String, String> getQueryParameters() {
+            return current().getQueryParameters();
+        }
+
+        @Override
+        public MultivaluedMap<String, String> getQueryParameters(boolean decode) {
+            return current().getQueryParameters(decode);
+        }
+
+        @Override
+        public List<String> getMatchedURIs() {
+            return current().getMatchedURIs();
+        }
+
+        @Override
+        public List<String> getMatchedURIs(boolean decode) {
+            return current().getMatchedURIs(decode);
+        }
+
+        @Override
+        public String getMatchedResourceTemplate() {
+            return current().getMatchedResourceTemplate();
+        }
+
+        @Override
+        public List<Object> getMatchedResources() {
+            return current().getMatchedResources();
+        }
+
+        @Override
+        public URI resolve(URI uri) {
+            return current().resolve(uri);
+        }
+
+        @Override
+        public URI relativize(URI uri) {
+            return current().relativize(uri);
+        }
+    }
+
+    private static final class SecurityContextDelegate extends Delegate<SecurityContext> implements SecurityContext {
+
+        private SecurityContextDelegate(Supplier<SecurityContext> supplier) {
+            super(supplier);
+        }
+
+        @Override
+        public Principal getUserPrincipal() {
+            return current().getUserPrincipal();
+        }
+
+        @Override
+        public boolean isUserInRole(String role) {
+            return current().isUserInRole(role);
+        }
+
+        @Override
+        public boolean isSecure() {
+            return current().isSecure();
+        }
+
+        @Override
+        public String getAuthenticationScheme() {
+            return current().getAuthenticationScheme();
+        }
+    }
+
+    private static final class ResourceInfoDelegate extends Delegate<ResourceInfo> implements ResourceInfo {
+
+        private ResourceInfoDelegate(Supplier<ResourceInfo> supplier) {
+            super(supplier);
+        }
+
+        @Override
+        public Method getResourceMethod() {
+            return current().getResourceMethod();
+        }
+
+        @Override
+        public Class<?> getResourceClass() {
+            return current().getResourceClass();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -124,6 +124,7 @@ public enum InjectionIds {
     SERVER_APPLICATION_HANDLER(3180),
     SERVER_APPLICATION(3190),
     SERVER_OPTIONS_METHOD_PROCESSOR(3201),
+    SERVER_METHOD_SELECTION_CACHE_STATISTICS(3202),
 
     SERVLET_PERSISTANCE_UNIT_INJECTION_RESOLVER(4001),
     SERVLET_FILTER_CONFIG(4002),
@@ -133,6 +134,7 @@ public enum InjectionIds {
     SERVLET_HTTP_SERVLET_REQUEST_REF(4011),
     SERVLET_HTTP_SERVLET_RESPONSE(4012),
     SERVLET_HTTP_SERVLET_RESPONSE_REF(4013),
+    SERVLET_HTTP_SERVLET_REQUEST_DELEGATE(4014),
     SERVLET_SERVLET_CONTEXT(4020),
 
     GRIZZLY_REQUEST_REFERENCING_FACTORY(5001),
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.innate.virtual;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A value bound to the current thread for the execution of a task, backed by a {@code java.lang.ScopedValue}.
+ * The value is only visible to the task, it does not outlive the task and does not need to be removed.
+ *
+ * @param <T> type of the bound value.
+ * @see org.glassfish.jersey.innate.ScopedValueSupport#newBinding()
+ */
+public interface ScopedBinding<T> {
+
+    /**
+     * Get the value bound to the current thread.
+     *
+     * @return the bound value or {@code null} if no value is bound.
+     */
+    T get();
+
+    /**
+     * Call the task with the value bound to the current thread. The previously bound value is bound again
+     * when the task completes.
+     *
+     * @param value value to be bound.
+     * @param task  task to be called.
+     * @param <R>   type of the task result.
+     * @return the task result.
+     * @throws Exception exception thrown by the task.
+     */
+    <R> R call(T value, Callable<R> task) throws Exception;
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2018 Payara Foundation and/or its affiliates.
  *
  * This program and the accompanying materials are made available under the
@@ -21,6 +21,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -34,6 +37,8 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.Function;
 
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.WebApplicationException;
@@ -54,6 +59,12 @@ import org.glassfish.jersey.message.internal.HttpDateFormat;
  * Container of several different {@link ParamConverterProvider param converter providers}
  * implementations. The nested provider implementations encapsulate various different
  * strategies of constructing an instance from a {@code String} value.
+ * <p>
+ * The common Java types, such as the primitive type wrappers, enums or {@link UUID}, are parsed
+ * directly. The {@code String} constructors and the {@code valueOf(String)} and {@code fromString(String)}
+ * methods of the other types are bound to {@link MethodHandle method handles} when the converter is created,
+ * so that they are not invoked reflectively on every conversion.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar
@@ -61,6 +72,8 @@ import org.glassfish.jersey.message.internal.HttpDateFormat;
 @Singleton
 public class ParamConverters {
 
+    private static final MethodType STRING_READER_TYPE = MethodType.methodType(Object.class, String.class);
+
     private static class ParamConverterCompliance {
         protected final boolean canReturnNull;
 
@@ -118,6 +131,86 @@ public class ParamConverters {
 
     }
 
+    /**
+     * String reader which parses the value using the given function.
+     */
+    private static final class FunctionStringReader<T> extends AbstractStringReader<T> {
+
+        private final Class<T> rawType;
+        private final Function<String, ?> function;
+
+        private FunctionStringReader(boolean canReturnNull, Class<T> rawType, Function<String, ?> function) {
+            super(canReturnNull);
+            this.rawType = rawType;
+            this.function = function;
+        }
+
+        @Override
+        protected T _fromString(final String value) throws Exception {
+            final Object result;
+            try {
+                result = function.apply(value);
+            } catch (final RuntimeException ex) {
+                throw new InvocationTargetException(ex);
+            }
+            return rawType.cast(result);
+        }
+    }
+
+    /**
+     * String reader which parses the value using the given method handle of the {@code (String)Object} type.
+     */
+    private static final class MethodHandleStringReader<T> extends AbstractStringReader<T> {
+
+        private final Class<T> rawType;
+        private final MethodHandle handle;
+
+        private MethodHandleStringReader(boolean canReturnNull, Class<T> rawType, MethodHandle handle) {
+            super(canReturnNull);
+            this.rawType = rawType;
+            this.handle = handle;
+        }
+
+        @Override
+        protected T _fromString(final String value) throws Exception {
+            final Object result;
+            try {
+                result = handle.invokeExact(value);
+            } catch (final Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+            return rawType.cast(result);
+        }
+    }
+
+    /**
+     * Get a method handle of the {@code (String)Object} type for the given static method.
+     *
+     * @param method static method with a single {@code String} parameter.
+     * @return method handle or {@code null} if the method is not accessible.
+     */
+    private static MethodHandle toMethodHandle(final Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(STRING_READER_TYPE);
+        } catch (final IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Get a method handle of the {@code (String)Object} type for the given constructor.
+     *
+     * @param constructor constructor with a single {@code String} parameter.
+     * @return method handle or {@code null} if the constructor is not accessible.
+     */
+    private static MethodHandle toMethodHandle(final Constructor<?> constructor) {
+        try {
+            return MethodHandles.publicLookup().unreflectConstructor(constructor).asType(STRING_READER_TYPE);
+        } catch (final IllegalAccessException ex) {
+            return null;
+        }
+    }
+
     /**
      * Provider of {@link ParamConverter param converter} that produce the target Java type instance
      * by invoking a single {@code String} parameter constructor on the target type.
@@ -135,8 +228,15 @@ public class ParamConverters {
                                                   final Annotation[] annotations) {
 
             final Constructor constructor = AccessController.doPrivileged(ReflectionHelper.getStringConstructorPA(rawType));
+            if (constructor == null) {
+                return null;
+            }
 
-            return (constructor == null) ? null : new AbstractStringReader<T>(canReturnNull) {
+            final MethodHandle handle = toMethodHandle(constructor);
+            if (handle != null) {
+                return new MethodHandleStringReader<>(canReturnNull, rawType, handle);
+            }
+            return new AbstractStringReader<T>(canReturnNull) {
 
                 @Override
                 protected T _fromString(final String value) throws Exception {
@@ -163,9 +263,25 @@ public class ParamConverters {
                                                   final Type genericType,
                                                   final Annotation[] annotations) {
 
+            final Function<String, Object> primitiveValueOf = PrimitiveMapper.classToValueOfMap.get(rawType);
+            if (primitiveValueOf != null) {
+                return new FunctionStringReader<>(canReturnNull, rawType, primitiveValueOf);
+            }
+
             final Method valueOf = AccessController.doPrivileged(ReflectionHelper.getValueOfStringMethodPA(rawType));
+            if (valueOf == null) {
+                return null;
+            }
 
-            return (valueOf == null) ? null : new AbstractStringReader<T>(canReturnNull) {
+            if (rawType.isEnum()) {
+                return new FunctionStringReader<>(canReturnNull, rawType, value -> Enum.valueOf((Class) rawType, value));
+            }
+
+            final MethodHandle handle = toMethodHandle(valueOf);
+            if (handle != null) {
+                return new MethodHandleStringReader<>(canReturnNull, rawType, handle);
+            }
+            return new AbstractStringReader<T>(canReturnNull) {
 
                 @Override
                 public T _fromString(final String value) throws Exception {
@@ -191,9 +307,20 @@ public class ParamConverters {
                                                   final Type genericType,
                                                   final Annotation[] annotations) {
 
+            if (rawType == UUID.class) {
+                return new FunctionStringReader<>(canReturnNull, rawType, UUID::fromString);
+            }
+
             final Method fromStringMethod = AccessController.doPrivileged(ReflectionHelper.getFromStringStringMethodPA(rawType));
+            if (fromStringMethod == null) {
+                return null;
+            }
 
-            return (fromStringMethod == null) ? null : new AbstractStringReader<T>(canReturnNull) {
+            final MethodHandle handle = toMethodHandle(fromStringMethod);
+            if (handle != null) {
+                return new MethodHandleStringReader<>(canReturnNull, rawType, handle);
+            }
+            return new AbstractStringReader<T>(canReturnNull) {
 
                 @Override
                 public T _fromString(final String value) throws Exception {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2018 Payara Foundation and/or its affiliates.
  *
  * This program and the accompanying materials are made available under the
@@ -20,10 +20,12 @@ package org.glassfish.jersey.internal.inject;
 import java.util.Collections;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.function.Function;
 
 /**
  * Utility class that maps the primitive types to their respective classes as well
- * as the default values as defined by the JAX-RS specification.
+ * as the default values as defined by the JAX-RS specification and the wrapper classes
+ * to their {@code valueOf(String)} methods.
  *
  * @author Paul Sandoz
  * @author Marek Potociar
@@ -34,6 +36,14 @@ public final class PrimitiveMapper {
             getPrimitiveToClassMap();
     public static final Map<Class, Object> primitiveToDefaultValueMap =
             getPrimitiveToDefaultValueMap();
+    /**
+     * Maps the primitive type wrapper classes, except {@link Character}, to their {@code valueOf(String)} methods,
+     * so that the values can be parsed without reflection.
+     *
+     * @since 4.1.0
+     */
+    public static final Map<Class, Function<String, Object>> classToValueOfMap =
+            getClassToValueOfMap();
 
     private static Map<Class, Class> getPrimitiveToClassMap() {
         Map<Class, Class> m = new WeakHashMap<>();
@@ -65,6 +75,19 @@ public final class PrimitiveMapper {
         return Collections.unmodifiableMap(m);
     }
 
+    private static Map<Class, Function<String, Object>> getClassToValueOfMap() {
+        Map<Class, Function<String, Object>> m = new WeakHashMap<>();
+        m.put(Boolean.class, Boolean::valueOf);
+        m.put(Byte.class, Byte::valueOf);
+        m.put(Short.class, Short::valueOf);
+        m.put(Integer.class, Integer::valueOf);
+        m.put(Long.class, Long::valueOf);
+        m.put(Float.class, Float::valueOf);
+        m.put(Double.class, Double::valueOf);
+
+        return Collections.unmodifiableMap(m);
+    }
+
     /**
      * Prevents instantiation.
      */
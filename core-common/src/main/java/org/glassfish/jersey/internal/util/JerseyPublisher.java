@@ -303,6 +303,8 @@ public class JerseyPublisher<T> implements Flow.Publisher<T> {
     public int publish(T item) {
         if (PublisherStrategy.BLOCKING == strategy) {
             return submit(item);
+        } else if (PublisherStrategy.DROPPING == strategy) {
+            return submissionPublisher.offer(item, null);
         } else {
             // PublisherStrategy.BEST_EFFORT
             return submissionPublisher.offer(item, this::onDrop);
@@ -448,5 +450,14 @@ public class JerseyPublisher<T> implements Flow.Publisher<T> {
          * capable of read the messages at a speed sufficient to unblock the processing.
          */
         BEST_EFFORT,
+
+        /**
+         * Dropping publisher strategy - tries to deliver to all subscribers if possible without blocking the processing.
+         *
+         * If the buffer is full, the item is not delivered to a subscriber, that is not capable of read the messages
+         * at a speed sufficient to unblock the processing. The subscriber is not cancelled and receives the next items
+         * once there is space in its buffer again.
+         */
+        DROPPING,
     }
 }
@@ -46,18 +46,33 @@ public abstract class LRU<K, V> {
      * @return new LRU
      */
     public static <K, V> LRU<K, V> create() {
-        return LRUFactory.createLRU();
+        return LRUFactory.createLRU(LRUFactory.LRU_CACHE_SIZE, LRUFactory.TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create new LRU of the given maximum size, the entries of which expire when not accessed
+     * for the given amount of time.
+     *
+     * @param maximumSize maximum number of entries kept in the LRU.
+     * @param expireAfterAccess time after which an entry expires when not accessed, non-positive value means the entries
+     *                          do not expire.
+     * @param unit unit of the {@code expireAfterAccess} time.
+     * @return new LRU
+     * @since 4.1.0
+     */
+    public static <K, V> LRU<K, V> create(long maximumSize, long expireAfterAccess, TimeUnit unit) {
+        return LRUFactory.createLRU(maximumSize, expireAfterAccess, unit);
     }
 
     private static class LRUFactory {
-        // TODO configure via the Configuration
         public static final int LRU_CACHE_SIZE = 128;
         public static final long TIMEOUT = 5000L;
-        private static <K, V> LRU<K, V> createLRU() {
-            final Cache<K, V> CACHE = CacheBuilder.newBuilder()
-                    .maximumSize(LRU_CACHE_SIZE)
-                    .expireAfterAccess(TIMEOUT, TimeUnit.MILLISECONDS)
-                    .build();
+        private static <K, V> LRU<K, V> createLRU(long maximumSize, long expireAfterAccess, TimeUnit unit) {
+            final CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize);
+            if (expireAfterAccess > 0) {
+                builder.expireAfterAccess(expireAfterAccess, unit);
+            }
+            final Cache<K, V> CACHE = builder.build();
             return new LRU<K, V>() {
                 @Override
                 public V getIfPresent(Object key) {
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.io.spi;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.glassfish.jersey.internal.LocalizationMessages;
+
+/**
+ * An interface that the entity output stream can implement, noting that the stream is able to send a region of a file
+ * to the peer directly, without copying the file content through the Java heap, e.g. by means of
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)} or a container specific {@code sendfile} support.
+ *
+ * <p>
+ *     The output stream returned by
+ *     {@code org.glassfish.jersey.server.spi.ContainerResponseWriter#writeResponseStatusAndHeaders(long, ContainerResponse)}
+ *     can implement this interface. Jersey entity streams delegate to the container stream when nothing else has been
+ *     written to the entity stream yet, the entity is not encoded by a writer interceptor and the file region is the
+ *     whole entity.
+ * </p>
+ * <p>
+ *     Message body writers should use {@link #write(OutputStream, Path, long, long)} which falls back to copying
+ *     the file region when the stream does not support the direct transfer.
+ * </p>
+ *
+ * @since 4.1.0
+ */
+public interface FileRegionOutput {
+
+    /**
+     * Write the region of the file to the stream.
+     * <p>
+     * The method returns {@code false} when the stream cannot send the region directly in its current state. Nothing
+     * has been written to the peer then and the caller is expected to copy exactly {@code count} bytes of the region
+     * to the stream by itself.
+     * </p>
+     *
+     * @param file     file to be written.
+     * @param position position of the first byte of the region in the file.
+     * @param count    number of bytes of the region.
+     * @return {@code true} if the region has been written (or handed over to the container to be written before any
+     * following output), {@code false} if the caller has to copy the region.
+     * @throws IOException in case of an I/O error.
+     */
+    boolean writeFileRegion(Path file, long position, long count) throws IOException;
+
+    /**
+     * Write the region of the file to the output stream, directly if the stream is a {@link FileRegionOutput}
+     * supporting it, or by copying the region otherwise.
+     *
+     * @param out      output stream.
+     * @param file     file to be written.
+     * @param position position of the first byte of the region in the file.
+     * @param count    number of bytes of the region.
+     * @throws EOFException if the file ends before the whole region is written.
+     * @throws IOException  in case of an I/O error.
+     */
+    static void write(OutputStream out, Path file, long position, long count) throws IOException {
+        if (count <= 0) {
+            return;
+        }
+        if (out instanceof FileRegionOutput && ((FileRegionOutput) out).writeFileRegion(file, position, count)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final WritableByteChannel target = Channels.newChannel(out);
+            long written = 0;
+            while (written < count) {
+                final long transferred = channel.transferTo(position + written, count - written, target);
+                if (transferred <= 0) {
+                    throw new EOFException(LocalizationMessages.ERROR_FILE_REGION_TRUNCATED(file, count, position));
+                }
+                written += transferred;
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import jakarta.inject.Inject;
+
+import org.glassfish.jersey.CommonProperties;
+import org.glassfish.jersey.message.internal.CompressionPool;
+import org.glassfish.jersey.spi.ContentEncoder;
+
+/**
+ * GZIP and deflate encoding support backed by a pool of reusable {@link java.util.zip.Deflater deflaters} and
+ * {@link java.util.zip.Inflater inflaters}. Interceptor that encodes the output or decodes the input if
+ * {@link HttpHeaders#CONTENT_ENCODING Content-Encoding header} value equals to {@code gzip}, {@code x-gzip} or
+ * {@code deflate}. The encoder can be used instead of both the {@link GZipEncoder} and the {@link DeflateEncoder},
+ * on the server as well as on the client, e.g. together with the {@code EncodingFilter}.
+ * <p>
+ * The compression is configured by the {@link MessageProperties#COMPRESSION_LEVEL},
+ * {@link MessageProperties#COMPRESSION_STRATEGY}, {@link MessageProperties#COMPRESSION_BUFFER_SIZE},
+ * {@link MessageProperties#COMPRESSION_MIN_SIZE} and {@link MessageProperties#COMPRESSION_POOL_SIZE} properties.
+ * The deflate encoding honours the {@link MessageProperties#DEFLATE_WITHOUT_ZLIB} property.
+ * </p>
+ * <p>
+ * If the {@link MessageProperties#COMPRESSION_MIN_SIZE minimum size} is set, the encoder buffers the beginning of
+ * the written entity and compresses the entity only if it is not smaller than the minimum size. Otherwise the entity
+ * is written as is and the {@code Content-Encoding} header is removed before the message headers are committed.
+ * A flush of the entity stream makes the decision before the minimum size is reached, since the message headers may
+ * be committed after the flush: an entity flushed before anything has been written, e.g. a
+ * {@code ChunkedOutput} whose headers are committed before the first chunk, is compressed, while an entity flushed
+ * after writing fewer bytes than the minimum size is written as is.
+ * </p>
+ *
+ * @since 4.1.0
+ */
+@Priority(Priorities.ENTITY_CODER)
+public class CompressionEncoder extends ContentEncoder {
+
+    private static final String DEFLATE = "deflate";
+
+    private final CompressionPool pool;
+    private final int bufferSize;
+    private final int minSize;
+    private final boolean deflateWithoutZLib;
+
+    /**
+     * Initialize CompressionEncoder.
+     *
+     * @param config Jersey configuration properties.
+     */
+    @Inject
+    public CompressionEncoder(final Configuration config) {
+        super("gzip", "x-gzip", DEFLATE);
+
+        final Map<String, Object> properties = config.getProperties();
+        final RuntimeType runtime = config.getRuntimeType();
+        final int level = CommonProperties.getValue(properties, runtime,
+                MessageProperties.COMPRESSION_LEVEL, MessageProperties.COMPRESSION_DEFAULT_LEVEL, Integer.class);
+        final int strategy = CommonProperties.getValue(properties, runtime,
+                MessageProperties.COMPRESSION_STRATEGY, MessageProperties.COMPRESSION_DEFAULT_STRATEGY, Integer.class);
+        final int poolSize = CommonProperties.getValue(properties, runtime,
+                MessageProperties.COMPRESSION_POOL_SIZE, MessageProperties.COMPRESSION_DEFAULT_POOL_SIZE, Integer.class);
+        final int bufferSize = CommonProperties.getValue(properties, runtime,
+                MessageProperties.COMPRESSION_BUFFER_SIZE, MessageProperties.COMPRESSION_DEFAULT_BUFFER_SIZE, Integer.class);
+
+        this.pool = new CompressionPool(poolSize, level, strategy);
+        this.bufferSize = bufferSize > 0 ? bufferSize : MessageProperties.COMPRESSION_DEFAULT_BUFFER_SIZE;
+        this.minSize = CommonProperties.getValue(properties, runtime,
+                MessageProperties.COMPRESSION_MIN_SIZE, MessageProperties.COMPRESSION_DEFAULT_MIN_SIZE, Integer.class);
+
+        final Object value = config.getProperty(MessageProperties.DEFLATE_WITHOUT_ZLIB);
+        if (value instanceof String) {
+            this.deflateWithoutZLib = Boolean.valueOf((String) value);
+        } else if (value instanceof Boolean) {
+            this.deflateWithoutZLib = (Boolean) value;
+        } else {
+            this.deflateWithoutZLib = false;
+        }
+    }
+
+    @Override
+    public InputStream decode(final String contentEncoding, final InputStream encodedStream) throws IOException {
+        if (!DEFLATE.equals(contentEncoding)) {
+            return pool.gunzip(encodedStream, bufferSize);
+        }
+
+        // correct impl. should wrap deflate in zlib, but some don't do it - have to identify, which one we got
+        final InputStream markSupportingStream = encodedStream.markSupported() ? encodedStream
+                : new BufferedInputStream(encodedStream);
+
+        markSupportingStream.mark(1);
+        final int firstByte = markSupportingStream.read();
+        markSupportingStream.reset();
+
+        // if using zlib, first 3 bits should be 0, 4th should be 1
+        return pool.inflate(markSupportingStream, (firstByte & 15) != 8, bufferSize);
+    }
+
+    @Override
+    public OutputStream encode(final String contentEncoding, final OutputStream entityStream) throws IOException {
+        return DEFLATE.equals(contentEncoding)
+                ? pool.deflate(entityStream, deflateWithoutZLib, bufferSize)
+                : pool.gzip(entityStream, bufferSize);
+    }
+
+    @Override
+    protected OutputStream encode(final String contentEncoding, final WriterInterceptorContext context) throws IOException {
+        return minSize > 0
+                ? new MinSizeOutputStream(contentEncoding, context)
+                : encode(contentEncoding, context.getOutputStream());
+    }
+
+    /**
+     * Buffers the entity until the minimum size is reached and then starts the compression. If the stream is closed
+     * or flushed before, the decision about the compression is made without waiting for more bytes.
+     */
+    private final class MinSizeOutputStream extends OutputStream {
+
+        private final String contentEncoding;
+        private final WriterInterceptorContext context;
+        private final OutputStream entityStream;
+
+        private byte[] buffer;
+        private int count;
+        // encoded stream or the entity stream once it is decided whether the entity is compressed, null before
+        private OutputStream target;
+        private boolean closed;
+
+        private MinSizeOutputStream(final String contentEncoding, final WriterInterceptorContext context) {
+            this.contentEncoding = contentEncoding;
+            this.context = context;
+            this.entityStream = context.getOutputStream();
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (target == null) {
+                if (count + len < minSize) {
+                    if (buffer == null) {
+                        buffer = new byte[minSize];
+                    }
+                    System.arraycopy(b, off, buffer, count, len);
+                    count += len;
+                    return;
+                }
+                compress();
+            }
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target == null) {
+                // the message headers may be committed once the entity stream is flushed, the Content-Encoding header
+                // must not be removed later; a stream flushed before anything is written, such as the stream of a chunked
+                // response when the headers are committed, is compressed, a smaller entity is written not compressed
+                if (count == 0) {
+                    compress();
+                } else {
+                    writeNotCompressed();
+                }
+            }
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (target == null) {
+                writeNotCompressed();
+            }
+            target.close();
+        }
+
+        private void compress() throws IOException {
+            target = encode(contentEncoding, entityStream);
+            if (count > 0) {
+                target.write(buffer, 0, count);
+            }
+            buffer = null;
+        }
+
+        private void writeNotCompressed() throws IOException {
+            context.getHeaders().remove(HttpHeaders.CONTENT_ENCODING);
+            target = entityStream;
+            if (count > 0) {
+                target.write(buffer, 0, count);
+            }
+            buffer = null;
+        }
+    }
+}
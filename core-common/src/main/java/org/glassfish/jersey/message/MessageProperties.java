@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -37,6 +37,110 @@ public final class MessageProperties {
      */
     public static final String DEFLATE_WITHOUT_ZLIB = "jersey.config.deflate.nozlib";
 
+    /**
+     * Compression level used by the {@link CompressionEncoder compression encoder}, an integer from {@code 0} (no
+     * compression) to {@code 9} (best compression), or {@code -1} for the default zlib level. See
+     * {@link java.util.zip.Deflater#setLevel(int)}.
+     * <p />
+     * The default value is <code>{@value #COMPRESSION_DEFAULT_LEVEL}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 4.1.0
+     */
+    public static final String COMPRESSION_LEVEL = "jersey.config.compression.level";
+
+    /**
+     * The default compression level ({@value}) of the {@link CompressionEncoder compression encoder}.
+     *
+     * @since 4.1.0
+     */
+    public static final int COMPRESSION_DEFAULT_LEVEL = -1;
+
+    /**
+     * Compression strategy used by the {@link CompressionEncoder compression encoder}, one of
+     * {@link java.util.zip.Deflater#DEFAULT_STRATEGY}, {@link java.util.zip.Deflater#FILTERED} and
+     * {@link java.util.zip.Deflater#HUFFMAN_ONLY}. See {@link java.util.zip.Deflater#setStrategy(int)}.
+     * <p />
+     * The default value is <code>{@value #COMPRESSION_DEFAULT_STRATEGY}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 4.1.0
+     */
+    public static final String COMPRESSION_STRATEGY = "jersey.config.compression.strategy";
+
+    /**
+     * The default compression strategy ({@value}) of the {@link CompressionEncoder compression encoder}.
+     *
+     * @since 4.1.0
+     */
+    public static final int COMPRESSION_DEFAULT_STRATEGY = 0;
+
+    /**
+     * Size in bytes of the buffers of the compressing and decompressing streams of the
+     * {@link CompressionEncoder compression encoder}.
+     * <p />
+     * The default value is <code>{@value #COMPRESSION_DEFAULT_BUFFER_SIZE}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 4.1.0
+     */
+    public static final String COMPRESSION_BUFFER_SIZE = "jersey.config.compression.bufferSize";
+
+    /**
+     * The default size in bytes ({@value}) of the buffers of the {@link CompressionEncoder compression encoder} streams.
+     *
+     * @since 4.1.0
+     */
+    public static final int COMPRESSION_DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Minimum size in bytes of an entity compressed by the {@link CompressionEncoder compression encoder}. The encoder
+     * buffers up to this number of bytes of the written entity in memory. A smaller entity is written not compressed and
+     * the {@link jakarta.ws.rs.core.HttpHeaders#CONTENT_ENCODING Content-Encoding} header is removed from the message.
+     * An entity flushed before the minimum size is reached is compressed if nothing has been written before the flush,
+     * e.g. a chunked response, otherwise it is written not compressed.
+     * A non-positive value means all the entities are compressed.
+     * <p />
+     * The default value is <code>{@value #COMPRESSION_DEFAULT_MIN_SIZE}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 4.1.0
+     */
+    public static final String COMPRESSION_MIN_SIZE = "jersey.config.compression.minSize";
+
+    /**
+     * The default minimum size in bytes ({@value}) of an entity compressed by the {@link CompressionEncoder compression
+     * encoder}.
+     *
+     * @since 4.1.0
+     */
+    public static final int COMPRESSION_DEFAULT_MIN_SIZE = 0;
+
+    /**
+     * Maximum number of idle {@link java.util.zip.Deflater deflaters} and {@link java.util.zip.Inflater inflaters} of
+     * each kind kept for reuse by the {@link CompressionEncoder compression encoder}. A non-positive value disables the
+     * pooling.
+     * <p />
+     * The default value is <code>{@value #COMPRESSION_DEFAULT_POOL_SIZE}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 4.1.0
+     */
+    public static final String COMPRESSION_POOL_SIZE = "jersey.config.compression.pool.size";
+
+    /**
+     * The default maximum number ({@value}) of idle deflaters and inflaters of each kind kept for reuse by the
+     * {@link CompressionEncoder compression encoder}.
+     *
+     * @since 4.1.0
+     */
+    public static final int COMPRESSION_DEFAULT_POOL_SIZE = 32;
+
 
     /**
      * If set to {@code true} then XML root element tag name for collections will
@@ -49,6 +153,29 @@ public final class MessageProperties {
      */
     public static final String JAXB_PROCESS_XML_ROOT_ELEMENT = "jersey.config.jaxb.collections.processXmlRootElement";
 
+    /**
+     * Maximum number of JAXB marshallers and unmarshallers kept for reuse by the JAXB entity providers. The marshallers and
+     * unmarshallers created by the JAXB contexts the providers create for the entity types are pooled per the entity type,
+     * the marshallers separately for the formatted and the unformatted output. The marshallers and unmarshallers provided
+     * by the application {@link jakarta.ws.rs.ext.ContextResolver context resolvers}, or created by the JAXB contexts provided
+     * by the context resolvers, are not pooled. A non-positive value disables the pooling.
+     * <p />
+     * The property is read from the system properties when the JAXB providers are loaded, i.e. it applies to all
+     * the applications in the JVM. The default value is <code>{@value #JAXB_POOL_DEFAULT_SIZE}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 4.1.0
+     */
+    public static final String JAXB_POOL_SIZE = "jersey.config.jaxb.pool.size";
+
+    /**
+     * The default maximum number ({@value}) of JAXB marshallers and unmarshallers kept for reuse per the entity type.
+     *
+     * @since 4.1.0
+     */
+    public static final int JAXB_POOL_DEFAULT_SIZE = 16;
+
     /**
      * If set to {@code true} XML security features when parsing XML documents will be
      * disabled.
@@ -91,6 +218,53 @@ public final class MessageProperties {
      */
     public static final int IO_DEFAULT_BUFFER_SIZE = 8192;
 
+    /**
+     * Maximum number of parsed header values kept in each of the header value caches. The parsed values of the
+     * {@code Accept}, {@code Accept-Language}, {@code Accept-Charset}, {@code Accept-Encoding} and {@code Content-Type}
+     * headers are cached across the messages, each header in its own cache. A non-positive value disables the caching.
+     * <p />
+     * The size of a single cache can be overridden by a property the name of which is composed of this property name
+     * followed by a dot and the lower-case name of the header, e.g. {@code jersey.config.header.cache.size.accept}.
+     * <p />
+     * The caches are shared by all the applications in the JVM, hence the property is read only from the system
+     * properties, once, when the cache is created. The default value is <code>{@value #HEADER_CACHE_DEFAULT_SIZE}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @see org.glassfish.jersey.message.internal.HeaderValueCache#getCaches()
+     * @since 4.1.0
+     */
+    public static final String HEADER_CACHE_SIZE = "jersey.config.header.cache.size";
+
+    /**
+     * The default maximum number ({@value}) of parsed header values kept in each of the header value caches.
+     *
+     * @since 4.1.0
+     */
+    public static final int HEADER_CACHE_DEFAULT_SIZE = 128;
+
+    /**
+     * Time in milliseconds after which a parsed header value not accessed in the meantime is evicted from the header value
+     * cache. A non-positive value means the values are evicted only when the cache {@link #HEADER_CACHE_SIZE size} is
+     * exceeded.
+     * <p />
+     * The caches are shared by all the applications in the JVM, hence the property is read only from the system
+     * properties, once, when the cache is created. The default value is <code>{@value #HEADER_CACHE_DEFAULT_EXPIRY}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 4.1.0
+     */
+    public static final String HEADER_CACHE_EXPIRY = "jersey.config.header.cache.expiry";
+
+    /**
+     * The default time in milliseconds ({@value}) after which a parsed header value not accessed in the meantime is evicted
+     * from the header value cache.
+     *
+     * @since 4.1.0
+     */
+    public static final int HEADER_CACHE_DEFAULT_EXPIRY = 5000;
+
     /**
      * <p>
      *     Integer value used to override maximum number of string length during the JSON processing the JSON provider accepts.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,6 +19,7 @@ package org.glassfish.jersey.message.internal;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -26,6 +27,7 @@ import java.util.logging.Logger;
 import org.glassfish.jersey.innate.VirtualThreadSupport;
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.guava.Preconditions;
+import org.glassfish.jersey.io.spi.FileRegionOutput;
 import org.glassfish.jersey.io.spi.FlushedCloseable;
 
 /**
@@ -52,12 +54,16 @@ import org.glassfish.jersey.io.spi.FlushedCloseable;
  * method enables buffering with the default size
  * <tt>{@value CommittingOutputStream#DEFAULT_BUFFER_SIZE}</tt> bytes specified in {@link #DEFAULT_BUFFER_SIZE}.
  * </p>
+ * <p>
+ * A {@link #writeFileRegion(Path, long, long) file region} written before any other byte commits the stream with
+ * the size of the region and is handed over to the adapted output stream if it is a {@link FileRegionOutput}.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar
  * @author Miroslav Fuksa
  */
-public final class CommittingOutputStream extends OutputStream {
+public final class CommittingOutputStream extends OutputStream implements FileRegionOutput {
 
     private static final Logger LOGGER = Logger.getLogger(CommittingOutputStream.class.getName());
     private final boolean isVirtualThread = VirtualThreadSupport.isVirtualThread();
@@ -233,6 +239,20 @@ public final class CommittingOutputStream extends OutputStream {
         }
     }
 
+    @Override
+    public boolean writeFileRegion(final Path file, final long position, final long count) throws IOException {
+        if (isCommitted || count > Integer.MAX_VALUE || (buffer != null && buffer.size() > 0)) {
+            return false;
+        }
+        if (!directWrite && count <= bufferSize) {
+            // small regions are buffered so that the buffered entity size is still known
+            return false;
+        }
+        commitStream((int) count);
+        return adaptedOutput instanceof FileRegionOutput
+                && ((FileRegionOutput) adaptedOutput).writeFileRegion(file, position, count);
+    }
+
     /**
      * Commit the output stream.
      *
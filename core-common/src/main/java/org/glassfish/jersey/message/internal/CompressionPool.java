@@ -0,0 +1,448 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import org.glassfish.jersey.internal.LocalizationMessages;
+
+/**
+ * Bounded pool of {@link Deflater deflaters} and {@link Inflater inflaters} together with the compressing and
+ * decompressing streams that use them.
+ * <p>
+ * A deflater or an inflater is taken from the pool when a stream is created and is {@link Deflater#reset() reset} and
+ * returned to the pool when the stream is closed, so that the native zlib streams are not allocated for every entity.
+ * A stream that is not closed does not return its deflater or inflater to the pool, which is then left to the garbage
+ * collector. The pool keeps at most the configured number of idle deflaters and inflaters of each kind, the surplus
+ * ones are {@link Deflater#end() ended}.
+ * </p>
+ *
+ * @since 4.1.0
+ */
+public final class CompressionPool {
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    private static final byte[] GZIP_HEADER = {
+            (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+    };
+
+    private final Pool<Deflater> deflaters;
+    private final Pool<Deflater> nowrapDeflaters;
+    private final Pool<Inflater> inflaters;
+    private final Pool<Inflater> nowrapInflaters;
+
+    /**
+     * Create new pool.
+     *
+     * @param size     maximum number of idle deflaters and inflaters of each kind kept in the pool, a non-positive value
+     *                 disables the pooling.
+     * @param level    compression level of the deflaters, see {@link Deflater#setLevel(int)}.
+     * @param strategy compression strategy of the deflaters, see {@link Deflater#setStrategy(int)}.
+     */
+    public CompressionPool(final int size, final int level, final int strategy) {
+        this.deflaters = new Pool<>(size, () -> createDeflater(level, strategy, false), Deflater::reset, Deflater::end);
+        this.nowrapDeflaters = new Pool<>(size, () -> createDeflater(level, strategy, true), Deflater::reset, Deflater::end);
+        this.inflaters = new Pool<>(size, () -> new Inflater(false), Inflater::reset, Inflater::end);
+        this.nowrapInflaters = new Pool<>(size, () -> new Inflater(true), Inflater::reset, Inflater::end);
+    }
+
+    private static Deflater createDeflater(final int level, final int strategy, final boolean nowrap) {
+        final Deflater deflater = new Deflater(level, nowrap);
+        deflater.setStrategy(strategy);
+        return deflater;
+    }
+
+    /**
+     * Get a stream compressing the data in the {@code deflate} format.
+     *
+     * @param out        stream the compressed data are written to.
+     * @param nowrap     if {@code true}, the zlib header and checksum are not written.
+     * @param bufferSize size of the output buffer.
+     * @return compressing stream.
+     */
+    public OutputStream deflate(final OutputStream out, final boolean nowrap, final int bufferSize) {
+        return new PooledDeflaterOutputStream(out, nowrap ? nowrapDeflaters : deflaters, bufferSize);
+    }
+
+    /**
+     * Get a stream compressing the data in the {@code gzip} format.
+     *
+     * @param out        stream the compressed data are written to.
+     * @param bufferSize size of the output buffer.
+     * @return compressing stream.
+     * @throws IOException if the gzip header cannot be written.
+     */
+    public OutputStream gzip(final OutputStream out, final int bufferSize) throws IOException {
+        return new PooledGZipOutputStream(out, nowrapDeflaters, bufferSize);
+    }
+
+    /**
+     * Get a stream decompressing the data in the {@code deflate} format.
+     *
+     * @param in         stream the compressed data are read from.
+     * @param nowrap     if {@code true}, the zlib header and checksum are not expected.
+     * @param bufferSize size of the input buffer.
+     * @return decompressing stream.
+     */
+    public InputStream inflate(final InputStream in, final boolean nowrap, final int bufferSize) {
+        return new PooledInflaterInputStream(in, nowrap ? nowrapInflaters : inflaters, bufferSize);
+    }
+
+    /**
+     * Get a stream decompressing the data in the {@code gzip} format. Concatenated gzip members are read as a single
+     * stream.
+     *
+     * @param in         stream the compressed data are read from.
+     * @param bufferSize size of the input buffer.
+     * @return decompressing stream.
+     * @throws IOException if the gzip header cannot be read or is not valid.
+     */
+    public InputStream gunzip(final InputStream in, final int bufferSize) throws IOException {
+        return new PooledGZipInputStream(in, nowrapInflaters, bufferSize);
+    }
+
+    /**
+     * Get the number of idle deflaters kept in the pool.
+     *
+     * @return number of idle deflaters.
+     */
+    int getIdleDeflaterCount() {
+        return deflaters.idleCount.get() + nowrapDeflaters.idleCount.get();
+    }
+
+    /**
+     * Get the number of idle inflaters kept in the pool.
+     *
+     * @return number of idle inflaters.
+     */
+    int getIdleInflaterCount() {
+        return inflaters.idleCount.get() + nowrapInflaters.idleCount.get();
+    }
+
+    private static final class Pool<T> {
+
+        private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+        private final int size;
+        private final Supplier<T> factory;
+        private final Consumer<T> reset;
+        private final Consumer<T> end;
+
+        private Pool(final int size, final Supplier<T> factory, final Consumer<T> reset, final Consumer<T> end) {
+            this.size = size;
+            this.factory = factory;
+            this.reset = reset;
+            this.end = end;
+        }
+
+        private T acquire() {
+            final T value = idle.poll();
+            if (value == null) {
+                return factory.get();
+            }
+            idleCount.decrementAndGet();
+            return value;
+        }
+
+        private void release(final T value) {
+            if (idleCount.incrementAndGet() <= size) {
+                reset.accept(value);
+                idle.offer(value);
+            } else {
+                idleCount.decrementAndGet();
+                end.accept(value);
+            }
+        }
+    }
+
+    private static class PooledDeflaterOutputStream extends DeflaterOutputStream {
+
+        private final Pool<Deflater> pool;
+        private boolean released;
+
+        private PooledDeflaterOutputStream(final OutputStream out, final Pool<Deflater> pool, final int bufferSize) {
+            super(out, pool.acquire(), bufferSize);
+            this.pool = pool;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            ensureOpen();
+            super.write(b, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            ensureOpen();
+            super.finish();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            super.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (released) {
+                return;
+            }
+            try {
+                super.close();
+            } finally {
+                // the deflater must not be used once it is returned to the pool
+                released = true;
+                pool.release(def);
+            }
+        }
+
+        final void ensureOpen() throws IOException {
+            if (released) {
+                throw new IOException(LocalizationMessages.OUTPUT_STREAM_CLOSED());
+            }
+        }
+    }
+
+    private static final class PooledGZipOutputStream extends PooledDeflaterOutputStream {
+
+        private final CRC32 crc = new CRC32();
+
+        private PooledGZipOutputStream(final OutputStream out, final Pool<Deflater> pool, final int bufferSize)
+                throws IOException {
+            super(out, pool, bufferSize);
+            out.write(GZIP_HEADER);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            super.write(b, off, len);
+            crc.update(b, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            ensureOpen();
+            if (!def.finished()) {
+                def.finish();
+                while (!def.finished()) {
+                    deflate();
+                }
+                final byte[] trailer = new byte[8];
+                writeInt((int) crc.getValue(), trailer, 0);
+                writeInt(def.getTotalIn(), trailer, 4);
+                out.write(trailer);
+            }
+        }
+
+        private static void writeInt(final int value, final byte[] buf, final int offset) {
+            buf[offset] = (byte) value;
+            buf[offset + 1] = (byte) (value >> 8);
+            buf[offset + 2] = (byte) (value >> 16);
+            buf[offset + 3] = (byte) (value >> 24);
+        }
+    }
+
+    private static class PooledInflaterInputStream extends InflaterInputStream {
+
+        private final Pool<Inflater> pool;
+        private boolean released;
+
+        private PooledInflaterInputStream(final InputStream in, final Pool<Inflater> pool, final int bufferSize) {
+            super(in, pool.acquire(), bufferSize);
+            this.pool = pool;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (released) {
+                return;
+            }
+            try {
+                super.close();
+            } finally {
+                // the closed stream does not touch the inflater any more
+                released = true;
+                pool.release(inf);
+            }
+        }
+    }
+
+    /**
+     * Reads the gzip members the same way as {@link java.util.zip.GZIPInputStream} does, using a pooled inflater.
+     */
+    private static final class PooledGZipInputStream extends PooledInflaterInputStream {
+
+        private final CRC32 crc = new CRC32();
+        private final byte[] skipBuffer = new byte[128];
+        private boolean eos;
+
+        private PooledGZipInputStream(final InputStream in, final Pool<Inflater> pool, final int bufferSize)
+                throws IOException {
+            super(in, pool, bufferSize);
+            try {
+                readHeader(in);
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (eos) {
+                return -1;
+            }
+            final int n = super.read(b, off, len);
+            if (n == -1) {
+                if (readTrailer()) {
+                    eos = true;
+                } else {
+                    return read(b, off, len);
+                }
+            } else {
+                crc.update(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return eos ? 0 : super.available();
+        }
+
+        private int readHeader(final InputStream stream) throws IOException {
+            final CheckedInputStream in = new CheckedInputStream(stream, crc);
+            crc.reset();
+            if (readUShort(in) != GZIP_MAGIC) {
+                throw new ZipException("Not in GZIP format");
+            }
+            if (readUByte(in) != Deflater.DEFLATED) {
+                throw new ZipException("Unsupported compression method");
+            }
+            final int flags = readUByte(in);
+            // modification time, extra flags and operating system
+            skipBytes(in, 6);
+            int n = 2 + 2 + 6;
+            if ((flags & FEXTRA) == FEXTRA) {
+                final int m = readUShort(in);
+                skipBytes(in, m);
+                n += m + 2;
+            }
+            if ((flags & FNAME) == FNAME) {
+                do {
+                    n++;
+                } while (readUByte(in) != 0);
+            }
+            if ((flags & FCOMMENT) == FCOMMENT) {
+                do {
+                    n++;
+                } while (readUByte(in) != 0);
+            }
+            if ((flags & FHCRC) == FHCRC) {
+                final int v = (int) crc.getValue() & 0xffff;
+                if (readUShort(in) != v) {
+                    throw new ZipException("Corrupt GZIP header");
+                }
+                n += 2;
+            }
+            crc.reset();
+            return n;
+        }
+
+        private boolean readTrailer() throws IOException {
+            InputStream in = this.in;
+            final int n = inf.getRemaining();
+            if (n > 0) {
+                in = new SequenceInputStream(new ByteArrayInputStream(buf, len - n, n), new FilterInputStream(in) {
+                    @Override
+                    public void close() {
+                    }
+                });
+            }
+            if (readUInt(in) != crc.getValue() || readUInt(in) != (inf.getBytesWritten() & 0xffffffffL)) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+            // more bytes available may be another gzip member, the smallest member has 26 bytes
+            if (this.in.available() > 0 || n > 26) {
+                int m = 8;
+                try {
+                    m += readHeader(in);
+                } catch (IOException e) {
+                    // not a gzip member, ignore the trailing garbage
+                    return true;
+                }
+                inf.reset();
+                if (n > m) {
+                    inf.setInput(buf, len - n + m, n - m);
+                }
+                return false;
+            }
+            return true;
+        }
+
+        private long readUInt(final InputStream in) throws IOException {
+            final long s = readUShort(in);
+            return ((long) readUShort(in) << 16) | s;
+        }
+
+        private int readUShort(final InputStream in) throws IOException {
+            final int b = readUByte(in);
+            return (readUByte(in) << 8) | b;
+        }
+
+        private int readUByte(final InputStream in) throws IOException {
+            final int b = in.read();
+            if (b == -1) {
+                throw new EOFException();
+            }
+            return b;
+        }
+
+        private void skipBytes(final InputStream in, int n) throws IOException {
+            while (n > 0) {
+                final int read = in.read(skipBuffer, 0, Math.min(n, skipBuffer.length));
+                if (read == -1) {
+                    throw new EOFException();
+                }
+                n -= read;
+            }
+        }
+    }
+}
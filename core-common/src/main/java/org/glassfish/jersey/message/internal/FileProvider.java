@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,6 +23,7 @@ import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 
 import jakarta.ws.rs.Consumes;
@@ -32,6 +33,8 @@ import jakarta.ws.rs.core.MultivaluedMap;
 
 import jakarta.inject.Singleton;
 
+import org.glassfish.jersey.io.spi.FileRegionOutput;
+
 /**
  * Provider for marshalling/un-marshalling of {@code application/octet-stream}
  * entity type to/from a {@link File} instance.
@@ -82,7 +85,8 @@ public final class FileProvider extends AbstractMessageReaderWriterProvider<File
                         final MediaType mediaType,
                         final MultivaluedMap<String, Object> httpHeaders,
                         final OutputStream entityStream) throws IOException {
-        Files.copy(t.toPath(), entityStream);
+        final Path path = t.toPath();
+        FileRegionOutput.write(entityStream, path, 0, Files.size(path));
     }
 
     @Override
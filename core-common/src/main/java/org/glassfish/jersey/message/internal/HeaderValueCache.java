@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message.internal;
+
+import java.security.AccessController;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.internal.util.collection.LRU;
+import org.glassfish.jersey.message.MessageProperties;
+
+/**
+ * Bounded cache of parsed HTTP header values shared by all the messages processed in the JVM.
+ * <p>
+ * Each kind of header (e.g. {@code Accept}, {@code Accept-Language}) has its own cache so that the headers with many distinct
+ * values do not evict the values of the other headers. The cached values must be immutable. The caches are configured by the
+ * {@link MessageProperties#HEADER_CACHE_SIZE} and {@link MessageProperties#HEADER_CACHE_EXPIRY} properties and keep the
+ * hit and miss counts, all the caches created so far are available from {@link #getCaches()}.
+ * </p>
+ * <p>
+ * The caches are shared by all the applications in the JVM, hence the properties are read from the system properties
+ * once, when a cache is created, and not from the configuration of an application.
+ * </p>
+ *
+ * @param <V> parsed header value type.
+ * @since 4.1.0
+ */
+public final class HeaderValueCache<V> {
+
+    private static final Logger LOGGER = Logger.getLogger(HeaderValueCache.class.getName());
+
+    private static final Map<String, HeaderValueCache<?>> CACHES = new ConcurrentSkipListMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    /**
+     * Header value parser.
+     *
+     * @param <V> parsed header value type.
+     */
+    @FunctionalInterface
+    interface Parser<V> {
+
+        /**
+         * Parse the header value.
+         *
+         * @param header header value.
+         * @return parsed header value.
+         * @throws ParseException in case of a header parsing error.
+         */
+        V parse(String header) throws ParseException;
+    }
+
+    private final String name;
+    private volatile int maximumSize;
+    private volatile long expiry;
+    private volatile LRU<String, V> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create new header value cache and register it among the {@link #getCaches() caches}.
+     *
+     * @param name name of the cache, typically the name of the cached header.
+     * @param <V>  parsed header value type.
+     * @return new header value cache.
+     */
+    static <V> HeaderValueCache<V> create(final String name) {
+        final int size = getIntProperty(
+                sizeProperty(name),
+                getIntProperty(MessageProperties.HEADER_CACHE_SIZE, MessageProperties.HEADER_CACHE_DEFAULT_SIZE));
+        final int expiry = getIntProperty(MessageProperties.HEADER_CACHE_EXPIRY, MessageProperties.HEADER_CACHE_DEFAULT_EXPIRY);
+
+        final HeaderValueCache<V> cache = new HeaderValueCache<>(name);
+        cache.configure(size, expiry);
+        CACHES.put(name, cache);
+        return cache;
+    }
+
+    private static String sizeProperty(final String name) {
+        return MessageProperties.HEADER_CACHE_SIZE + "." + name.toLowerCase(Locale.ROOT);
+    }
+
+    private HeaderValueCache(final String name) {
+        this.name = name;
+    }
+
+    private synchronized void configure(final int size, final long expiry) {
+        final int maximumSize = Math.max(size, 0);
+        if (cache != null && maximumSize == this.maximumSize && expiry == this.expiry) {
+            return;
+        }
+        this.maximumSize = maximumSize;
+        this.expiry = expiry;
+        this.cache = maximumSize > 0 ? LRU.create(maximumSize, expiry, TimeUnit.MILLISECONDS) : null;
+    }
+
+    private static int getIntProperty(final String name, final int defaultValue) {
+        final String value = AccessController.doPrivileged(PropertiesHelper.getSystemProperty(name));
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.CONFIG,
+                        "Value of " + name + " property is not a valid integer [" + value + "]."
+                                + " Reverting to default [" + defaultValue + "].",
+                        e);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Get all the header value caches, keyed by their (case-insensitive) names.
+     *
+     * @return read-only map of the header value caches.
+     */
+    public static Map<String, HeaderValueCache<?>> getCaches() {
+        return Collections.unmodifiableMap(CACHES);
+    }
+
+    /**
+     * Get the parsed header value from the cache or parse the header value and cache the result if it is not cached yet.
+     * <p>
+     * The header values are parsed without any locking, concurrent misses of the same header value may parse it more than
+     * once. Header values that fail to parse are not cached.
+     * </p>
+     *
+     * @param header header value.
+     * @param parser header value parser.
+     * @return parsed header value.
+     * @throws ParseException in case of a header parsing error.
+     */
+    V get(final String header, final Parser<V> parser) throws ParseException {
+        final LRU<String, V> cache = this.cache;
+        if (cache == null) {
+            misses.increment();
+            return parser.parse(header);
+        }
+
+        V value = cache.getIfPresent(header);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        value = parser.parse(header);
+        cache.put(header, value);
+        return value;
+    }
+
+    /**
+     * Get the name of the cache.
+     *
+     * @return name of the cache.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the maximum number of the header values kept in the cache, {@code 0} if the cache is disabled.
+     *
+     * @return maximum size of the cache.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Get the number of header values that were served from the cache.
+     *
+     * @return count of cache hits.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of header values that had to be parsed.
+     *
+     * @return count of cache misses.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the ratio of cache hits to all the cache lookups. If there has not been any lookup yet, {@code 0} is returned.
+     *
+     * @return ratio of cache hits in the range {@code [0, 1]}.
+     */
+    public double getHitRatio() {
+        final long hitCount = getHitCount();
+        final long total = hitCount + getMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "HeaderValueCache{name=" + name + ", maximumSize=" + maximumSize
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "}";
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,18 +23,15 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.NewCookie;
-import org.glassfish.jersey.internal.util.collection.LRU;
 
 /**
  * An abstract pull-based reader of HTTP headers.
@@ -383,12 +380,27 @@ public abstract class HttpHeaderReader {
     }
 
     /**
-     * TODO javadoc.
+     * Read the acceptable media types from the {@code Accept} header value.
+     *
+     * @param header {@code Accept} header value.
+     * @return list of acceptable media types sorted according to their q-value, with highest preference first.
+     * @throws ParseException in case of a header parsing error.
      */
     public static List<AcceptableMediaType> readAcceptMediaType(String header) throws ParseException {
         return ACCEPTABLE_MEDIA_TYPE_LIST_READER.readList(header);
     }
 
+    /**
+     * Read the acceptable media types from the {@code Accept} header value without copying the cached list.
+     *
+     * @param header {@code Accept} header value.
+     * @return read-only, possibly shared, list of acceptable media types sorted according to their q-value.
+     * @throws ParseException in case of a header parsing error.
+     */
+    static List<AcceptableMediaType> readCachedAcceptMediaType(String header) throws ParseException {
+        return ACCEPTABLE_MEDIA_TYPE_LIST_READER.readCachedList(header);
+    }
+
     /**
      * FIXME use somewhere in production code or remove.
      */
@@ -433,12 +445,51 @@ public abstract class HttpHeaderReader {
     }
 
     /**
-     * TODO javadoc.
+     * Read the acceptable charsets from the {@code Accept-Charset} header value.
+     *
+     * @param header {@code Accept-Charset} header value.
+     * @return list of acceptable charsets sorted according to their q-value, with highest preference first.
+     * @throws ParseException in case of a header parsing error.
+     * @since 4.1.0
+     */
+    public static List<AcceptableToken> readAcceptCharset(String header) throws ParseException {
+        return ACCEPT_CHARSET_LIST_READER.readList(header);
+    }
+
+    /**
+     * Read the acceptable encodings from the {@code Accept-Encoding} header value.
+     *
+     * @param header {@code Accept-Encoding} header value.
+     * @return list of acceptable encodings sorted according to their q-value, with highest preference first.
+     * @throws ParseException in case of a header parsing error.
+     * @since 4.1.0
+     */
+    public static List<AcceptableToken> readAcceptEncoding(String header) throws ParseException {
+        return ACCEPT_ENCODING_LIST_READER.readList(header);
+    }
+
+    /**
+     * Read the acceptable languages from the {@code Accept-Language} header value.
+     *
+     * @param header {@code Accept-Language} header value.
+     * @return list of acceptable languages sorted according to their q-value, with highest preference first.
+     * @throws ParseException in case of a header parsing error.
      */
     public static List<AcceptableLanguageTag> readAcceptLanguage(String header) throws ParseException {
         return ACCEPTABLE_LANGUAGE_TAG_LIST_READER.readList(header);
     }
 
+    /**
+     * Read the acceptable languages from the {@code Accept-Language} header value without copying the cached list.
+     *
+     * @param header {@code Accept-Language} header value.
+     * @return read-only, possibly shared, list of acceptable languages sorted according to their q-value.
+     * @throws ParseException in case of a header parsing error.
+     */
+    static List<AcceptableLanguageTag> readCachedAcceptLanguage(String header) throws ParseException {
+        return ACCEPTABLE_LANGUAGE_TAG_LIST_READER.readCachedList(header);
+    }
+
     /**
      * TODO javadoc.
      */
@@ -450,7 +501,11 @@ public abstract class HttpHeaderReader {
     private static final AcceptableMediaTypeListReader ACCEPTABLE_MEDIA_TYPE_LIST_READER = new AcceptableMediaTypeListReader();
     private static final QualitySourceMediaTypeListReader QUALITY_SOURCE_MEDIA_TYPE_LIST_READER =
             new QualitySourceMediaTypeListReader();
-    private static final AcceptableTokenListReader ACCEPTABLE_TOKEN_LIST_READER = new AcceptableTokenListReader();
+    private static final AcceptableTokenListReader ACCEPTABLE_TOKEN_LIST_READER = new AcceptableTokenListReader("tokens");
+    private static final AcceptableTokenListReader ACCEPT_CHARSET_LIST_READER =
+            new AcceptableTokenListReader(HttpHeaders.ACCEPT_CHARSET);
+    private static final AcceptableTokenListReader ACCEPT_ENCODING_LIST_READER =
+            new AcceptableTokenListReader(HttpHeaders.ACCEPT_ENCODING);
     private static final AcceptableLanguageTagListReader ACCEPTABLE_LANGUAGE_TAG_LIST_READER =
             new AcceptableLanguageTagListReader();
     private static final StringListReader STRING_LIST_READER = new StringListReader();
@@ -470,7 +525,7 @@ public abstract class HttpHeaderReader {
         }
 
         private MediaTypeListReader() {
-            super(MEDIA_TYPE_CREATOR);
+            super(MEDIA_TYPE_CREATOR, "media-types");
         }
     }
 
@@ -484,7 +539,7 @@ public abstract class HttpHeaderReader {
                     }
                 };
         private AcceptableMediaTypeListReader() {
-            super(ACCEPTABLE_MEDIA_TYPE_CREATOR, AcceptableMediaType.COMPARATOR);
+            super(ACCEPTABLE_MEDIA_TYPE_CREATOR, AcceptableMediaType.COMPARATOR, HttpHeaders.ACCEPT);
         }
     }
     /*
@@ -500,7 +555,7 @@ public abstract class HttpHeaderReader {
                     }
                 };
         private QualitySourceMediaTypeListReader() {
-            super(QUALITY_SOURCE_MEDIA_TYPE_CREATOR, QualitySourceMediaType.COMPARATOR);
+            super(QUALITY_SOURCE_MEDIA_TYPE_CREATOR, QualitySourceMediaType.COMPARATOR, "quality-source-media-types");
         }
     }
 
@@ -509,7 +564,7 @@ public abstract class HttpHeaderReader {
      */
     private static class AcceptMediaTypeListReader extends QualifiedListReader<AcceptableMediaType> {
         AcceptMediaTypeListReader(List<QualitySourceMediaType> priorityMediaTypes) {
-            super(ACCEPTABLE_MEDIA_TYPE_CREATOR, new AcceptableMediaTypeComparator(priorityMediaTypes));
+            super(ACCEPTABLE_MEDIA_TYPE_CREATOR, new AcceptableMediaTypeComparator(priorityMediaTypes), null);
         }
 
         private static final ListElementCreator<AcceptableMediaType> ACCEPTABLE_MEDIA_TYPE_CREATOR =
@@ -570,8 +625,8 @@ public abstract class HttpHeaderReader {
                         return new AcceptableToken(reader);
                     }
                 };
-        private AcceptableTokenListReader() {
-            super(ACCEPTABLE_TOKEN_CREATOR);
+        private AcceptableTokenListReader(String cacheName) {
+            super(ACCEPTABLE_TOKEN_CREATOR, cacheName);
         }
     }
 
@@ -585,27 +640,28 @@ public abstract class HttpHeaderReader {
                     }
                 };
         private AcceptableLanguageTagListReader() {
-            super(LANGUAGE_CREATOR);
+            super(LANGUAGE_CREATOR, HttpHeaders.ACCEPT_LANGUAGE);
         }
     }
 
     private abstract static class QualifiedListReader<T extends Qualified> extends ListReader<T> {
-        @Override
-        public List<T> readList(String header) throws ParseException {
-            List<T> l = super.readList(header);
-            Collections.sort(l, comparator);
-            return l;
-        }
-
         private final Comparator<T> comparator;
-        private QualifiedListReader(ListElementCreator<T> creator) {
-            this(creator, (Comparator<T>) Quality.QUALIFIED_COMPARATOR);
+
+        private QualifiedListReader(ListElementCreator<T> creator, String cacheName) {
+            this(creator, (Comparator<T>) Quality.QUALIFIED_COMPARATOR, cacheName);
         }
 
-        protected QualifiedListReader(ListElementCreator<T> creator, Comparator<T> comparator) {
-            super(creator);
+        protected QualifiedListReader(ListElementCreator<T> creator, Comparator<T> comparator, String cacheName) {
+            super(creator, cacheName);
             this.comparator = comparator;
         }
+
+        @Override
+        protected List<T> parse(String header) throws ParseException {
+            List<T> l = super.parse(header);
+            Collections.sort(l, comparator);
+            return l;
+        }
     }
 
     private static class StringListReader extends ListReader<String> {
@@ -618,54 +674,59 @@ public abstract class HttpHeaderReader {
         };
 
         private StringListReader() {
-            super(listElementCreator);
+            super(listElementCreator, "strings");
         }
     }
 
     private abstract static class ListReader<T> {
-        private final LRU<String, List<T>> LIST_CACHE = LRU.create();
-        private final Lock lock = new ReentrantLock();
+        private final HeaderValueCache<List<T>> cache;
         protected final ListElementCreator<T> creator;
 
-        protected ListReader(ListElementCreator<T> creator) {
+        /**
+         * Create new list reader.
+         *
+         * @param creator   list element creator.
+         * @param cacheName name of the {@link HeaderValueCache} of the read lists, {@code null} if the lists are not cached.
+         */
+        protected ListReader(ListElementCreator<T> creator, String cacheName) {
             this.creator = creator;
+            this.cache = cacheName == null ? null : HeaderValueCache.create(cacheName);
         }
 
+        /**
+         * Read the list from the header value. The returned list is a copy owned by the caller.
+         */
         protected List<T> readList(final String header) throws ParseException {
-            return readList(new ArrayList<T>(), header);
-        }
-
-        private List<T> readList(final List<T> l, final String header)
-                throws ParseException {
-
-//            List<T> list = null;
-            List<T> list = LIST_CACHE.getIfPresent(header);
-
-            if (list == null) {
-                lock.lock();
-                try {
-                    list = LIST_CACHE.getIfPresent(header);
-                    if (list == null) {
-                        HttpHeaderReader reader = new HttpHeaderReaderImpl(header);
-                        HttpHeaderListAdapter adapter = new HttpHeaderListAdapter(reader);
-                        list = new LinkedList<>();
-
-                        while (reader.hasNext()) {
-                            list.add(creator.create(adapter));
-                            adapter.reset();
-                            if (reader.hasNext()) {
-                                reader.next();
-                            }
-                        }
-                        LIST_CACHE.put(header, list);
-                    }
-                } finally {
-                    lock.unlock();
-                }
-            }
+            return cache == null ? parse(header) : new ArrayList<>(readCachedList(header));
+        }
+
+        /**
+         * Read the list from the header value. The returned list is read-only and may be shared.
+         */
+        List<T> readCachedList(final String header) throws ParseException {
+            return cache == null
+                    ? Collections.unmodifiableList(parse(header))
+                    : cache.get(header, h -> Collections.unmodifiableList(parse(h)));
+        }
 
-            l.addAll(list);
+        private List<T> readList(final List<T> l, final String header) throws ParseException {
+            l.addAll(readCachedList(header));
             return l;
         }
+
+        protected List<T> parse(final String header) throws ParseException {
+            HttpHeaderReader reader = new HttpHeaderReaderImpl(header);
+            HttpHeaderListAdapter adapter = new HttpHeaderListAdapter(reader);
+            List<T> list = new ArrayList<>();
+
+            while (reader.hasNext()) {
+                list.add(creator.create(adapter));
+                adapter.reset();
+                if (reader.hasNext()) {
+                    reader.next();
+                }
+            }
+            return list;
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -86,6 +86,10 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
     private static final Annotation[] EMPTY_ANNOTATIONS = new Annotation[0];
     private static final List<AcceptableMediaType> WILDCARD_ACCEPTABLE_TYPE_SINGLETON_LIST =
             Collections.singletonList(MediaTypes.WILDCARD_ACCEPTABLE_TYPE);
+    private static final List<AcceptableLanguageTag> WILDCARD_ACCEPTABLE_LANGUAGE_SINGLETON_LIST =
+            Collections.singletonList(new AcceptableLanguageTag("*", null));
+    private static final List<AcceptableToken> WILDCARD_ACCEPTABLE_TOKEN_SINGLETON_LIST =
+            Collections.singletonList(new AcceptableToken("*"));
 
     private final GuardianStringKeyMultivaluedMap<String> headers;
     private final EntityContent entityContent;
@@ -427,7 +431,7 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
             }
 
             try {
-                return Collections.unmodifiableList(HttpHeaderReader.readAcceptMediaType(value));
+                return HttpHeaderReader.readCachedAcceptMediaType(value);
             } catch (ParseException e) {
                 throw exception(HttpHeaders.ACCEPT, value, e);
             }
@@ -444,11 +448,11 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
         final String value = getHeaderString(HttpHeaders.ACCEPT_LANGUAGE);
 
         if (value == null || value.isEmpty()) {
-            return Collections.singletonList(new AcceptableLanguageTag("*", null));
+            return WILDCARD_ACCEPTABLE_LANGUAGE_SINGLETON_LIST;
         }
 
         try {
-            return Collections.unmodifiableList(HttpHeaderReader.readAcceptLanguage(value));
+            return HttpHeaderReader.readCachedAcceptLanguage(value);
         } catch (ParseException e) {
             throw exception(HttpHeaders.ACCEPT_LANGUAGE, value, e);
         }
@@ -464,9 +468,9 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
         final String acceptCharset = getHeaderString(HttpHeaders.ACCEPT_CHARSET);
         try {
             if (acceptCharset == null || acceptCharset.isEmpty()) {
-                return Collections.singletonList(new AcceptableToken("*"));
+                return WILDCARD_ACCEPTABLE_TOKEN_SINGLETON_LIST;
             }
-            return HttpHeaderReader.readAcceptToken(acceptCharset);
+            return HttpHeaderReader.readAcceptCharset(acceptCharset);
         } catch (java.text.ParseException e) {
             throw exception(HttpHeaders.ACCEPT_CHARSET, acceptCharset, e);
         }
@@ -476,15 +480,15 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
      * Get the list of language tag from the "Accept-Charset" of an HTTP request.
      *
      * @return The list of AcceptableToken. This list
-     * is ordered with the highest quality acceptable charset occurring first.
+     * is ordered with the highest quality acceptable encoding occurring first.
      */
     public List<AcceptableToken> getQualifiedAcceptEncoding() {
         final String acceptEncoding = getHeaderString(HttpHeaders.ACCEPT_ENCODING);
         try {
             if (acceptEncoding == null || acceptEncoding.isEmpty()) {
-                return Collections.singletonList(new AcceptableToken("*"));
+                return WILDCARD_ACCEPTABLE_TOKEN_SINGLETON_LIST;
             }
-            return HttpHeaderReader.readAcceptToken(acceptEncoding);
+            return HttpHeaderReader.readAcceptEncoding(acceptEncoding);
         } catch (java.text.ParseException e) {
             throw exception("Accept-Encoding", acceptEncoding, e);
         }
@@ -19,6 +19,7 @@ package org.glassfish.jersey.message.internal;
 import java.text.ParseException;
 import java.util.Map;
 
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 
 import jakarta.inject.Singleton;
@@ -38,6 +39,7 @@ import static org.glassfish.jersey.message.internal.Utils.throwIllegalArgumentEx
 public class MediaTypeProvider implements HeaderDelegateProvider<MediaType> {
 
     private static final String MEDIA_TYPE_IS_NULL = LocalizationMessages.MEDIA_TYPE_IS_NULL();
+    private static final HeaderValueCache<MediaType> MEDIA_TYPE_CACHE = HeaderValueCache.create(HttpHeaders.CONTENT_TYPE);
 
     @Override
     public boolean supports(Class<?> type) {
@@ -64,7 +66,7 @@ public class MediaTypeProvider implements HeaderDelegateProvider<MediaType> {
         throwIllegalArgumentExceptionIfNull(header, MEDIA_TYPE_IS_NULL);
 
         try {
-            return valueOf(HttpHeaderReader.newInstance(header));
+            return MEDIA_TYPE_CACHE.get(header, h -> valueOf(HttpHeaderReader.newInstance(h)));
         } catch (ParseException ex) {
             throw new IllegalArgumentException(
                     "Error parsing media type '" + header + "'", ex);
@@ -24,6 +24,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -35,6 +36,8 @@ import jakarta.ws.rs.core.MultivaluedMap;
 
 import jakarta.inject.Singleton;
 
+import org.glassfish.jersey.io.spi.FileRegionOutput;
+
 /**
  * Provider for marshalling/un-marshalling of {@code application/octet-stream}
  * entity type to/from a {@link Path} instance.
@@ -82,6 +85,10 @@ public final class PathProvider extends AbstractMessageReaderWriterProvider<Path
             final MediaType mediaType,
             final MultivaluedMap<String, Object> httpHeaders,
             final OutputStream entityStream) throws IOException {
-        Files.copy(t, entityStream);
+        if (t.getFileSystem() == FileSystems.getDefault()) {
+            FileRegionOutput.write(entityStream, t, 0, Files.size(t));
+        } else {
+            Files.copy(t, entityStream);
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.List;
 import java.util.logging.Level;
@@ -40,6 +41,7 @@ import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.inject.InjectionManagerSupplier;
+import org.glassfish.jersey.io.spi.FileRegionOutput;
 import org.glassfish.jersey.message.MessageBodyWorkers;
 
 /**
@@ -251,7 +253,7 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
      * {@link jakarta.ws.rs.ext.MessageBodyWriter}s should not close the given {@link java.io.OutputStream stream}. This output
      * stream makes sure that the stream is not closed even if MBW tries to do it.
      */
-    private static class UnCloseableOutputStream extends OutputStream {
+    private static class UnCloseableOutputStream extends OutputStream implements FileRegionOutput {
 
         private final OutputStream original;
         private final MessageBodyWriter writer;
@@ -276,6 +278,12 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
             original.write(b, off, len);
         }
 
+        @Override
+        public boolean writeFileRegion(final Path file, final long position, final long count) throws IOException {
+            return original instanceof FileRegionOutput
+                    && ((FileRegionOutput) original).writeFileRegion(file, position, count);
+        }
+
         @Override
         public void flush() throws IOException {
             original.flush();
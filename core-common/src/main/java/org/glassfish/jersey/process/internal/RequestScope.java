@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,16 +16,22 @@
 
 package org.glassfish.jersey.process.internal;
 
+import java.security.AccessController;
 import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.glassfish.jersey.CommonProperties;
+import org.glassfish.jersey.innate.ScopedValueSupport;
+import org.glassfish.jersey.innate.virtual.ScopedBinding;
 import org.glassfish.jersey.internal.BootstrapBag;
 import org.glassfish.jersey.internal.BootstrapConfigurator;
 import org.glassfish.jersey.internal.Errors;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
 import org.glassfish.jersey.internal.util.Producer;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
 
 import static org.glassfish.jersey.internal.guava.Preconditions.checkState;
 
@@ -96,6 +102,16 @@ import static org.glassfish.jersey.internal.guava.Preconditions.checkState;
  * which may change it's state during each request-scoped task execution for
  * which this scope context is used.
  * </p>
+ * <p>
+ * A task which continues the request processing asynchronously, e.g. on another thread, can be
+ * {@link #propagate(Runnable) wrapped} to run in the request scope current when the task is created.
+ * </p>
+ * <p>
+ * The current scope context is kept in a {@code ThreadLocal} by default. When the
+ * {@link CommonProperties#REQUEST_SCOPE_SCOPED_VALUE} system property is enabled and the JDK supports it,
+ * the current scope context is bound to a {@code java.lang.ScopedValue} for the execution of each
+ * request-scoped task instead.
+ * </p>
  *
  * @author Marek Potociar
  * @author Miroslav Fuksa
@@ -104,10 +120,18 @@ public abstract class RequestScope {
 
     private static final ExtendedLogger logger = new ExtendedLogger(Logger.getLogger(RequestScope.class.getName()), Level.FINEST);
 
+    private static final boolean USE_SCOPED_VALUE = ScopedValueSupport.isSupported()
+            && Boolean.parseBoolean(AccessController.doPrivileged(
+                    PropertiesHelper.getSystemProperty(CommonProperties.REQUEST_SCOPE_SCOPED_VALUE, "false")));
+
+    /**
+     * A thread local copy of the current scope context, {@code null} when the scoped value is used.
+     */
+    private final ThreadLocal<RequestContext> currentRequestContext = USE_SCOPED_VALUE ? null : new ThreadLocal<>();
     /**
-     * A thread local copy of the current scope context.
+     * A scoped value binding of the current scope context, {@code null} when the thread local is used.
      */
-    private final ThreadLocal<RequestContext> currentRequestContext = new ThreadLocal<>();
+    private final ScopedBinding<RequestContext> scopedRequestContext = USE_SCOPED_VALUE ? ScopedValueSupport.newBinding() : null;
     private volatile boolean isActive = true;
 
     public boolean isActive() {
@@ -149,7 +173,7 @@ public abstract class RequestScope {
     public RequestContext current() {
         checkState(isActive, "Request scope has been already shut down.");
 
-        final RequestContext scopeInstance = currentRequestContext.get();
+        final RequestContext scopeInstance = getCurrent();
         checkState(scopeInstance != null, "Not inside a request scope.");
 
         return scopeInstance;
@@ -157,7 +181,11 @@ public abstract class RequestScope {
 
     private RequestContext retrieveCurrent() {
         checkState(isActive, "Request scope has been already shut down.");
-        return currentRequestContext.get();
+        return getCurrent();
+    }
+
+    private RequestContext getCurrent() {
+        return currentRequestContext != null ? currentRequestContext.get() : scopedRequestContext.get();
     }
 
     /**
@@ -225,7 +253,9 @@ public abstract class RequestScope {
      */
     protected void activate(RequestContext context, RequestContext oldContext) {
         checkState(isActive, "Request scope has been already shut down.");
-        currentRequestContext.set(context);
+        if (currentRequestContext != null) {
+            currentRequestContext.set(context);
+        }
     }
 
     /**
@@ -234,7 +264,9 @@ public abstract class RequestScope {
      * @param context storage with request scoped objects.
      */
     protected void resume(RequestContext context) {
-        currentRequestContext.set(context);
+        if (currentRequestContext != null) {
+            currentRequestContext.set(context);
+        }
     }
 
     /**
@@ -244,7 +276,9 @@ public abstract class RequestScope {
      */
     protected void release(RequestContext context) {
         context.release();
-        currentRequestContext.remove();
+        if (currentRequestContext != null) {
+            currentRequestContext.remove();
+        }
     }
 
     /**
@@ -262,8 +296,9 @@ public abstract class RequestScope {
     public void runInScope(RequestContext context, Runnable task) {
         final RequestContext oldContext = retrieveCurrent();
         try {
-            activate(context.getReference(), oldContext);
-            Errors.process(task);
+            final RequestContext reference = context.getReference();
+            activate(reference, oldContext);
+            processInContext(reference, task);
         } finally {
             release(context);
             resume(oldContext);
@@ -286,7 +321,7 @@ public abstract class RequestScope {
         final RequestContext context = createContext();
         try {
             activate(context, oldContext);
-            Errors.process(task);
+            processInContext(context, task);
         } finally {
             release(context);
             resume(oldContext);
@@ -311,8 +346,9 @@ public abstract class RequestScope {
     public <T> T runInScope(RequestContext context, Callable<T> task) throws Exception {
         final RequestContext oldContext = retrieveCurrent();
         try {
-            activate(context.getReference(), oldContext);
-            return Errors.process(task);
+            final RequestContext reference = context.getReference();
+            activate(reference, oldContext);
+            return processInContext(reference, task);
         } finally {
             release(context);
             resume(oldContext);
@@ -338,7 +374,7 @@ public abstract class RequestScope {
         final RequestContext context = createContext();
         try {
             activate(context, oldContext);
-            return Errors.process(task);
+            return processInContext(context, task);
         } finally {
             release(context);
             resume(oldContext);
@@ -362,8 +398,9 @@ public abstract class RequestScope {
     public <T> T runInScope(RequestContext context, Producer<T> task) {
         final RequestContext oldContext = retrieveCurrent();
         try {
-            activate(context.getReference(), oldContext);
-            return Errors.process(task);
+            final RequestContext reference = context.getReference();
+            activate(reference, oldContext);
+            return processInContext(reference, task);
         } finally {
             release(context);
             resume(oldContext);
@@ -388,13 +425,96 @@ public abstract class RequestScope {
         final RequestContext context = createContext();
         try {
             activate(context, oldContext);
-            return Errors.process(task);
+            return processInContext(context, task);
         } finally {
             release(context);
             resume(oldContext);
         }
     }
 
+    /**
+     * Wrap the task to run in the request scope current when this method is called. The method is intended for tasks
+     * continuing the request processing asynchronously, e.g. tasks submitted to an executor or registered
+     * as {@link java.util.concurrent.CompletionStage} callbacks.
+     * <p>
+     * The returned task holds a reference of the current {@link RequestContext request scope context}, which is released
+     * once the returned task is finished. The returned task must therefore be run exactly once. The task is returned
+     * unchanged when this method is not called in a request scope.
+     * </p>
+     *
+     * @param task task to be run in the current request scope.
+     * @return task running the {@code task} in the current request scope.
+     * @since 4.1.0
+     */
+    public Runnable propagate(Runnable task) {
+        final RequestContext context = retrieveCurrent();
+        if (context == null) {
+            return task;
+        }
+        final RequestContext reference = context.getReference();
+        return () -> {
+            try {
+                runInScope(reference, task);
+            } finally {
+                reference.release();
+            }
+        };
+    }
+
+    /**
+     * Wrap the task to run in the request scope current when this method is called, see {@link #propagate(Runnable)}.
+     *
+     * @param task task to be run in the current request scope.
+     * @param <T>  {@code task} result type.
+     * @return task running the {@code task} in the current request scope.
+     * @since 4.1.0
+     */
+    public <T> Supplier<T> propagate(Supplier<T> task) {
+        final RequestContext context = retrieveCurrent();
+        if (context == null) {
+            return task;
+        }
+        final RequestContext reference = context.getReference();
+        return () -> {
+            try {
+                return runInScope(reference, (Producer<T>) task::get);
+            } finally {
+                reference.release();
+            }
+        };
+    }
+
+    private void processInContext(RequestContext context, Runnable task) {
+        if (scopedRequestContext == null) {
+            Errors.process(task);
+        } else {
+            processInContext(context, (Producer<Void>) () -> {
+                Errors.process(task);
+                return null;
+            });
+        }
+    }
+
+    private <T> T processInContext(RequestContext context, Producer<T> task) {
+        if (scopedRequestContext == null) {
+            return Errors.process(task);
+        }
+        try {
+            return scopedRequestContext.call(context, () -> Errors.process(task));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // not thrown by a producer
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T processInContext(RequestContext context, Callable<T> task) throws Exception {
+        return scopedRequestContext == null
+                ? Errors.process(task)
+                : scopedRequestContext.call(context, () -> Errors.process(task));
+    }
+
     /**
      * Configurator which initializes and register {@link RequestScope} instance int {@link InjectionManager} and
      * {@link BootstrapBag}.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -93,6 +93,27 @@ public abstract class ContentEncoder implements ReaderInterceptor, WriterInterce
      */
     public abstract OutputStream encode(String contentEncoding, OutputStream entityStream) throws IOException;
 
+    /**
+     * Take the entity stream of the written message, wrap it and return a stream that is encoded using the specified
+     * encoding.
+     * <p>
+     * The default implementation calls {@link #encode(String, OutputStream)} with the
+     * {@link WriterInterceptorContext#getOutputStream() entity stream} of the message. Implementations may override
+     * the method to decide about the encoding based on the written message, e.g. to write the entity not encoded and
+     * remove the {@link HttpHeaders#CONTENT_ENCODING Content-Encoding} header before the message headers are committed.
+     * </p>
+     *
+     * @param contentEncoding Encoding to be used to encode the entity - guaranteed to be one of the supported encoding
+     *                        values.
+     * @param context Writer interceptor context of the written message.
+     * @return Encoded stream.
+     * @throws java.io.IOException if an IO error arises.
+     * @since 4.1.0
+     */
+    protected OutputStream encode(String contentEncoding, WriterInterceptorContext context) throws IOException {
+        return encode(contentEncoding, context.getOutputStream());
+    }
+
     @Override
     public final Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
         String contentEncoding = context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
@@ -108,7 +129,7 @@ public abstract class ContentEncoder implements ReaderInterceptor, WriterInterce
 
         String contentEncoding = (String) context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
         if (contentEncoding != null && getSupportedEncodings().contains(contentEncoding)) {
-            context.setOutputStream(encode(contentEncoding, context.getOutputStream()));
+            context.setOutputStream(encode(contentEncoding, context));
         }
         context.proceed();
     }
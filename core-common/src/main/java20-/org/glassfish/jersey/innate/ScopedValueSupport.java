@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.innate;
+
+import org.glassfish.jersey.innate.virtual.ScopedBinding;
+
+/**
+ * Utility class for the {@code java.lang.ScopedValue} support. Scoped values are not available on this JDK.
+ */
+public final class ScopedValueSupport {
+
+    /**
+     * Do not instantiate.
+     */
+    private ScopedValueSupport() {
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Informs whether the scoped values are available.
+     * @return true when the {@link #newBinding()} can be used.
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Create a new {@link ScopedBinding} backed by a new {@code java.lang.ScopedValue}.
+     * @param <T> type of the bound value.
+     * @return never returns, the scoped values are not available.
+     * @throws UnsupportedOperationException always.
+     */
+    public static <T> ScopedBinding<T> newBinding() {
+        throw new UnsupportedOperationException("java.lang.ScopedValue");
+    }
+}
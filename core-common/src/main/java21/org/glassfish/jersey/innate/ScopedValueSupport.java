@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.innate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.innate.virtual.ScopedBinding;
+
+/**
+ * Utility class for the {@code java.lang.ScopedValue} support.
+ * <p>
+ * The scoped values are a preview API up to JDK 24, the final API of JDK 25+ is used through method handles,
+ * so that this class can be compiled for JDK 21.
+ * </p>
+ */
+public final class ScopedValueSupport {
+
+    private static final Logger LOGGER = Logger.getLogger(ScopedValueSupport.class.getName());
+    private static final int SCOPED_VALUE_FEATURE_VERSION = 25;
+
+    private static final MethodHandle NEW_INSTANCE;
+    private static final MethodHandle WHERE;
+    private static final MethodHandle RUN;
+    private static final MethodHandle IS_BOUND;
+    private static final MethodHandle GET;
+
+    static {
+        MethodHandle newInstance = null;
+        MethodHandle where = null;
+        MethodHandle run = null;
+        MethodHandle isBound = null;
+        MethodHandle get = null;
+        if (Runtime.version().feature() >= SCOPED_VALUE_FEATURE_VERSION) {
+            try {
+                final Class<?> scopedValue = Class.forName("java.lang.ScopedValue");
+                final Class<?> carrier = Class.forName("java.lang.ScopedValue$Carrier");
+                final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                newInstance = lookup.findStatic(scopedValue, "newInstance", MethodType.methodType(scopedValue))
+                        .asType(MethodType.methodType(Object.class));
+                where = lookup.findStatic(scopedValue, "where", MethodType.methodType(carrier, scopedValue, Object.class))
+                        .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+                run = lookup.findVirtual(carrier, "run", MethodType.methodType(void.class, Runnable.class))
+                        .asType(MethodType.methodType(void.class, Object.class, Runnable.class));
+                isBound = lookup.findVirtual(scopedValue, "isBound", MethodType.methodType(boolean.class))
+                        .asType(MethodType.methodType(boolean.class, Object.class));
+                get = lookup.findVirtual(scopedValue, "get", MethodType.methodType(Object.class))
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                LOGGER.log(Level.FINE, "java.lang.ScopedValue is not available.", e);
+                newInstance = null;
+            }
+        }
+        NEW_INSTANCE = newInstance;
+        WHERE = where;
+        RUN = run;
+        IS_BOUND = isBound;
+        GET = get;
+    }
+
+    /**
+     * Do not instantiate.
+     */
+    private ScopedValueSupport() {
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Informs whether the scoped values are available.
+     * @return true when the {@link #newBinding()} can be used.
+     */
+    public static boolean isSupported() {
+        return NEW_INSTANCE != null;
+    }
+
+    /**
+     * Create a new {@link ScopedBinding} backed by a new {@code java.lang.ScopedValue}.
+     * @param <T> type of the bound value.
+     * @return new scoped binding.
+     * @throws UnsupportedOperationException when the scoped values are not {@link #isSupported() available}.
+     */
+    public static <T> ScopedBinding<T> newBinding() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("java.lang.ScopedValue");
+        }
+        try {
+            return new ScopedValueBinding<>((Object) NEW_INSTANCE.invokeExact());
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        throw new IllegalStateException(t);
+    }
+
+    private static final class ScopedValueBinding<T> implements ScopedBinding<T> {
+
+        private final Object scopedValue;
+
+        private ScopedValueBinding(Object scopedValue) {
+            this.scopedValue = scopedValue;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get() {
+            try {
+                return (boolean) IS_BOUND.invokeExact(scopedValue) ? (T) (Object) GET.invokeExact(scopedValue) : null;
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        public <R> R call(T value, Callable<R> task) throws Exception {
+            final BoundTask<R> boundTask = new BoundTask<>(task);
+            try {
+                final Object carrier = (Object) WHERE.invokeExact(scopedValue, (Object) value);
+                RUN.invokeExact(carrier, (Runnable) boundTask);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return boundTask.result();
+        }
+    }
+
+    private static final class BoundTask<R> implements Runnable {
+
+        private final Callable<R> task;
+        private R result;
+        private Exception exception;
+
+        private BoundTask(Callable<R> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                result = task.call();
+            } catch (Exception e) {
+                exception = e;
+            }
+        }
+
+        private R result() throws Exception {
+            if (exception != null) {
+                throw exception;
+            }
+            return result;
+        }
+    }
+}
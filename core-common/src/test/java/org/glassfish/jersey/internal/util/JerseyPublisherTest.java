@@ -22,6 +22,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -164,6 +165,39 @@ public class JerseyPublisherTest {
         assertFalse(deadSubscriber.isCompleted());
     }
 
+    @Test
+    public void testDropping() throws InterruptedException {
+        final int BUFFER_CAPACITY = 4;
+        final int MSG_COUNT = 10;
+
+        final JerseyPublisher<String> publisher =
+                new JerseyPublisher<>(ForkJoinPool.commonPool(), BUFFER_CAPACITY, JerseyPublisher.PublisherStrategy.DROPPING);
+
+        final CountDownLatch openLatch = new CountDownLatch(1);
+        final CountDownLatch writeLatch = new CountDownLatch(BUFFER_CAPACITY);
+        final PublisherTestSubscriber slowSubscriber =
+                new PublisherTestSubscriber("slow", openLatch, writeLatch, new CountDownLatch(1));
+
+        publisher.subscribe(slowSubscriber);
+        assertTrue(openLatch.await(200, TimeUnit.MILLISECONDS));
+
+        int drops = 0;
+        for (int i = 0; i < MSG_COUNT; i++) {
+            if (publisher.publish("MSG-" + i) < 0) {
+                drops++;
+            }
+        }
+        assertEquals(MSG_COUNT - BUFFER_CAPACITY, drops);
+
+        // the slow subscriber is not cancelled and receives the buffered data
+        slowSubscriber.receive(MSG_COUNT);
+        assertTrue(writeLatch.await(1000, TimeUnit.MILLISECONDS));
+        assertEquals("MSG-0", slowSubscriber.getReceivedData().peek());
+        assertFalse(slowSubscriber.hasError());
+
+        publisher.close();
+    }
+
     class PublisherTestSubscriber implements Flow.Subscriber<String> {
 
         private final String name;
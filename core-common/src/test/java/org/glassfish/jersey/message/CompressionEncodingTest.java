@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.glassfish.jersey.model.internal.CommonConfig;
+import org.glassfish.jersey.model.internal.ComponentBag;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link CompressionEncoder}.
+ */
+public class CompressionEncodingTest extends AbstractEncodingTest {
+
+    private static CompressionEncoder encoder(final String name, final Object value) {
+        final CommonConfig config = new CommonConfig(RuntimeType.SERVER, ComponentBag.EXCLUDE_EMPTY);
+        if (name != null) {
+            config.property(name, value);
+        }
+        return new CompressionEncoder(config);
+    }
+
+    @Test
+    public void testGZipEncode() throws IOException {
+        final CompressionEncoder encoder = encoder(null, null);
+        test(new TestSpec() {
+            @Override
+            public OutputStream getEncoded(OutputStream stream) throws IOException {
+                return encoder.encode("gzip", stream);
+            }
+
+            @Override
+            public InputStream getDecoded(InputStream stream) throws IOException {
+                return new GZIPInputStream(stream);
+            }
+        });
+    }
+
+    @Test
+    public void testGZipDecode() throws IOException {
+        final CompressionEncoder encoder = encoder(null, null);
+        test(new TestSpec() {
+            @Override
+            public OutputStream getEncoded(OutputStream stream) throws IOException {
+                return new GZIPOutputStream(stream);
+            }
+
+            @Override
+            public InputStream getDecoded(InputStream stream) throws IOException {
+                return encoder.decode("x-gzip", stream);
+            }
+        });
+    }
+
+    @Test
+    public void testDeflateEncodeDecode() throws IOException {
+        for (final boolean noZLib : new boolean[] {false, true}) {
+            final CompressionEncoder encoder = encoder(MessageProperties.DEFLATE_WITHOUT_ZLIB, noZLib);
+            test(new TestSpec() {
+                @Override
+                public OutputStream getEncoded(OutputStream stream) throws IOException {
+                    return encoder.encode("deflate", stream);
+                }
+
+                @Override
+                public InputStream getDecoded(InputStream stream) throws IOException {
+                    return encoder.decode("deflate", stream);
+                }
+            });
+            test(new TestSpec() {
+                @Override
+                public OutputStream getEncoded(OutputStream stream) throws IOException {
+                    return encoder.encode("deflate", stream);
+                }
+
+                @Override
+                public InputStream getDecoded(InputStream stream) throws IOException {
+                    return new InflaterInputStream(stream, new Inflater(noZLib));
+                }
+            });
+        }
+    }
+
+    @Test
+    public void testCompressionLevel() throws IOException {
+        final byte[] entity = new byte[4096];
+        Arrays.fill(entity, (byte) 'a');
+        final ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        try (OutputStream out = encoder(MessageProperties.COMPRESSION_LEVEL, 0).encode("gzip", stored)) {
+            out.write(entity);
+        }
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = encoder(MessageProperties.COMPRESSION_LEVEL, 9).encode("gzip", compressed)) {
+            out.write(entity);
+        }
+        assertTrue(stored.size() > entity.length);
+        assertTrue(compressed.size() < entity.length / 10);
+    }
+
+    @Test
+    public void testMinSizeNotReached() throws IOException {
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, "gzip");
+        final ByteArrayOutputStream entityStream = new ByteArrayOutputStream();
+
+        final CompressionEncoder encoder = encoder(MessageProperties.COMPRESSION_MIN_SIZE, 16);
+        try (OutputStream out = encoder.encode("gzip", context(headers, entityStream))) {
+            out.write("Hello".getBytes(StandardCharsets.UTF_8));
+            out.write(' ');
+            out.write("world!".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertNull(headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("Hello world!", new String(entityStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testMinSizeReached() throws IOException {
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, "gzip");
+        final ByteArrayOutputStream entityStream = new ByteArrayOutputStream();
+
+        final CompressionEncoder encoder = encoder(MessageProperties.COMPRESSION_MIN_SIZE, 8);
+        try (OutputStream out = encoder.encode("gzip", context(headers, entityStream))) {
+            out.write("Hello".getBytes(StandardCharsets.UTF_8));
+            out.write(' ');
+            out.write("world!".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        final InputStream decoded = new GZIPInputStream(new ByteArrayInputStream(entityStream.toByteArray()));
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[64];
+        int read;
+        while ((read = decoded.read(buffer)) != -1) {
+            result.write(buffer, 0, read);
+        }
+        assertArrayEquals("Hello world!".getBytes(StandardCharsets.UTF_8), result.toByteArray());
+    }
+
+    @Test
+    public void testMinSizeFlushedBeforeWrite() throws IOException {
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, "gzip");
+        final ByteArrayOutputStream entityStream = new ByteArrayOutputStream();
+
+        final CompressionEncoder encoder = encoder(MessageProperties.COMPRESSION_MIN_SIZE, 16);
+        try (OutputStream out = encoder.encode("gzip", context(headers, entityStream))) {
+            // e.g. the headers of a chunked response are committed before the first chunk
+            out.flush();
+            assertTrue(entityStream.size() > 0);
+            out.write("Hello".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        final InputStream decoded = new GZIPInputStream(new ByteArrayInputStream(entityStream.toByteArray()));
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[64];
+        int read;
+        while ((read = decoded.read(buffer)) != -1) {
+            result.write(buffer, 0, read);
+        }
+        assertArrayEquals("Hello".getBytes(StandardCharsets.UTF_8), result.toByteArray());
+    }
+
+    @Test
+    public void testMinSizeFlushedBeforeReached() throws IOException {
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, "gzip");
+        final ByteArrayOutputStream entityStream = new ByteArrayOutputStream();
+
+        final CompressionEncoder encoder = encoder(MessageProperties.COMPRESSION_MIN_SIZE, 16);
+        try (OutputStream out = encoder.encode("gzip", context(headers, entityStream))) {
+            out.write("Hello".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            assertNull(headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+            assertEquals("Hello", new String(entityStream.toByteArray(), StandardCharsets.UTF_8));
+            out.write(" world, and everyone else!".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals("Hello world, and everyone else!", new String(entityStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private static WriterInterceptorContext context(final MultivaluedMap<String, Object> headers, final OutputStream out) {
+        return (WriterInterceptorContext) Proxy.newProxyInstance(CompressionEncodingTest.class.getClassLoader(),
+                new Class<?>[] {WriterInterceptorContext.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getHeaders":
+                            return headers;
+                        case "getOutputStream":
+                            return out;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
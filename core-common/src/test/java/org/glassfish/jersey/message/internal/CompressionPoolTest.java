@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link CompressionPool}.
+ */
+public class CompressionPoolTest {
+
+    private static final byte[] ENTITY = "Hello world!".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testDeflatersReused() throws IOException {
+        final CompressionPool pool = new CompressionPool(1, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        final OutputStream first = pool.gzip(new ByteArrayOutputStream(), 512);
+        final OutputStream second = pool.gzip(new ByteArrayOutputStream(), 512);
+        assertEquals(0, pool.getIdleDeflaterCount());
+
+        first.write(ENTITY);
+        first.close();
+        second.write(ENTITY);
+        second.close();
+        second.close();
+        // only one deflater is kept, the other one is ended
+        assertEquals(1, pool.getIdleDeflaterCount());
+
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = pool.gzip(compressed, 512)) {
+            out.write(ENTITY);
+        }
+        assertEquals(1, pool.getIdleDeflaterCount());
+        try (InputStream in = pool.gunzip(new ByteArrayInputStream(compressed.toByteArray()), 512)) {
+            assertEquals("Hello world!", read(in));
+        }
+        assertEquals(1, pool.getIdleInflaterCount());
+    }
+
+    @Test
+    public void testPoolingDisabled() throws IOException {
+        final CompressionPool pool = new CompressionPool(0, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = pool.deflate(compressed, false, 512)) {
+            out.write(ENTITY);
+        }
+        try (InputStream in = pool.inflate(new ByteArrayInputStream(compressed.toByteArray()), false, 512)) {
+            assertEquals("Hello world!", read(in));
+        }
+        assertEquals(0, pool.getIdleDeflaterCount());
+        assertEquals(0, pool.getIdleInflaterCount());
+    }
+
+    @Test
+    public void testWriteAfterClose() throws IOException {
+        final CompressionPool pool = new CompressionPool(1, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        final OutputStream out = pool.gzip(new ByteArrayOutputStream(), 512);
+        out.close();
+        assertThrows(IOException.class, () -> out.write(ENTITY));
+    }
+
+    @Test
+    public void testConcatenatedGZipMembers() throws IOException {
+        final CompressionPool pool = new CompressionPool(1, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = pool.gzip(compressed, 512)) {
+            out.write(ENTITY);
+        }
+        try (OutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(ENTITY);
+        }
+        try (InputStream in = pool.gunzip(new ByteArrayInputStream(compressed.toByteArray()), 512)) {
+            assertEquals("Hello world!Hello world!", read(in));
+        }
+    }
+
+    private static String read(final InputStream in) throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[7];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            result.write(buffer, 0, read);
+        }
+        return new String(result.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
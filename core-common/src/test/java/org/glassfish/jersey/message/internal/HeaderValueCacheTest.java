@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message.internal;
+
+import java.text.ParseException;
+import java.util.List;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Parsed header value cache tests.
+ */
+public class HeaderValueCacheTest {
+
+    @Test
+    public void testHitsAndMisses() throws ParseException {
+        final HeaderValueCache<String> cache = HeaderValueCache.create("test-hits");
+
+        assertEquals("A", cache.get("a", h -> h.toUpperCase()));
+        assertEquals("A", cache.get("a", h -> {
+            throw new AssertionError("Value should be cached.");
+        }));
+        assertEquals("B", cache.get("b", h -> h.toUpperCase()));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1.0 / 3, cache.getHitRatio(), 0.0001);
+        assertSame(cache, HeaderValueCache.getCaches().get("TEST-HITS"));
+    }
+
+    @Test
+    public void testParseErrorNotCached() {
+        final HeaderValueCache<String> cache = HeaderValueCache.create("test-errors");
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(ParseException.class, () -> cache.get("x", h -> {
+                throw new ParseException(h, 0);
+            }));
+        }
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testAcceptHeaderCached() throws ParseException {
+        final String header = "text/plain;q=0.5, application/json, text/html;q=0.8";
+        final HeaderValueCache<?> cache = HeaderValueCache.getCaches().get(HttpHeaders.ACCEPT);
+        final long hits = cache.getHitCount();
+
+        final List<AcceptableMediaType> first = HttpHeaderReader.readCachedAcceptMediaType(header);
+        final List<AcceptableMediaType> second = HttpHeaderReader.readCachedAcceptMediaType(header);
+
+        assertSame(first, second);
+        assertTrue(cache.getHitCount() > hits);
+        assertEquals(MediaType.APPLICATION_JSON_TYPE.getSubtype(), first.get(0).getSubtype());
+        assertEquals("html", first.get(1).getSubtype());
+        assertEquals("plain", first.get(2).getSubtype());
+        assertThrows(UnsupportedOperationException.class, () -> first.remove(0));
+    }
+
+    @Test
+    public void testPublicReadReturnsCopy() throws ParseException {
+        final String header = "text/plain;q=0.5, application/json";
+
+        final List<AcceptableMediaType> copy = HttpHeaderReader.readAcceptMediaType(header);
+        assertEquals(HttpHeaderReader.readCachedAcceptMediaType(header), copy);
+        assertNotSame(HttpHeaderReader.readCachedAcceptMediaType(header), copy);
+
+        copy.remove(0);
+        assertEquals(2, HttpHeaderReader.readAcceptMediaType(header).size());
+        assertEquals(2, HttpHeaderReader.readCachedAcceptMediaType(header).size());
+    }
+
+    @Test
+    public void testAcceptCharsetReturnsCopy() throws ParseException {
+        final String header = "utf-8, iso-8859-1;q=0.5";
+
+        final List<AcceptableToken> copy = HttpHeaderReader.readAcceptCharset(header);
+        copy.add(new AcceptableToken("*"));
+
+        assertEquals(2, HttpHeaderReader.readAcceptCharset(header).size());
+    }
+
+    @Test
+    public void testSeparateCachesPerHeader() throws ParseException {
+        final String header = "gzip;q=0.5, identity";
+
+        final List<AcceptableToken> encodings = HttpHeaderReader.readAcceptEncoding(header);
+        final List<AcceptableToken> charsets = HttpHeaderReader.readAcceptCharset(header);
+
+        assertEquals(encodings.size(), charsets.size());
+        assertEquals("identity", encodings.get(0).getToken());
+        assertTrue(HeaderValueCache.getCaches().containsKey(HttpHeaders.ACCEPT_ENCODING));
+        assertTrue(HeaderValueCache.getCaches().containsKey(HttpHeaders.ACCEPT_CHARSET));
+        assertTrue(HeaderValueCache.getCaches().containsKey(HttpHeaders.ACCEPT_LANGUAGE));
+    }
+}
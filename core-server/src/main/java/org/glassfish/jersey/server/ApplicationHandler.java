@@ -89,6 +89,7 @@ import org.glassfish.jersey.server.internal.process.ReferencesInitializer;
 import org.glassfish.jersey.server.internal.process.RequestProcessingConfigurator;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContextReference;
+import org.glassfish.jersey.server.internal.routing.MethodSelectionCacheStatistics;
 import org.glassfish.jersey.server.internal.routing.Routing;
 import org.glassfish.jersey.server.model.ComponentModelValidator;
 import org.glassfish.jersey.server.model.ModelProcessor;
@@ -330,6 +331,12 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
         // Register the binders which are dependent on "Application.properties()"
         injectionManager.register(new MessagingBinders.MessageBodyProviders(application.getProperties(), RuntimeType.SERVER));
 
+        // Resource method selection cache statistics shared by all the resources, exposed by monitoring.
+        final MethodSelectionCacheStatistics methodSelectionCacheStatistics = new MethodSelectionCacheStatistics();
+        injectionManager.register(Bindings.service(methodSelectionCacheStatistics)
+                .to(MethodSelectionCacheStatistics.class)
+                .id(InjectionIds.SERVER_METHOD_SELECTION_CACHE_STATISTICS.id()));
+
         // Lock original ResourceConfig.
         if (application instanceof ResourceConfig) {
             ((ResourceConfig) application).lock();
@@ -436,6 +443,7 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
                     .createService(serviceType -> Injections.getOrCreate(injectionManager, serviceType))
                     .processingProviders(processingProviders)
                     .resourceMethodInvokerBuilder(bootstrapBag.getResourceMethodInvokerBuilder())
+                    .methodSelectionCacheStatistics(methodSelectionCacheStatistics)
                     .buildStage();
         /*
          *  Root linear request acceptor. This is the main entry point for the whole request processing.
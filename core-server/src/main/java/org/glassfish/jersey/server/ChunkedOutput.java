@@ -16,6 +16,7 @@
 
 package org.glassfish.jersey.server;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -25,16 +26,23 @@ import java.util.Collections;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.Callable;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import jakarta.ws.rs.container.ConnectionCallback;
 import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.ext.WriterInterceptor;
 
 import jakarta.inject.Provider;
 
+import org.glassfish.jersey.message.internal.MsgTraceEvent;
+import org.glassfish.jersey.message.internal.TracingLogger;
 import org.glassfish.jersey.process.internal.RequestContext;
 import org.glassfish.jersey.process.internal.RequestScope;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
@@ -43,6 +51,11 @@ import org.glassfish.jersey.server.internal.process.MappableException;
 /**
  * Used for sending messages in "typed" chunks. Useful for long running processes,
  * which needs to produce partial responses.
+ * <p>
+ * By default, every chunk is written and flushed to the container as soon as possible. A chunked output created by
+ * a {@link #builder() builder} can be configured to {@link Builder#coalesce(int, long, TimeUnit) coalesce} the chunks,
+ * i.e. to send the chunks written in a quick succession in a single write and flush.
+ * </p>
  *
  * @param <T> chunk type.
  * @author Pavel Bucek
@@ -51,6 +64,7 @@ import org.glassfish.jersey.server.internal.process.MappableException;
  */
 // TODO:  something like prequel/sequel - usable for EventChannelWriter and XML related writers
 public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
+    private static final Logger LOGGER = Logger.getLogger(ChunkedOutput.class.getName());
     private static final byte[] ZERO_LENGTH_DELIMITER = new byte[0];
 
     private final BlockingDeque<T> queue;
@@ -58,9 +72,21 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     private final AtomicBoolean resumed = new AtomicBoolean(false);
     private final Lock lock = new ReentrantLock();
 
-    // the following flushing and touchingEntityStream variables are used in a synchronized block exclusively
+    // the following flushing, touchingEntityStream and coalescedFlushScheduled variables are used in a synchronized block
+    // exclusively
     private boolean flushing = false;
     private boolean touchingEntityStream = false;
+    private boolean coalescedFlushScheduled = false;
+
+    // chunks serialized but not yet sent to the container, null if the chunks are not coalesced
+    private final ByteArrayOutputStream coalesced;
+    private final int coalesceMaxBytes;
+    private final long coalesceMaxDelayNanos;
+
+    // the following variables are used by the thread flushing the queue exclusively
+    private Class<?> writerChunkType;
+    private MessageBodyWriter<Object> writer;
+    private UnCloseableOutputStream unCloseableStream;
 
     private volatile boolean closed = false;
 
@@ -71,13 +97,14 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     private volatile ContainerRequest requestContext;
     private volatile ContainerResponse responseContext;
     private volatile ConnectionCallback connectionCallback;
+    private volatile ScheduledExecutorService scheduler;
+    private volatile boolean cachedWriter;
 
     /**
      * Create new {@code ChunkedOutput}.
      */
     protected ChunkedOutput() {
-        this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        queue = new LinkedBlockingDeque<>();
+        this(ZERO_LENGTH_DELIMITER);
     }
 
     /**
@@ -86,21 +113,8 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @param builder the builder to use
      */
     protected ChunkedOutput(Builder<T> builder) {
-        super();
-        if (builder.queueCapacity > 0) {
-            queue = new LinkedBlockingDeque<>(builder.queueCapacity);
-        } else {
-            queue = new LinkedBlockingDeque<>();
-        }
-        if (builder.chunkDelimiter != null) {
-            this.chunkDelimiter = new byte[builder.chunkDelimiter.length];
-            System.arraycopy(builder.chunkDelimiter, 0, this.chunkDelimiter, 0, builder.chunkDelimiter.length);
-        } else {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        }
-        if (builder.asyncContextProvider != null) {
-            this.asyncContext = builder.asyncContextProvider.get();
-        }
+        this(builder.chunkDelimiter, builder.asyncContextProvider, builder.queueCapacity,
+                builder.coalesceMaxBytes, builder.coalesceMaxDelayNanos);
     }
 
     /**
@@ -109,22 +123,8 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @param builder the builder to use
      */
     private ChunkedOutput(TypedBuilder<T> builder) {
-        super(builder.chunkType);
-
-        if (builder.queueCapacity > 0) {
-            queue = new LinkedBlockingDeque<>(builder.queueCapacity);
-        } else {
-            queue = new LinkedBlockingDeque<>();
-        }
-        if (builder.chunkDelimiter != null) {
-            this.chunkDelimiter = new byte[builder.chunkDelimiter.length];
-            System.arraycopy(builder.chunkDelimiter, 0, this.chunkDelimiter, 0, builder.chunkDelimiter.length);
-        } else {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        }
-        if (builder.asyncContextProvider != null) {
-            this.asyncContext = builder.asyncContextProvider.get();
-        }
+        this(builder.chunkType, builder.chunkDelimiter, builder.asyncContextProvider, builder.queueCapacity,
+                builder.coalesceMaxBytes, builder.coalesceMaxDelayNanos);
     }
 
     /**
@@ -133,9 +133,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @param chunkType chunk type. Must not be {code null}.
      */
     public ChunkedOutput(final Type chunkType) {
-        super(chunkType);
-        this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        queue = new LinkedBlockingDeque<>();
+        this(chunkType, ZERO_LENGTH_DELIMITER);
     }
 
     /**
@@ -145,13 +143,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @since 2.4.1
      */
     protected ChunkedOutput(final byte[] chunkDelimiter) {
-        if (chunkDelimiter.length > 0) {
-            this.chunkDelimiter = new byte[chunkDelimiter.length];
-            System.arraycopy(chunkDelimiter, 0, this.chunkDelimiter, 0, chunkDelimiter.length);
-        } else {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        }
-        queue = new LinkedBlockingDeque<>();
+        this(chunkDelimiter, null);
     }
 
     /**
@@ -161,15 +153,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @since 2.4.1
      */
     protected ChunkedOutput(final byte[] chunkDelimiter, Provider<AsyncContext> asyncContextProvider) {
-        if (chunkDelimiter.length > 0) {
-            this.chunkDelimiter = new byte[chunkDelimiter.length];
-            System.arraycopy(chunkDelimiter, 0, this.chunkDelimiter, 0, chunkDelimiter.length);
-        } else {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        }
-
-        this.asyncContext = asyncContextProvider == null ? null : asyncContextProvider.get();
-        queue = new LinkedBlockingDeque<>();
+        this(chunkDelimiter, asyncContextProvider, -1, 0, 0);
     }
 
     /**
@@ -180,14 +164,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @since 2.4.1
      */
     public ChunkedOutput(final Type chunkType, final byte[] chunkDelimiter) {
-        super(chunkType);
-        if (chunkDelimiter.length > 0) {
-            this.chunkDelimiter = new byte[chunkDelimiter.length];
-            System.arraycopy(chunkDelimiter, 0, this.chunkDelimiter, 0, chunkDelimiter.length);
-        } else {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        }
-        queue = new LinkedBlockingDeque<>();
+        this(chunkType, chunkDelimiter, null, -1, 0, 0);
     }
 
     /**
@@ -197,12 +174,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @since 2.4.1
      */
     protected ChunkedOutput(final String chunkDelimiter) {
-        if (chunkDelimiter.isEmpty()) {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        } else {
-            this.chunkDelimiter = chunkDelimiter.getBytes();
-        }
-        queue = new LinkedBlockingDeque<>();
+        this(chunkDelimiter.getBytes());
     }
 
     /**
@@ -213,13 +185,45 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @since 2.4.1
      */
     public ChunkedOutput(final Type chunkType, final String chunkDelimiter) {
+        this(chunkType, chunkDelimiter.getBytes());
+    }
+
+    private ChunkedOutput(final byte[] chunkDelimiter,
+                          final Provider<AsyncContext> asyncContextProvider,
+                          final int queueCapacity,
+                          final int coalesceMaxBytes,
+                          final long coalesceMaxDelayNanos) {
+        super();
+        this.chunkDelimiter = copyOf(chunkDelimiter);
+        this.asyncContext = asyncContextProvider == null ? null : asyncContextProvider.get();
+        this.queue = queueCapacity > 0 ? new LinkedBlockingDeque<>(queueCapacity) : new LinkedBlockingDeque<>();
+        this.coalesced = coalesceMaxBytes > 0 ? new ByteArrayOutputStream() : null;
+        this.coalesceMaxBytes = coalesceMaxBytes;
+        this.coalesceMaxDelayNanos = coalesceMaxDelayNanos;
+    }
+
+    private ChunkedOutput(final Type chunkType,
+                          final byte[] chunkDelimiter,
+                          final Provider<AsyncContext> asyncContextProvider,
+                          final int queueCapacity,
+                          final int coalesceMaxBytes,
+                          final long coalesceMaxDelayNanos) {
         super(chunkType);
-        if (chunkDelimiter.isEmpty()) {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        } else {
-            this.chunkDelimiter = chunkDelimiter.getBytes();
+        this.chunkDelimiter = copyOf(chunkDelimiter);
+        this.asyncContext = asyncContextProvider == null ? null : asyncContextProvider.get();
+        this.queue = queueCapacity > 0 ? new LinkedBlockingDeque<>(queueCapacity) : new LinkedBlockingDeque<>();
+        this.coalesced = coalesceMaxBytes > 0 ? new ByteArrayOutputStream() : null;
+        this.coalesceMaxBytes = coalesceMaxBytes;
+        this.coalesceMaxDelayNanos = coalesceMaxDelayNanos;
+    }
+
+    private static byte[] copyOf(final byte[] chunkDelimiter) {
+        if (chunkDelimiter == null || chunkDelimiter.length == 0) {
+            return ZERO_LENGTH_DELIMITER;
         }
-        queue = new LinkedBlockingDeque<>();
+        final byte[] copy = new byte[chunkDelimiter.length];
+        System.arraycopy(chunkDelimiter, 0, copy, 0, chunkDelimiter.length);
+        return copy;
     }
 
     /**
@@ -265,6 +269,10 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     }
 
     protected void flushQueue() throws IOException {
+        flushQueue(false);
+    }
+
+    private void flushQueue(final boolean flushCoalesced) throws IOException {
         if (resumed.compareAndSet(false, true) && asyncContext != null) {
             asyncContext.resume(this);
         }
@@ -279,12 +287,17 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                 @Override
                 public Void call() throws IOException {
                     boolean shouldClose;
+                    boolean sendCoalesced;
                     T t;
 
                     lock.lock();
                     try {
+                        if (flushCoalesced) {
+                            coalescedFlushScheduled = false;
+                        }
                         if (flushing) {
                             // if another thread is already flushing the queue, we don't have to do anything
+                            // (it also takes care of the coalesced chunks once the queue is empty)
                             return null;
                         }
                         // remember the closed flag before polling the queue
@@ -294,7 +307,9 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                         // undelivered)
                         shouldClose = closed;
                         t = queue.poll();
-                        if (t != null || shouldClose) {
+                        // no chunk to write, send the coalesced chunks before closing or once the delay elapsed
+                        sendCoalesced = t == null && (shouldClose || flushCoalesced) && hasCoalesced();
+                        if (t != null || shouldClose || sendCoalesced) {
                             // no other thread is flushing this queue at the moment and it is not empty and/or we should close ->
                             // set the flushing flag so that other threads know it is already being taken care of
                             // and they don't have to bother
@@ -304,39 +319,19 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                         lock.unlock();
                     }
 
-                    while (t != null) {
+                    while (t != null || sendCoalesced) {
                         try {
                             lock.lock();
                             touchingEntityStream = true;
                             lock.unlock();
 
-                            final OutputStream origStream = responseContext.getEntityStream();
-                            final OutputStream writtenStream = requestContext.getWorkers().writeTo(
-                                    t,
-                                    t.getClass(),
-                                    getType(),
-                                    responseContext.getEntityAnnotations(),
-                                    responseContext.getMediaType(),
-                                    responseContext.getHeaders(),
-                                    requestContext.getPropertiesDelegate(),
-                                    origStream,
-                                    // The output stream stored in the response context for this chunked output
-                                    // is already intercepted as a whole (if there are any interceptors);
-                                    // no need to intercept the individual chunks.
-                                    Collections.<WriterInterceptor>emptyList());
-
-                            //noinspection ArrayEquality
-                            if (chunkDelimiter != ZERO_LENGTH_DELIMITER) {
-                                // if the chunked output is configured with a custom delimiter, use it
-                                writtenStream.write(chunkDelimiter);
-                            }
-
-                            // flush the chunk (some writers do it, but some don't)
-                            writtenStream.flush();
-
-                            if (origStream != writtenStream) {
-                                // if MBW replaced the stream, let's make sure to set it in the response context.
-                                responseContext.setEntityStream(writtenStream);
+                            if (t == null) {
+                                // the coalesced chunks are sent outside of the lock, the flushing flag
+                                // keeps other threads off the coalesced chunks and the entity stream
+                                sendCoalesced = false;
+                                writeCoalesced();
+                            } else {
+                                writeChunk(t);
                             }
                         } catch (final IOException | UncheckedIOException ioe) {
                             connectionCallback.onDisconnect(asyncContext);
@@ -363,10 +358,19 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                                 shouldClose = closed;
                                 t = queue.poll();
                                 if (t == null) {
+                                    if (hasCoalesced() && (flushCoalesced || shouldClose
+                                            || coalesceMaxDelayNanos <= 0 || scheduler == null)) {
+                                        // send the coalesced chunks outside of the lock and check the queue again
+                                        sendCoalesced = true;
+                                        continue;
+                                    }
                                     // ok, it is really empty - if anyone adds a chunk while we are here,
                                     // other thread will take care of it -> flush the stream and unset
                                     // the flushing flag at the very end (to make sure it is unset only if no
                                     // exception is thrown)
+                                    if (coalesced != null) {
+                                        scheduleCoalescedFlush();
+                                    }
                                     responseContext.commitStream();
                                     // if closing, we keep the "flushing" flag set, since no other thread needs to flush
                                     // this queue anymore - finally clause will take care of closing the stream
@@ -416,6 +420,128 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         }
     }
 
+    /**
+     * Write a chunk to the response entity stream, or to the coalesced chunks if the chunks are coalesced.
+     */
+    private void writeChunk(final T chunk) throws IOException {
+        final OutputStream origStream = coalesced != null ? coalesced : responseContext.getEntityStream();
+        final OutputStream writtenStream = writeChunk(chunk, origStream);
+
+        //noinspection ArrayEquality
+        if (chunkDelimiter != ZERO_LENGTH_DELIMITER) {
+            // if the chunked output is configured with a custom delimiter, use it
+            writtenStream.write(chunkDelimiter);
+        }
+
+        if (coalesced != null) {
+            if (coalesced.size() >= coalesceMaxBytes) {
+                writeCoalesced();
+            }
+        } else {
+            // flush the chunk (some writers do it, but some don't)
+            writtenStream.flush();
+        }
+
+        if (coalesced == null && origStream != writtenStream) {
+            // if MBW replaced the stream, let's make sure to set it in the response context.
+            responseContext.setEntityStream(writtenStream);
+        }
+    }
+
+    /**
+     * Write a chunk to the output stream.
+     * <p>
+     * The message body writer is looked up for the first chunk and reused for the following chunks of the same type,
+     * unless the message body worker tracing is enabled. The output stream stored in the response context for this
+     * chunked output is already intercepted as a whole (if there are any interceptors); no need to intercept
+     * the individual chunks.
+     * </p>
+     *
+     * @return output stream the chunk has been written to.
+     */
+    @SuppressWarnings("unchecked")
+    private OutputStream writeChunk(final T chunk, final OutputStream entityStream) throws IOException {
+        final Class<?> chunkType = chunk.getClass();
+        if (cachedWriter) {
+            if (chunkType != writerChunkType) {
+                writer = (MessageBodyWriter<Object>) requestContext.getWorkers().getMessageBodyWriter(
+                        chunkType,
+                        getType(),
+                        responseContext.getEntityAnnotations(),
+                        responseContext.getMediaType(),
+                        requestContext.getPropertiesDelegate());
+                writerChunkType = chunkType;
+            }
+            if (writer != null) {
+                if (unCloseableStream == null || unCloseableStream.original != entityStream) {
+                    unCloseableStream = new UnCloseableOutputStream(entityStream);
+                }
+                writer.writeTo(chunk,
+                        chunkType,
+                        getType(),
+                        responseContext.getEntityAnnotations(),
+                        responseContext.getMediaType(),
+                        responseContext.getHeaders(),
+                        unCloseableStream);
+                return entityStream;
+            }
+            // no writer found, let the workers report the problem
+        }
+
+        return requestContext.getWorkers().writeTo(
+                chunk,
+                chunkType,
+                getType(),
+                responseContext.getEntityAnnotations(),
+                responseContext.getMediaType(),
+                responseContext.getHeaders(),
+                requestContext.getPropertiesDelegate(),
+                entityStream,
+                Collections.<WriterInterceptor>emptyList());
+    }
+
+    /**
+     * Check whether there are coalesced chunks not yet sent to the container.
+     */
+    private boolean hasCoalesced() {
+        return coalesced != null && coalesced.size() > 0;
+    }
+
+    /**
+     * Send the coalesced chunks, if any, to the container and flush the container output stream.
+     * Must be invoked by the thread flushing the queue.
+     */
+    private void writeCoalesced() throws IOException {
+        if (!hasCoalesced()) {
+            return;
+        }
+        final OutputStream entityStream = responseContext.getEntityStream();
+        coalesced.writeTo(entityStream);
+        coalesced.reset();
+        entityStream.flush();
+    }
+
+    /**
+     * Schedule sending of the coalesced chunks once the maximum coalescing delay elapses, unless already scheduled.
+     * Must be invoked while holding the lock.
+     */
+    private void scheduleCoalescedFlush() {
+        if (coalescedFlushScheduled || !hasCoalesced()) {
+            return;
+        }
+        coalescedFlushScheduled = true;
+        scheduler.schedule(() -> {
+            if (closed) {
+                return;
+            }
+            try {
+                flushQueue(true);
+            } catch (final IOException | RuntimeException e) {
+                LOGGER.log(Level.FINE, LocalizationMessages.ERROR_WRITING_RESPONSE_ENTITY_CHUNK(), e);
+            }
+        }, coalesceMaxDelayNanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Close this response - it will be finalized and underlying connections will be closed
      * or made available for another response.
@@ -473,21 +599,64 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @param requestContext           request context.
      * @param responseContext          response context.
      * @param connectionCallbackRunner connection callback.
+     * @param scheduler                scheduler used to send the coalesced chunks.
      * @throws IOException when encountered any problem during serializing or writing a chunk.
      */
     void setContext(final RequestScope requestScope,
                     final RequestContext requestScopeContext,
                     final ContainerRequest requestContext,
                     final ContainerResponse responseContext,
-                    final ConnectionCallback connectionCallbackRunner) throws IOException {
+                    final ConnectionCallback connectionCallbackRunner,
+                    final ScheduledExecutorService scheduler) throws IOException {
         this.requestScope = requestScope;
         this.requestScopeContext = requestScopeContext;
         this.requestContext = requestContext;
         this.responseContext = responseContext;
         this.connectionCallback = connectionCallbackRunner;
+        this.scheduler = scheduler;
+        this.cachedWriter = !TracingLogger.getInstance(requestContext.getPropertiesDelegate())
+                .isLogEnabled(MsgTraceEvent.MBW_FIND);
         flushQueue();
     }
 
+    /**
+     * Message body writers should not close the given output stream. This output stream makes sure that the stream is not
+     * closed even if a writer tries to do it.
+     */
+    private static final class UnCloseableOutputStream extends OutputStream {
+
+        private final OutputStream original;
+
+        private UnCloseableOutputStream(final OutputStream original) {
+            this.original = original;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            original.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b) throws IOException {
+            original.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            original.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            original.flush();
+        }
+
+        @Override
+        public void close() {
+            // ignore
+        }
+    }
+
     /**
      * Builder that allows to create a new ChunkedOutput based on the given configuration options.
      *
@@ -497,6 +666,8 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         byte[] chunkDelimiter;
         int queueCapacity = -1;
         Provider<AsyncContext> asyncContextProvider;
+        int coalesceMaxBytes = -1;
+        long coalesceMaxDelayNanos;
 
         private Builder() {
             // hide constructor
@@ -532,6 +703,29 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
             return this;
         }
 
+        /**
+         * Coalesce the chunks written in a quick succession, so that they are sent to the container in a single write
+         * followed by a single flush.
+         * <p>
+         * The serialized chunks, each followed by the chunk delimiter, are buffered until at least {@code maxBytes} bytes
+         * are buffered or until {@code maxDelay} elapses since the queue of the chunks waiting to be written became empty.
+         * If {@code maxDelay} is not positive, the buffered chunks are sent as soon as the queue is empty, i.e. only
+         * the chunks queued while the previous chunks are being written are coalesced. The buffered chunks are always
+         * sent before the chunked output is closed.
+         * </p>
+         *
+         * @param maxBytes maximum number of bytes to buffer, the chunks are not coalesced if not positive.
+         * @param maxDelay maximum time to wait for more chunks.
+         * @param unit     time unit of the {@code maxDelay}.
+         * @return builder
+         * @since 4.1.0
+         */
+        public Builder<Y> coalesce(int maxBytes, long maxDelay, TimeUnit unit) {
+            this.coalesceMaxBytes = maxBytes;
+            this.coalesceMaxDelayNanos = unit.toNanos(maxDelay);
+            return this;
+        }
+
         /**
          * Build the ChunkedOutput based on the given configuration.
          * @return the ChunkedOutput
@@ -99,6 +99,10 @@ public class ContainerRequest extends InboundMessageContext
     private URI baseUri;
     // Absolute request URI
     private URI requestUri;
+    // Lazily created absolute request URI, null once resolved or if the request URI has been given eagerly
+    private Value<URI> lazyRequestUri;
+    // Encoded path of the lazily created request URI
+    private String requestUriRawPath;
     // Lazily computed encoded request path (relative to application root URI)
     private String encodedRelativePath = null;
     // Lazily computed decoded request path (relative to application root URI)
@@ -170,6 +174,55 @@ public class ContainerRequest extends InboundMessageContext
         this.uriRoutingContext = new UriRoutingContext(this);
     }
 
+    /**
+     * Create new Jersey container request context with a lazily created request URI and container provided request
+     * headers.
+     * <p>
+     * The request is matched using the encoded request URI path, the request URI itself is created only when it is
+     * requested, e.g. by {@link jakarta.ws.rs.core.UriInfo} or when the query parameters are resolved. This allows
+     * containers to skip parsing the request URI for the requests that do not need it. The request URI supplier may
+     * throw a {@link jakarta.ws.rs.BadRequestException} if the request URI is not valid.
+     * </p>
+     * <p>
+     * The headers map is used directly as the request headers store and must support modifications by the request
+     * filters, e.g. by copying the container headers on the first modification.
+     * </p>
+     *
+     * @param baseUri            base application URI.
+     * @param requestUriRawPath  encoded path of the request URI, must be equal to the raw path of the URI provided
+     *                           by the {@code requestUri} supplier.
+     * @param requestUri         supplier of the request URI, invoked at most once.
+     * @param httpMethod         request HTTP method name.
+     * @param securityContext    security context of the current request. Must not be {@code null}.
+     *                           The {@link SecurityContext#getUserPrincipal()} must return
+     *                           {@code null} if the current request has not been authenticated
+     *                           by the container.
+     * @param propertiesDelegate custom {@link PropertiesDelegate properties delegate}
+     *                           to be used by the context.
+     * @param configuration      the server {@link Configuration}. If {@code null}, the default behaviour is expected.
+     * @param headers            case-insensitive request headers map.
+     * @since 4.1.0
+     */
+    public ContainerRequest(
+            final URI baseUri,
+            final String requestUriRawPath,
+            final Value<URI> requestUri,
+            final String httpMethod,
+            final SecurityContext securityContext,
+            final PropertiesDelegate propertiesDelegate,
+            final Configuration configuration,
+            final MultivaluedMap<String, String> headers) {
+        super(configuration, headers, true);
+
+        this.baseUri = baseUri == null ? DEFAULT_BASE_URI : baseUri.normalize();
+        this.requestUriRawPath = requestUriRawPath;
+        this.lazyRequestUri = requestUri;
+        this.httpMethod = httpMethod;
+        this.securityContext = securityContext;
+        this.propertiesDelegate = new TracingAwarePropertiesDelegate(propertiesDelegate);
+        this.uriRoutingContext = new UriRoutingContext(this);
+    }
+
     /**
      * Create new Jersey container request context.
      *
@@ -423,6 +476,10 @@ public class ContainerRequest extends InboundMessageContext
      * @return request URI.
      */
     public URI getRequestUri() {
+        if (lazyRequestUri != null) {
+            requestUri = lazyRequestUri.get();
+            lazyRequestUri = null;
+        }
         return requestUri;
     }
 
@@ -437,7 +494,7 @@ public class ContainerRequest extends InboundMessageContext
             return absolutePathUri;
         }
 
-        return absolutePathUri = new JerseyUriBuilder().uri(requestUri).replaceQuery("").fragment("").build();
+        return absolutePathUri = new JerseyUriBuilder().uri(getRequestUri()).replaceQuery("").fragment("").build();
     }
 
     @Override
@@ -451,6 +508,8 @@ public class ContainerRequest extends InboundMessageContext
         this.absolutePathUri = null;
         this.uriRoutingContext.invalidateUriComponentViews();
 
+        this.lazyRequestUri = null;
+        this.requestUriRawPath = null;
         this.requestUri = requestUri;
     }
 
@@ -466,6 +525,8 @@ public class ContainerRequest extends InboundMessageContext
         this.uriRoutingContext.invalidateUriComponentViews();
 
         this.baseUri = baseUri;
+        this.lazyRequestUri = null;
+        this.requestUriRawPath = null;
         this.requestUri = requestUri;
         OutboundJaxrsResponse.Builder.setBaseUri(baseUri);
     }
@@ -495,7 +556,8 @@ public class ContainerRequest extends InboundMessageContext
             return encodedRelativePath;
         }
 
-        final String requestUriRawPath = requestUri.getRawPath();
+        final String requestUriRawPath = this.requestUriRawPath != null
+                ? this.requestUriRawPath : getRequestUri().getRawPath();
 
         if (baseUri == null) {
             return encodedRelativePath = requestUriRawPath;
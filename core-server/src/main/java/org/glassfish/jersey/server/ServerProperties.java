@@ -559,6 +559,29 @@ public final class ServerProperties {
     public static final String MONITORING_STATISTICS_REFRESH_INTERVAL =
             "jersey.config.server.monitoring.statistics.refresh.interval";
 
+    /**
+     * If {@code true}, the events used to calculate the monitoring statistics are collected without locking.
+     * <p>
+     * By default the request, response and exception mapping events are passed to the background statistics processor
+     * using bounded blocking queues. Under a very high load the request processing threads contend on the queue locks
+     * and the events exceeding the queue capacity are dropped. When this property is enabled, the response status codes
+     * and exception mappings are counted and the request and resource method execution times are accumulated (count, total,
+     * minimum and maximum per resource method) by striped counters merged into the statistics on every
+     * {@link #MONITORING_STATISTICS_REFRESH_INTERVAL statistics refresh}, so none of them is dropped. The time window
+     * statistics are then calculated from the execution times aggregated per statistics refresh instead of the individual
+     * execution times.
+     * </p>
+     * <p>
+     * The property has effect only if the {@link #MONITORING_STATISTICS_ENABLED monitoring statistics} are enabled.
+     * The default value is {@code false}. The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #MONITORING_STATISTICS_ENABLED
+     * @since 4.1.0
+     */
+    public static final String MONITORING_STATISTICS_STRIPED_ENABLED =
+            "jersey.config.server.monitoring.statistics.striped.enabled";
+
     /**
      * {@link String} property that defines the application name.
      *
@@ -845,6 +868,69 @@ public final class ServerProperties {
      */
     public static final String WEBSERVER_CLASS = "jersey.config.server.bootstrap.webserver.class";
 
+    /**
+     * If {@code true}, the request path matching routers are built together with a routing index of the literal first
+     * path segments of the resource and sub-resource path templates.
+     * <p>
+     * By default the request path is matched sequentially against every resource and sub-resource path template regular
+     * expression until a match is found, so the routing cost grows with the number of resources. With the routing index
+     * only the templates that may possibly match the first segment of the request path (i.e. the templates with the same
+     * literal first segment and the templates starting with a template variable) are matched, in their original order.
+     * The JAX-RS matching rules are not affected.
+     * </p>
+     * <p>
+     * The default value is {@code false}. The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 4.1.0
+     */
+    public static final String INDEXED_PATH_MATCHING_ENABLED = "jersey.config.server.routing.indexed";
+
+    /**
+     * An integer value that defines the maximum number of resource method selections cached by every resource. A method
+     * selection is cached per combination of the request HTTP method, {@code Content-Type} and {@code Accept} headers,
+     * so repeated requests with the same content negotiation headers skip the resource method selection algorithm.
+     * <p>
+     * The cache hit and miss counts are available in
+     * {@link org.glassfish.jersey.server.monitoring.MonitoringStatistics#getMethodSelectionCacheStatistics()}.
+     * A value lower than or equal to {@code 0} disables the cache.
+     * </p>
+     * <p>
+     * The default value is {@value #METHOD_SELECTION_DEFAULT_CACHE_SIZE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #METHOD_SELECTION_DEFAULT_CACHE_SIZE
+     * @since 4.1.0
+     */
+    public static final String METHOD_SELECTION_CACHE_SIZE = "jersey.config.server.routing.method.selection.cache.size";
+
+    /**
+     * The default resource method selection cache size ({@value}).
+     *
+     * @see #METHOD_SELECTION_CACHE_SIZE
+     * @since 4.1.0
+     */
+    public static final int METHOD_SELECTION_DEFAULT_CACHE_SIZE = 64;
+
+    /**
+     * If {@code true}, the default resource method invocation handler invokes the resource methods using the Java
+     * reflection API ({@link java.lang.reflect.Method#invoke(Object, Object...)}).
+     * <p>
+     * By default, every resource method is bound to a {@link java.lang.invoke.MethodHandle method handle} when the
+     * resource model is built and the method handle is used to invoke the resource method. The reflection API is still
+     * used for resource methods which can not be accessed via a public method handle lookup. The property has no effect
+     * on invocation handlers provided by custom
+     * {@link org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider providers}.
+     * </p>
+     * <p>
+     * The default value is {@code false}. The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 4.1.0
+     */
+    public static final String METHOD_HANDLE_INVOCATION_DISABLE = "jersey.config.server.resource.method.handle.disable";
+
     /**
      * JVM argument to define the value of
      * {@link org.glassfish.jersey.server.internal.monitoring.core.ReservoirConstants#COLLISION_BUFFER_POWER}.
@@ -742,7 +742,8 @@ public class ServerRuntime {
                                     runtime.requestScope.referenceCurrent(),
                                     request,
                                     response,
-                                    connectionCallbackRunner);
+                                    connectionCallbackRunner,
+                                    runtime.backgroundScheduler);
                         } catch (final IOException ex) {
                             LOGGER.log(Level.SEVERE, LocalizationMessages.ERROR_WRITING_RESPONSE_ENTITY_CHUNK(), ex);
                             close = true;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2018 Payara Foundation and/or its affiliates.
  *
  * This program and the accompanying materials are made available under the
@@ -18,12 +18,11 @@
 package org.glassfish.jersey.server.internal.inject;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.security.AccessController;
 import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.function.Function;
 
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.ext.ParamConverter;
@@ -166,7 +165,7 @@ final class MultivaluedParameterExtractorFactory implements MultivaluedParameter
             }
 
             // Check for static valueOf(String)
-            final Method valueOf = AccessController.doPrivileged(ReflectionHelper.getValueOfStringMethodPA(wrappedRaw));
+            final Function<String, Object> valueOf = PrimitiveMapper.classToValueOfMap.get(wrappedRaw);
             if (valueOf != null) {
                 try {
                     return new PrimitiveValueOfExtractor(valueOf,
@@ -174,7 +173,8 @@ final class MultivaluedParameterExtractorFactory implements MultivaluedParameter
                             defaultValue,
                             PrimitiveMapper.primitiveToDefaultValueMap.get(wrappedRaw));
                 } catch (final Exception e) {
-                    throw new ProcessingException(LocalizationMessages.DEFAULT_COULD_NOT_PROCESS_METHOD(defaultValue, valueOf));
+                    throw new ProcessingException(LocalizationMessages.DEFAULT_COULD_NOT_PROCESS_METHOD(defaultValue,
+                            wrappedRaw.getName() + ".valueOf(String)"));
                 }
             }
 
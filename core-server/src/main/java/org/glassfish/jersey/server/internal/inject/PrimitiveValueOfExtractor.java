@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,10 +16,8 @@
 
 package org.glassfish.jersey.server.internal.inject;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.function.Function;
 
-import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MultivaluedMap;
 
@@ -28,14 +26,14 @@ import org.glassfish.jersey.internal.inject.ExtractorException;
 /**
  * Extract primitive parameter value from the {@link MultivaluedMap multivalued parameter map}
  * using one of the {@code valueOf(String)} methods on the primitive Java type wrapper
- * classes.
+ * classes. The method is called directly, not via reflection.
  *
  * @author Paul Sandoz
  * @author Marek Potociar
  */
 final class PrimitiveValueOfExtractor implements MultivaluedParameterExtractor<Object> {
 
-    private final Method valueOf;
+    private final Function<String, Object> valueOf;
     private final String parameter;
     private final String defaultStringValue;
     private final Object defaultValue;
@@ -44,12 +42,12 @@ final class PrimitiveValueOfExtractor implements MultivaluedParameterExtractor<O
     /**
      * Create new primitive parameter value extractor.
      *
-     * @param valueOf                   {@code valueOf()} method handler.
+     * @param valueOf                   {@code valueOf()} method.
      * @param parameter                 string parameter value.
      * @param defaultStringValue        default string value.
      * @param defaultPrimitiveTypeValue default primitive type value.
      */
-    public PrimitiveValueOfExtractor(Method valueOf, String parameter,
+    public PrimitiveValueOfExtractor(Function<String, Object> valueOf, String parameter,
                                      String defaultStringValue, Object defaultPrimitiveTypeValue) {
         this.valueOf = valueOf;
         this.parameter = parameter;
@@ -71,16 +69,11 @@ final class PrimitiveValueOfExtractor implements MultivaluedParameterExtractor<O
 
     private Object getValue(String v) {
         try {
-            return valueOf.invoke(null, v);
-        } catch (InvocationTargetException ex) {
-            Throwable target = ex.getTargetException();
-            if (target instanceof WebApplicationException) {
-                throw (WebApplicationException) target;
-            } else {
-                throw new ExtractorException(target);
-            }
-        } catch (Exception ex) {
-            throw new ProcessingException(ex);
+            return valueOf.apply(v);
+        } catch (WebApplicationException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new ExtractorException(ex);
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -34,6 +34,24 @@ class AggregatedSlidingWindowTimeReservoir extends AbstractSlidingWindowTimeRese
 
     private final AggregatingTrimmer notifier;
 
+    /**
+     * Creates an aggregated sliding window reservoir updated with the aggregated measurements directly, instead of
+     * by an aggregating trimmer.
+     *
+     * @param window The time size of the window
+     * @param windowUnit The unit of the window size
+     * @param startTime The start time from when to calculate the statistics
+     * @param startTimeUnit The unit of the start time
+     */
+    public AggregatedSlidingWindowTimeReservoir(
+            final long window,
+            final TimeUnit windowUnit,
+            final long startTime,
+            final TimeUnit startTimeUnit) {
+        super(window, windowUnit, startTime, startTimeUnit);
+        this.notifier = null;
+    }
+
     /**
      * Creates an aggregated sliding window reservoir.
      *
@@ -59,8 +77,8 @@ class AggregatedSlidingWindowTimeReservoir extends AbstractSlidingWindowTimeRese
                                            final TimeUnit timeIntervalUnit,
                                            final long time,
                                            final TimeUnit timeUnit) {
-        final UniformTimeSnapshot notTrimmedMeasurementsSnapshot = notifier.getTimeReservoirNotifier()
-                .getSnapshot(time, timeUnit);
+        final UniformTimeSnapshot notTrimmedMeasurementsSnapshot = notifier == null
+                ? null : notifier.getTimeReservoirNotifier().getSnapshot(time, timeUnit);
 
         AggregatedValueObject[] arrayValues = new AggregatedValueObject[values.size()];
         arrayValues = values.toArray(arrayValues);
@@ -75,7 +93,7 @@ class AggregatedSlidingWindowTimeReservoir extends AbstractSlidingWindowTimeRese
             count += value.getCount();
             meanNumerator += value.getCount() * value.getMean();
         }
-        if (notTrimmedMeasurementsSnapshot.size() > 0) {
+        if (notTrimmedMeasurementsSnapshot != null && notTrimmedMeasurementsSnapshot.size() > 0) {
             min = Math.min(min, notTrimmedMeasurementsSnapshot.getMin());
             max = Math.max(max, notTrimmedMeasurementsSnapshot.getMax());
             count += notTrimmedMeasurementsSnapshot.size();
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.server.internal.monitoring.core.TimeReservoir;
+import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeSnapshot;
+
+/**
+ * Time reservoir of aggregated measurements without any time window, the counterpart of
+ * {@link org.glassfish.jersey.server.internal.monitoring.core.UniformTimeReservoir} for aggregated measurements.
+ * <p>
+ * Unlike the uniform reservoir, which calculates the minimum, maximum and mean from a random sample of the measurements,
+ * this reservoir keeps the exact minimum, maximum and mean of all the aggregated measurements.
+ * </p>
+ */
+class AggregatedUniformTimeReservoir implements TimeReservoir<AggregatedValueObject> {
+
+    private final long startTime;
+    private final TimeUnit startTimeUnit;
+
+    private long count;
+    private double meanNumerator;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    /**
+     * Creates a new aggregated uniform time reservoir.
+     *
+     * @param startTime     The start time
+     * @param startTimeUnit The start time unit
+     */
+    public AggregatedUniformTimeReservoir(final long startTime, final TimeUnit startTimeUnit) {
+        this.startTime = startTime;
+        this.startTimeUnit = startTimeUnit;
+    }
+
+    @Override
+    public synchronized int size(final long time, final TimeUnit timeUnit) {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized void update(final AggregatedValueObject value, final long time, final TimeUnit timeUnit) {
+        count += value.getCount();
+        meanNumerator += value.getCount() * value.getMean();
+        min = Math.min(min, value.getMin());
+        max = Math.max(max, value.getMax());
+    }
+
+    @Override
+    public synchronized UniformTimeSnapshot getSnapshot(final long time, final TimeUnit timeUnit) {
+        final long interval = startTimeUnit.convert(time, timeUnit) - startTime;
+        if (count == 0) {
+            return new UniformTimeSimpleSnapshot(0, 0, 0, 0, interval, startTimeUnit);
+        }
+        return new UniformTimeSimpleSnapshot(max, min, meanNumerator / count, count, interval, startTimeUnit);
+    }
+
+    @Override
+    public long interval(final TimeUnit timeUnit) {
+        // Uniform Interval returns 0 for infinity
+        return 0;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -64,6 +64,24 @@ class AggregatedValueObject {
         return new AggregatedValueObject(max, min, (double) sum / values.size(), values.size());
     }
 
+    /**
+     * Creates aggregated value object for monitoring statistics based on the already aggregated values.
+     *
+     * @param count The number of the aggregated values, must be positive.
+     * @param sum   The sum of the aggregated values.
+     * @param min   The minimum of the aggregated values.
+     * @param max   The maximum of the aggregated values.
+     * @return Aggregated value object for provided arguments.
+     */
+    public static AggregatedValueObject createFromAggregate(final long count, final long sum, final long min, final long max) {
+        if (count <= 0) {
+            // prevent from division by zero in the mean
+            throw new IllegalArgumentException("The count must be positive");
+        }
+
+        return new AggregatedValueObject(max, min, (double) sum / count, count);
+    }
+
     /**
      * Creates aggregated value object for monitoring statistics based on the provided collection of values. During the
      * construction, the values collection must not be modified.
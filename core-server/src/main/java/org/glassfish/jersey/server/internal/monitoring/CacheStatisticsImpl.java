@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import org.glassfish.jersey.server.monitoring.CacheStatistics;
+
+/**
+ * Immutable cache statistics.
+ */
+final class CacheStatisticsImpl implements CacheStatistics {
+
+    /**
+     * Empty cache statistics.
+     */
+    static final CacheStatistics EMPTY = new CacheStatisticsImpl(0, 0);
+
+    private final long hitCount;
+    private final long missCount;
+
+    /**
+     * Create an immutable snapshot of the (possibly live) cache statistics.
+     *
+     * @param statistics cache statistics to create the snapshot of, may be {@code null}.
+     * @return immutable cache statistics.
+     */
+    static CacheStatistics snapshot(final CacheStatistics statistics) {
+        return statistics == null ? EMPTY : new CacheStatisticsImpl(statistics.getHitCount(), statistics.getMissCount());
+    }
+
+    /**
+     * Create immutable cache statistics.
+     *
+     * @param hitCount  count of cache hits.
+     * @param missCount count of cache misses.
+     * @return immutable cache statistics.
+     */
+    static CacheStatistics of(final long hitCount, final long missCount) {
+        return new CacheStatisticsImpl(hitCount, missCount);
+    }
+
+    private CacheStatisticsImpl(final long hitCount, final long missCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,11 +16,13 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -51,6 +53,7 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
         private volatile long lastStartTime;
         private final Map<Long, TimeWindowStatisticsImpl.Builder> intervalStatistics;
         private final Collection<TimeWindowStatisticsImpl.Builder<Long>> updatableIntervalStatistics;
+        private final Collection<TimeWindowStatisticsImpl.Builder<AggregatedValueObject>> aggregatedIntervalStatistics;
 
         /**
          * Create a new builder.
@@ -67,6 +70,7 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
 
             this.updatableIntervalStatistics =
                     Arrays.asList(infiniteIntervalWindowBuilder, oneSecondIntervalWindowBuilder);
+            this.aggregatedIntervalStatistics = Collections.emptyList();
 
             // create unmodifiable map to ensure that an iteration in the build() won't have multi-threading issues
             final HashMap<Long, TimeWindowStatisticsImpl.Builder> tmpIntervalStatistics = new HashMap<>(6);
@@ -86,6 +90,41 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
             this.intervalStatistics = Collections.unmodifiableMap(tmpIntervalStatistics);
         }
 
+        private Builder(final long nowMillis, final long... intervalsMillis) {
+            final List<TimeWindowStatisticsImpl.Builder<AggregatedValueObject>> builders = new ArrayList<>();
+            builders.add(new TimeWindowStatisticsImpl.Builder<>(
+                    new AggregatedUniformTimeReservoir(nowMillis, TimeUnit.MILLISECONDS)));
+            for (final long intervalMillis : intervalsMillis) {
+                builders.add(new TimeWindowStatisticsImpl.Builder<>(new AggregatedSlidingWindowTimeReservoir(
+                        intervalMillis, TimeUnit.MILLISECONDS, nowMillis, TimeUnit.MILLISECONDS)));
+            }
+
+            this.updatableIntervalStatistics = Collections.emptyList();
+            this.aggregatedIntervalStatistics = builders;
+
+            final HashMap<Long, TimeWindowStatisticsImpl.Builder> tmpIntervalStatistics = new HashMap<>(6);
+            for (final TimeWindowStatisticsImpl.Builder<AggregatedValueObject> builder : builders) {
+                tmpIntervalStatistics.put(builder.getInterval(), builder);
+            }
+            this.intervalStatistics = Collections.unmodifiableMap(tmpIntervalStatistics);
+        }
+
+        /**
+         * Create a new builder of execution statistics calculated from {@link #addExecutions(long, AggregatedValueObject)
+         * aggregated executions} instead of the individual executions.
+         *
+         * @return new builder of execution statistics.
+         */
+        @SuppressWarnings("MagicNumber")
+        static Builder aggregated() {
+            return new Builder(System.currentTimeMillis(),
+                    TimeUnit.SECONDS.toMillis(1),
+                    TimeUnit.SECONDS.toMillis(15),
+                    TimeUnit.MINUTES.toMillis(1),
+                    TimeUnit.MINUTES.toMillis(15),
+                    TimeUnit.HOURS.toMillis(1));
+        }
+
         private static void addAggregatedInterval(
                 final Map<Long, TimeWindowStatisticsImpl.Builder> intervalStatisticsMap,
                 final long nowMillis,
@@ -112,6 +151,21 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
             this.lastStartTime = startTime;
         }
 
+        /**
+         * Add aggregated executions of a target. Only the builders {@link #aggregated() created for aggregated executions}
+         * are updated.
+         *
+         * @param startTime  Start time of the last execution event (in Unix timestamp format).
+         * @param executions Aggregated durations of the execution events in milliseconds.
+         */
+        void addExecutions(final long startTime, final AggregatedValueObject executions) {
+            for (final TimeWindowStatisticsImpl.Builder<AggregatedValueObject> statBuilder : aggregatedIntervalStatistics) {
+                statBuilder.addRequest(startTime, executions);
+            }
+
+            this.lastStartTime = startTime;
+        }
+
         /**
          * Build a new instance of execution statistics.
          *
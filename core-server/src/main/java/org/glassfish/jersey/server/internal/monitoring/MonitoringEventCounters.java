@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+
+/**
+ * Striped counters of response status codes, exception mappings and request and resource method executions used by
+ * the {@link MonitoringEventListener} instead of the event queues when
+ * {@link org.glassfish.jersey.server.ServerProperties#MONITORING_STATISTICS_STRIPED_ENABLED striped monitoring statistics}
+ * are enabled.
+ * <p>
+ * The counters are updated by the request processing threads without any locking and without allocating an event
+ * object per request. The execution times are accumulated per resource method and uri as the count, total, minimum and
+ * maximum of the durations. The {@link MonitoringStatisticsProcessor} periodically
+ * {@link #mergeInto(MonitoringStatisticsImpl.Builder) merges} the increments since the previous merge into
+ * the monitoring statistics as {@link AggregatedValueObject aggregated values}. No event is lost.
+ * </p>
+ */
+final class MonitoringEventCounters {
+
+    private final Map<Integer, LongAdder> responseCodes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> exceptionMapperExecutions = new ConcurrentHashMap<>();
+    private final LongAdder successfulMappings = new LongAdder();
+    private final LongAdder unsuccessfulMappings = new LongAdder();
+    private volatile int lastResponseCode = -1;
+    private final Executions requestExecutions = new Executions(false);
+    // Executions of resource methods by the uri and the resource method executed.
+    private final Map<String, Map<ResourceMethod, Executions>> methodExecutions = new ConcurrentHashMap<>();
+
+    // Counts already merged into the statistics, accessed only by the thread merging the counters.
+    private final Map<Object, Long> merged = new HashMap<>();
+
+    /**
+     * Count a response status code.
+     *
+     * @param responseCode response status code.
+     */
+    void addResponseCode(final int responseCode) {
+        lastResponseCode = responseCode;
+        counter(responseCodes, responseCode).increment();
+    }
+
+    /**
+     * Count an exception mapping.
+     *
+     * @param event request event of the {@link RequestEvent.Type#EXCEPTION_MAPPING_FINISHED} type.
+     */
+    void addExceptionMapping(final RequestEvent event) {
+        if (event.getExceptionMapper() != null) {
+            counter(exceptionMapperExecutions, event.getExceptionMapper().getClass()).increment();
+        }
+
+        if (event.isResponseSuccessfullyMapped()) {
+            successfulMappings.increment();
+        } else {
+            unsuccessfulMappings.increment();
+        }
+    }
+
+    /**
+     * Add a request execution.
+     *
+     * @param uri              uri of the executed resource, ignored if no resource method was executed.
+     * @param methodStats      resource method execution or {@code null} if no resource method was executed.
+     * @param requestStartTime time when the request has been received (Unix timestamp format).
+     * @param requestDuration  time of whole request processing in milliseconds.
+     */
+    void addRequestExecution(final String uri, final MonitoringEventListener.MethodStats methodStats,
+                             final long requestStartTime, final long requestDuration) {
+        requestExecutions.add(requestStartTime, requestDuration);
+
+        if (methodStats != null) {
+            Map<ResourceMethod, Executions> uriExecutions = methodExecutions.get(uri);
+            if (uriExecutions == null) {
+                uriExecutions = methodExecutions.computeIfAbsent(uri, u -> new ConcurrentHashMap<>());
+            }
+            Executions executions = uriExecutions.get(methodStats.getMethod());
+            if (executions == null) {
+                executions = uriExecutions.computeIfAbsent(methodStats.getMethod(), m -> new Executions(true));
+            }
+            executions.add(methodStats.getStartTime(), methodStats.getDuration(), requestStartTime, requestDuration);
+        }
+    }
+
+    private static <K> LongAdder counter(final Map<K, LongAdder> counters, final K key) {
+        final LongAdder counter = counters.get(key);
+        return counter != null ? counter : counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    /**
+     * Merge the counts accumulated since the last merge into the monitoring statistics builder.
+     * <p>
+     * Must be invoked from a single thread only.
+     * </p>
+     *
+     * @param statisticsBuilder monitoring statistics builder.
+     */
+    void mergeInto(final MonitoringStatisticsImpl.Builder statisticsBuilder) {
+        for (final Map.Entry<Integer, LongAdder> entry : responseCodes.entrySet()) {
+            final long count = increment(entry.getKey(), entry.getValue());
+            if (count > 0) {
+                statisticsBuilder.addResponseCode(entry.getKey(), count);
+            }
+        }
+        final int lastCode = lastResponseCode;
+        if (lastCode != -1) {
+            statisticsBuilder.setLastResponseCode(lastCode);
+        }
+
+        final ExceptionMapperStatisticsImpl.Builder mapperStats = statisticsBuilder.getExceptionMapperStatisticsBuilder();
+        for (final Map.Entry<Class<?>, LongAdder> entry : exceptionMapperExecutions.entrySet()) {
+            final long count = increment(entry.getKey(), entry.getValue());
+            if (count > 0) {
+                mapperStats.addExceptionMapperExecution(entry.getKey(), count);
+            }
+        }
+
+        final long successful = increment(successfulMappings, successfulMappings);
+        if (successful > 0) {
+            mapperStats.addMapping(true, successful);
+        }
+        final long unsuccessful = increment(unsuccessfulMappings, unsuccessfulMappings);
+        if (unsuccessful > 0) {
+            mapperStats.addMapping(false, unsuccessful);
+        }
+
+        if (requestExecutions.drain()) {
+            statisticsBuilder.addRequestExecutions(requestExecutions.lastRequestStartTime, requestExecutions.requests);
+        }
+        for (final Map.Entry<String, Map<ResourceMethod, Executions>> uriEntry : methodExecutions.entrySet()) {
+            for (final Map.Entry<ResourceMethod, Executions> entry : uriEntry.getValue().entrySet()) {
+                final Executions executions = entry.getValue();
+                if (executions.drain()) {
+                    statisticsBuilder.addExecutions(uriEntry.getKey(), entry.getKey(),
+                            executions.lastMethodStartTime, executions.methods,
+                            executions.lastRequestStartTime, executions.requests);
+                }
+            }
+        }
+    }
+
+    private long increment(final Object key, final LongAdder counter) {
+        // LongAdder#sumThenReset() could lose concurrent updates, so remember the merged sum instead.
+        final long sum = counter.sum();
+        final Long previous = merged.put(key, sum);
+        return previous == null ? sum : sum - previous;
+    }
+
+    /**
+     * Executions of requests, optionally together with the executions of the resource method matched by the requests.
+     * The count of the executions is shared, so the request and method executions merged are always in sync.
+     */
+    private static final class Executions {
+
+        private final LongAdder count = new LongAdder();
+        private final Durations requestDurations = new Durations();
+        private final Durations methodDurations;
+        private volatile long lastRequestStartTime;
+        private volatile long lastMethodStartTime;
+
+        // Accessed only by the thread merging the counters.
+        private long mergedCount;
+        private AggregatedValueObject requests;
+        private AggregatedValueObject methods;
+
+        private Executions(final boolean withMethods) {
+            this.methodDurations = withMethods ? new Durations() : null;
+        }
+
+        void add(final long requestStartTime, final long requestDuration) {
+            lastRequestStartTime = requestStartTime;
+            requestDurations.add(requestDuration);
+            // counted last, so that the durations of the counted executions are visible to the merging thread
+            count.increment();
+        }
+
+        void add(final long methodStartTime, final long methodDuration,
+                 final long requestStartTime, final long requestDuration) {
+            lastMethodStartTime = methodStartTime;
+            methodDurations.add(methodDuration);
+            add(requestStartTime, requestDuration);
+        }
+
+        /**
+         * Aggregate the executions added since the last drain.
+         *
+         * @return {@code true} if there was an execution added since the last drain.
+         */
+        boolean drain() {
+            final long sum = count.sum();
+            final long executions = sum - mergedCount;
+            if (executions <= 0) {
+                return false;
+            }
+            mergedCount = sum;
+            requests = requestDurations.drain(executions);
+            methods = methodDurations == null ? null : methodDurations.drain(executions);
+            return true;
+        }
+    }
+
+    /**
+     * Total, minimum and maximum of execution durations.
+     */
+    private static final class Durations {
+
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+        // Accessed only by the thread merging the counters.
+        private long mergedTotal;
+
+        void add(final long duration) {
+            // written only by a new extreme, the extremes are rarely updated once the first executions are added
+            long current = min.get();
+            while (duration < current && !min.compareAndSet(current, duration)) {
+                current = min.get();
+            }
+            current = max.get();
+            while (duration > current && !max.compareAndSet(current, duration)) {
+                current = max.get();
+            }
+            total.add(duration);
+        }
+
+        AggregatedValueObject drain(final long count) {
+            final long sum = total.sum();
+            final long durations = sum - mergedTotal;
+            mergedTotal = sum;
+
+            long min = this.min.getAndSet(Long.MAX_VALUE);
+            long max = this.max.getAndSet(Long.MIN_VALUE);
+            // the extremes of the drained executions were taken by the previous drain, use the mean instead
+            final long mean = durations / count;
+            if (min == Long.MAX_VALUE) {
+                min = max == Long.MIN_VALUE ? mean : Math.min(mean, max);
+            }
+            if (max == Long.MIN_VALUE) {
+                max = Math.max(mean, min);
+            }
+            return AggregatedValueObject.createFromAggregate(count, durations, min, max);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -30,6 +30,7 @@ import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
 
 import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.ApplicationEvent;
@@ -51,6 +52,12 @@ import org.glassfish.jersey.uri.UriTemplate;
  * This event listener must be registered as a standard provider when monitoring statistics are required
  * in the runtime.
  * </p>
+ * <p>
+ * When {@link ServerProperties#MONITORING_STATISTICS_STRIPED_ENABLED striped monitoring statistics} are enabled,
+ * the request and resource method executions, response status codes and exception mappings are accumulated by
+ * {@link MonitoringEventCounters striped counters} instead of the bounded blocking queues, so that the request
+ * processing threads do not contend on a single queue lock and no event is dropped.
+ * </p>
  *
  * @author Miroslav Fuksa
  * @see MonitoringStatisticsProcessor
@@ -67,6 +74,8 @@ public final class MonitoringEventListener implements ApplicationEventListener {
     private final Queue<RequestStats> requestQueuedItems = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
     private final Queue<Integer> responseStatuses = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
     private final Queue<RequestEvent> exceptionMapperEvents = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
+    // Non-null when the striped monitoring statistics are enabled.
+    private volatile MonitoringEventCounters eventCounters;
     private volatile MonitoringStatisticsProcessor monitoringStatisticsProcessor;
     // By default new events can arrive before MonitoringStatisticsProcessor is running.
     private final AtomicBoolean processorFailed = new AtomicBoolean(false);
@@ -110,7 +119,7 @@ public final class MonitoringEventListener implements ApplicationEventListener {
 
         private final ResourceMethod method;
 
-        private MethodStats(final ResourceMethod method, final long startTime, final long requestDuration) {
+        MethodStats(final ResourceMethod method, final long startTime, final long requestDuration) {
             super(startTime, requestDuration);
             this.method = method;
         }
@@ -183,6 +192,10 @@ public final class MonitoringEventListener implements ApplicationEventListener {
         final ApplicationEvent.Type type = event.getType();
         switch (type) {
             case INITIALIZATION_START:
+                if (ServerProperties.getValue(event.getResourceConfig().getProperties(),
+                        ServerProperties.MONITORING_STATISTICS_STRIPED_ENABLED, Boolean.FALSE, Boolean.class)) {
+                    this.eventCounters = new MonitoringEventCounters();
+                }
                 break;
             case RELOAD_FINISHED:
             case INITIALIZATION_FINISHED:
@@ -241,13 +254,17 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                     methodStats = new MethodStats(method, methodTimeStart, now - methodTimeStart);
                     break;
                 case EXCEPTION_MAPPING_FINISHED:
-                    if (!offer(exceptionMapperEvents, event)) {
+                    if (eventCounters != null) {
+                        eventCounters.addExceptionMapping(event);
+                    } else if (!offer(exceptionMapperEvents, event)) {
                         LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_MAPPER());
                     }
                     break;
                 case FINISHED:
                     if (event.isResponseWritten()) {
-                        if (!offer(responseStatuses, event.getContainerResponse().getStatus())) {
+                        if (eventCounters != null) {
+                            eventCounters.addResponseCode(event.getContainerResponse().getStatus());
+                        } else if (!offer(responseStatuses, event.getContainerResponse().getStatus())) {
                             LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_RESPONSE());
                         }
                     }
@@ -267,8 +284,10 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                         }
                         sb.setLength(sb.length() - 1);
                     }
-                    if (!offer(requestQueuedItems, new RequestStats(new TimeStats(requestTimeStart, now - requestTimeStart),
-                            methodStats, sb.toString()))) {
+                    if (eventCounters != null) {
+                        eventCounters.addRequestExecution(sb.toString(), methodStats, requestTimeStart, now - requestTimeStart);
+                    } else if (!offer(requestQueuedItems, new RequestStats(
+                            new TimeStats(requestTimeStart, now - requestTimeStart), methodStats, sb.toString()))) {
                         LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_REQUEST());
                     }
 
@@ -291,6 +310,15 @@ public final class MonitoringEventListener implements ApplicationEventListener {
         processorFailed.set(true);
     }
 
+    /**
+     * Get the striped counters of executions, response status codes and exception mappings.
+     *
+     * @return striped event counters or {@code null} if the striped monitoring statistics are not enabled.
+     */
+    MonitoringEventCounters getEventCounters() {
+        return eventCounters;
+    }
+
     /**
      * Get the exception mapper event queue.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,9 +23,11 @@ import java.util.TreeMap;
 import java.util.function.Function;
 
 import org.glassfish.jersey.internal.util.collection.Views;
+import org.glassfish.jersey.message.internal.HeaderValueCache;
 import org.glassfish.jersey.server.model.Resource;
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.monitoring.CacheStatistics;
 import org.glassfish.jersey.server.monitoring.ExceptionMapperStatistics;
 import org.glassfish.jersey.server.monitoring.ExecutionStatistics;
 import org.glassfish.jersey.server.monitoring.MonitoringStatistics;
@@ -76,6 +78,7 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
                 = new TreeMap<>((o1, o2) -> o1.getName().compareTo(o2.getName()));
 
         private ExecutionStatisticsImpl.Builder executionStatisticsBuilder;
+        private CacheStatistics methodSelectionCacheStatistics;
 
         /**
          * Create a new builder.
@@ -127,6 +130,15 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             return builder;
         }
 
+        /**
+         * Set the live resource method selection cache statistics a snapshot of which is taken on every build.
+         *
+         * @param methodSelectionCacheStatistics resource method selection cache statistics.
+         */
+        void setMethodSelectionCacheStatistics(final CacheStatistics methodSelectionCacheStatistics) {
+            this.methodSelectionCacheStatistics = methodSelectionCacheStatistics;
+        }
+
         /**
          * Get the exception mapper statistics builder.
          *
@@ -185,10 +197,72 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
          *
          * @param responseCode Response status code.
          */
+        /**
+         * Add aggregated executions of requests.
+         *
+         * @param startTime  Time when the last request has been received (Unix timestamp format).
+         * @param executions Aggregated times of whole request processing.
+         */
+        void addRequestExecutions(final long startTime, final AggregatedValueObject executions) {
+            if (executionStatisticsBuilder == null) {
+                executionStatisticsBuilder = ExecutionStatisticsImpl.Builder.aggregated();
+            }
+            executionStatisticsBuilder.addExecutions(startTime, executions);
+        }
+
+        /**
+         * Add aggregated executions of a resource method.
+         *
+         * @param uri               String uri of the executed resource.
+         * @param resourceMethod    Executed resource method.
+         * @param methodTime        Time of the last execution of the resource method.
+         * @param methodExecutions  Aggregated times of execution of the resource method.
+         * @param requestTime       Time of the last request that caused the method execution.
+         * @param requestExecutions Aggregated times of whole request processing.
+         */
+        void addExecutions(final String uri, final ResourceMethod resourceMethod,
+                           final long methodTime, final AggregatedValueObject methodExecutions,
+                           final long requestTime, final AggregatedValueObject requestExecutions) {
+            // Uri resource stats.
+            ResourceStatisticsImpl.Builder uriStatsBuilder = uriStatistics.get(uri);
+            if (uriStatsBuilder == null) {
+                uriStatsBuilder = new ResourceStatisticsImpl.Builder(resourceMethod.getParent(), methodFactory);
+                uriStatistics.put(uri, uriStatsBuilder);
+            }
+            uriStatsBuilder.addExecutions(resourceMethod, methodTime, methodExecutions, requestTime, requestExecutions);
+
+            // Class resource stats.
+            final ResourceStatisticsImpl.Builder classStatsBuilder = getOrCreateResourceBuilder(resourceMethod);
+            classStatsBuilder.addExecutions(resourceMethod, methodTime, methodExecutions, requestTime, requestExecutions);
+
+            // Resource method stats.
+            methodFactory.getOrCreate(resourceMethod)
+                         .addResourceMethodExecutions(methodTime, methodExecutions, requestTime, requestExecutions);
+        }
+
         void addResponseCode(final int responseCode) {
             responseStatisticsBuilder.addResponseCode(responseCode);
         }
 
+        /**
+         * Add a number of responses with the same status code produced by Jersey.
+         *
+         * @param responseCode Response status code.
+         * @param count        Number of the responses.
+         */
+        void addResponseCode(final int responseCode, final long count) {
+            responseStatisticsBuilder.addResponseCode(responseCode, count);
+        }
+
+        /**
+         * Set the status code of the last response produced by Jersey.
+         *
+         * @param responseCode Response status code.
+         */
+        void setLastResponseCode(final int responseCode) {
+            responseStatisticsBuilder.setLastResponseCode(responseCode);
+        }
+
         /**
          * Build a new instance of monitoring statistics.
          *
@@ -206,7 +280,17 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             return new MonitoringStatisticsImpl(
                     uriStats, classStats, requestStats,
                     responseStatisticsBuilder.build(),
-                    exceptionMapperStatisticsBuilder.build());
+                    exceptionMapperStatisticsBuilder.build(),
+                    CacheStatisticsImpl.snapshot(methodSelectionCacheStatistics),
+                    buildHeaderCacheStatistics());
+        }
+
+        private static Map<String, CacheStatistics> buildHeaderCacheStatistics() {
+            final SortedMap<String, CacheStatistics> statistics = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (final HeaderValueCache<?> cache : HeaderValueCache.getCaches().values()) {
+                statistics.put(cache.getName(), CacheStatisticsImpl.of(cache.getHitCount(), cache.getMissCount()));
+            }
+            return Collections.unmodifiableMap(statistics);
         }
     }
 
@@ -215,17 +299,23 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
     private final ExceptionMapperStatistics exceptionMapperStatistics;
     private final Map<String, ResourceStatistics> uriStatistics;
     private final Map<Class<?>, ResourceStatistics> resourceClassStatistics;
+    private final CacheStatistics methodSelectionCacheStatistics;
+    private final Map<String, CacheStatistics> headerCacheStatistics;
 
     private MonitoringStatisticsImpl(final Map<String, ResourceStatistics> uriStatistics,
                                      final Map<Class<?>, ResourceStatistics> resourceClassStatistics,
                                      final ExecutionStatistics requestStatistics,
                                      final ResponseStatistics responseStatistics,
-                                     final ExceptionMapperStatistics exceptionMapperStatistics) {
+                                     final ExceptionMapperStatistics exceptionMapperStatistics,
+                                     final CacheStatistics methodSelectionCacheStatistics,
+                                     final Map<String, CacheStatistics> headerCacheStatistics) {
         this.uriStatistics = uriStatistics;
         this.resourceClassStatistics = resourceClassStatistics;
         this.requestStatistics = requestStatistics;
         this.responseStatistics = responseStatistics;
         this.exceptionMapperStatistics = exceptionMapperStatistics;
+        this.methodSelectionCacheStatistics = methodSelectionCacheStatistics;
+        this.headerCacheStatistics = headerCacheStatistics;
     }
 
     @Override
@@ -263,6 +353,16 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
         return exceptionMapperStatistics;
     }
 
+    @Override
+    public CacheStatistics getMethodSelectionCacheStatistics() {
+        return methodSelectionCacheStatistics;
+    }
+
+    @Override
+    public Map<String, CacheStatistics> getHeaderCacheStatistics() {
+        return headerCacheStatistics;
+    }
+
     @Override
     public MonitoringStatistics snapshot() {
         // snapshot is not needed, this object is loosely immutable (see javadoc of Maps getters)
@@ -36,6 +36,7 @@ import org.glassfish.jersey.server.ExtendedResourceContext;
 import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.monitoring.MonitoringEventListener.RequestStats;
+import org.glassfish.jersey.server.internal.routing.MethodSelectionCacheStatistics;
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.model.ResourceModel;
 import org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener;
@@ -74,6 +75,8 @@ final class MonitoringStatisticsProcessor {
         this.monitoringEventListener = monitoringEventListener;
         final ResourceModel resourceModel = injectionManager.getInstance(ExtendedResourceContext.class).getResourceModel();
         this.statisticsBuilder = new MonitoringStatisticsImpl.Builder(resourceModel);
+        this.statisticsBuilder.setMethodSelectionCacheStatistics(
+                injectionManager.getInstance(MethodSelectionCacheStatistics.class));
         this.statisticsCallbackList = injectionManager.getAllInstances(MonitoringStatisticsListener.class);
         this.scheduler =
                 injectionManager.getInstance(ScheduledExecutorService.class, BackgroundSchedulerLiteral.INSTANCE);
@@ -94,6 +97,7 @@ final class MonitoringStatisticsProcessor {
                     processRequestItems();
                     processResponseCodeEvents();
                     processExceptionMapperEvents();
+                    processEventCounters();
                 } catch (final Throwable t) {
                     monitoringEventListener.processorFailed();
                     LOGGER.log(Level.SEVERE, LocalizationMessages.ERROR_MONITORING_STATISTICS_GENERATION(), t);
@@ -165,6 +169,13 @@ final class MonitoringStatisticsProcessor {
 
     }
 
+    private void processEventCounters() {
+        final MonitoringEventCounters eventCounters = monitoringEventListener.getEventCounters();
+        if (eventCounters != null) {
+            eventCounters.mergeInto(statisticsBuilder);
+        }
+    }
+
     /**
      * Stops processing of any further execution of this processor. The internal thread will finish
      * processing of actual events and will be not executed again. The method finishes after the
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -126,6 +126,30 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
             }
             requestExecutionStatisticsBuilder.get().addExecution(requestStartTime, requestDuration);
         }
+
+        /**
+         * Add aggregated executions of the resource method to the statistics.
+         *
+         * @param methodStartTime   Start time of the last execution of the resource method (Unix timestamp format).
+         * @param methodExecutions  Aggregated times of execution of the resource method.
+         * @param requestStartTime  Time when the last request matching to the executed resource method has been received
+         *                          by Jersey (Unix timestamp format).
+         * @param requestExecutions Aggregated times of whole request processing.
+         */
+        void addResourceMethodExecutions(final long methodStartTime, final AggregatedValueObject methodExecutions,
+                                         final long requestStartTime, final AggregatedValueObject requestExecutions) {
+            cached = null;
+
+            if (resourceMethodExecutionStatisticsBuilder.get() == null) {
+                resourceMethodExecutionStatisticsBuilder.compareAndSet(null, ExecutionStatisticsImpl.Builder.aggregated());
+            }
+            resourceMethodExecutionStatisticsBuilder.get().addExecutions(methodStartTime, methodExecutions);
+
+            if (requestExecutionStatisticsBuilder.get() == null) {
+                requestExecutionStatisticsBuilder.compareAndSet(null, ExecutionStatisticsImpl.Builder.aggregated());
+            }
+            requestExecutionStatisticsBuilder.get().addExecutions(requestStartTime, requestExecutions);
+        }
     }
 
     private final ExecutionStatistics resourceMethodExecutionStatistics;
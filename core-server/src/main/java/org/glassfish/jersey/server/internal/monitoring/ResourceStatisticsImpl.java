@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -134,6 +134,34 @@ final class ResourceStatisticsImpl implements ResourceStatistics {
             addMethod(resourceMethod);
         }
 
+        /**
+         * Add aggregated executions of a resource method in the resource.
+         *
+         * @param resourceMethod    Resource method executed.
+         * @param methodStartTime   Time of the last execution of the resource method.
+         * @param methodExecutions  Aggregated times spent on execution of resource method itself.
+         * @param requestStartTime  Time when the last request matching to the executed resource method has been received
+         *                          by Jersey.
+         * @param requestExecutions Aggregated times of whole request processing.
+         */
+        void addExecutions(final ResourceMethod resourceMethod,
+                           final long methodStartTime, final AggregatedValueObject methodExecutions,
+                           final long requestStartTime, final AggregatedValueObject requestExecutions) {
+            cached = null;
+
+            if (resourceExecutionStatisticsBuilder.get() == null) {
+                resourceExecutionStatisticsBuilder.compareAndSet(null, ExecutionStatisticsImpl.Builder.aggregated());
+            }
+            resourceExecutionStatisticsBuilder.get().addExecutions(methodStartTime, methodExecutions);
+
+            if (requestExecutionStatisticsBuilder.get() == null) {
+                requestExecutionStatisticsBuilder.compareAndSet(null, ExecutionStatisticsImpl.Builder.aggregated());
+            }
+            requestExecutionStatisticsBuilder.get().addExecutions(requestStartTime, requestExecutions);
+
+            addMethod(resourceMethod);
+        }
+
         /**
          * Add a resource method to the statistics.
          *
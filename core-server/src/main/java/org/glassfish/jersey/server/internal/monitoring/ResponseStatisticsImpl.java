@@ -43,14 +43,25 @@ final class ResponseStatisticsImpl implements ResponseStatistics {
         private ResponseStatisticsImpl cached = null;
 
         void addResponseCode(final int responseCode) {
+            addResponseCode(responseCode, 1);
+            lastResponseCode = responseCode;
+        }
+
+        void addResponseCode(final int responseCode, final long count) {
             cached = null;
 
-            lastResponseCode = responseCode;
             Long currentValue = responseCodesMap.get(responseCode);
             if (currentValue == null) {
                 currentValue = 0L;
             }
-            responseCodesMap.put(responseCode, currentValue + 1);
+            responseCodesMap.put(responseCode, currentValue + count);
+        }
+
+        void setLastResponseCode(final int responseCode) {
+            if (lastResponseCode == null || lastResponseCode != responseCode) {
+                cached = null;
+                lastResponseCode = responseCode;
+            }
         }
 
         ResponseStatisticsImpl build() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,8 +22,11 @@ import jakarta.ws.rs.NotAllowedException;
 import jakarta.ws.rs.NotSupportedException;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.internal.guava.Cache;
+import org.glassfish.jersey.internal.guava.CacheBuilder;
 import org.glassfish.jersey.internal.guava.Primitives;
 import org.glassfish.jersey.internal.routing.CombinedMediaType;
 import org.glassfish.jersey.internal.routing.ContentTypeDeterminer;
@@ -52,6 +55,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.logging.Level;
@@ -101,6 +105,8 @@ abstract class AbstractMethodSelectingRouter extends ContentTypeDeterminer imple
 
     private final Map<String, List<ConsumesProducesAcceptor>> consumesProducesAcceptors;
     private final Router router;
+    private final Cache<MethodSelectionKey, MethodSelection> methodSelectionCache;
+    private final MethodSelectionCacheStatistics methodSelectionCacheStatistics;
 
     /**
      * Create a new {@code MethodSelectingRouter} for all the methods on the same path.
@@ -110,10 +116,19 @@ abstract class AbstractMethodSelectingRouter extends ContentTypeDeterminer imple
      *
      * @param workers        message body workers.
      * @param methodRoutings [method model, method methodAcceptorPair] pairs.
+     * @param cacheSize      maximum number of method selections cached per (HTTP method, {@code Content-Type},
+     *                       {@code Accept}) request header combination; the cache is disabled if not positive.
+     * @param cacheStatistics method selection cache hit and miss counters.
      */
-    AbstractMethodSelectingRouter(MessageBodyWorkers workers, List<MethodRouting> methodRoutings) {
+    AbstractMethodSelectingRouter(MessageBodyWorkers workers, List<MethodRouting> methodRoutings,
+                                  int cacheSize, MethodSelectionCacheStatistics cacheStatistics) {
         super(workers);
 
+        this.methodSelectionCache = cacheSize > 0
+                ? CacheBuilder.newBuilder().maximumSize(cacheSize).<MethodSelectionKey, MethodSelection>build()
+                : null;
+        this.methodSelectionCacheStatistics = cacheStatistics;
+
         this.consumesProducesAcceptors = new HashMap<>();
 
         final Set<String> httpMethods = new HashSet<>();
@@ -278,6 +293,66 @@ abstract class AbstractMethodSelectingRouter extends ContentTypeDeterminer imple
         }
     }
 
+    /**
+     * Result of the resource method selection for a request.
+     */
+    private static final class MethodSelection {
+
+        private final MethodSelector methodSelector;
+        private final List<AcceptableMediaType> acceptableMediaTypes;
+        // response media type that does not depend on the response entity, null if it has to be determined per response
+        private final MediaType preSelectedMediaType;
+
+        private MethodSelection(final MethodSelector methodSelector, final List<AcceptableMediaType> acceptableMediaTypes) {
+            this.methodSelector = methodSelector;
+            this.acceptableMediaTypes = acceptableMediaTypes;
+            this.preSelectedMediaType = usePreSelectedMediaType(methodSelector.selected, acceptableMediaTypes)
+                    ? methodSelector.selected.getProduces().getCombinedType() : null;
+        }
+    }
+
+    /**
+     * Method selection cache key. Resource method selection depends only on the request HTTP method, the request
+     * {@code Content-Type} and the acceptable media types (i.e. the raw value of the {@code Accept} header).
+     * <p>
+     * The {@code Content-Type} is normalized to its type, subtype and {@code charset} parameter, since the other
+     * parameters, such as the multipart {@code boundary}, differ per request and do not affect the selection.
+     * </p>
+     */
+    private static final class MethodSelectionKey {
+
+        private final String httpMethod;
+        private final MediaType contentType;
+        private final String accept;
+        private final int hashCode;
+
+        private MethodSelectionKey(final String httpMethod, final MediaType contentType, final String accept) {
+            this.httpMethod = httpMethod;
+            this.contentType = contentType;
+            this.accept = accept;
+            this.hashCode = Objects.hash(httpMethod, contentType, accept);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MethodSelectionKey)) {
+                return false;
+            }
+            final MethodSelectionKey that = (MethodSelectionKey) o;
+            return httpMethod.equals(that.httpMethod)
+                    && Objects.equals(contentType, that.contentType)
+                    && Objects.equals(accept, that.accept);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     private Router createInternalRouter() {
         return new Router() {
 
@@ -391,6 +466,71 @@ abstract class AbstractMethodSelectingRouter extends ContentTypeDeterminer imple
 
     private List<Router> getMethodRouter(final RequestProcessingContext context) {
         final ContainerRequest request = context.request();
+        final MethodSelection methodSelection = methodSelectionCache == null
+                ? selectMethod(request) : getCachedMethodSelection(request);
+
+        final RequestSpecificConsumesProducesAcceptor<MethodRouting> selected = methodSelection.methodSelector.selected;
+
+        context.push(new Function<ContainerResponse, ContainerResponse>() {
+            @Override
+            public ContainerResponse apply(final ContainerResponse responseContext) {
+                // we only need to compute and set the effective media type if:
+                // - it hasn't been set already, and
+                // - either there is an entity, or we are responding to a HEAD request
+                if (responseContext.getMediaType() == null
+                        && ((responseContext.hasEntity() || HttpMethod.HEAD.equals(request.getMethod())))) {
+
+                    MediaType effectiveResponseType = methodSelection.preSelectedMediaType != null
+                            ? methodSelection.preSelectedMediaType
+                            : determineResponseMediaType(
+                                    responseContext.getEntityClass(),
+                                    responseContext.getEntityType(),
+                                    selected,
+                                    methodSelection.acceptableMediaTypes);
+
+                    if (MediaTypes.isWildcard(effectiveResponseType)) {
+                        if (effectiveResponseType.isWildcardType()
+                                || "application".equalsIgnoreCase(effectiveResponseType.getType())) {
+                            effectiveResponseType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
+                        } else {
+                            throw new NotAcceptableException();
+                        }
+                    }
+                    responseContext.setMediaType(effectiveResponseType);
+                }
+
+                return responseContext;
+            }
+        });
+        return selected.getMethodRouting().routers;
+    }
+
+    private MethodSelection getCachedMethodSelection(final ContainerRequest request) {
+        final MethodSelectionKey key = new MethodSelectionKey(
+                request.getMethod(), normalizeContentType(request.getMediaType()), request.getHeaderString(HttpHeaders.ACCEPT));
+
+        MethodSelection methodSelection = methodSelectionCache.getIfPresent(key);
+        if (methodSelection != null) {
+            methodSelectionCacheStatistics.hit();
+        } else {
+            methodSelectionCacheStatistics.miss();
+            methodSelection = selectMethod(request);
+            methodSelectionCache.put(key, methodSelection);
+        }
+        return methodSelection;
+    }
+
+    private static MediaType normalizeContentType(final MediaType contentType) {
+        if (contentType == null || contentType.getParameters().isEmpty()) {
+            return contentType;
+        }
+        final String charset = contentType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset == null
+                ? new MediaType(contentType.getType(), contentType.getSubtype())
+                : new MediaType(contentType.getType(), contentType.getSubtype(), charset);
+    }
+
+    private MethodSelection selectMethod(final ContainerRequest request) {
         final List<ConsumesProducesAcceptor> acceptors = consumesProducesAcceptors.get(request.getMethod());
         if (acceptors == null) {
             throw new NotAllowedException(
@@ -417,47 +557,16 @@ abstract class AbstractMethodSelectingRouter extends ContentTypeDeterminer imple
         final MethodSelector methodSelector = selectMethod(acceptableMediaTypes, satisfyingAcceptors, effectiveContentType,
                 differentInvokableMethods.size() == 1);
 
-        if (methodSelector.selected != null) {
-            final RequestSpecificConsumesProducesAcceptor<MethodRouting> selected = methodSelector.selected;
-
-            if (methodSelector.sameFitnessAcceptors != null) {
-                reportMethodSelectionAmbiguity(acceptableMediaTypes, methodSelector.selected,
-                        methodSelector.sameFitnessAcceptors);
-            }
-
-            context.push(new Function<ContainerResponse, ContainerResponse>() {
-                @Override
-                public ContainerResponse apply(final ContainerResponse responseContext) {
-                    // we only need to compute and set the effective media type if:
-                    // - it hasn't been set already, and
-                    // - either there is an entity, or we are responding to a HEAD request
-                    if (responseContext.getMediaType() == null
-                            && ((responseContext.hasEntity() || HttpMethod.HEAD.equals(request.getMethod())))) {
-
-                        MediaType effectiveResponseType = determineResponseMediaType(
-                                responseContext.getEntityClass(),
-                                responseContext.getEntityType(),
-                                methodSelector.selected,
-                                acceptableMediaTypes);
-
-                        if (MediaTypes.isWildcard(effectiveResponseType)) {
-                            if (effectiveResponseType.isWildcardType()
-                                    || "application".equalsIgnoreCase(effectiveResponseType.getType())) {
-                                effectiveResponseType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
-                            } else {
-                                throw new NotAcceptableException();
-                            }
-                        }
-                        responseContext.setMediaType(effectiveResponseType);
-                    }
+        if (methodSelector.selected == null) {
+            throw new NotAcceptableException();
+        }
 
-                    return responseContext;
-                }
-            });
-            return selected.getMethodRouting().routers;
+        if (methodSelector.sameFitnessAcceptors != null) {
+            reportMethodSelectionAmbiguity(acceptableMediaTypes, methodSelector.selected,
+                    methodSelector.sameFitnessAcceptors);
         }
 
-        throw new NotAcceptableException();
+        return new MethodSelection(methodSelector, acceptableMediaTypes);
     }
 
     /**
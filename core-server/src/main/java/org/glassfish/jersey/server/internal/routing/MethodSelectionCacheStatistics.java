@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.jersey.server.monitoring.CacheStatistics;
+
+/**
+ * Live hit and miss counters of the resource method selection caches of all the method selecting routers
+ * of an application.
+ */
+public final class MethodSelectionCacheStatistics implements CacheStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Record a method selection served from the cache.
+     */
+    void hit() {
+        hits.increment();
+    }
+
+    /**
+     * Record a method selection that was not found in the cache.
+     */
+    void miss() {
+        misses.increment();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+}
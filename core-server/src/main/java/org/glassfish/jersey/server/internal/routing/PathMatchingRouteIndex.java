@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.glassfish.jersey.uri.PathPattern;
+
+/**
+ * Routing index of the {@link Route routes} accepted by a {@link PathMatchingRouter}.
+ * <p>
+ * Routes are indexed by the literal first path segment of their routing template. For a given request path the index
+ * returns only the routes that may possibly match the path, i.e. the routes indexed under the first segment of the path
+ * together with all the routes whose template starts with a template variable (or is otherwise not indexable).
+ * The returned candidates keep the original order of the routes so that the JAX-RS matching rules applied by the router
+ * are not affected. The path pattern regular expression is still the final arbiter whether a candidate route matches.
+ * </p>
+ */
+final class PathMatchingRouteIndex {
+
+    private final Map<String, List<Route>> literalCandidates;
+    private final List<Route> variableCandidates;
+
+    /**
+     * Create new routing index for the list of routes.
+     *
+     * @param routes ordered list of routes to be indexed.
+     * @return new routing index.
+     */
+    static PathMatchingRouteIndex of(final List<Route> routes) {
+        return new PathMatchingRouteIndex(routes);
+    }
+
+    private PathMatchingRouteIndex(final List<Route> routes) {
+        final Map<String, List<Integer>> literalPositions = new HashMap<>();
+        final List<Integer> variablePositions = new ArrayList<>();
+
+        int position = 0;
+        for (final Route route : routes) {
+            final String segment = literalSegment(route.routingPattern());
+            if (segment == null) {
+                variablePositions.add(position);
+            } else {
+                literalPositions.computeIfAbsent(segment, key -> new ArrayList<>()).add(position);
+            }
+            position++;
+        }
+
+        this.variableCandidates = select(routes, variablePositions, Collections.emptyList());
+        this.literalCandidates = new HashMap<>();
+        for (final Map.Entry<String, List<Integer>> entry : literalPositions.entrySet()) {
+            literalCandidates.put(entry.getKey(), select(routes, entry.getValue(), variablePositions));
+        }
+    }
+
+    /**
+     * Get the ordered list of routes that may match the given request path.
+     *
+     * @param path un-matched right-hand request path.
+     * @return ordered list of candidate routes.
+     */
+    List<Route> candidates(final String path) {
+        if (literalCandidates.isEmpty() || path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return variableCandidates;
+        }
+
+        int end = 1;
+        while (end < path.length()) {
+            final char c = path.charAt(end);
+            if (c == '/' || c == ';') {
+                break;
+            }
+            end++;
+        }
+
+        final List<Route> candidates = literalCandidates.get(path.substring(1, end));
+        return candidates == null ? variableCandidates : candidates;
+    }
+
+    /**
+     * Merge the routes at the given positions into a single list ordered by the original route positions.
+     */
+    private static List<Route> select(final List<Route> routes, final List<Integer> first, final List<Integer> second) {
+        final List<Route> selected = new ArrayList<>(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while (i < first.size() || j < second.size()) {
+            if (j >= second.size() || (i < first.size() && first.get(i) < second.get(j))) {
+                selected.add(routes.get(first.get(i++)));
+            } else {
+                selected.add(routes.get(second.get(j++)));
+            }
+        }
+        return selected.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(selected);
+    }
+
+    /**
+     * Get the literal first path segment the pattern is able to match.
+     * <p>
+     * The segment is derived from the regular expression of the pattern template (so that any template encoding is taken
+     * into account). Only segments consisting of unreserved URI characters are considered literal, any other pattern
+     * is not indexable.
+     * </p>
+     *
+     * @param pattern routing path pattern.
+     * @return literal first path segment or {@code null} if the pattern cannot be indexed by the literal segment.
+     */
+    static String literalSegment(final PathPattern pattern) {
+        if (pattern.getTemplate() == null || pattern.getTemplate().getPattern() == null) {
+            return null;
+        }
+
+        final String regex = pattern.getTemplate().getPattern().getRegex();
+        if (regex == null || regex.length() < 2 || regex.charAt(0) != '/') {
+            return null;
+        }
+
+        final StringBuilder segment = new StringBuilder();
+        for (int i = 1; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '/') {
+                break;
+            } else if (c == '\\' && i + 1 < regex.length() && (regex.charAt(i + 1) == '.' || regex.charAt(i + 1) == '-')) {
+                c = regex.charAt(++i);
+            } else if (!isUnreserved(c)) {
+                return null;
+            }
+            segment.append(c);
+        }
+        return segment.length() == 0 ? null : segment.toString();
+    }
+
+    private static boolean isUnreserved(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '~';
+    }
+}
@@ -34,16 +34,20 @@ import org.glassfish.jersey.uri.PathPattern;
 final class PathMatchingRouter implements Router {
 
     private final List<Route> acceptedRoutes;
+    private final PathMatchingRouteIndex routeIndex;
 
     /**
      * Constructs route methodAcceptorPair that uses {@link PathPattern} instances for
-     * patch matching.
+     * patch matching and optionally a routing index to narrow down the routes to be matched.
      *
-     * @param routes   next-level request routers to be returned in case the router matching
-     *                 the built router is successful.
+     * @param routes     next-level request routers to be returned in case the router matching
+     *                   the built router is successful.
+     * @param routeIndex routing index of the {@code routes}, may be {@code null} in which case
+     *                   all the routes are matched sequentially.
      */
-    PathMatchingRouter(final List<Route> routes) {
+    PathMatchingRouter(final List<Route> routes, final PathMatchingRouteIndex routeIndex) {
         this.acceptedRoutes = routes;
+        this.routeIndex = routeIndex;
     }
 
     @Override
@@ -59,7 +63,12 @@ final class PathMatchingRouter implements Router {
         MatchResult matchResultCandidate = null;
         Route acceptedRouteCandidate = null;
 
-        final Iterator<Route> iterator = acceptedRoutes.iterator();
+        // full list of routes is needed to trace the non-matching patterns
+        final List<Route> routes = routeIndex == null || tracingLogger.isLogEnabled(ServerTraceEvent.MATCH_PATH_NOT_MATCHED)
+                ? acceptedRoutes
+                : routeIndex.candidates(path);
+
+        final Iterator<Route> iterator = routes.iterator();
         while (iterator.hasNext()) {
             final Route acceptedRoute = iterator.next();
             final PathPattern routePattern = acceptedRoute.routingPattern();
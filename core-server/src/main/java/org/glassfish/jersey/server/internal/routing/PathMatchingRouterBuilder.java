@@ -30,23 +30,26 @@ import org.glassfish.jersey.uri.PathPattern;
 final class PathMatchingRouterBuilder implements PathToRouterBuilder {
 
     private final List<Route> acceptedRoutes = new LinkedList<>();
+    private final boolean indexed;
     private List<Router> currentRouters;
 
-
     /**
      * Create new request path pattern matching router builder.
      *
      * @param pattern request path matching pattern.
+     * @param indexed if {@code true}, the built router will use a {@link PathMatchingRouteIndex routing index}
+     *                to select the routes to be matched.
      * @return new request path pattern matching router builder.
      */
-    static PathToRouterBuilder newRoute(final PathPattern pattern) {
-        final PathMatchingRouterBuilder builder = new PathMatchingRouterBuilder();
+    static PathToRouterBuilder newRoute(final PathPattern pattern, final boolean indexed) {
+        final PathMatchingRouterBuilder builder = new PathMatchingRouterBuilder(indexed);
         builder.startNewRoute(pattern);
         return builder;
     }
 
-    private PathMatchingRouterBuilder() {
+    private PathMatchingRouterBuilder(final boolean indexed) {
         // preventing direct instantiation
+        this.indexed = indexed;
     }
 
     private void startNewRoute(final PathPattern pattern) {
@@ -92,7 +95,8 @@ final class PathMatchingRouterBuilder implements PathToRouterBuilder {
      * @return hierarchical request path matching processor (i.e. router).
      */
     public PathMatchingRouter build() {
-        return new PathMatchingRouter(acceptedRoutes());
+        final List<Route> routes = acceptedRoutes();
+        return new PathMatchingRouter(routes, indexed ? PathMatchingRouteIndex.of(routes) : null);
     }
 
 }
@@ -81,6 +81,7 @@ public final class Routing {
         private Function<Class<?>, ?> createServiceFunction;
         private ProcessingProviders processingProviders;
         private ResourceMethodInvoker.Builder resourceMethodInvokerBuilder;
+        private MethodSelectionCacheStatistics methodSelectionCacheStatistics;
 
         private Builder(RuntimeResourceModel resourceModel) {
             if (resourceModel == null) {
@@ -178,6 +179,18 @@ public final class Routing {
             return this;
         }
 
+        /**
+         * Set resource method selection cache statistics. If not set, the statistics are not shared outside the built
+         * routing stage.
+         *
+         * @param methodSelectionCacheStatistics resource method selection cache statistics.
+         * @return updated routing builder.
+         */
+        public Builder methodSelectionCacheStatistics(MethodSelectionCacheStatistics methodSelectionCacheStatistics) {
+            this.methodSelectionCacheStatistics = methodSelectionCacheStatistics;
+            return this;
+        }
+
         /**
          * Build routing stage.
          *
@@ -218,7 +231,9 @@ public final class Routing {
                     processingProviders,
                     resourceMethodInvokerBuilder,
                     modelProcessors,
-                    createServiceFunction);
+                    createServiceFunction,
+                    methodSelectionCacheStatistics == null
+                            ? new MethodSelectionCacheStatistics() : methodSelectionCacheStatistics);
 
             return new RoutingStage(runtimeModelBuilder.buildModel(resourceModel, false));
         }
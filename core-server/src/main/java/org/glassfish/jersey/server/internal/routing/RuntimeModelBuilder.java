@@ -57,6 +57,9 @@ final class RuntimeModelBuilder {
     // SubResourceLocator Model Builder.
     private final Value<RuntimeLocatorModelBuilder> locatorBuilder;
     private final boolean isWildcardMethodSelectingRouter;
+    private final boolean isIndexedPathMatchingRouter;
+    private final int methodSelectionCacheSize;
+    private final MethodSelectionCacheStatistics methodSelectionCacheStatistics;
 
     /**
      * Create a new instance of the runtime model builder.
@@ -68,6 +71,7 @@ final class RuntimeModelBuilder {
      * @param resourceMethodInvokerBuilder method invoker builder.
      * @param modelProcessors              all registered model processors.
      * @param createServiceFunction        function that is able to create and initialize new service.
+     * @param methodSelectionCacheStatistics resource method selection cache statistics.
      */
     public RuntimeModelBuilder(
             final JerseyResourceContext resourceContext,
@@ -77,7 +81,8 @@ final class RuntimeModelBuilder {
             final ProcessingProviders processingProviders,
             final ResourceMethodInvoker.Builder resourceMethodInvokerBuilder,
             final Iterable<ModelProcessor> modelProcessors,
-            final Function<Class<?>, ?> createServiceFunction) {
+            final Function<Class<?>, ?> createServiceFunction,
+            final MethodSelectionCacheStatistics methodSelectionCacheStatistics) {
 
         this.resourceMethodInvokerBuilder = resourceMethodInvokerBuilder;
         this.messageBodyWorkers = messageBodyWorkers;
@@ -87,6 +92,13 @@ final class RuntimeModelBuilder {
                         RuntimeModelBuilder.this, modelProcessors, createServiceFunction));
         this.isWildcardMethodSelectingRouter = ServerProperties.getValue(config.getProperties(),
                 ServerProperties.EMPTY_REQUEST_MEDIA_TYPE_MATCHES_ANY_CONSUMES, true);
+        this.isIndexedPathMatchingRouter = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.INDEXED_PATH_MATCHING_ENABLED, false);
+        this.methodSelectionCacheSize = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.METHOD_SELECTION_CACHE_SIZE,
+                ServerProperties.METHOD_SELECTION_DEFAULT_CACHE_SIZE,
+                Integer.class);
+        this.methodSelectionCacheStatistics = methodSelectionCacheStatistics;
     }
 
     private Router createMethodRouter(final ResourceMethod resourceMethod) {
@@ -105,6 +117,14 @@ final class RuntimeModelBuilder {
     }
 
 
+    private Router createMethodSelectingRouter(final List<MethodRouting> methodRoutings) {
+        return isWildcardMethodSelectingRouter
+                ? new WildcardMethodSelectingRouter(messageBodyWorkers, methodRoutings,
+                        methodSelectionCacheSize, methodSelectionCacheStatistics)
+                : new OctetStreamMethodSelectingRouter(messageBodyWorkers, methodRoutings,
+                        methodSelectionCacheSize, methodSelectionCacheStatistics);
+    }
+
     private Endpoint createInflector(final ResourceMethod method) {
 
         return resourceMethodInvokerBuilder.build(
@@ -153,9 +173,7 @@ final class RuntimeModelBuilder {
             // resource methods
             if (!resource.getResourceMethods().isEmpty()) {
                 final List<MethodRouting> methodRoutings = createResourceMethodRouters(resource, subResourceMode);
-                final Router methodSelectingRouter = isWildcardMethodSelectingRouter
-                        ? new WildcardMethodSelectingRouter(messageBodyWorkers, methodRoutings)
-                        : new OctetStreamMethodSelectingRouter(messageBodyWorkers, methodRoutings);
+                final Router methodSelectingRouter = createMethodSelectingRouter(methodRoutings);
                 if (subResourceMode) {
                     currentRouterBuilder = startNextRoute(currentRouterBuilder, PathPattern.END_OF_PATH_PATTERN)
                             .to(resourcePushingRouter)
@@ -184,9 +202,7 @@ final class RuntimeModelBuilder {
                         srRoutedBuilder = startNextRoute(srRoutedBuilder, childClosedPattern)
                                 .to(uriPushingRouter)
                                 .to(childResourcePushingRouter)
-                                .to(isWildcardMethodSelectingRouter
-                                        ? new WildcardMethodSelectingRouter(messageBodyWorkers, childMethodRoutings)
-                                        : new OctetStreamMethodSelectingRouter(messageBodyWorkers, childMethodRoutings));
+                                .to(createMethodSelectingRouter(childMethodRoutings));
                     }
 
                     // sub resource locator
@@ -300,6 +316,7 @@ final class RuntimeModelBuilder {
 
     private PathToRouterBuilder startNextRoute(final PathMatchingRouterBuilder currentRouterBuilder, PathPattern routingPattern) {
         return currentRouterBuilder == null
-                ? PathMatchingRouterBuilder.newRoute(routingPattern) : currentRouterBuilder.route(routingPattern);
+                ? PathMatchingRouterBuilder.newRoute(routingPattern, isIndexedPathMatchingRouter)
+                : currentRouterBuilder.route(routingPattern);
     }
 }
@@ -43,9 +43,12 @@ final class WildcardMethodSelectingRouter extends AbstractMethodSelectingRouter
      *
      * @param workers        message body workers.
      * @param methodRoutings [method model, method methodAcceptorPair] pairs.
+     * @param cacheSize      maximum size of the method selection cache, the cache is disabled if not positive.
+     * @param cacheStatistics method selection cache hit and miss counters.
      */
-    WildcardMethodSelectingRouter(MessageBodyWorkers workers, List<MethodRouting> methodRoutings) {
-        super(workers, methodRoutings);
+    WildcardMethodSelectingRouter(MessageBodyWorkers workers, List<MethodRouting> methodRoutings,
+            int cacheSize, MethodSelectionCacheStatistics cacheStatistics) {
+        super(workers, methodRoutings, cacheSize, cacheStatistics);
     }
 
     @Override
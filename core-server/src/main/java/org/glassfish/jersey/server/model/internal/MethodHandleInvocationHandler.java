@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Resource method invocation handler bound to a {@link MethodHandle method handle} of a single resource method.
+ * <p>
+ * The method handle is looked up and adapted to the generic {@code (Object, Object[])Object} type once, when the
+ * resource model is built, so that the invocation does not go through the reflective access checks and argument
+ * unboxing of {@link Method#invoke(Object, Object...)}. Any exception thrown by the resource method is wrapped in
+ * an {@link InvocationTargetException} just like in case of the reflective invocation. Invocations of other than the
+ * bound method and invocations with a target or arguments not exactly matching the method signature are delegated to
+ * the reflection API, so that the mismatches are reported (or the primitive arguments widened) the same way as before
+ * and only the exceptions thrown by the resource method itself are wrapped.
+ * </p>
+ */
+final class MethodHandleInvocationHandler implements InvocationHandler {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleInvocationHandler.class.getName());
+
+    private static final MethodType GENERIC_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final Class<?> targetType;
+    private final Class<?>[] argumentTypes;
+    private final boolean[] primitives;
+    private final MethodHandle methodHandle;
+
+    private MethodHandleInvocationHandler(final Method method, final MethodHandle methodHandle) {
+        this.method = method;
+        this.targetType = Modifier.isStatic(method.getModifiers()) ? null : method.getDeclaringClass();
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        this.argumentTypes = new Class<?>[parameterTypes.length];
+        this.primitives = new boolean[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            primitives[i] = parameterTypes[i].isPrimitive();
+            argumentTypes[i] = primitives[i] ? MethodType.methodType(parameterTypes[i]).wrap().returnType() : parameterTypes[i];
+        }
+        this.methodHandle = methodHandle;
+    }
+
+    /**
+     * Create a new method handle invocation handler bound to the given method.
+     *
+     * @param method method to be bound to the invocation handler.
+     * @return new method handle invocation handler or {@code null} if the method is not accessible via a public
+     *         method handle lookup.
+     */
+    static InvocationHandler create(final Method method) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asType(handle.type().generic())
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(GENERIC_TYPE);
+            return new MethodHandleInvocationHandler(method, handle);
+        } catch (IllegalAccessException | RuntimeException e) {
+            LOGGER.log(Level.FINEST, e, () -> "Method handle not available for " + method + ", using reflection.");
+            return null;
+        }
+    }
+
+    @Override
+    public Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        if (method != this.method || !isExactMatch(target, args)) {
+            return method.invoke(target, args);
+        }
+
+        try {
+            return (Object) methodHandle.invokeExact(target, args);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Check that the method handle can be invoked with the target and arguments without any conversion that could fail.
+     *
+     * @param target invocation target.
+     * @param args   invocation arguments.
+     * @return {@code true} if the target and arguments are instances of the bound method declaring class and parameter types.
+     */
+    private boolean isExactMatch(final Object target, final Object[] args) {
+        if (targetType != null && !targetType.isInstance(target)) {
+            return false;
+        }
+        if ((args == null ? 0 : args.length) != argumentTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < argumentTypes.length; i++) {
+            final Object arg = args[i];
+            if (arg == null ? primitives[i] : !argumentTypes[i].isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "MethodHandleInvocationHandler{" + method + '}';
+    }
+}
@@ -28,6 +28,7 @@ import org.glassfish.jersey.internal.inject.Providers;
 import org.glassfish.jersey.internal.util.collection.LazyValue;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.model.Invocable;
 import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider;
@@ -43,6 +44,10 @@ import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerP
  * invocation handler} instance retrieved from the providers. If no custom providers
  * are available, or if none of the providers returns a non-null invocation handler,
  * in such case a default invocation handler provided by the factory is returned.
+ * <p />
+ * Unless {@link ServerProperties#METHOD_HANDLE_INVOCATION_DISABLE disabled}, the default invocation handler is bound
+ * to a {@link java.lang.invoke.MethodHandle method handle} of the resource method at the time the handler is created.
+ * Resource methods that are not accessible via a public method handle lookup are invoked using the reflection API.
  *
  * @author Marek Potociar
  */
@@ -52,10 +57,23 @@ public final class ResourceMethodInvocationHandlerFactory implements ResourceMet
     private static final InvocationHandler DEFAULT_HANDLER = (target, method, args) -> method.invoke(target, args);
     private static final Logger LOGGER = Logger.getLogger(ResourceMethodInvocationHandlerFactory.class.getName());
     private final LazyValue<Set<ResourceMethodInvocationHandlerProvider>> providers;
+    private final boolean methodHandleInvocation;
 
     ResourceMethodInvocationHandlerFactory(InjectionManager injectionManager) {
+        this(injectionManager, true);
+    }
+
+    /**
+     * Create new resource method invocation handler factory.
+     *
+     * @param injectionManager       injection manager to look up the custom invocation handler providers in.
+     * @param methodHandleInvocation if {@code true}, the default invocation handler invokes resource methods
+     *                               using method handles, otherwise using the reflection API.
+     */
+    ResourceMethodInvocationHandlerFactory(InjectionManager injectionManager, boolean methodHandleInvocation) {
         this.providers = Values.lazy((Value<Set<ResourceMethodInvocationHandlerProvider>>)
                 () -> Providers.getProviders(injectionManager, ResourceMethodInvocationHandlerProvider.class));
+        this.methodHandleInvocation = methodHandleInvocation;
     }
 
     // ResourceMethodInvocationHandlerProvider
@@ -74,6 +92,15 @@ public final class ResourceMethodInvocationHandlerFactory implements ResourceMet
             }
         }
 
+        if (methodHandleInvocation) {
+            final InvocationHandler handler = MethodHandleInvocationHandler.create(
+                    AbstractJavaResourceMethodDispatcher.getPublic(
+                            resourceMethod.getHandlingMethod(), resourceMethod.getDefinitionMethod()));
+            if (handler != null) {
+                return handler;
+            }
+        }
+
         return DEFAULT_HANDLER;
     }
 }
@@ -23,6 +23,7 @@ import org.glassfish.jersey.internal.BootstrapBag;
 import org.glassfish.jersey.internal.BootstrapConfigurator;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.server.ServerBootstrapBag;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.inject.ConfiguredValidator;
 import org.glassfish.jersey.server.model.ResourceMethodInvoker;
 import org.glassfish.jersey.server.spi.internal.ResourceMethodDispatcher;
@@ -46,10 +47,14 @@ public class ResourceMethodInvokerConfigurator implements BootstrapConfigurator
                 new VoidVoidDispatcherProvider(serverBag.getResourceContext()),
                 new JavaResourceMethodDispatcherProvider(serverBag.getValueParamProviders()));
 
+        boolean methodHandleInvocation = !ServerProperties.getValue(bootstrapBag.getConfiguration().getProperties(),
+                ServerProperties.METHOD_HANDLE_INVOCATION_DISABLE, Boolean.FALSE, Boolean.class);
+
         ResourceMethodInvoker.Builder builder = new ResourceMethodInvoker.Builder()
                 .injectionManager(injectionManager)
                 .resourceMethodDispatcherFactory(new ResourceMethodDispatcherFactory(providers))
-                .resourceMethodInvocationHandlerFactory(new ResourceMethodInvocationHandlerFactory(injectionManager))
+                .resourceMethodInvocationHandlerFactory(new ResourceMethodInvocationHandlerFactory(injectionManager,
+                        methodHandleInvocation))
                 .configuration(bootstrapBag.getConfiguration())
                 .configurationValidator(() -> injectionManager.getInstance(ConfiguredValidator.class));
 
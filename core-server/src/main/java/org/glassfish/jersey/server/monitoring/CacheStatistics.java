@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.monitoring;
+
+/**
+ * Statistics of a runtime cache. The statistics contain the number of lookups that were served
+ * from the cache (hits) and the number of lookups that had to be computed (misses).
+ *
+ * @since 4.1.0
+ */
+public interface CacheStatistics {
+
+    /**
+     * Get the number of cache lookups that were served from the cache.
+     *
+     * @return Count of cache hits.
+     */
+    public long getHitCount();
+
+    /**
+     * Get the number of cache lookups that were not served from the cache.
+     *
+     * @return Count of cache misses.
+     */
+    public long getMissCount();
+
+    /**
+     * Get the ratio of cache hits to all the cache lookups. If there has not been any lookup yet,
+     * {@code 0} is returned.
+     *
+     * @return Ratio of cache hits in the range {@code [0, 1]}.
+     */
+    public default double getHitRatio() {
+        final long hits = getHitCount();
+        final long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -113,6 +113,28 @@ public interface MonitoringStatistics {
      */
     public ExceptionMapperStatistics getExceptionMapperStatistics();
 
+    /**
+     * Get statistics of the resource method selection cache. The cache stores the resource method selected for
+     * the combination of the request HTTP method, {@code Content-Type} and {@code Accept} headers.
+     *
+     * @return Resource method selection cache statistics.
+     * @see org.glassfish.jersey.server.ServerProperties#METHOD_SELECTION_CACHE_SIZE
+     * @since 4.1.0
+     */
+    public CacheStatistics getMethodSelectionCacheStatistics();
+
+    /**
+     * Get statistics of the caches of parsed HTTP header values, such as {@code Accept} or {@code Content-Type}. The caches
+     * are shared by all the applications in the JVM, hence the statistics include the headers of all the messages processed
+     * in the JVM.
+     *
+     * @return Read-only map of header value cache statistics keyed by the (case-insensitive) cache name, usually the name
+     * of the cached header.
+     * @see org.glassfish.jersey.message.MessageProperties#HEADER_CACHE_SIZE
+     * @since 4.1.0
+     */
+    public Map<String, CacheStatistics> getHeaderCacheStatistics();
+
     /**
      * Get the immutable consistent snapshot of the monitoring statistics. Working with snapshots might
      * have negative performance impact as snapshot must be created but ensures consistency of data over time.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -78,6 +78,12 @@ public interface ContainerResponseWriter {
      * otherwise -1. I/O containers may use this value to determine whether the
      * {@code "Content-Length"} header can be set or utilize chunked transfer encoding.
      * </p>
+     * <p>
+     * The returned output stream may implement {@link org.glassfish.jersey.io.spi.FileRegionOutput} to send file
+     * entities, such as {@link java.io.File} or {@link java.nio.file.Path}, directly from the file to the client.
+     * A file region is only handed over to the stream as the whole entity, i.e. before anything else is written to
+     * the stream and with {@code contentLength} equal to the size of the region.
+     * </p>
      *
      * @param contentLength greater or equal to 0 if the content length in bytes
      *     of the entity to be written is known, otherwise -1. Containers
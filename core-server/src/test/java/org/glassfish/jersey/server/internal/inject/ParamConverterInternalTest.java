@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2018 Payara Foundation and/or its affiliates.
  *
  * This program and the accompanying materials are made available under the
@@ -22,13 +22,16 @@ import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -61,6 +64,8 @@ import org.junit.jupiter.api.Test;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -344,6 +349,28 @@ public class ParamConverterInternalTest extends AbstractTest {
                 "Unexpected date converter provider class");
     }
 
+    @Test
+    public void testConvertersWithoutReflection() {
+        final Configuration configuration = new CommonConfig(null, ComponentBag.EXCLUDE_EMPTY);
+        final ParamConverters.AggregatedProvider provider = new ParamConverters.AggregatedProvider(null, configuration);
+
+        final ParamConverter<Integer> integerConverter = provider.getConverter(Integer.class, Integer.class, null);
+        assertEquals(Integer.valueOf(42), integerConverter.fromString("42"));
+        assertNull(integerConverter.fromString(""));
+        assertThrows(ExtractorException.class, () -> integerConverter.fromString("forty-two"));
+
+        final ParamConverter<TimeUnit> enumConverter = provider.getConverter(TimeUnit.class, TimeUnit.class, null);
+        assertEquals(TimeUnit.SECONDS, enumConverter.fromString("SECONDS"));
+        assertThrows(ExtractorException.class, () -> enumConverter.fromString("WEEKS"));
+
+        final UUID uuid = UUID.randomUUID();
+        assertEquals(uuid, provider.getConverter(UUID.class, UUID.class, null).fromString(uuid.toString()));
+
+        final ParamConverter<BigDecimal> bigDecimalConverter = provider.getConverter(BigDecimal.class, BigDecimal.class, null);
+        assertEquals(new BigDecimal("1.25"), bigDecimalConverter.fromString("1.25"));
+        assertThrows(ExtractorException.class, () -> bigDecimalConverter.fromString("one"));
+    }
+
     @Path("resource")
     public static class Resource {
 
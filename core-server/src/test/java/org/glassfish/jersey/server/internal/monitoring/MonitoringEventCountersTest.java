@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.ResourceMethodStatistics;
+import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Striped monitoring event counters tests.
+ */
+public class MonitoringEventCountersTest {
+
+    private static final int THREADS = 8;
+    private static final int EVENTS = 10_000;
+
+    private static void runConcurrently(final Runnable runnable) throws InterruptedException {
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            final Thread thread = new Thread(runnable);
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Test
+    public void testResponseCodesMerge() throws InterruptedException {
+        final MonitoringEventCounters counters = new MonitoringEventCounters();
+        final MonitoringStatisticsImpl.Builder builder = new MonitoringStatisticsImpl.Builder();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < EVENTS; i++) {
+                counters.addResponseCode(200);
+            }
+        });
+        counters.addResponseCode(404);
+        counters.mergeInto(builder);
+
+        Assertions.assertEquals(THREADS * EVENTS, (long) builder.build().getResponseStatistics().getResponseCodes().get(200));
+        Assertions.assertEquals(1, (long) builder.build().getResponseStatistics().getResponseCodes().get(404));
+        Assertions.assertEquals(404, (int) builder.build().getResponseStatistics().getLastResponseCode());
+
+        // only the increments since the last merge are added
+        counters.addResponseCode(200);
+        counters.mergeInto(builder);
+        counters.mergeInto(builder);
+
+        Assertions.assertEquals(THREADS * EVENTS + 1,
+                (long) builder.build().getResponseStatistics().getResponseCodes().get(200));
+        Assertions.assertEquals(1, (long) builder.build().getResponseStatistics().getResponseCodes().get(404));
+        Assertions.assertEquals(200, (int) builder.build().getResponseStatistics().getLastResponseCode());
+    }
+
+    @Test
+    public void testRequestExecutionsMerge() throws InterruptedException {
+        final MonitoringEventCounters counters = new MonitoringEventCounters();
+        final MonitoringStatisticsImpl.Builder builder = new MonitoringStatisticsImpl.Builder();
+        final long startTime = System.currentTimeMillis();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < EVENTS; i++) {
+                counters.addRequestExecution("/test", null, startTime, 10);
+            }
+        });
+        counters.addRequestExecution("/test", null, startTime, 2);
+        counters.addRequestExecution("/test", null, startTime, 50);
+        counters.mergeInto(builder);
+
+        TimeWindowStatistics statistics = builder.build().getRequestStatistics().getTimeWindowStatistics().get(0L);
+        Assertions.assertEquals(THREADS * EVENTS + 2, statistics.getRequestCount());
+        Assertions.assertEquals(2, statistics.getMinimumDuration());
+        Assertions.assertEquals(50, statistics.getMaximumDuration());
+        Assertions.assertEquals(10, statistics.getAverageDuration());
+
+        // only the executions since the last merge are added
+        counters.addRequestExecution("/test", null, startTime, 100);
+        counters.mergeInto(builder);
+        counters.mergeInto(builder);
+
+        statistics = builder.build().getRequestStatistics().getTimeWindowStatistics().get(0L);
+        Assertions.assertEquals(THREADS * EVENTS + 3, statistics.getRequestCount());
+        Assertions.assertEquals(2, statistics.getMinimumDuration());
+        Assertions.assertEquals(100, statistics.getMaximumDuration());
+    }
+
+    @Test
+    public void testResourceMethodExecutionsMerge() throws InterruptedException {
+        final Resource.Builder resourceBuilder = Resource.builder("test");
+        resourceBuilder.addMethod("GET").handledBy(MonitoringStatisticsTest.MyInflector.class);
+        final ResourceMethod method = resourceBuilder.build().getResourceMethods().get(0);
+
+        final MonitoringEventCounters counters = new MonitoringEventCounters();
+        final MonitoringStatisticsImpl.Builder builder = new MonitoringStatisticsImpl.Builder();
+        final long startTime = System.currentTimeMillis();
+
+        runConcurrently(() -> {
+            final MonitoringEventListener.MethodStats methodStats = new MonitoringEventListener.MethodStats(method, startTime, 4);
+            for (int i = 0; i < EVENTS; i++) {
+                counters.addRequestExecution("/test", methodStats, startTime, 6);
+            }
+        });
+        counters.mergeInto(builder);
+
+        final ResourceMethodStatistics statistics = builder.build().getUriStatistics().get("/test")
+                .getResourceMethodStatistics().get(method);
+        final TimeWindowStatistics methodStatistics = statistics.getMethodStatistics().getTimeWindowStatistics().get(0L);
+        final TimeWindowStatistics requestStatistics = statistics.getRequestStatistics().getTimeWindowStatistics().get(0L);
+        Assertions.assertEquals(THREADS * EVENTS, methodStatistics.getRequestCount());
+        Assertions.assertEquals(4, methodStatistics.getAverageDuration());
+        Assertions.assertEquals(THREADS * EVENTS, requestStatistics.getRequestCount());
+        Assertions.assertEquals(6, requestStatistics.getMaximumDuration());
+        Assertions.assertEquals(THREADS * EVENTS, statistics.getRequestStatistics().getTimeWindowStatistics()
+                .get(TimeUnit.SECONDS.toMillis(15)).getRequestCount());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -34,6 +34,7 @@ import jakarta.ws.rs.ext.Provider;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import org.glassfish.jersey.innate.inject.ContextDelegates;
 import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.RequestContextBuilder;
 import org.glassfish.jersey.server.internal.inject.AbstractTest;
@@ -148,6 +149,35 @@ public class ProxyInjectablesTest extends AbstractTest {
         }
     }
 
+    @Path("/")
+    @Singleton
+    public static class SingletonContextInjectedResource {
+
+        @Context
+        UriInfo ui;
+
+        @Context
+        HttpHeaders hs;
+
+        @Context
+        Request r;
+
+        @Context
+        SecurityContext sc;
+
+        @GET
+        public String get() {
+            assertEquals(ContextDelegates.class, ui.getClass().getEnclosingClass());
+            assertEquals(ContextDelegates.class, hs.getClass().getEnclosingClass());
+            assertEquals(ContextDelegates.class, r.getClass().getEnclosingClass());
+            assertEquals(ContextDelegates.class, sc.getClass().getEnclosingClass());
+            assertEquals("a", sc.getUserPrincipal().getName());
+            assertEquals("GET", r.getMethod());
+            assertEquals(sc, sc);
+            return "GET";
+        }
+    }
+
     @Path("/")
     public static class PerRequestContextMethodParameterResource {
 
@@ -199,6 +229,13 @@ public class ProxyInjectablesTest extends AbstractTest {
         assertEquals("GET", resource("/").getEntity());
     }
 
+    @Test
+    public void testSingletonContextInjected() throws Exception {
+        initiateWebApplication(SingletonContextInjectedResource.class, SecurityContextFilter.class);
+
+        assertEquals("GET", resource("/").getEntity());
+    }
+
     @Test
     public void testPerRequestMethodParameterInjected() throws Exception {
         initiateWebApplication(PerRequestContextMethodParameterResource.class, SecurityContextFilter.class);
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.jupiter.api.Test;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Test of the resource method selection cache.
+ */
+public class MethodSelectionCacheTest {
+
+    @Path("resource")
+    public static class Resource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String getText() {
+            return "text";
+        }
+
+        @GET
+        @Produces(MediaType.TEXT_HTML)
+        public String getHtml() {
+            return "html";
+        }
+
+        @POST
+        @Consumes(MediaType.TEXT_PLAIN)
+        public String postText(final String entity) {
+            return "text-" + entity;
+        }
+
+        @POST
+        @Consumes(MediaType.APPLICATION_XML)
+        public String postXml(final String entity) {
+            return "xml-" + entity;
+        }
+    }
+
+    private static MethodSelectionCacheStatistics statistics(final ApplicationHandler application) {
+        return application.getInjectionManager().getInstance(MethodSelectionCacheStatistics.class);
+    }
+
+    private static ContainerResponse get(final ApplicationHandler application, final String accept) throws Exception {
+        return application.apply(RequestContextBuilder.from("/resource", "GET").accept(accept).build()).get();
+    }
+
+    @Test
+    public void testCachedSelection() throws Exception {
+        final ApplicationHandler application = new ApplicationHandler(new ResourceConfig(Resource.class));
+
+        for (int i = 0; i < 3; i++) {
+            ContainerResponse response = get(application, "text/html");
+            assertThat(response.getEntity(), equalTo("html"));
+            assertThat(response.getMediaType(), equalTo(MediaType.TEXT_HTML_TYPE));
+
+            response = get(application, "text/plain");
+            assertThat(response.getEntity(), equalTo("text"));
+            assertThat(response.getMediaType(), equalTo(MediaType.TEXT_PLAIN_TYPE));
+
+            response = application.apply(RequestContextBuilder.from("/resource", "POST")
+                    .type(MediaType.APPLICATION_XML).entity("e").build()).get();
+            assertThat(response.getEntity(), equalTo("xml-e"));
+        }
+
+        assertThat(statistics(application).getMissCount(), equalTo(3L));
+        assertThat(statistics(application).getHitCount(), equalTo(6L));
+    }
+
+    @Test
+    public void testContentTypeParametersIgnored() throws Exception {
+        final ApplicationHandler application = new ApplicationHandler(new ResourceConfig(Resource.class));
+
+        for (int i = 0; i < 3; i++) {
+            final ContainerResponse response = application.apply(RequestContextBuilder.from("/resource", "POST")
+                    .type("application/xml;boundary=b" + i).entity("e").build()).get();
+            assertThat(response.getEntity(), equalTo("xml-e"));
+        }
+
+        assertThat(statistics(application).getMissCount(), equalTo(1L));
+        assertThat(statistics(application).getHitCount(), equalTo(2L));
+    }
+
+    @Test
+    public void testFailedSelectionNotCached() throws Exception {
+        final ApplicationHandler application = new ApplicationHandler(new ResourceConfig(Resource.class));
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(get(application, "application/json").getStatus(), equalTo(406));
+            assertThat(application.apply(RequestContextBuilder.from("/resource", "POST")
+                    .type(MediaType.APPLICATION_JSON).entity("e").build()).get().getStatus(), equalTo(415));
+        }
+
+        assertThat(statistics(application).getMissCount(), equalTo(4L));
+        assertThat(statistics(application).getHitCount(), equalTo(0L));
+    }
+
+    @Test
+    public void testCacheDisabled() throws Exception {
+        final ApplicationHandler application = new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.METHOD_SELECTION_CACHE_SIZE, 0));
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(get(application, "text/html").getEntity(), equalTo("html"));
+        }
+
+        assertThat(statistics(application).getMissCount(), equalTo(0L));
+        assertThat(statistics(application).getHitCount(), equalTo(0L));
+    }
+}
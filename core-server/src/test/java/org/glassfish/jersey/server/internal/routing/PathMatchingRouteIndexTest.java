@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.uri.PathPattern;
+
+import org.junit.jupiter.api.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Test of the {@link PathMatchingRouteIndex} and of the indexed request path routing.
+ */
+public class PathMatchingRouteIndexTest {
+
+    @Test
+    public void testLiteralSegment() {
+        assertThat(PathMatchingRouteIndex.literalSegment(new PathPattern("foo")), is("foo"));
+        assertThat(PathMatchingRouteIndex.literalSegment(new PathPattern("/foo/{id}")), is("foo"));
+        assertThat(PathMatchingRouteIndex.literalSegment(new PathPattern("foo-bar.baz/")), is("foo-bar.baz"));
+        assertThat(PathMatchingRouteIndex.literalSegment(new PathPattern("{id}/foo")), nullValue());
+        assertThat(PathMatchingRouteIndex.literalSegment(new PathPattern("foo{id}")), nullValue());
+        assertThat(PathMatchingRouteIndex.literalSegment(new PathPattern("foo bar")), nullValue());
+        assertThat(PathMatchingRouteIndex.literalSegment(PathPattern.OPEN_ROOT_PATH_PATTERN), nullValue());
+        assertThat(PathMatchingRouteIndex.literalSegment(PathPattern.END_OF_PATH_PATTERN), nullValue());
+        assertThat(PathMatchingRouteIndex.literalSegment(PathPattern.EMPTY_PATTERN), nullValue());
+    }
+
+    @Test
+    public void testCandidatesKeepRouteOrder() {
+        final Route foo = Route.of(new PathPattern("foo"), Collections.emptyList());
+        final Route variable = Route.of(new PathPattern("{id}"), Collections.emptyList());
+        final Route bar = Route.of(new PathPattern("bar"), Collections.emptyList());
+        final Route fooChild = Route.of(new PathPattern("foo/child"), Collections.emptyList());
+        final Route root = Route.of(PathPattern.OPEN_ROOT_PATH_PATTERN, Collections.emptyList());
+
+        final PathMatchingRouteIndex index = PathMatchingRouteIndex.of(Arrays.asList(foo, variable, bar, fooChild, root));
+
+        assertThat(index.candidates("/foo"), is(Arrays.asList(foo, variable, fooChild, root)));
+        assertThat(index.candidates("/foo/child"), is(Arrays.asList(foo, variable, fooChild, root)));
+        assertThat(index.candidates("/foo;matrix=1/child"), is(Arrays.asList(foo, variable, fooChild, root)));
+        assertThat(index.candidates("/bar"), is(Arrays.asList(variable, bar, root)));
+        assertThat(index.candidates("/baz"), is(Arrays.asList(variable, root)));
+        assertThat(index.candidates(""), is(Arrays.asList(variable, root)));
+    }
+
+    @Path("items")
+    public static class ItemsResource {
+
+        @GET
+        public String get() {
+            return "items";
+        }
+
+        @GET
+        @Path("{id}")
+        public String get(@PathParam("id") final String id) {
+            return "item-" + id;
+        }
+
+        @POST
+        @Path("special")
+        public String special() {
+            return "special";
+        }
+    }
+
+    @Path("{name}")
+    public static class NamedResource {
+
+        @GET
+        public String get(@PathParam("name") final String name) {
+            return "named-" + name;
+        }
+    }
+
+    @Path("orders")
+    public static class OrdersResource {
+
+        @GET
+        public String get() {
+            return "orders";
+        }
+    }
+
+    private static ApplicationHandler createApplication(final boolean indexed) {
+        return new ApplicationHandler(new ResourceConfig(ItemsResource.class, NamedResource.class, OrdersResource.class)
+                .property(ServerProperties.INDEXED_PATH_MATCHING_ENABLED, indexed));
+    }
+
+    @Test
+    public void testIndexedRoutingMatchesLegacyRouting() throws Exception {
+        final List<String> paths = Arrays.asList("/items", "/items/1", "/items/special", "/orders", "/other", "/items;m=1");
+        final ApplicationHandler legacy = createApplication(false);
+        final ApplicationHandler indexed = createApplication(true);
+
+        for (final String path : paths) {
+            final ContainerResponse expected = legacy.apply(RequestContextBuilder.from(path, "GET").build()).get();
+            final ContainerResponse actual = indexed.apply(RequestContextBuilder.from(path, "GET").build()).get();
+
+            assertThat(path, actual.getStatus(), is(expected.getStatus()));
+            assertThat(path, actual.getEntity(), is(expected.getEntity()));
+        }
+    }
+
+    @Test
+    public void testIndexedRouting() throws Exception {
+        final ApplicationHandler application = createApplication(true);
+
+        assertThat(application.apply(RequestContextBuilder.from("/items/1", "GET").build()).get().getEntity(),
+                is("item-1"));
+        assertThat(application.apply(RequestContextBuilder.from("/orders", "GET").build()).get().getEntity(),
+                is("orders"));
+        assertThat(application.apply(RequestContextBuilder.from("/other", "GET").build()).get().getEntity(),
+                is("named-other"));
+    }
+}
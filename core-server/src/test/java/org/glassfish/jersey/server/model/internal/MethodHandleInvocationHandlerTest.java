@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.WebApplicationException;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.jupiter.api.Test;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test of the method handle based resource method invocation.
+ */
+public class MethodHandleInvocationHandlerTest {
+
+    @Path("resource")
+    public static class Resource {
+
+        @GET
+        public String get(@QueryParam("a") final int a, @QueryParam("b") final String b) {
+            return a + b;
+        }
+
+        @GET
+        @Path("void")
+        public void getVoid() {
+        }
+
+        @GET
+        @Path("error")
+        public String getError() {
+            throw new WebApplicationException(418);
+        }
+    }
+
+    private static class PrivateResource {
+
+        public String get() {
+            return "private";
+        }
+    }
+
+    private static void assertResponses(final ApplicationHandler application) throws Exception {
+        ContainerResponse response = application.apply(RequestContextBuilder.from("/resource?a=1&b=x", "GET").build())
+                .get();
+        assertThat(response.getEntity(), equalTo("1x"));
+
+        response = application.apply(RequestContextBuilder.from("/resource/void", "GET").build()).get();
+        assertThat(response.getStatus(), equalTo(204));
+
+        response = application.apply(RequestContextBuilder.from("/resource/error", "GET").build()).get();
+        assertThat(response.getStatus(), equalTo(418));
+    }
+
+    @Test
+    public void testMethodHandleInvocation() throws Exception {
+        assertResponses(new ApplicationHandler(new ResourceConfig(Resource.class)));
+    }
+
+    @Test
+    public void testReflectiveInvocation() throws Exception {
+        assertResponses(new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.METHOD_HANDLE_INVOCATION_DISABLE, true)));
+    }
+
+    @Test
+    public void testInvocationHandler() throws Throwable {
+        final Method method = Resource.class.getMethod("get", int.class, String.class);
+        final InvocationHandler handler = MethodHandleInvocationHandler.create(method);
+        assertThat(handler, notNullValue());
+
+        assertThat(handler.invoke(new Resource(), method, new Object[] {2, "y"}), equalTo("2y"));
+        assertThat(handler.invoke(new Resource(), Resource.class.getMethod("getVoid"), new Object[0]), nullValue());
+
+        final InvocationTargetException exception = assertThrows(InvocationTargetException.class,
+                () -> handler.invoke(new Resource(), Resource.class.getMethod("getError"), null));
+        assertThat(exception.getCause(), instanceOf(WebApplicationException.class));
+
+        assertThrows(IllegalArgumentException.class, () -> handler.invoke(new Resource(), method, new Object[] {2}));
+        assertThrows(IllegalArgumentException.class, () -> handler.invoke(new Resource(), method, new Object[] {null, "y"}));
+        assertThrows(IllegalArgumentException.class, () -> handler.invoke(new Resource(), method, new Object[] {"x", "y"}));
+        assertThrows(IllegalArgumentException.class, () -> handler.invoke(new Object(), method, new Object[] {2, "y"}));
+    }
+
+    @Test
+    public void testInaccessibleMethod() throws Exception {
+        assertThat(MethodHandleInvocationHandler.create(PrivateResource.class.getMethod("get")), nullValue());
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.proxy;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.GenericType;
+
+import org.glassfish.jersey.internal.util.collection.LazyValue;
+import org.glassfish.jersey.internal.util.collection.Value;
+import org.glassfish.jersey.internal.util.collection.Values;
+
+/**
+ * Immutable description of a resource interface method invocation, derived from the method annotations once,
+ * so that an invocation of a client proxy method only binds the method arguments to the request.
+ */
+final class InvocationPlan {
+
+    private static final String[] EMPTY = {};
+
+    /**
+     * Binding of an annotated method parameter to the request.
+     */
+    static final class ParameterBinding {
+
+        private final int index;
+        private final Map<Class<?>, Annotation> annotations;
+        private final String defaultValue;
+
+        private ParameterBinding(final int index, final Map<Class<?>, Annotation> annotations) {
+            this.index = index;
+            this.annotations = annotations;
+            final DefaultValue defaultValue = (DefaultValue) annotations.get(DefaultValue.class);
+            this.defaultValue = defaultValue == null ? null : defaultValue.value();
+        }
+
+        /**
+         * Bind the method argument to the request parameters.
+         *
+         * @param args              method arguments.
+         * @param requestParameters request parameters to bind the argument to.
+         * @throws Exception in case the argument cannot be bound.
+         */
+        void bind(final Object[] args, final RequestParameters requestParameters) throws Exception {
+            Object value = args[index];
+            if (value == null) {
+                value = defaultValue;
+            }
+            if (value != null) {
+                requestParameters.addParameter(value, annotations);
+            }
+        }
+    }
+
+    private final String httpMethod;
+    private final String path;
+    private final ParameterBinding[] parameters;
+    private final int entityIndex;
+    private final Type entityType;
+    private final boolean genericEntity;
+    private final String[] accepts;
+    private final String contentType;
+    private final Class<?> responseType;
+    private final LazyValue<GenericType<?>> responseGenericType;
+    private final String unsupported;
+
+    private InvocationPlan(final Class<?> resourceInterface, final Method method) {
+        // determine method name
+        String httpMethod = getHttpMethodName(method);
+        if (httpMethod == null) {
+            for (final Annotation ann : method.getAnnotations()) {
+                httpMethod = getHttpMethodName(ann.annotationType());
+                if (httpMethod != null) {
+                    break;
+                }
+            }
+        }
+        this.httpMethod = httpMethod;
+
+        final Path path = method.getAnnotation(Path.class);
+        this.path = path == null ? null : path.value();
+
+        this.responseType = method.getReturnType();
+        if (httpMethod == null && path == null) {
+            // no path annotation on the method -> fail
+            this.unsupported = "Not a resource method.";
+        } else if (httpMethod == null && !responseType.isInterface()) {
+            // the method is a subresource locator, but returns class,
+            // not interface - can't help here
+            this.unsupported = "Return type not an interface";
+        } else {
+            this.unsupported = null;
+        }
+
+        // the annotated parameters and the entity type
+        final Annotation[][] paramAnns = method.getParameterAnnotations();
+        final ParameterBinding[] parameters = new ParameterBinding[paramAnns.length];
+        int count = 0;
+        int entityIndex = -1;
+        for (int i = 0; i < paramAnns.length; i++) {
+            final Map<Class<?>, Annotation> anns = new HashMap<>();
+            for (final Annotation ann : paramAnns[i]) {
+                anns.put(ann.annotationType(), ann);
+            }
+            if (RequestParameters.hasAnyParamAnnotation(anns)) {
+                parameters[count++] = new ParameterBinding(i, Collections.unmodifiableMap(anns));
+            } else {
+                entityIndex = i;
+            }
+        }
+        this.parameters = count == parameters.length ? parameters : Arrays.copyOf(parameters, count);
+        this.entityIndex = entityIndex;
+        this.entityType = entityIndex < 0 ? null : method.getGenericParameterTypes()[entityIndex];
+        this.genericEntity = entityType instanceof ParameterizedType;
+
+        // accepted media types
+        Produces produces = method.getAnnotation(Produces.class);
+        if (produces == null) {
+            produces = resourceInterface.getAnnotation(Produces.class);
+        }
+        this.accepts = (produces == null) ? EMPTY : produces.value();
+
+        // default content type
+        Consumes consumes = method.getAnnotation(Consumes.class);
+        if (consumes == null) {
+            consumes = resourceInterface.getAnnotation(Consumes.class);
+        }
+        this.contentType = consumes != null && consumes.value().length > 0 ? consumes.value()[0] : null;
+
+        // resolved on the first invocation, a type variable return type fails only when the method is invoked
+        this.responseGenericType = httpMethod == null ? null
+                : Values.lazy((Value<GenericType<?>>) () -> new GenericType<>(method.getGenericReturnType()));
+    }
+
+    /**
+     * Create the invocation plans of all the methods of a resource interface.
+     *
+     * @param resourceInterface resource interface.
+     * @return invocation plans of the resource interface methods.
+     */
+    static Map<Method, InvocationPlan> create(final Class<?> resourceInterface) {
+        final Map<Method, InvocationPlan> plans = new HashMap<>();
+        for (final Method method : resourceInterface.getMethods()) {
+            plans.put(method, new InvocationPlan(resourceInterface, method));
+        }
+        return Collections.unmodifiableMap(plans);
+    }
+
+    /**
+     * Create the invocation plan of a resource interface method.
+     *
+     * @param resourceInterface resource interface.
+     * @param method            resource interface method.
+     * @return invocation plan of the method.
+     */
+    static InvocationPlan create(final Class<?> resourceInterface, final Method method) {
+        return new InvocationPlan(resourceInterface, method);
+    }
+
+    private static String getHttpMethodName(final AnnotatedElement ae) {
+        final HttpMethod a = ae.getAnnotation(HttpMethod.class);
+        return a == null ? null : a.value();
+    }
+
+    /**
+     * Check the method can be invoked on a client proxy.
+     *
+     * @throws UnsupportedOperationException if the method is neither a resource method nor a sub-resource locator.
+     */
+    void checkSupported() {
+        if (unsupported != null) {
+            throw new UnsupportedOperationException(unsupported);
+        }
+    }
+
+    /**
+     * Get the HTTP method name.
+     *
+     * @return HTTP method name, {@code null} for a sub-resource locator.
+     */
+    String getHttpMethod() {
+        return httpMethod;
+    }
+
+    /**
+     * Get the path the method appends to the resource path.
+     *
+     * @return path or {@code null} if not annotated with {@link Path}.
+     */
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * Get the bindings of the annotated method parameters.
+     *
+     * @return parameter bindings.
+     */
+    ParameterBinding[] getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Check whether the method has an entity parameter.
+     *
+     * @return {@code true} if one of the method parameters is not annotated with a parameter annotation.
+     */
+    boolean hasEntity() {
+        return entityIndex >= 0;
+    }
+
+    /**
+     * Get the entity argument.
+     *
+     * @param args method arguments.
+     * @return entity argument, {@code null} if the method has no entity parameter.
+     */
+    Object getEntity(final Object[] args) {
+        return entityIndex < 0 ? null : args[entityIndex];
+    }
+
+    /**
+     * Get the generic entity type.
+     *
+     * @return generic entity type, {@code null} if the method has no entity parameter.
+     */
+    Type getEntityType() {
+        return entityType;
+    }
+
+    /**
+     * Check whether the entity type is a parameterized type.
+     *
+     * @return {@code true} if the entity type is a parameterized type.
+     */
+    boolean isGenericEntity() {
+        return genericEntity;
+    }
+
+    /**
+     * Get the media types accepted by the method.
+     *
+     * @return accepted media types, empty if the method does not declare any.
+     */
+    String[] getAccepts() {
+        return accepts;
+    }
+
+    /**
+     * Get the default content type of the entity.
+     *
+     * @return first media type the method consumes or {@code null} if not declared.
+     */
+    String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Get the raw method return type.
+     *
+     * @return method return type.
+     */
+    Class<?> getResponseType() {
+        return responseType;
+    }
+
+    /**
+     * Get the generic response type.
+     *
+     * @return generic response type, {@code null} for a sub-resource locator.
+     */
+    GenericType<?> getResponseGenericType() {
+        return responseGenericType == null ? null : responseGenericType.get();
+    }
+}
@@ -16,31 +16,23 @@
 
 package org.glassfish.jersey.client.proxy;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Type;
-import java.lang.reflect.ParameterizedType;
 import java.security.AccessController;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import jakarta.ws.rs.BeanParam;
-import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.CookieParam;
-import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.FormParam;
 import jakarta.ws.rs.HeaderParam;
-import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.MatrixParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
-import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
@@ -65,8 +57,18 @@ import org.glassfish.jersey.internal.util.ReflectionHelper;
  */
 public final class WebResourceFactory implements InvocationHandler {
 
-    private static final String[] EMPTY = {};
+    /**
+     * Invocation plans of the resource interface methods, created once per resource interface.
+     */
+    private static final ClassValue<Map<Method, InvocationPlan>> INVOCATION_PLANS = new ClassValue<>() {
+        @Override
+        protected Map<Method, InvocationPlan> computeValue(final Class<?> resourceInterface) {
+            return InvocationPlan.create(resourceInterface);
+        }
+    };
 
+    private final Class<?> resourceInterface;
+    private final Map<Method, InvocationPlan> plans;
     private final WebTarget target;
     private final MultivaluedMap<String, Object> headers;
     private final List<Cookie> cookies;
@@ -119,12 +121,15 @@ public final class WebResourceFactory implements InvocationHandler {
 
         return (C) Proxy.newProxyInstance(AccessController.doPrivileged(ReflectionHelper.getClassLoaderPA(resourceInterface)),
                 new Class[] {resourceInterface},
-                new WebResourceFactory(ignoreResourcePath ? target : addPathFromAnnotation(resourceInterface, target),
+                new WebResourceFactory(resourceInterface,
+                        ignoreResourcePath ? target : addPathFromAnnotation(resourceInterface, target),
                         headers, cookies, form));
     }
 
-    private WebResourceFactory(final WebTarget target, final MultivaluedMap<String, Object> headers,
-                               final List<Cookie> cookies, final Form form) {
+    private WebResourceFactory(final Class<?> resourceInterface, final WebTarget target,
+                               final MultivaluedMap<String, Object> headers, final List<Cookie> cookies, final Form form) {
+        this.resourceInterface = resourceInterface;
+        this.plans = INVOCATION_PLANS.get(resourceInterface);
         this.target = target;
         this.headers = headers;
         this.cookies = cookies;
@@ -148,76 +153,28 @@ public final class WebResourceFactory implements InvocationHandler {
             return equals(args[0]);
         }
 
-        // get the interface describing the resource
-        final Class<?> proxyIfc = proxy.getClass().getInterfaces()[0];
-
-        // response type
-        final Class<?> responseType = method.getReturnType();
-
-        // determine method name
-        String httpMethod = getHttpMethodName(method);
-        if (httpMethod == null) {
-            for (final Annotation ann : method.getAnnotations()) {
-                httpMethod = getHttpMethodName(ann.annotationType());
-                if (httpMethod != null) {
-                    break;
-                }
-            }
-        }
-
-        // create a new UriBuilder appending the @Path attached to the method
-        WebTarget newTarget = addPathFromAnnotation(method, target);
+        final InvocationPlan plan = getInvocationPlan(method);
+        plan.checkSupported();
 
-        if (httpMethod == null) {
-            if (newTarget == target) {
-                // no path annotation on the method -> fail
-                throw new UnsupportedOperationException("Not a resource method.");
-            } else if (!responseType.isInterface()) {
-                // the method is a subresource locator, but returns class,
-                // not interface - can't help here
-                throw new UnsupportedOperationException("Return type not an interface");
-            }
-        }
+        // create a new WebTarget appending the @Path attached to the method
+        WebTarget newTarget = plan.getPath() == null ? target : target.path(plan.getPath());
 
         // process method params (build maps of (Path|Form|Cookie|Matrix|Header..)Params
-        // and extract entity type
-        RequestParameters requestParameters = new RequestParameters(newTarget, headers, cookies, form);
-        final Annotation[][] paramAnns = method.getParameterAnnotations();
-        Object entity = null;
-        Type entityType = null;
-        for (int i = 0; i < paramAnns.length; i++) {
-            final Map<Class<?>, Annotation> anns = new HashMap<>();
-            for (final Annotation ann : paramAnns[i]) {
-                anns.put(ann.annotationType(), ann);
-            }
-            Object value = args[i];
-            if (!RequestParameters.hasAnyParamAnnotation(anns)) {
-                entityType = method.getGenericParameterTypes()[i];
-                entity = value;
-            } else {
-                Annotation ann;
-                if (value == null && (ann = anns.get(DefaultValue.class)) != null) {
-                    value = ((DefaultValue) ann).value();
-                }
-                if (value != null) {
-                    requestParameters.addParameter(value, anns);
-                }
-            }
+        // and extract entity
+        final RequestParameters requestParameters = new RequestParameters(newTarget, headers, cookies, form);
+        for (final InvocationPlan.ParameterBinding parameter : plan.getParameters()) {
+            parameter.bind(args, requestParameters);
         }
         newTarget = requestParameters.getNewTarget();
 
+        final String httpMethod = plan.getHttpMethod();
         if (httpMethod == null) {
             // the method is a subresource locator
-            return WebResourceFactory.newResource(responseType, newTarget, true,
+            return WebResourceFactory.newResource(plan.getResponseType(), newTarget, true,
                     requestParameters.getHeaders(), requestParameters.getCookies(), requestParameters.getForm());
         }
 
-        // accepted media types
-        Produces produces = method.getAnnotation(Produces.class);
-        if (produces == null) {
-            produces = proxyIfc.getAnnotation(Produces.class);
-        }
-        final String[] accepts = (produces == null) ? EMPTY : produces.value();
+        Object entity = plan.getEntity(args);
 
         // determine content type
         String contentType = null;
@@ -226,19 +183,13 @@ public final class WebResourceFactory implements InvocationHandler {
             if ((contentTypeEntries != null) && (!contentTypeEntries.isEmpty())) {
                 contentType = contentTypeEntries.get(0).toString();
             } else {
-                Consumes consumes = method.getAnnotation(Consumes.class);
-                if (consumes == null) {
-                    consumes = proxyIfc.getAnnotation(Consumes.class);
-                }
-                if (consumes != null && consumes.value().length > 0) {
-                    contentType = consumes.value()[0];
-                }
+                contentType = plan.getContentType();
             }
         }
 
         Invocation.Builder builder = newTarget.request()
                 .headers(requestParameters.getHeaders()) // this resets all headers so do this first
-                .accept(accepts); // if @Produces is defined, propagate values into Accept header; empty array is NO-OP
+                .accept(plan.getAccepts()); // if @Produces is defined, propagate values into Accept header; empty array is NO-OP
 
         for (final Cookie c : requestParameters.getCookies()) {
             builder = builder.cookie(c);
@@ -262,10 +213,10 @@ public final class WebResourceFactory implements InvocationHandler {
             }
         }
 
-        final GenericType<?> responseGenericType = new GenericType(method.getGenericReturnType());
+        final GenericType<?> responseGenericType = plan.getResponseGenericType();
         if (entity != null) {
-            if (entityType instanceof ParameterizedType) {
-                entity = new GenericEntity(entity, entityType);
+            if (plan.isGenericEntity()) {
+                entity = new GenericEntity(entity, plan.getEntityType());
             }
             result = builder.method(httpMethod, Entity.entity(entity, contentType), responseGenericType);
         } else {
@@ -275,6 +226,11 @@ public final class WebResourceFactory implements InvocationHandler {
         return result;
     }
 
+    private InvocationPlan getInvocationPlan(final Method method) {
+        final InvocationPlan plan = plans.get(method);
+        // a method not declared by the resource interface, e.g. a method of Object
+        return plan != null ? plan : InvocationPlan.create(resourceInterface, method);
+    }
 
     private static WebTarget addPathFromAnnotation(final AnnotatedElement ae, WebTarget target) {
         final Path p = ae.getAnnotation(Path.class);
@@ -288,9 +244,4 @@ public final class WebResourceFactory implements InvocationHandler {
     public String toString() {
         return target.toString();
     }
-
-    private static String getHttpMethodName(final AnnotatedElement ae) {
-        final HttpMethod a = ae.getAnnotation(HttpMethod.class);
-        return a == null ? null : a.value();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.proxy;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the invocation plans derived from the resource interface methods.
+ */
+public class InvocationPlanTest {
+
+    private static final Map<Method, InvocationPlan> PLANS = InvocationPlan.create(MyResourceIfc.class);
+
+    private static InvocationPlan plan(final String name, final Class<?>... parameterTypes) throws NoSuchMethodException {
+        return PLANS.get(MyResourceIfc.class.getMethod(name, parameterTypes));
+    }
+
+    @Test
+    public void testAllMethodsPlanned() {
+        assertEquals(MyResourceIfc.class.getMethods().length, PLANS.size());
+    }
+
+    @Test
+    public void testResourceMethod() throws NoSuchMethodException {
+        final InvocationPlan plan = plan("postIt", List.class);
+
+        assertEquals("POST", plan.getHttpMethod());
+        assertNull(plan.getPath());
+        assertEquals(0, plan.getParameters().length);
+        assertTrue(plan.hasEntity());
+        assertTrue(plan.isGenericEntity());
+        assertEquals(new GenericType<List<MyBean>>() { }.getType(), plan.getEntityType());
+        assertArrayEquals(new String[] {MediaType.APPLICATION_XML}, plan.getAccepts());
+        assertEquals(MediaType.APPLICATION_XML, plan.getContentType());
+        assertEquals(new GenericType<List<MyBean>>() { }, plan.getResponseGenericType());
+    }
+
+    @Test
+    public void testParameterBinding() throws NoSuchMethodException {
+        final InvocationPlan plan = plan("getId", String.class);
+
+        assertEquals("GET", plan.getHttpMethod());
+        assertEquals("{id}", plan.getPath());
+        assertEquals(1, plan.getParameters().length);
+        assertFalse(plan.hasEntity());
+        assertNull(plan.getEntity(new Object[] {"1"}));
+        assertNull(plan.getContentType());
+    }
+
+    @Test
+    public void testSubResourceLocator() throws NoSuchMethodException {
+        final InvocationPlan plan = plan("getSubResource");
+
+        plan.checkSupported();
+        assertNull(plan.getHttpMethod());
+        assertEquals("subresource", plan.getPath());
+        assertSame(MySubResourceIfc.class, plan.getResponseType());
+        assertNull(plan.getResponseGenericType());
+    }
+
+    @Test
+    public void testNotResourceMethod() throws NoSuchMethodException {
+        final InvocationPlan plan = InvocationPlan.create(MyResourceIfc.class, Object.class.getMethod("wait"));
+
+        assertThrows(UnsupportedOperationException.class, plan::checkSupported);
+    }
+
+    @Test
+    public void testTypeVariableReturnType() throws NoSuchMethodException {
+        final Map<Method, InvocationPlan> plans = InvocationPlan.create(TypeVariableResourceIfc.class);
+        final InvocationPlan plan = plans.get(TypeVariableResourceIfc.class.getMethod("get"));
+
+        assertEquals("GET", plan.getHttpMethod());
+        assertThrows(IllegalArgumentException.class, plan::getResponseGenericType);
+    }
+
+    public interface TypeVariableResourceIfc {
+
+        @GET
+        <T> T get();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,10 +16,14 @@
 
 package org.glassfish.jersey.linking;
 
+import java.lang.invoke.MethodHandle;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
@@ -27,12 +31,19 @@ import jakarta.ws.rs.core.UriInfo;
 import jakarta.el.ExpressionFactory;
 import jakarta.el.ValueExpression;
 
+import org.glassfish.jersey.internal.util.collection.LRU;
 import org.glassfish.jersey.linking.mapping.ResourceMappingContext;
 import org.glassfish.jersey.uri.internal.UriPart;
 import org.glassfish.jersey.uri.internal.UriTemplateParser;
 
 /**
  * A helper class to build links from EL expressions.
+ * <p>
+ * The conditions, the binding expressions and the link templates are compiled once and cached, so that building
+ * the links for many entities does not parse the same expressions and templates over and over again. The default
+ * bindings of the URI template parameters are read through the {@link PropertyAccessor method handles} of the instance
+ * getters where possible.
+ * </p>
  *
  * @author Mark Hadley
  * @author Gerard Davison (gerard.davison at oracle.com)
@@ -45,6 +56,15 @@ final class ELLinkBuilder {
     private static final ExpressionFactory expressionFactory =
             ExpressionFactory.newInstance();
 
+    /**
+     * Maximum number of the compiled expressions and link templates kept in each of the caches.
+     */
+    private static final int CACHE_SIZE = 1024;
+
+    private static final LRU<String, ValueExpression> conditions = LRU.create(CACHE_SIZE, 0, TimeUnit.MILLISECONDS);
+    private static final LRU<String, ValueExpression> bindings = LRU.create(CACHE_SIZE, 0, TimeUnit.MILLISECONDS);
+    private static final LRU<String, CompiledTemplate> templates = LRU.create(CACHE_SIZE, 0, TimeUnit.MILLISECONDS);
+
     /**
      * Evaluates the condition
      *
@@ -63,7 +83,11 @@ final class ELLinkBuilder {
             return true;
         }
         LinkELContext context = new LinkELContext(entity, resource, instance);
-        ValueExpression expr = expressionFactory.createValueExpression(context, condition, boolean.class);
+        ValueExpression expr = conditions.getIfPresent(condition);
+        if (expr == null) {
+            expr = expressionFactory.createValueExpression(context, condition, boolean.class);
+            conditions.put(condition, expr);
+        }
 
         Object result = expr.getValue(context).toString();
         return "true".equals(result);
@@ -87,22 +111,55 @@ final class ELLinkBuilder {
                         UriInfo uriInfo,
                         ResourceMappingContext rmc) {
 
-        String template = link.getLinkTemplate(rmc);
+        LinkELContext context = new LinkELContext(entity, resource, instance);
+        CompiledTemplate compiled = compileTemplate(link.getLinkTemplate(rmc), context);
 
         // first process any embedded EL expressions
-        LinkELContext context = new LinkELContext(entity, resource, instance);
-        ValueExpression expr = expressionFactory.createValueExpression(context,
-                template, String.class);
-        template = expr.getValue(context).toString();
+        String template;
+        List<String> parameterNames;
+        if (compiled.expression == null) {
+            template = compiled.template;
+            parameterNames = compiled.parameterNames;
+        } else {
+            template = compiled.expression.getValue(context).toString();
+            parameterNames = getParameterNames(template);
+        }
 
         // now process any embedded URI template parameters
         UriBuilder ub = applyLinkStyle(template, link.getLinkStyle(), uriInfo);
-        UriTemplateParser parser = new UriTemplateParser(template);
-        List<UriPart> parameterNames = parser.getNames();
-        Map<String, Object> valueMap = getParameterValues(parameterNames, link, context, uriInfo);
+        Map<String, Object> valueMap = getParameterValues(parameterNames, link, context, instance, uriInfo);
         return ub.buildFromMap(valueMap);
     }
 
+    private static CompiledTemplate compileTemplate(String template, LinkELContext context) {
+        CompiledTemplate compiled = templates.getIfPresent(template);
+        if (compiled == null) {
+            compiled = isLiteral(template)
+                    ? new CompiledTemplate(template, null, getParameterNames(template))
+                    : new CompiledTemplate(template, expressionFactory.createValueExpression(context, template, String.class),
+                            null);
+            templates.put(template, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Check whether the template contains neither an EL expression nor an escaped EL expression, i.e. whether the EL
+     * would evaluate the template to itself.
+     */
+    private static boolean isLiteral(String template) {
+        return template.indexOf('$') < 0 && template.indexOf('#') < 0 && template.indexOf('\\') < 0;
+    }
+
+    private static List<String> getParameterNames(String template) {
+        List<UriPart> parts = new UriTemplateParser(template).getNames();
+        List<String> names = new ArrayList<>(parts.size());
+        for (UriPart part : parts) {
+            names.add(part.getPart());
+        }
+        return Collections.unmodifiableList(names);
+    }
+
     private static UriBuilder applyLinkStyle(String template, InjectLink.Style style, UriInfo uriInfo) {
         UriBuilder ub = null;
         switch (style) {
@@ -120,13 +177,13 @@ final class ELLinkBuilder {
         return ub;
     }
 
-    private static Map<String, Object> getParameterValues(List<UriPart> parameterNames,
+    private static Map<String, Object> getParameterValues(List<String> parameterNames,
                                                           InjectLinkDescriptor linkField,
                                                           LinkELContext context,
+                                                          Object instance,
                                                           UriInfo uriInfo) {
         Map<String, Object> values = new HashMap<>();
-        for (UriPart param : parameterNames) {
-            String name = param.getPart();
+        for (String name : parameterNames) {
             String elExpression = linkField.getBinding(name);
             if (elExpression == null) {
                 String value = uriInfo.getPathParameters().getFirst(name);
@@ -137,10 +194,18 @@ final class ELLinkBuilder {
                     values.put(name, value);
                     continue;
                 }
+                MethodHandle getter = instance == null ? null : PropertyAccessor.getGetter(instance.getClass(), name);
+                if (getter != null) {
+                    values.put(name, PropertyAccessor.getValueAsString(getter, instance));
+                    continue;
+                }
                 elExpression = "${" + ResponseContextResolver.INSTANCE_OBJECT + "." + name + "}";
             }
-            ValueExpression expr = expressionFactory.createValueExpression(context,
-                        elExpression, String.class);
+            ValueExpression expr = bindings.getIfPresent(elExpression);
+            if (expr == null) {
+                expr = expressionFactory.createValueExpression(context, elExpression, String.class);
+                bindings.put(elExpression, expr);
+            }
 
             Object value = expr.getValue(context);
             values.put(name, value != null ? value.toString() : null);
@@ -148,4 +213,21 @@ final class ELLinkBuilder {
         return values;
     }
 
+    /**
+     * Link template compiled either to the EL expression or, if the template does not contain any EL expression,
+     * to the names of the URI template parameters.
+     */
+    private static final class CompiledTemplate {
+
+        private final String template;
+        private final ValueExpression expression;
+        private final List<String> parameterNames;
+
+        private CompiledTemplate(String template, ValueExpression expression, List<String> parameterNames) {
+            this.template = template;
+            this.expression = expression;
+            this.parameterNames = parameterNames;
+        }
+    }
+
 }
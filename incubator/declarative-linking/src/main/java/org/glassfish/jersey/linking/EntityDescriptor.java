@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -37,17 +37,17 @@ import jakarta.ws.rs.core.Link;
  */
 class EntityDescriptor {
 
-    // Maintains an internal static cache to optimize processing
-    private static final Map<Class<?>, EntityDescriptor> descriptors = new HashMap<>();
-
-    static synchronized EntityDescriptor getInstance(Class<?> entityClass) {
-        if (descriptors.containsKey(entityClass)) {
-            return descriptors.get(entityClass);
-        } else {
-            EntityDescriptor descriptor = new EntityDescriptor(entityClass);
-            descriptors.put(entityClass, descriptor);
-            return descriptor;
+    // Maintains an internal static cache to optimize processing, the descriptors are looked up without locking
+    // and do not prevent the entity classes from being unloaded
+    private static final ClassValue<EntityDescriptor> descriptors = new ClassValue<EntityDescriptor>() {
+        @Override
+        protected EntityDescriptor computeValue(Class<?> entityClass) {
+            return new EntityDescriptor(entityClass);
         }
+    };
+
+    static EntityDescriptor getInstance(Class<?> entityClass) {
+        return descriptors.get(entityClass);
     }
 
     // instance
@@ -55,6 +55,8 @@ class EntityDescriptor {
     private Map<String, FieldDescriptor> nonLinkFields;
     private Map<String, FieldDescriptor> linkFields;
     private List<LinkHeaderDescriptor> linkHeaders;
+    private final List<FieldDescriptor> linkFieldList;
+    private final List<FieldDescriptor> introspectableFieldList;
 
     /**
      * Construct an new descriptor by inspecting the supplied class.
@@ -73,10 +75,29 @@ class EntityDescriptor {
         findFields(entityClass);
         this.nonLinkFields = Collections.unmodifiableMap(this.nonLinkFields);
         this.linkFields = Collections.unmodifiableMap(this.linkFields);
+
+        // and the lists iterated for every entity instance
+        this.linkFieldList = Collections.unmodifiableList(new ArrayList<>(linkFields.values()));
+        List<FieldDescriptor> introspectableFields = new ArrayList<>();
+        for (FieldDescriptor field : nonLinkFields.values()) {
+            if (field.isIntrospectable()) {
+                introspectableFields.add(field);
+            }
+        }
+        this.introspectableFieldList = Collections.unmodifiableList(introspectableFields);
     }
 
     Collection<FieldDescriptor> getLinkFields() {
-        return linkFields.values();
+        return linkFieldList;
+    }
+
+    /**
+     * Get the non-link fields the values of which should be processed for links too.
+     *
+     * @return the {@link FieldDescriptor#isIntrospectable() introspectable} non-link fields.
+     */
+    List<FieldDescriptor> getIntrospectableFields() {
+        return introspectableFieldList;
     }
 
     Collection<FieldDescriptor> getNonLinkFields() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,9 @@
 
 package org.glassfish.jersey.linking;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.security.AccessController;
@@ -23,31 +26,114 @@ import java.security.PrivilegedAction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import jakarta.xml.bind.annotation.XmlTransient;
+
 /**
- * Utility class for working with class fields
+ * Utility class for working with class fields.
+ * <p>
+ * The field is read and written through method handles created on the first access.
+ * </p>
  *
  * @author Mark Hadley
  * @author Gerard Davison (gerard.davison at oracle.com)
  */
 class FieldDescriptor {
 
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
     protected Field field;
 
+    private final boolean introspectable;
+
+    private volatile MethodHandle getter;
+    private volatile MethodHandle setter;
+
     FieldDescriptor(Field f) {
         this.field = f;
+        this.introspectable = f == null
+                || (!f.isSynthetic()
+                    && !Modifier.isTransient(f.getModifiers())
+                    && !f.getType().isPrimitive()
+                    && f.getType() != String.class
+                    && !f.isAnnotationPresent(InjectLinkNoFollow.class)
+                    && !f.isAnnotationPresent(XmlTransient.class));
+    }
+
+    /**
+     * Check whether the value of the field should be processed for links too.
+     *
+     * @return {@code true} if the field is neither synthetic, transient, primitive nor a {@code String} and it is not
+     * annotated with {@link InjectLinkNoFollow} or {@link XmlTransient}.
+     */
+    boolean isIntrospectable() {
+        return introspectable;
     }
 
     Object getFieldValue(Object instance) {
-        setAccessibleField(field);
         Object value = null;
         try {
-            value = field.get(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            value = readFieldValue(instance);
+        } catch (IllegalArgumentException | ClassCastException | IllegalAccessException ex) {
             Logger.getLogger(FieldDescriptor.class.getName()).log(Level.FINE, null, ex);
         }
         return value;
     }
 
+    /**
+     * Read the value of the field.
+     *
+     * @param instance the instance that contains the field.
+     * @return the value of the field.
+     * @throws IllegalAccessException if the field is not accessible.
+     */
+    Object readFieldValue(Object instance) throws IllegalAccessException {
+        MethodHandle handle = getter;
+        if (handle == null) {
+            setAccessibleField(field);
+            handle = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asType(GETTER_TYPE);
+            getter = handle;
+        }
+        try {
+            return (Object) handle.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Write the value of the field.
+     *
+     * @param instance the instance that contains the field.
+     * @param value    the value of the field.
+     * @throws IllegalAccessException if the field is not accessible or is final.
+     */
+    void writeFieldValue(Object instance, Object value) throws IllegalAccessException {
+        MethodHandle handle = setter;
+        if (handle == null) {
+            setAccessibleField(field);
+            handle = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asType(SETTER_TYPE);
+            setter = handle;
+        }
+        try {
+            handle.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
     public String getFieldName() {
         return field.getName();
     }
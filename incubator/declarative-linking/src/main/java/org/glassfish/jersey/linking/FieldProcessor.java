@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,7 +16,6 @@
 
 package org.glassfish.jersey.linking;
 
-import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -29,8 +28,6 @@ import java.util.logging.Logger;
 import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.UriInfo;
 
-import jakarta.xml.bind.annotation.XmlTransient;
-
 import org.glassfish.jersey.linking.contributing.ResourceLinkContributionContext;
 import org.glassfish.jersey.linking.mapping.ResourceMappingContext;
 
@@ -148,25 +145,12 @@ class FieldProcessor<T> {
         }
 
         // Recursively process all member fields
-        for (FieldDescriptor member : instanceDescriptor.getNonLinkFields()) {
-
-            if (fieldSuitableForIntrospection(member)) {
-                processMember(entity, resource, member.getFieldValue(instance), processed, uriInfo, rmc, rlcc);
-            }
+        for (FieldDescriptor member : instanceDescriptor.getIntrospectableFields()) {
+            processMember(entity, resource, member.getFieldValue(instance), processed, uriInfo, rmc, rlcc);
         }
 
     }
 
-    private boolean fieldSuitableForIntrospection(FieldDescriptor member) {
-        return member.field == null
-                || (!member.field.isSynthetic()
-                    && !Modifier.isTransient(member.field.getModifiers())
-                    && !member.field.getType().isPrimitive()
-                    && member.field.getType() != String.class
-                    && !member.field.isAnnotationPresent(InjectLinkNoFollow.class)
-                    && !member.field.isAnnotationPresent(XmlTransient.class));
-    }
-
     private void processMember(Object entity, Object resource, Object member, Set<Object> processed, UriInfo uriInfo,
             ResourceMappingContext rmc, ResourceLinkContributionContext rlcc) {
         if (member != null) {
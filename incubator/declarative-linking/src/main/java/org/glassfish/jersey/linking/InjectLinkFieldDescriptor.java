@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -46,6 +46,7 @@ class InjectLinkFieldDescriptor extends FieldDescriptor implements InjectLinkDes
     private InjectLink link;
     private Class<?> type;
     private Map<String, String> bindings;
+    private final LinkTemplateCache templateCache = new LinkTemplateCache();
 
     /**
      * C'tor
@@ -71,7 +72,6 @@ class InjectLinkFieldDescriptor extends FieldDescriptor implements InjectLinkDes
      * @param uri the value to inject
      */
     void setPropertyValue(Object instance, URI uri) {
-        setAccessibleField(field);
         try {
 
             Object value;
@@ -87,8 +87,8 @@ class InjectLinkFieldDescriptor extends FieldDescriptor implements InjectLinkDes
                 throw new IllegalArgumentException("Field type " + type + " not one of supported String,URI and Link");
             }
 
-            field.set(instance, value);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            writeFieldValue(instance, value);
+        } catch (IllegalArgumentException | ClassCastException | IllegalAccessException ex) {
             Logger.getLogger(InjectLinkFieldDescriptor.class.getName()).log(Level.SEVERE, null, ex);
         }
     }
@@ -110,7 +110,7 @@ class InjectLinkFieldDescriptor extends FieldDescriptor implements InjectLinkDes
      */
     @Override
     public String getLinkTemplate(ResourceMappingContext rmc) {
-        return getLinkTemplate(rmc, link);
+        return templateCache.get(rmc, context -> getLinkTemplate(context, link));
     }
 
 
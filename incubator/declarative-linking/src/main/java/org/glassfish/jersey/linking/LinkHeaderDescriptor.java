@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -32,6 +32,7 @@ class LinkHeaderDescriptor implements InjectLinkDescriptor {
 
     private InjectLink linkHeader;
     private Map<String, String> bindings;
+    private final LinkTemplateCache templateCache = new LinkTemplateCache();
 
     LinkHeaderDescriptor(InjectLink linkHeader) {
         this.linkHeader = linkHeader;
@@ -46,7 +47,7 @@ class LinkHeaderDescriptor implements InjectLinkDescriptor {
     }
 
     public String getLinkTemplate(ResourceMappingContext rmc) {
-        return InjectLinkFieldDescriptor.getLinkTemplate(rmc, linkHeader);
+        return templateCache.get(rmc, context -> InjectLinkFieldDescriptor.getLinkTemplate(context, linkHeader));
     }
 
     public Style getLinkStyle() {
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.linking;
+
+import java.util.function.Function;
+
+import org.glassfish.jersey.linking.mapping.ResourceMappingContext;
+
+/**
+ * Caches the link template of a link descriptor, so that the template is not looked up in the resource model
+ * for every link built.
+ * <p>
+ * The template is cached for the last {@link ResourceMappingContext} only, which in the common case of a single
+ * application is the only one the descriptor is used with.
+ * </p>
+ */
+final class LinkTemplateCache {
+
+    private volatile Entry entry;
+
+    /**
+     * Get the cached link template or resolve it.
+     *
+     * @param rmc      the resource mapping context.
+     * @param resolver the function resolving the link template for the resource mapping context.
+     * @return the link template.
+     */
+    String get(ResourceMappingContext rmc, Function<ResourceMappingContext, String> resolver) {
+        Entry cached = entry;
+        if (cached == null || cached.rmc != rmc) {
+            cached = new Entry(rmc, resolver.apply(rmc));
+            entry = cached;
+        }
+        return cached.template;
+    }
+
+    private static final class Entry {
+
+        private final ResourceMappingContext rmc;
+        private final String template;
+
+        private Entry(ResourceMappingContext rmc, String template) {
+            this.rmc = rmc;
+            this.template = template;
+        }
+    }
+}
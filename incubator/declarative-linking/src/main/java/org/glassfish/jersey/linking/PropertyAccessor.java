@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.linking;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.el.ELException;
+
+/**
+ * Reads the bean properties through the method handles of their public getters.
+ * <p>
+ * Used to resolve the default bindings of the URI template parameters, i.e. the {@code ${instance.name}} expressions,
+ * without the EL evaluation. The getters are looked up once per class and property name. If the property cannot be
+ * read through a public getter of a public class, no getter is returned and the EL has to be used instead.
+ * </p>
+ */
+final class PropertyAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<ConcurrentMap<String, Optional<MethodHandle>>> getters =
+            new ClassValue<ConcurrentMap<String, Optional<MethodHandle>>>() {
+                @Override
+                protected ConcurrentMap<String, Optional<MethodHandle>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private PropertyAccessor() {
+    }
+
+    /**
+     * Get the getter of the property.
+     *
+     * @param type     the class of the bean.
+     * @param property the name of the property.
+     * @return the method handle of the {@code (Object)Object} type reading the property, or {@code null} if the property
+     * cannot be read through a public getter.
+     */
+    static MethodHandle getGetter(Class<?> type, String property) {
+        return getters.get(type).computeIfAbsent(property, name -> Optional.ofNullable(findGetter(type, name))).orElse(null);
+    }
+
+    /**
+     * Read the property and coerce the value to a {@code String} the way the EL does.
+     *
+     * @param getter   the getter of the property.
+     * @param instance the bean.
+     * @return the value of the property, an empty string if the value is {@code null}.
+     * @throws ELException if the getter throws an exception.
+     */
+    static String getValueAsString(MethodHandle getter, Object instance) {
+        Object value;
+        try {
+            value = (Object) getter.invokeExact(instance);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new ELException(t);
+        }
+        if (value == null) {
+            return "";
+        } else if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        return value.toString();
+    }
+
+    private static MethodHandle findGetter(Class<?> type, String property) {
+        if (!Modifier.isPublic(type.getModifiers())) {
+            return null;
+        }
+        try {
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                if (descriptor.getName().equals(property)) {
+                    Method method = descriptor.getReadMethod();
+                    if (method == null || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                        return null;
+                    }
+                    return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+                }
+            }
+        } catch (IntrospectionException | IllegalAccessException e) {
+            // the property is read by the EL
+        }
+        return null;
+    }
+}
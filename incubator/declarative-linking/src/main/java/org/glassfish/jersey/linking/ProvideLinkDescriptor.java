@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -41,6 +41,8 @@ public class ProvideLinkDescriptor implements InjectLinkDescriptor {
 
     private final Map<String, String> bindings;
 
+    private final LinkTemplateCache templateCache = new LinkTemplateCache();
+
     /**
      * c'tor
      *
@@ -89,6 +91,10 @@ public class ProvideLinkDescriptor implements InjectLinkDescriptor {
      */
     @Override
     public String getLinkTemplate(ResourceMappingContext rmc) {
+        return templateCache.get(rmc, this::resolveLinkTemplate);
+    }
+
+    private String resolveLinkTemplate(ResourceMappingContext rmc) {
         String template = null;
         ResourceMappingContext.Mapping map = rmc.getMapping(resource.getInvocable().getHandler().getHandlerClass());
         if (map != null) {
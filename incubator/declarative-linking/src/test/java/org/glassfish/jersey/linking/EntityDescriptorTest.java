@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -26,6 +26,7 @@ import org.glassfish.jersey.linking.mapping.ResourceMappingContext;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  *
@@ -141,4 +142,31 @@ public class EntityDescriptorTest {
         assertEquals(TEMPLATE_A, testClass.res2.toString());
     }
 
+
+    public static class TestClassE {
+
+        @InjectLink(TEMPLATE_A)
+        private String link;
+
+        private TestClassA followed;
+
+        private transient TestClassA notFollowed;
+
+        @InjectLinkNoFollow
+        private TestClassA noFollow;
+
+        private String name;
+
+        private int count;
+    }
+
+    @Test
+    public void testCachedDescriptor() {
+        EntityDescriptor instance = EntityDescriptor.getInstance(TestClassE.class);
+        assertSame(instance, EntityDescriptor.getInstance(TestClassE.class));
+        assertEquals(1, instance.getLinkFields().size());
+        assertEquals(5, instance.getNonLinkFields().size());
+        assertEquals(1, instance.getIntrospectableFields().size());
+        assertEquals("followed", instance.getIntrospectableFields().get(0).getFieldName());
+    }
 }
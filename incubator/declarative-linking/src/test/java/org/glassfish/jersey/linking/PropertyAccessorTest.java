@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.linking;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.el.ELException;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests reading of the default bindings of the URI template parameters through {@link PropertyAccessor}.
+ */
+public class PropertyAccessorTest {
+
+    public static class Bean {
+
+        public String getId() {
+            return "10";
+        }
+
+        public Integer getCount() {
+            return 3;
+        }
+
+        public TimeUnit getUnit() {
+            return TimeUnit.SECONDS;
+        }
+
+        public String getMissing() {
+            return null;
+        }
+
+        public String getFailing() {
+            throw new IllegalStateException("failing");
+        }
+
+        public void setWriteOnly(String value) {
+        }
+    }
+
+    static class HiddenBean {
+
+        public String getId() {
+            return "hidden";
+        }
+    }
+
+    @Test
+    public void testGetValue() {
+        Bean bean = new Bean();
+        assertEquals("10", PropertyAccessor.getValueAsString(PropertyAccessor.getGetter(Bean.class, "id"), bean));
+        assertEquals("3", PropertyAccessor.getValueAsString(PropertyAccessor.getGetter(Bean.class, "count"), bean));
+        assertEquals("SECONDS", PropertyAccessor.getValueAsString(PropertyAccessor.getGetter(Bean.class, "unit"), bean));
+        assertEquals("", PropertyAccessor.getValueAsString(PropertyAccessor.getGetter(Bean.class, "missing"), bean));
+    }
+
+    @Test
+    public void testGetterCached() {
+        MethodHandle getter = PropertyAccessor.getGetter(Bean.class, "id");
+        assertNotNull(getter);
+        assertSame(getter, PropertyAccessor.getGetter(Bean.class, "id"));
+    }
+
+    @Test
+    public void testNoGetter() {
+        assertNull(PropertyAccessor.getGetter(Bean.class, "unknown"));
+        assertNull(PropertyAccessor.getGetter(Bean.class, "writeOnly"));
+        assertNull(PropertyAccessor.getGetter(HiddenBean.class, "id"));
+    }
+
+    @Test
+    public void testFailingGetter() {
+        MethodHandle getter = PropertyAccessor.getGetter(Bean.class, "failing");
+        ELException e = assertThrows(ELException.class, () -> PropertyAccessor.getValueAsString(getter, new Bean()));
+        assertEquals(IllegalStateException.class, e.getCause().getClass());
+    }
+}
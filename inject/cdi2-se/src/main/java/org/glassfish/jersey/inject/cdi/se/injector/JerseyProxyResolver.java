@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -34,6 +34,7 @@ import jakarta.ws.rs.core.Application;
 
 import jakarta.enterprise.context.RequestScoped;
 
+import org.glassfish.jersey.innate.inject.ContextDelegates;
 import org.glassfish.jersey.internal.inject.Injectee;
 import org.glassfish.jersey.internal.inject.InjectionResolver;
 
@@ -102,6 +103,9 @@ public class JerseyProxyResolver {
     /**
      * Returns a proxy (newly created or cached) which is able to call {@link InjectionResolver} with the given {@link Injectee}
      * to get the value in proper scope.
+     * <p>
+     * The request scoped JAX-RS context interfaces are served by the {@link ContextDelegates delegates} which do not use
+     * reflection, other types are served by a {@link Proxy}.
      *
      * @param injectee information about the injection point.
      * @param resolver dedicated resolver which find the value.
@@ -128,6 +132,10 @@ public class JerseyProxyResolver {
     }
 
     private Object createProxy(Class<?> requiredClass, Supplier<Object> supplier) {
+        Object delegate = ContextDelegates.delegate(requiredClass, supplier);
+        if (delegate != null) {
+            return delegate;
+        }
         return Proxy.newProxyInstance(
                 requiredClass.getClassLoader(),
                 new Class<?>[] {requiredClass},
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,11 +17,14 @@
 package org.glassfish.jersey.inject.cdi.se.injector;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.security.Principal;
 import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.ws.rs.core.Application;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.SecurityContext;
 import jakarta.ws.rs.ext.Providers;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -34,6 +37,7 @@ import org.glassfish.jersey.internal.inject.InjecteeImpl;
 import org.glassfish.jersey.internal.inject.InjectionResolver;
 
 import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -142,6 +146,22 @@ public class JerseyProxyResolverTest {
         assertNotSame(proxy1.getClass(), proxy2.getClass());
     }
 
+    @Test
+    public void testDelegateCreatedForContextInterface() {
+        MyInjectionResolver injectionResolver = new MyInjectionResolver(new MySecurityContext("admin"));
+        InjecteeImpl injectee = new InjecteeImpl();
+        injectee.setRequiredType(SecurityContext.class);
+        injectee.setParent(FIELDS[0]);
+
+        JerseyProxyResolver resolver = new JerseyProxyResolver();
+        Object delegate = resolver.proxy(injectee, injectionResolver);
+        assertFalse(Proxy.isProxyClass(delegate.getClass()));
+        assertTrue(((SecurityContext) delegate).isUserInRole("admin"));
+        assertFalse(((SecurityContext) delegate).isUserInRole("user"));
+        assertEquals("admin", ((SecurityContext) delegate).getAuthenticationScheme());
+        assertEquals(delegate, delegate);
+    }
+
     private static class StubForFields {
         private Object field1;
         private Object field2;
@@ -176,6 +196,35 @@ public class JerseyProxyResolverTest {
         }
     }
 
+    private static class MySecurityContext implements SecurityContext {
+
+        private final String role;
+
+        private MySecurityContext(String role) {
+            this.role = role;
+        }
+
+        @Override
+        public Principal getUserPrincipal() {
+            return null;
+        }
+
+        @Override
+        public boolean isUserInRole(String role) {
+            return this.role.equals(role);
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String getAuthenticationScheme() {
+            return role;
+        }
+    }
+
     private static class TestNonAnnotatedRequestScope {
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -29,6 +29,7 @@ import jakarta.ws.rs.core.Context;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import org.glassfish.jersey.innate.inject.ContextDelegates;
 import org.glassfish.jersey.internal.inject.ContextInjectionResolver;
 import org.glassfish.jersey.internal.inject.ForeignRequestScopeBridge;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
@@ -42,6 +43,7 @@ import org.glassfish.hk2.api.ActiveDescriptor;
 import org.glassfish.hk2.api.Factory;
 import org.glassfish.hk2.api.Injectee;
 import org.glassfish.hk2.api.InjectionResolver;
+import org.glassfish.hk2.api.ProxyCtl;
 import org.glassfish.hk2.api.ServiceHandle;
 import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.hk2.api.TypeLiteral;
@@ -80,6 +82,14 @@ public class ContextInjectionResolverImpl implements InjectionResolver<Context>,
     private final Cache<CacheKey, ActiveDescriptor<?>> descriptorCache
             = new Cache<>(cacheKey -> serviceLocator.getInjecteeDescriptor(cacheKey.injectee));
 
+    private final LazyValue<RequestContext> requestContext = Values.lazy(
+            (Value<RequestContext>) () -> serviceLocator.getService(RequestContext.class));
+
+    @SuppressWarnings("unchecked")
+    private final LazyValue<List<ContextDelegates.Registration<?>>> delegateRegistrations = Values.lazy(
+            (Value<List<ContextDelegates.Registration<?>>>) () -> (List) serviceLocator.getAllServices(
+                    ContextDelegates.Registration.class));
+
     @Override
     public Object resolve(Injectee injectee, ServiceHandle<?> root) {
         Type requiredType = injectee.getRequiredType();
@@ -100,12 +110,28 @@ public class ContextInjectionResolverImpl implements InjectionResolver<Context>,
             if (isHk2Factory) {
                 return asFactory(handle);
             } else {
-                return handle.getService();
+                final Object service = handle.getService();
+                return service instanceof ProxyCtl ? delegate(newInjectee, ad, root, service) : service;
             }
         }
         return null;
     }
 
+    /**
+     * Replace the HK2 proxy of a request scoped instance by a {@link ContextDelegates delegate}, if there is one for
+     * the injected type. The delegate looks the current instance up in the request context the same way the proxy does,
+     * but calls it without reflection. The delegates of the container interfaces are looked up among the
+     * {@link ContextDelegates.Registration registrations} bound to the service locator.
+     */
+    private Object delegate(Injectee injectee, ActiveDescriptor<?> descriptor, ServiceHandle<?> root, Object proxy) {
+        if (descriptor.getScopeAnnotation() != RequestScoped.class || !(injectee.getRequiredType() instanceof Class)) {
+            return proxy;
+        }
+        final Object delegate = ContextDelegates.delegate((Class<?>) injectee.getRequiredType(),
+                () -> requestContext.get().findOrCreate(descriptor, root), delegateRegistrations.get());
+        return delegate != null ? delegate : proxy;
+    }
+
     /**
      * Jersey Injection Resolver method that just populate HK2 injectee object and delegates the processing to HK2 Injection
      * Resolver.
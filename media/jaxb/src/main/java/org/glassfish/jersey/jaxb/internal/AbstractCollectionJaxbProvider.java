@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -244,13 +244,15 @@ public abstract class AbstractCollectionJaxbProvider extends AbstractJaxbProvide
             final Charset charset = ReaderWriter.getCharset(mediaType);
             final String charsetName = charset.name();
 
-            final Marshaller m = getMarshaller(elementType, mediaType);
-            m.setProperty(Marshaller.JAXB_FRAGMENT, true);
-            if (charset != StandardCharsets.UTF_8) {
-                m.setProperty(Marshaller.JAXB_ENCODING, charsetName);
+            try (PooledJaxbContext.Lease<Marshaller> lease = leaseMarshaller(elementType, mediaType)) {
+                final Marshaller m = lease.get();
+                m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+                if (charset != StandardCharsets.UTF_8) {
+                    m.setProperty(Marshaller.JAXB_ENCODING, charsetName);
+                }
+                setHeader(m, annotations);
+                writeCollection(elementType, c, mediaType, charset, m, entityStream);
             }
-            setHeader(m, annotations);
-            writeCollection(elementType, c, mediaType, charset, m, entityStream);
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
         }
@@ -288,9 +290,9 @@ public abstract class AbstractCollectionJaxbProvider extends AbstractJaxbProvide
             throw new NoContentException(LocalizationMessages.ERROR_READING_ENTITY_MISSING());
         }
 
-        try {
-            final Class<?> elementType = getElementClass(type, genericType);
-            final Unmarshaller u = getUnmarshaller(elementType, mediaType);
+        final Class<?> elementType = getElementClass(type, genericType);
+        try (PooledJaxbContext.Lease<Unmarshaller> lease = leaseUnmarshaller(elementType, mediaType)) {
+            final Unmarshaller u = lease.get();
             final XMLStreamReader r = getXMLStreamReader(elementType, mediaType, u, entityStream);
             boolean jaxbElement = false;
 
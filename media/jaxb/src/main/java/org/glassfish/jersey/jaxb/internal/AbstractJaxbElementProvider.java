@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -111,8 +111,8 @@ public abstract class AbstractJaxbElementProvider extends AbstractJaxbProvider<J
         final ParameterizedType pt = (ParameterizedType) genericType;
         final Class ta = (Class) pt.getActualTypeArguments()[0];
 
-        try {
-            return readFrom(ta, mediaType, getUnmarshaller(ta, mediaType), entityStream);
+        try (PooledJaxbContext.Lease<Unmarshaller> u = leaseUnmarshaller(ta, mediaType)) {
+            return readFrom(ta, mediaType, u.get(), entityStream);
         } catch (UnmarshalException ex) {
             throw new BadRequestException(ex);
         } catch (JAXBException ex) {
@@ -145,8 +145,8 @@ public abstract class AbstractJaxbElementProvider extends AbstractJaxbProvider<J
             MediaType mediaType,
             MultivaluedMap<String, Object> httpHeaders,
             OutputStream entityStream) throws IOException {
-        try {
-            final Marshaller m = getMarshaller(t.getDeclaredType(), mediaType);
+        try (PooledJaxbContext.Lease<Marshaller> lease = leaseMarshaller(t.getDeclaredType(), mediaType)) {
+            final Marshaller m = lease.get();
             final Charset c = ReaderWriter.getCharset(mediaType);
             if (c != StandardCharsets.UTF_8) {
                 m.setProperty(Marshaller.JAXB_ENCODING, c.name());
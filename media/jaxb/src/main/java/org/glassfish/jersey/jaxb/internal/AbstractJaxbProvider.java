@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,11 +18,12 @@ package org.glassfish.jersey.jaxb.internal;
 
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
-import java.lang.ref.WeakReference;
-import java.util.Map;
-import java.util.WeakHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -57,10 +58,26 @@ import org.xml.sax.InputSource;
  */
 public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWriterProvider<T> {
 
-    private static final Map<Class<?>, WeakReference<JAXBContext>> jaxbContexts =
-            new WeakHashMap<Class<?>, WeakReference<JAXBContext>>();
-    private static final Lock jaxbContextsLock = new ReentrantLock();
+    private static final Logger LOGGER = Logger.getLogger(AbstractJaxbProvider.class.getName());
+
+    private static final int POOL_SIZE = getPoolSize();
+    // the pooled context is held by the Java type, i.e. the JAXB context lives as long as the Java type is loaded
+    private static final ClassValue<PooledJaxbContext> jaxbContexts = new ClassValue<PooledJaxbContext>() {
+        @Override
+        protected PooledJaxbContext computeValue(final Class<?> type) {
+            return new PooledJaxbContext(type, POOL_SIZE);
+        }
+    };
+    // Jersey providers whose marshalling hooks do not change the state of the pooled marshallers and unmarshallers
+    private static final Set<Class<?>> POOLING_PROVIDERS = new HashSet<>(Arrays.asList(
+            AbstractRootElementJaxbProvider.class,
+            AbstractJaxbElementProvider.class,
+            AbstractCollectionJaxbProvider.class,
+            XmlRootElementJaxbProvider.class,
+            XmlJaxbElementProvider.class,
+            XmlCollectionJaxbProvider.class));
     private final Providers jaxrsProviders;
+    private final boolean pooling;
     private final boolean fixedResolverMediaType;
     private final Value<ContextResolver<JAXBContext>> mtContext;
     private final Value<ContextResolver<Unmarshaller>> mtUnmarshaller;
@@ -85,6 +102,7 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
      */
     public AbstractJaxbProvider(final Providers providers, final MediaType resolverMediaType, final Configuration config) {
         this.jaxrsProviders = providers;
+        this.pooling = POOL_SIZE > 0 && !overridesMarshallingHooks(getClass());
 
         fixedResolverMediaType = resolverMediaType != null;
         if (fixedResolverMediaType) {
@@ -162,34 +180,47 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
      * @throws JAXBException in case retrieving the unmarshaller fails with a JAXB exception.
      */
     protected final Unmarshaller getUnmarshaller(Class type, MediaType mediaType) throws JAXBException {
-        if (fixedResolverMediaType) {
-            return getUnmarshaller(type);
-        }
-
-        final ContextResolver<Unmarshaller> unmarshallerResolver =
-                jaxrsProviders.getContextResolver(Unmarshaller.class, mediaType);
-        if (unmarshallerResolver != null) {
-            Unmarshaller u = unmarshallerResolver.getContext(type);
-            if (u != null) {
-                return u;
-            }
+        final Unmarshaller u = getResolvedUnmarshaller(type, mediaType);
+        if (u != null) {
+            return u;
         }
 
         final JAXBContext ctx = getJAXBContext(type, mediaType);
         return (ctx == null) ? null : ctx.createUnmarshaller();
     }
 
-    private Unmarshaller getUnmarshaller(Class type) throws JAXBException {
-        final ContextResolver<Unmarshaller> resolver = mtUnmarshaller.get();
-        if (resolver != null) {
-            Unmarshaller u = resolver.getContext(type);
-            if (u != null) {
-                return u;
-            }
+    /**
+     * Lease the JAXB unmarshaller for the given class and media type. An unmarshaller created by the JAXB context
+     * {@link #getStoredJaxbContext(Class) stored} by the provider is leased from a pool, unless the provider
+     * {@link #overridesMarshallingHooks(Class) overrides the marshalling hooks}, otherwise the lease is
+     * the same unmarshaller as {@link #getUnmarshaller(Class, MediaType)} returns.
+     *
+     * @param type      Java type to be unmarshalled.
+     * @param mediaType entity media type.
+     * @return lease of the JAXB unmarshaller for the requested Java type, media type combination.
+     * @throws JAXBException in case retrieving the unmarshaller fails with a JAXB exception.
+     */
+    final PooledJaxbContext.Lease<Unmarshaller> leaseUnmarshaller(Class type, MediaType mediaType) throws JAXBException {
+        final Unmarshaller u = getResolvedUnmarshaller(type, mediaType);
+        if (u != null) {
+            return PooledJaxbContext.Lease.unpooled(u);
         }
 
-        final JAXBContext ctx = getJAXBContext(type);
-        return (ctx == null) ? null : ctx.createUnmarshaller();
+        final JAXBContext ctx = getJAXBContext(type, mediaType);
+        if (ctx == null) {
+            return PooledJaxbContext.Lease.unpooled(null);
+        }
+        final PooledJaxbContext pooled = jaxbContexts.get(type);
+        return pooling && pooled.isContext(ctx)
+                ? pooled.leaseUnmarshaller()
+                : PooledJaxbContext.Lease.unpooled(ctx.createUnmarshaller());
+    }
+
+    private Unmarshaller getResolvedUnmarshaller(Class type, MediaType mediaType) {
+        final ContextResolver<Unmarshaller> resolver = fixedResolverMediaType
+                ? mtUnmarshaller.get()
+                : jaxrsProviders.getContextResolver(Unmarshaller.class, mediaType);
+        return (resolver == null) ? null : resolver.getContext(type);
     }
 
     /**
@@ -205,46 +236,51 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
      * @throws JAXBException in case retrieving the marshaller fails with a JAXB exception.
      */
     protected final Marshaller getMarshaller(Class type, MediaType mediaType) throws JAXBException {
-        if (fixedResolverMediaType) {
-            return getMarshaller(type);
-        }
-
-        final ContextResolver<Marshaller> mcr = jaxrsProviders.getContextResolver(Marshaller.class, mediaType);
-        if (mcr != null) {
-            Marshaller m = mcr.getContext(type);
-            if (m != null) {
-                return m;
-            }
+        final Marshaller m = getResolvedMarshaller(type, mediaType);
+        if (m != null) {
+            return m;
         }
 
         final JAXBContext ctx = getJAXBContext(type, mediaType);
-        if (ctx == null) {
-            return null;
-        }
-
-        Marshaller m = ctx.createMarshaller();
-        if (formattedOutput.get()) {
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formattedOutput.get());
-        }
-        return m;
-
+        return (ctx == null) ? null : createMarshaller(ctx);
     }
 
-    private Marshaller getMarshaller(Class type) throws JAXBException {
-        final ContextResolver<Marshaller> resolver = mtMarshaller.get();
-        if (resolver != null) {
-            Marshaller u = resolver.getContext(type);
-            if (u != null) {
-                return u;
-            }
+    /**
+     * Lease the JAXB marshaller for the given class and media type. A marshaller created by the JAXB context
+     * {@link #getStoredJaxbContext(Class) stored} by the provider is leased from a pool, unless the provider
+     * {@link #overridesMarshallingHooks(Class) overrides the marshalling hooks}, otherwise the lease is
+     * the same marshaller as {@link #getMarshaller(Class, MediaType)} returns.
+     *
+     * @param type      Java type to be marshalled.
+     * @param mediaType entity media type.
+     * @return lease of the JAXB marshaller for the requested Java type, media type combination.
+     * @throws JAXBException in case retrieving the marshaller fails with a JAXB exception.
+     */
+    final PooledJaxbContext.Lease<Marshaller> leaseMarshaller(Class type, MediaType mediaType) throws JAXBException {
+        final Marshaller m = getResolvedMarshaller(type, mediaType);
+        if (m != null) {
+            return PooledJaxbContext.Lease.unpooled(m);
         }
 
-        final JAXBContext ctx = getJAXBContext(type);
+        final JAXBContext ctx = getJAXBContext(type, mediaType);
         if (ctx == null) {
-            return null;
+            return PooledJaxbContext.Lease.unpooled(null);
         }
+        final PooledJaxbContext pooled = jaxbContexts.get(type);
+        return pooling && pooled.isContext(ctx)
+                ? pooled.leaseMarshaller(formattedOutput.get())
+                : PooledJaxbContext.Lease.unpooled(createMarshaller(ctx));
+    }
 
-        Marshaller m = ctx.createMarshaller();
+    private Marshaller getResolvedMarshaller(Class type, MediaType mediaType) {
+        final ContextResolver<Marshaller> resolver = fixedResolverMediaType
+                ? mtMarshaller.get()
+                : jaxrsProviders.getContextResolver(Marshaller.class, mediaType);
+        return (resolver == null) ? null : resolver.getContext(type);
+    }
+
+    private Marshaller createMarshaller(JAXBContext ctx) throws JAXBException {
+        final Marshaller m = ctx.createMarshaller();
         if (formattedOutput.get()) {
             m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formattedOutput.get());
         }
@@ -252,7 +288,9 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
     }
 
     private JAXBContext getJAXBContext(Class type, MediaType mt) throws JAXBException {
-        final ContextResolver<JAXBContext> cr = jaxrsProviders.getContextResolver(JAXBContext.class, mt);
+        final ContextResolver<JAXBContext> cr = fixedResolverMediaType
+                ? mtContext.get()
+                : jaxrsProviders.getContextResolver(JAXBContext.class, mt);
         if (cr != null) {
             JAXBContext c = cr.getContext(type);
             if (c != null) {
@@ -263,18 +301,6 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
         return getStoredJaxbContext(type);
     }
 
-    private JAXBContext getJAXBContext(Class type) throws JAXBException {
-        final ContextResolver<JAXBContext> resolver = mtContext.get();
-        if (resolver != null) {
-            JAXBContext c = resolver.getContext(type);
-            if (c != null) {
-                return c;
-            }
-        }
-
-        return getStoredJaxbContext(type);
-    }
-
     /**
      * Retrieve cached JAXB context capable of handling the given Java type.
      *
@@ -283,18 +309,51 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
      * @throws JAXBException in case the JAXB context retrieval fails.
      */
     protected JAXBContext getStoredJaxbContext(Class type) throws JAXBException {
-        jaxbContextsLock.lock();
-        try {
-            final WeakReference<JAXBContext> ref = jaxbContexts.get(type);
-            JAXBContext c = (ref != null) ? ref.get() : null;
-            if (c == null) {
-                c = JAXBContext.newInstance(type);
-                jaxbContexts.put(type, new WeakReference<JAXBContext>(c));
+        return jaxbContexts.get(type).getContext();
+    }
+
+    /**
+     * Check whether a provider class declares, outside of the Jersey XML JAXB providers, a method taking a marshaller
+     * or an unmarshaller, such as the {@code writeTo} and {@code readFrom} hooks. Such a method may set a listener,
+     * a schema, adapters, an event handler or other state the pool is not able to reset, therefore the marshallers
+     * and unmarshallers of such providers are not pooled.
+     *
+     * @param providerClass provider class.
+     * @return {@code true} if the marshalling hooks are overridden.
+     */
+    static boolean overridesMarshallingHooks(final Class<?> providerClass) {
+        for (Class<?> c = providerClass; c != AbstractJaxbProvider.class && c != null; c = c.getSuperclass()) {
+            if (POOLING_PROVIDERS.contains(c)) {
+                continue;
+            }
+            for (final Method method : c.getDeclaredMethods()) {
+                if (Modifier.isPrivate(method.getModifiers()) || Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                for (final Class<?> parameterType : method.getParameterTypes()) {
+                    if (Marshaller.class.isAssignableFrom(parameterType)
+                            || Unmarshaller.class.isAssignableFrom(parameterType)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int getPoolSize() {
+        final String value = AccessController.doPrivileged(PropertiesHelper.getSystemProperty(MessageProperties.JAXB_POOL_SIZE));
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.CONFIG,
+                        "Value of " + MessageProperties.JAXB_POOL_SIZE + " property is not a valid integer [" + value + "]."
+                                + " Reverting to default [" + MessageProperties.JAXB_POOL_DEFAULT_SIZE + "].",
+                        e);
             }
-            return c;
-        } finally {
-            jaxbContextsLock.unlock();
         }
+        return MessageProperties.JAXB_POOL_DEFAULT_SIZE;
     }
 
     /**
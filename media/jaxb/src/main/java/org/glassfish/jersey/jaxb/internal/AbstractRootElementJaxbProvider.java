@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -111,7 +111,9 @@ public abstract class AbstractRootElementJaxbProvider extends AbstractJaxbProvid
             if (entityStream.isEmpty()) {
                 throw new NoContentException(LocalizationMessages.ERROR_READING_ENTITY_MISSING());
             }
-            return readFrom(type, mediaType, getUnmarshaller(type, mediaType), entityStream);
+            try (PooledJaxbContext.Lease<Unmarshaller> u = leaseUnmarshaller(type, mediaType)) {
+                return readFrom(type, mediaType, u.get(), entityStream);
+            }
         } catch (UnmarshalException ex) {
             throw new BadRequestException(ex);
         } catch (JAXBException ex) {
@@ -150,8 +152,8 @@ public abstract class AbstractRootElementJaxbProvider extends AbstractJaxbProvid
             MediaType mediaType,
             MultivaluedMap<String, Object> httpHeaders,
             OutputStream entityStream) throws IOException {
-        try {
-            final Marshaller m = getMarshaller(type, mediaType);
+        try (PooledJaxbContext.Lease<Marshaller> lease = leaseMarshaller(type, mediaType)) {
+            final Marshaller m = lease.get();
             final Charset c = ReaderWriter.getCharset(mediaType);
             if (c != StandardCharsets.UTF_8) {
                 m.setProperty(Marshaller.JAXB_ENCODING, c.name());
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jaxb.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.PropertyException;
+import jakarta.xml.bind.Unmarshaller;
+
+/**
+ * JAXB context created for a single Java type together with bounded pools of marshallers and unmarshallers
+ * created by the context.
+ * <p>
+ * The context is created lazily, at most once. Marshallers are pooled separately for the formatted and the unformatted
+ * output. A pooled marshaller is reset to the {@code UTF-8} encoding, no fragment and no XML header when it is returned
+ * to the pool, as these are the marshaller properties set by the JAXB providers. Other state, such as a listener,
+ * a schema or adapters, is not reset; the providers that may set it do not use the pools. A marshaller or unmarshaller
+ * is discarded when the pool is full or when the reset fails.
+ * </p>
+ *
+ * @see AbstractJaxbProvider
+ */
+final class PooledJaxbContext {
+
+    private static final Logger LOGGER = Logger.getLogger(PooledJaxbContext.class.getName());
+
+    private static final String[] XML_HEADERS_PROPERTIES = {"org.glassfish.jaxb.xmlHeaders", "com.sun.xml.bind.xmlHeaders"};
+
+    private final Class<?> type;
+    private final int maxPooled;
+    private final Pool<Marshaller> marshallers = new MarshallerPool();
+    private final Pool<Marshaller> formattedMarshallers = new MarshallerPool();
+    private final Pool<Unmarshaller> unmarshallers = new Pool<>();
+
+    private volatile JAXBContext context;
+    // name of the XML header marshaller property supported by the JAXB implementation, empty if not supported
+    private volatile String xmlHeadersProperty;
+
+    /**
+     * Create new pooled JAXB context.
+     *
+     * @param type      Java type the JAXB context is created for.
+     * @param maxPooled maximum number of marshallers (per the formatted output option) and unmarshallers kept in the pools,
+     *                  a non-positive value disables the pooling.
+     */
+    PooledJaxbContext(final Class<?> type, final int maxPooled) {
+        this.type = type;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * Get the JAXB context, create it if not created yet.
+     *
+     * @return JAXB context of the Java type.
+     * @throws JAXBException in case the JAXB context creation fails.
+     */
+    JAXBContext getContext() throws JAXBException {
+        JAXBContext c = context;
+        if (c == null) {
+            synchronized (this) {
+                c = context;
+                if (c == null) {
+                    c = JAXBContext.newInstance(type);
+                    context = c;
+                }
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Check whether the JAXB context is the context held by this instance. The context is not created by the check.
+     *
+     * @param ctx JAXB context.
+     * @return {@code true} if the context is the one created by this instance.
+     */
+    boolean isContext(final JAXBContext ctx) {
+        return ctx != null && ctx == context;
+    }
+
+    /**
+     * Lease a marshaller created by the JAXB context.
+     *
+     * @param formattedOutput whether the marshaller formats the output.
+     * @return lease of the marshaller, the marshaller is returned to the pool when the lease is closed.
+     * @throws JAXBException in case the marshaller creation fails.
+     */
+    Lease<Marshaller> leaseMarshaller(final boolean formattedOutput) throws JAXBException {
+        final Pool<Marshaller> pool = formattedOutput ? formattedMarshallers : marshallers;
+        Marshaller m = pool.poll();
+        if (m == null) {
+            m = getContext().createMarshaller();
+            if (formattedOutput) {
+                m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            }
+        }
+        return new Lease<>(m, pool);
+    }
+
+    /**
+     * Lease an unmarshaller created by the JAXB context.
+     *
+     * @return lease of the unmarshaller, the unmarshaller is returned to the pool when the lease is closed.
+     * @throws JAXBException in case the unmarshaller creation fails.
+     */
+    Lease<Unmarshaller> leaseUnmarshaller() throws JAXBException {
+        final Unmarshaller u = unmarshallers.poll();
+        return new Lease<>(u == null ? getContext().createUnmarshaller() : u, unmarshallers);
+    }
+
+    private void resetXmlHeaders(final Marshaller m) throws JAXBException {
+        String property = xmlHeadersProperty;
+        if (property == null) {
+            property = "";
+            for (final String candidate : XML_HEADERS_PROPERTIES) {
+                try {
+                    m.getProperty(candidate);
+                    property = candidate;
+                    break;
+                } catch (final PropertyException e) {
+                    // not supported by the JAXB implementation
+                }
+            }
+            xmlHeadersProperty = property;
+        }
+        if (!property.isEmpty()) {
+            m.setProperty(property, null);
+        }
+    }
+
+    /**
+     * Bounded pool of marshallers or unmarshallers.
+     *
+     * @param <T> pooled type.
+     */
+    private class Pool<T> {
+
+        private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        T poll() {
+            final T t = queue.poll();
+            if (t != null) {
+                size.decrementAndGet();
+            }
+            return t;
+        }
+
+        void release(final T t) {
+            if (size.get() >= maxPooled || !reset(t)) {
+                return;
+            }
+            if (size.incrementAndGet() > maxPooled) {
+                size.decrementAndGet();
+                return;
+            }
+            queue.offer(t);
+        }
+
+        /**
+         * Reset the state of a released marshaller or unmarshaller.
+         *
+         * @param t released marshaller or unmarshaller.
+         * @return {@code true} if the marshaller or unmarshaller can be reused.
+         */
+        boolean reset(final T t) {
+            return true;
+        }
+    }
+
+    private final class MarshallerPool extends Pool<Marshaller> {
+
+        @Override
+        boolean reset(final Marshaller m) {
+            try {
+                m.setProperty(Marshaller.JAXB_ENCODING, StandardCharsets.UTF_8.name());
+                m.setProperty(Marshaller.JAXB_FRAGMENT, false);
+                resetXmlHeaders(m);
+                return true;
+            } catch (final JAXBException e) {
+                LOGGER.log(Level.FINE, "Failed to reset the JAXB marshaller, the marshaller is not reused.", e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Lease of a marshaller or an unmarshaller. A lease is not thread-safe and must be closed exactly once.
+     *
+     * @param <T> leased type.
+     */
+    static final class Lease<T> implements AutoCloseable {
+
+        private final T value;
+        private final Pool<T> pool;
+
+        private Lease(final T value, final Pool<T> pool) {
+            this.value = value;
+            this.pool = pool;
+        }
+
+        /**
+         * Create a lease of a marshaller or an unmarshaller that is not pooled, i.e. closing the lease does nothing.
+         *
+         * @param value leased marshaller or unmarshaller, may be {@code null}.
+         * @param <T>   leased type.
+         * @return lease of the value.
+         */
+        static <T> Lease<T> unpooled(final T value) {
+            return new Lease<>(value, null);
+        }
+
+        /**
+         * Get the leased marshaller or unmarshaller.
+         *
+         * @return leased marshaller or unmarshaller.
+         */
+        T get() {
+            return value;
+        }
+
+        @Override
+        public void close() {
+            if (pool != null) {
+                pool.release(value);
+            }
+        }
+    }
+}
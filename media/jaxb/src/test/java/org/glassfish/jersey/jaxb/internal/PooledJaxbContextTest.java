@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jaxb.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.core.MediaType;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the pooling of JAXB marshallers and unmarshallers.
+ */
+public class PooledJaxbContextTest {
+
+    @XmlRootElement
+    public static class Bean {
+
+        public String value = "value";
+    }
+
+    public abstract static class ListenerProvider extends AbstractRootElementJaxbProvider {
+
+        ListenerProvider() {
+            super(null, null);
+        }
+
+        @Override
+        protected void writeTo(final Object t, final MediaType mediaType, final Charset c,
+                               final Marshaller m, final OutputStream entityStream) throws JAXBException {
+            m.setListener(new Marshaller.Listener() {
+            });
+            super.writeTo(t, mediaType, c, m, entityStream);
+        }
+    }
+
+    @Test
+    public void testContextCreatedOnce() throws Exception {
+        final PooledJaxbContext pooled = new PooledJaxbContext(Bean.class, 2);
+        final JAXBContext context = pooled.getContext();
+
+        assertSame(context, pooled.getContext());
+        assertTrue(pooled.isContext(context));
+        assertFalse(pooled.isContext(JAXBContext.newInstance(Bean.class)));
+    }
+
+    @Test
+    public void testMarshallerReusedAndReset() throws Exception {
+        final PooledJaxbContext pooled = new PooledJaxbContext(Bean.class, 2);
+
+        final Marshaller marshaller;
+        try (PooledJaxbContext.Lease<Marshaller> lease = pooled.leaseMarshaller(false)) {
+            marshaller = lease.get();
+            marshaller.setProperty(Marshaller.JAXB_ENCODING, StandardCharsets.ISO_8859_1.name());
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        }
+
+        try (PooledJaxbContext.Lease<Marshaller> lease = pooled.leaseMarshaller(false)) {
+            assertSame(marshaller, lease.get());
+            assertEquals(StandardCharsets.UTF_8.name(), lease.get().getProperty(Marshaller.JAXB_ENCODING));
+            assertEquals(false, lease.get().getProperty(Marshaller.JAXB_FRAGMENT));
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            lease.get().marshal(new Bean(), out);
+            assertTrue(out.toString(StandardCharsets.UTF_8.name()).startsWith("<?xml"));
+        }
+    }
+
+    @Test
+    public void testFormattedMarshallersPooledSeparately() throws Exception {
+        final PooledJaxbContext pooled = new PooledJaxbContext(Bean.class, 2);
+
+        final Marshaller marshaller;
+        try (PooledJaxbContext.Lease<Marshaller> lease = pooled.leaseMarshaller(false)) {
+            marshaller = lease.get();
+        }
+
+        try (PooledJaxbContext.Lease<Marshaller> lease = pooled.leaseMarshaller(true)) {
+            assertNotSame(marshaller, lease.get());
+            assertEquals(true, lease.get().getProperty(Marshaller.JAXB_FORMATTED_OUTPUT));
+        }
+    }
+
+    @Test
+    public void testPoolBounded() throws Exception {
+        final PooledJaxbContext pooled = new PooledJaxbContext(Bean.class, 1);
+
+        final PooledJaxbContext.Lease<Unmarshaller> first = pooled.leaseUnmarshaller();
+        final PooledJaxbContext.Lease<Unmarshaller> second = pooled.leaseUnmarshaller();
+        assertNotSame(first.get(), second.get());
+        first.close();
+        second.close();
+
+        try (PooledJaxbContext.Lease<Unmarshaller> third = pooled.leaseUnmarshaller();
+             PooledJaxbContext.Lease<Unmarshaller> fourth = pooled.leaseUnmarshaller()) {
+            assertSame(first.get(), third.get());
+            assertNotSame(second.get(), fourth.get());
+        }
+    }
+
+    @Test
+    public void testPoolingDisabled() throws Exception {
+        final PooledJaxbContext pooled = new PooledJaxbContext(Bean.class, 0);
+
+        final Unmarshaller unmarshaller;
+        try (PooledJaxbContext.Lease<Unmarshaller> lease = pooled.leaseUnmarshaller()) {
+            unmarshaller = lease.get();
+        }
+
+        try (PooledJaxbContext.Lease<Unmarshaller> lease = pooled.leaseUnmarshaller()) {
+            assertNotSame(unmarshaller, lease.get());
+        }
+    }
+
+    @Test
+    public void testPoolingSkippedForOverriddenHooks() {
+        assertFalse(AbstractJaxbProvider.overridesMarshallingHooks(XmlRootElementJaxbProvider.App.class));
+        assertFalse(AbstractJaxbProvider.overridesMarshallingHooks(XmlJaxbElementProvider.General.class));
+        assertFalse(AbstractJaxbProvider.overridesMarshallingHooks(XmlCollectionJaxbProvider.Text.class));
+        assertTrue(AbstractJaxbProvider.overridesMarshallingHooks(ListenerProvider.class));
+    }
+}
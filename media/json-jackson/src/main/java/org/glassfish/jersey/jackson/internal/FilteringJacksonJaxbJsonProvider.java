@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,10 +17,11 @@
 package org.glassfish.jersey.jackson.internal;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.Context;
@@ -32,8 +33,11 @@ import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
 import jakarta.ws.rs.ext.Providers;
 
+import org.glassfish.jersey.CommonProperties;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
+import org.glassfish.jersey.internal.util.collection.LRU;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.EndpointConfigBase;
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.JaxRSFeature;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.ObjectWriterInjector;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.ObjectWriterModifier;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JsonEndpointConfig;
@@ -54,6 +58,12 @@ import com.fasterxml.jackson.databind.ser.PropertyFilter;
 
 /**
  * Entity Data Filtering provider based on Jackson JSON provider.
+ * <p>
+ * The object writers with the entity-filtering filters applied are cached per the entity type, the entity annotations and
+ * the entity-filtering scopes, the size of the cache is configured by
+ * {@link CommonProperties#JSON_JACKSON_FILTERING_WRITER_CACHE_SIZE}. The writers are not cached if a custom
+ * {@link ObjectWriterModifier} is set for the response, as the modifier may change the filter provider of the writer.
+ * </p>
  *
  * @author Michal Gajdos
  */
@@ -62,12 +72,23 @@ public final class FilteringJacksonJaxbJsonProvider extends DefaultJacksonJaxbJs
 
     private final Provider<ObjectProvider<FilterProvider>> provider;
 
+    private final int writerCacheSize;
+    private final LRU<WriterKey, JsonEndpointConfig> writers;
+    private final LongAdder writerCacheHits = new LongAdder();
+    private final LongAdder writerCacheMisses = new LongAdder();
+
     @Inject
     public FilteringJacksonJaxbJsonProvider(@Context Provider<ObjectProvider<FilterProvider>> provider,
                                             @Context Providers providers,
                                             @Context Configuration config) {
         super(providers, config);
         this.provider = provider;
+
+        final int size = CommonProperties.getValue(config.getProperties(), config.getRuntimeType(),
+                CommonProperties.JSON_JACKSON_FILTERING_WRITER_CACHE_SIZE,
+                CommonProperties.JSON_JACKSON_FILTERING_WRITER_CACHE_DEFAULT_SIZE, Integer.class);
+        this.writerCacheSize = Math.max(size, 0);
+        this.writers = writerCacheSize > 0 ? LRU.create(writerCacheSize, 0, TimeUnit.MILLISECONDS) : null;
     }
 
 
@@ -75,50 +96,197 @@ public final class FilteringJacksonJaxbJsonProvider extends DefaultJacksonJaxbJs
     protected JsonEndpointConfig _configForWriting(final ObjectMapper mapper, final Annotation[] annotations,
                                                    final Class<?> defaultView) {
         final AnnotationIntrospector customIntrospector = mapper.getSerializationConfig().getAnnotationIntrospector();
+        for (final AnnotationIntrospector introspector : customIntrospector.allIntrospectors()) {
+            if (introspector instanceof FilteringAnnotationIntrospector) {
+                // The mapper has already been configured for filtering.
+                return super._configForWriting(mapper, annotations, defaultView);
+            }
+        }
         // Set the custom (user) introspector to be the primary one.
         final ObjectMapper filteringMapper = mapper.setAnnotationIntrospector(AnnotationIntrospector.pair(customIntrospector,
-                new JacksonAnnotationIntrospector() {
-                    @Override
-                    public Object findFilterId(final Annotated a) {
-                        final Object filterId = super.findFilterId(a);
+                new FilteringAnnotationIntrospector()));
 
-                        if (filterId != null) {
-                            return filterId;
-                        }
+        return super._configForWriting(filteringMapper, annotations, defaultView);
+    }
+
+    @Override
+    protected JsonEndpointConfig _endpointForWriting(final Object value,
+                                                     final Class<?> type,
+                                                     final Type genericType,
+                                                     final Annotation[] annotations,
+                                                     final MediaType mediaType,
+                                                     final MultivaluedMap<String, Object> httpHeaders) {
+        final JsonEndpointConfig endpoint = super._endpointForWriting(value, type, genericType, annotations, mediaType,
+                httpHeaders);
 
-                        if (a instanceof AnnotatedMethod) {
-                            final Method method = ((AnnotatedMethod) a).getAnnotated();
+        final FilterProvider filterProvider = provider.get().getFilteringObject(genericType, true, annotations);
+        if (filterProvider == null) {
+            return endpoint;
+        }
 
-                            // Interested only in getters - trying to obtain "field" name from them.
-                            if (ReflectionHelper.isGetter(method)) {
-                                return ReflectionHelper.getPropertyName(method);
-                            }
-                        }
-                        if (a instanceof AnnotatedField || a instanceof AnnotatedClass) {
-                            return a.getName();
+        if (ObjectWriterInjector.get() != null) {
+            // The custom modifier may change the filter provider - apply the filters after the modifier.
+            ObjectWriterInjector.set(new FilteringObjectWriterModifier(filterProvider, ObjectWriterInjector.getAndClear()));
+            return endpoint;
+        }
+
+        if (writers == null || !isEnabled(JaxRSFeature.CACHE_ENDPOINT_WRITERS)) {
+            // Endpoints are not cached, so neither are the filtering ones.
+            return new FilteringEndpointConfig(endpoint, withFilterProvider(endpoint.getWriter(), filterProvider));
+        }
+
+        // The endpoint is cached per the entity type and annotations, the filter provider per the entity type and scopes.
+        final WriterKey key = new WriterKey(endpoint, filterProvider);
+        JsonEndpointConfig filteringEndpoint = writers.getIfPresent(key);
+        if (filteringEndpoint == null) {
+            writerCacheMisses.increment();
+            filteringEndpoint = new FilteringEndpointConfig(endpoint, withFilterProvider(endpoint.getWriter(), filterProvider));
+            writers.put(key, filteringEndpoint);
+        } else {
+            writerCacheHits.increment();
+        }
+        return filteringEndpoint;
+    }
+
+    /**
+     * Get the maximum number of the cached object writers with the entity-filtering filters applied.
+     *
+     * @return maximum number of the cached writers, {@code 0} if the caching is disabled.
+     * @since 4.1.0
+     */
+    public int getWriterCacheMaximumSize() {
+        return writerCacheSize;
+    }
+
+    /**
+     * Get the number of the responses written by a cached object writer with the entity-filtering filters applied.
+     *
+     * @return number of the writer cache hits.
+     * @since 4.1.0
+     */
+    public long getWriterCacheHitCount() {
+        return writerCacheHits.sum();
+    }
+
+    /**
+     * Get the number of the object writers with the entity-filtering filters applied created for the writer cache.
+     *
+     * @return number of the writer cache misses.
+     * @since 4.1.0
+     */
+    public long getWriterCacheMissCount() {
+        return writerCacheMisses.sum();
+    }
+
+    /**
+     * Apply the entity-filtering filter provider to the writer. The custom (user) filter provider of the writer,
+     * if any, takes precedence.
+     *
+     * @param writer         writer to apply the filter provider to.
+     * @param filterProvider entity-filtering filter provider.
+     * @return writer with the filter provider applied.
+     */
+    private static ObjectWriter withFilterProvider(final ObjectWriter writer, final FilterProvider filterProvider) {
+        final FilterProvider customFilterProvider = writer.getConfig().getFilterProvider();
+
+        // Try the custom (user) filter provider first.
+        return customFilterProvider == null
+                ? writer.with(filterProvider)
+                : writer.with(new FilterProvider() {
+                    @Override
+                    public BeanPropertyFilter findFilter(final Object filterId) {
+                        return customFilterProvider.findFilter(filterId);
+                    }
+
+                    @Override
+                    public PropertyFilter findPropertyFilter(final Object filterId, final Object valueToFilter) {
+                        final PropertyFilter filter = customFilterProvider.findPropertyFilter(filterId, valueToFilter);
+                        if (filter != null) {
+                            return filter;
                         }
 
-                        return null;
+                        return filterProvider.findPropertyFilter(filterId, valueToFilter);
                     }
-                }));
+                });
+    }
 
-        return super._configForWriting(filteringMapper, annotations, defaultView);
+    private static final class FilteringAnnotationIntrospector extends JacksonAnnotationIntrospector {
+
+        @Override
+        public Object findFilterId(final Annotated a) {
+            final Object filterId = super.findFilterId(a);
+
+            if (filterId != null) {
+                return filterId;
+            }
+
+            if (a instanceof AnnotatedMethod) {
+                final Method method = ((AnnotatedMethod) a).getAnnotated();
+
+                // Interested only in getters - trying to obtain "field" name from them.
+                if (ReflectionHelper.isGetter(method)) {
+                    return ReflectionHelper.getPropertyName(method);
+                }
+            }
+            if (a instanceof AnnotatedField || a instanceof AnnotatedClass) {
+                return a.getName();
+            }
+
+            return null;
+        }
     }
 
-    @Override
-    public void writeTo(final Object value,
-                        final Class<?> type,
-                        final Type genericType,
-                        final Annotation[] annotations,
-                        final MediaType mediaType,
-                        final MultivaluedMap<String, Object> httpHeaders,
-                        final OutputStream entityStream) throws IOException {
-        final FilterProvider filterProvider = provider.get().getFilteringObject(genericType, true, annotations);
-        if (filterProvider != null) {
-            ObjectWriterInjector.set(new FilteringObjectWriterModifier(filterProvider, ObjectWriterInjector.getAndClear()));
+    /**
+     * Endpoint configuration with the entity-filtering filters applied to the writer of the original endpoint.
+     */
+    private static final class FilteringEndpointConfig extends JsonEndpointConfig {
+
+        private final JsonEndpointConfig endpoint;
+
+        private FilteringEndpointConfig(final JsonEndpointConfig endpoint, final ObjectWriter writer) {
+            super(writer.getConfig());
+            this.endpoint = endpoint;
+            this._activeView = endpoint.getActiveView();
+            this._rootName = endpoint.getRootName();
+            this._writer = writer;
+        }
+
+        @Override
+        public Object modifyBeforeWrite(final Object value) {
+            return endpoint.modifyBeforeWrite(value);
+        }
+    }
+
+    /**
+     * Key of the writer cache - the original endpoint and the entity-filtering filter provider, both compared by identity
+     * as both are cached.
+     */
+    private static final class WriterKey {
+
+        private final JsonEndpointConfig endpoint;
+        private final FilterProvider filterProvider;
+
+        private WriterKey(final JsonEndpointConfig endpoint, final FilterProvider filterProvider) {
+            this.endpoint = endpoint;
+            this.filterProvider = filterProvider;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof WriterKey)) {
+                return false;
+            }
+            final WriterKey that = (WriterKey) o;
+            return endpoint == that.endpoint && filterProvider == that.filterProvider;
         }
 
-        super.writeTo(value, type, genericType, annotations, mediaType, httpHeaders, entityStream);
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(endpoint) + System.identityHashCode(filterProvider);
+        }
     }
 
     private static final class FilteringObjectWriterModifier extends ObjectWriterModifier {
@@ -138,27 +306,7 @@ public final class FilteringJacksonJaxbJsonProvider extends DefaultJacksonJaxbJs
                                    final ObjectWriter w,
                                    final JsonGenerator g) throws IOException {
             final ObjectWriter writer = original == null ? w : original.modify(endpoint, responseHeaders, valueToWrite, w, g);
-            final FilterProvider customFilterProvider = writer.getConfig().getFilterProvider();
-
-            // Try the custom (user) filter provider first.
-            return customFilterProvider == null
-                    ? writer.with(filterProvider)
-                    : writer.with(new FilterProvider() {
-                        @Override
-                        public BeanPropertyFilter findFilter(final Object filterId) {
-                            return customFilterProvider.findFilter(filterId);
-                        }
-
-                        @Override
-                        public PropertyFilter findPropertyFilter(final Object filterId, final Object valueToFilter) {
-                            final PropertyFilter filter = customFilterProvider.findPropertyFilter(filterId, valueToFilter);
-                            if (filter != null) {
-                                return filter;
-                            }
-
-                            return filterProvider.findPropertyFilter(filterId, valueToFilter);
-                        }
-                    });
+            return withFilterProvider(writer, filterProvider);
         }
     }
 }
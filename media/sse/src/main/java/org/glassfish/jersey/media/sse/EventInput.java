@@ -22,7 +22,6 @@ import java.lang.annotation.Annotation;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 
-import org.glassfish.jersey.client.ChunkParser;
 import org.glassfish.jersey.client.ChunkedInput;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.message.MessageBodyWorkers;
@@ -35,11 +34,6 @@ import org.glassfish.jersey.message.MessageBodyWorkers;
  * @author Marek Potociar
  */
 public class EventInput extends ChunkedInput<InboundEvent> {
-    /**
-     * SSE event chunk parser - SSE chunks are delimited with a fixed "\n\n" and "\r\n\r\n" delimiter in the response stream.
-     */
-    private static final ChunkParser SSE_EVENT_PARSER = ChunkedInput.createMultiParser("\n\n", "\r\n\r\n");
-
     /**
      * Package-private constructor used by the {@link org.glassfish.jersey.client.ChunkedInputReader}.
      *
@@ -58,6 +52,7 @@ public class EventInput extends ChunkedInput<InboundEvent> {
                PropertiesDelegate propertiesDelegate) {
         super(InboundEvent.class, inputStream, annotations, mediaType, headers, messageBodyWorkers, propertiesDelegate);
 
-        super.setParser(SSE_EVENT_PARSER);
+        // SSE chunks are delimited with a fixed "\n\n" and "\r\n\r\n" delimiter in the response stream
+        super.setParser(createStreamParser("\n\n", "\r\n\r\n"));
     }
 }
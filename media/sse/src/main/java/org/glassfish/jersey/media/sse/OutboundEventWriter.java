@@ -38,6 +38,7 @@ import jakarta.inject.Provider;
 
 import org.glassfish.jersey.message.MessageBodyWorkers;
 import org.glassfish.jersey.message.MessageUtils;
+import org.glassfish.jersey.media.sse.internal.SerializedOutboundEvent;
 
 /**
  * Writer for {@link OutboundSseEvent}.
@@ -89,6 +90,15 @@ class OutboundEventWriter implements MessageBodyWriter<OutboundSseEvent> {
                         final OutputStream entityStream) throws IOException, WebApplicationException {
 
         final Charset charset = MessageUtils.getCharset(mediaType);
+        if (outboundEvent instanceof SerializedOutboundEvent) {
+            final SerializedOutboundEvent serializedEvent = (SerializedOutboundEvent) outboundEvent;
+            if (serializedEvent.getCharset().equals(charset)) {
+                // broadcast event already serialized once for all the event sinks
+                serializedEvent.writeTo(entityStream);
+                return;
+            }
+        }
+
         if (outboundEvent.getComment() != null) {
             for (final String comment : EOL_PATTERN.split(outboundEvent.getComment())) {
                 entityStream.write(COMMENT_LEAD);
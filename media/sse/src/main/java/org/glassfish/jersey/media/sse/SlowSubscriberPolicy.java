@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.sse;
+
+/**
+ * Policy applied by a {@link jakarta.ws.rs.sse.SseBroadcaster SSE broadcaster} to a registered event sink that does not
+ * consume the broadcast events fast enough, i.e. whose buffer of events waiting to be sent is full.
+ *
+ * @see SseFeature#BROADCAST_SLOW_SUBSCRIBER_POLICY
+ * @see SseFeature#BROADCAST_BUFFER_SIZE
+ * @since 4.1.0
+ */
+public enum SlowSubscriberPolicy {
+
+    /**
+     * The event is not sent to the slow event sink. The event sink stays registered and receives the following events
+     * once there is space in its buffer again.
+     */
+    DROP,
+
+    /**
+     * The slow event sink is closed and unregistered from the broadcaster. The broadcaster
+     * {@link jakarta.ws.rs.sse.SseBroadcaster#onError(java.util.function.BiConsumer) error handlers} are notified.
+     * <p>
+     * This is the default policy.
+     * </p>
+     */
+    DISCONNECT,
+
+    /**
+     * The broadcasting thread is blocked until there is space in the buffer of the slow event sink.
+     */
+    BLOCK
+}
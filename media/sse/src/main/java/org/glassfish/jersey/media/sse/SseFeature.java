@@ -91,6 +91,67 @@ public class SseFeature implements Feature {
     @Property
     public static final String DISABLE_SSE_SERVER = "jersey.config.server.media.sse.disable";
 
+    /**
+     * If {@code true}, every event broadcast by a server-side {@link jakarta.ws.rs.sse.SseBroadcaster SSE broadcaster}
+     * is serialized only once, before it is delivered to the registered event sinks, and the same serialized
+     * bytes are written to all the event sinks.
+     * <p>
+     * By default every event sink serializes the broadcast event on its own, so the event data
+     * {@link jakarta.ws.rs.ext.MessageBodyWriter message body writer} is invoked once per event sink. When the shared
+     * serialization is enabled, the event data are serialized without any entity annotations and the serialized event
+     * is written to the event sinks with the default {@value #SERVER_SENT_EVENTS} charset. Event sinks with a different
+     * response charset serialize the event on their own.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 4.1.0
+     */
+    @Property
+    public static final String BROADCAST_SHARED_SERIALIZATION = "jersey.config.server.media.sse.broadcast.shared.serialization";
+
+    /**
+     * An integer value that defines the maximum number of broadcast events buffered for every event sink registered to
+     * a server-side {@link jakarta.ws.rs.sse.SseBroadcaster SSE broadcaster}. The value may be rounded up to the nearest
+     * power of two.
+     * <p>
+     * When the buffer of an event sink is full, the {@link #BROADCAST_SLOW_SUBSCRIBER_POLICY slow subscriber policy}
+     * is applied.
+     * </p>
+     * <p>
+     * The default value is {@code 256}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 4.1.0
+     */
+    @Property
+    public static final String BROADCAST_BUFFER_SIZE = "jersey.config.server.media.sse.broadcast.buffer.size";
+
+    /**
+     * A {@link SlowSubscriberPolicy} (or its name) applied by a server-side
+     * {@link jakarta.ws.rs.sse.SseBroadcaster SSE broadcaster} to an event sink that does not consume the broadcast
+     * events fast enough.
+     * <p>
+     * The default value is {@link SlowSubscriberPolicy#DISCONNECT}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #BROADCAST_BUFFER_SIZE
+     * @since 4.1.0
+     */
+    @Property
+    public static final String BROADCAST_SLOW_SUBSCRIBER_POLICY =
+            "jersey.config.server.media.sse.broadcast.slow.subscriber.policy";
+
     /**
      * A "reconnection not set" value for the SSE reconnect delay set via {@code retry} field.
      *
@@ -16,15 +16,22 @@
 
 package org.glassfish.jersey.media.sse.internal;
 
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
 
+import jakarta.inject.Provider;
+import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.sse.OutboundSseEvent;
 import jakarta.ws.rs.sse.Sse;
 import jakarta.ws.rs.sse.SseBroadcaster;
 
 import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SlowSubscriberPolicy;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.ServerProperties;
 
 /**
  * Implementation of server-side injectable Server-Sent Event "context".
@@ -33,9 +40,17 @@ import org.glassfish.jersey.media.sse.OutboundEvent;
  */
 class JerseySse implements Sse {
 
+    private static final int DEFAULT_BROADCAST_BUFFER_SIZE = 256;
+
     @Context
     private ExecutorService executorService;
 
+    @Context
+    private Configuration configuration;
+
+    @Context
+    private Provider<MessageBodyWorkers> workersProvider;
+
     @Override
     public OutboundSseEvent.Builder newEventBuilder() {
         return new OutboundEvent.Builder();
@@ -43,6 +58,19 @@ class JerseySse implements Sse {
 
     @Override
     public SseBroadcaster newBroadcaster() {
-        return new JerseySseBroadcaster(executorService);
+        if (configuration == null) {
+            return new JerseySseBroadcaster(executorService);
+        }
+
+        final Map<String, Object> properties = configuration.getProperties();
+        final int bufferSize = ServerProperties.getValue(properties,
+                SseFeature.BROADCAST_BUFFER_SIZE, DEFAULT_BROADCAST_BUFFER_SIZE, Integer.class);
+        final SlowSubscriberPolicy slowSubscriberPolicy = ServerProperties.getValue(properties,
+                SseFeature.BROADCAST_SLOW_SUBSCRIBER_POLICY, SlowSubscriberPolicy.DISCONNECT, SlowSubscriberPolicy.class);
+        final boolean sharedSerialization = ServerProperties.getValue(properties,
+                SseFeature.BROADCAST_SHARED_SERIALIZATION, Boolean.FALSE, Boolean.class);
+
+        return new JerseySseBroadcaster(executorService, bufferSize, slowSubscriberPolicy,
+                sharedSerialization ? workersProvider : null);
     }
 }
@@ -16,6 +16,9 @@
 
 package org.glassfish.jersey.media.sse.internal;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -23,7 +26,12 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Flow;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import jakarta.inject.Provider;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.sse.OutboundSseEvent;
 import jakarta.ws.rs.sse.Sse;
 import jakarta.ws.rs.sse.SseBroadcaster;
@@ -31,16 +39,26 @@ import jakarta.ws.rs.sse.SseEventSink;
 
 import org.glassfish.jersey.internal.util.JerseyPublisher;
 import org.glassfish.jersey.media.sse.LocalizationMessages;
+import org.glassfish.jersey.media.sse.SlowSubscriberPolicy;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.MessageUtils;
 
 /**
  * Used for broadcasting SSE to multiple {@link jakarta.ws.rs.sse.SseEventSink} instances.
  * <p>
  * JAX-RS 2.1 {@link SseBroadcaster} implementation.
+ * <p>
+ * If created with the message body workers, the broadcaster serializes every broadcast event only once and delivers
+ * the {@link SerializedOutboundEvent serialized event} to all the registered event sinks.
  *
  * @author Adam Lindenthal
  */
 class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements SseBroadcaster {
 
+    private static final Logger LOGGER = Logger.getLogger(JerseySseBroadcaster.class.getName());
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
     /**
      * Callbacks notified when {@code SseBroadcaster} is being closed.
      */
@@ -51,6 +69,12 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
      */
     private final CopyOnWriteArrayList<BiConsumer<SseEventSink, Throwable>> onExceptionListeners;
 
+    /**
+     * Message body workers used to serialize the broadcast events, {@code null} if every event sink
+     * serializes the events on its own.
+     */
+    private final Provider<MessageBodyWorkers> workersProvider;
+
     /**
      * Package-private constructor.
      * <p>
@@ -59,6 +83,7 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
     JerseySseBroadcaster() {
         onExceptionListeners = new CopyOnWriteArrayList<>();
         onCloseListeners = new CopyOnWriteArrayList<>();
+        workersProvider = null;
     }
 
     /**
@@ -73,6 +98,40 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
         super(executorService);
         onExceptionListeners = new CopyOnWriteArrayList<>();
         onCloseListeners = new CopyOnWriteArrayList<>();
+        workersProvider = null;
+    }
+
+    /**
+     * Package-private constructor.
+     * <p>
+     * The broadcaster instance should be obtained by calling {@link Sse#newBroadcaster()}, not directly.
+     *
+     * @param executorService      {@code ExecutorService} the executor to use for async delivery,
+     *                             supporting creation of at least one independent thread
+     * @param bufferSize           maximum number of events buffered for each event sink.
+     * @param slowSubscriberPolicy policy applied to the event sinks with a full buffer.
+     * @param workersProvider      message body workers used to serialize every broadcast event once for all
+     *                             the event sinks, or {@code null} if every event sink serializes the events on its own.
+     */
+    JerseySseBroadcaster(final ExecutorService executorService,
+                         final int bufferSize,
+                         final SlowSubscriberPolicy slowSubscriberPolicy,
+                         final Provider<MessageBodyWorkers> workersProvider) {
+        super(executorService, bufferSize, toPublisherStrategy(slowSubscriberPolicy));
+        onExceptionListeners = new CopyOnWriteArrayList<>();
+        onCloseListeners = new CopyOnWriteArrayList<>();
+        this.workersProvider = workersProvider;
+    }
+
+    private static PublisherStrategy toPublisherStrategy(final SlowSubscriberPolicy slowSubscriberPolicy) {
+        switch (slowSubscriberPolicy) {
+            case DROP:
+                return PublisherStrategy.DROPPING;
+            case BLOCK:
+                return PublisherStrategy.BLOCKING;
+            default:
+                return PublisherStrategy.BEST_EFFORT;
+        }
     }
 
     @Override
@@ -104,7 +163,32 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
             throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("event"));
         }
 
-        return CompletableFuture.completedFuture(publish(event));
+        return CompletableFuture.completedFuture(publish(workersProvider == null ? event : serialize(event)));
+    }
+
+    private OutboundSseEvent serialize(final OutboundSseEvent event) {
+        if (event instanceof SerializedOutboundEvent) {
+            return event;
+        }
+
+        final MessageBodyWriter<OutboundSseEvent> writer = workersProvider.get().getMessageBodyWriter(
+                OutboundSseEvent.class, OutboundSseEvent.class, NO_ANNOTATIONS, SseFeature.SERVER_SENT_EVENTS_TYPE);
+        if (writer == null) {
+            return event;
+        }
+
+        final ByteArrayOutputStream entityStream = new ByteArrayOutputStream();
+        try {
+            writer.writeTo(event, OutboundSseEvent.class, OutboundSseEvent.class, NO_ANNOTATIONS,
+                    SseFeature.SERVER_SENT_EVENTS_TYPE, new MultivaluedHashMap<>(), entityStream);
+        } catch (IOException | RuntimeException e) {
+            // let the event sinks serialize the event and report the failure
+            LOGGER.log(Level.FINE, LocalizationMessages.EVENT_BROADCAST_SERIALIZATION_FAILED(), e);
+            return event;
+        }
+
+        return new SerializedOutboundEvent(event, entityStream.toByteArray(),
+                MessageUtils.getCharset(SseFeature.SERVER_SENT_EVENTS_TYPE));
     }
 
     private void notifyOnCompleteHandlers(Flow.Subscriber<? super OutboundSseEvent> subscriber) {
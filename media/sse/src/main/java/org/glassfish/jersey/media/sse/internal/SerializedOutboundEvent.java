@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.sse.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+
+/**
+ * Outbound event together with its immutable serialized form, shared by all the event sinks an event is broadcast to.
+ * <p>
+ * The event delegates all the event properties to the original event, so that it can be sent to any
+ * {@link jakarta.ws.rs.sse.SseEventSink}. The Jersey outbound event writer writes the serialized form directly
+ * if the charset of the response matches the charset the event was serialized with.
+ * </p>
+ * <p>
+ * This class is not intended to be used by the applications.
+ * </p>
+ */
+public final class SerializedOutboundEvent implements OutboundSseEvent {
+
+    private final OutboundSseEvent event;
+    private final byte[] serialized;
+    private final Charset charset;
+
+    /**
+     * Create new serialized outbound event.
+     *
+     * @param event      original outbound event.
+     * @param serialized serialized event, must not be modified after it is passed in.
+     * @param charset    charset the event was serialized with.
+     */
+    SerializedOutboundEvent(final OutboundSseEvent event, final byte[] serialized, final Charset charset) {
+        this.event = event;
+        this.serialized = serialized;
+        this.charset = charset;
+    }
+
+    /**
+     * Get the original outbound event.
+     *
+     * @return original outbound event.
+     */
+    public OutboundSseEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * Get the charset the event was serialized with.
+     *
+     * @return serialization charset.
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Write the serialized event to the entity stream.
+     *
+     * @param entityStream entity stream.
+     * @throws IOException in case of an I/O error.
+     */
+    public void writeTo(final OutputStream entityStream) throws IOException {
+        entityStream.write(serialized);
+    }
+
+    @Override
+    public Class<?> getType() {
+        return event.getType();
+    }
+
+    @Override
+    public Type getGenericType() {
+        return event.getGenericType();
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return event.getMediaType();
+    }
+
+    @Override
+    public Object getData() {
+        return event.getData();
+    }
+
+    @Override
+    public String getId() {
+        return event.getId();
+    }
+
+    @Override
+    public String getName() {
+        return event.getName();
+    }
+
+    @Override
+    public String getComment() {
+        return event.getComment();
+    }
+
+    @Override
+    public long getReconnectDelay() {
+        return event.getReconnectDelay();
+    }
+
+    @Override
+    public boolean isReconnectDelaySet() {
+        return event.isReconnectDelaySet();
+    }
+
+    @Override
+    public String toString() {
+        return event.toString();
+    }
+}
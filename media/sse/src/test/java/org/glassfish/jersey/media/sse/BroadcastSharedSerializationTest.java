@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.sse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseBroadcaster;
+import jakarta.ws.rs.sse.SseEventSink;
+import jakarta.ws.rs.sse.SseEventSource;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test that a broadcast event is serialized once for all the registered event sinks.
+ */
+public class BroadcastSharedSerializationTest extends JerseyTest {
+
+    private static final int SUBSCRIBERS = 3;
+    private static final CountDownLatch REGISTERED_LATCH = new CountDownLatch(SUBSCRIBERS);
+    private static final AtomicInteger SERIALIZATIONS = new AtomicInteger();
+
+    public static class Message {
+
+        private final String text;
+
+        public Message(final String text) {
+            this.text = text;
+        }
+    }
+
+    public static class MessageWriter implements MessageBodyWriter<Message> {
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            return Message.class == type;
+        }
+
+        @Override
+        public void writeTo(final Message message, final Class<?> type, final Type genericType, final Annotation[] annotations,
+                            final MediaType mediaType, final MultivaluedMap<String, Object> httpHeaders,
+                            final OutputStream entityStream) throws IOException {
+            SERIALIZATIONS.incrementAndGet();
+            entityStream.write(message.text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Singleton
+    @Path("broadcast")
+    public static class BroadcastResource {
+
+        private final SseBroadcaster broadcaster;
+        private final Sse sse;
+
+        public BroadcastResource(@Context final Sse sse) {
+            this.sse = sse;
+            this.broadcaster = sse.newBroadcaster();
+        }
+
+        @GET
+        @Produces(SseFeature.SERVER_SENT_EVENTS)
+        public void subscribe(@Context final SseEventSink eventSink) {
+            broadcaster.register(eventSink);
+            REGISTERED_LATCH.countDown();
+        }
+
+        @POST
+        public String broadcast(final String text) {
+            broadcaster.broadcast(sse.newEventBuilder()
+                    .name("message")
+                    .mediaType(MediaType.TEXT_PLAIN_TYPE)
+                    .data(new Message(text))
+                    .build());
+            return "OK";
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(BroadcastResource.class, MessageWriter.class)
+                .property(SseFeature.BROADCAST_SHARED_SERIALIZATION, true);
+    }
+
+    @Test
+    public void testSharedSerialization() throws InterruptedException {
+        final Queue<String> received = new ConcurrentLinkedQueue<>();
+        final CountDownLatch receivedLatch = new CountDownLatch(SUBSCRIBERS);
+        final List<SseEventSource> eventSources = new ArrayList<>();
+        try {
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                final SseEventSource eventSource = SseEventSource.target(target("broadcast")).build();
+                eventSource.register(event -> {
+                    received.add(event.getName() + ":" + event.readData());
+                    receivedLatch.countDown();
+                });
+                eventSource.open();
+                eventSources.add(eventSource);
+            }
+            assertTrue(REGISTERED_LATCH.await(10, TimeUnit.SECONDS));
+
+            assertEquals("OK", target("broadcast").request().post(Entity.text("hello"), String.class));
+
+            assertTrue(receivedLatch.await(10, TimeUnit.SECONDS));
+            assertEquals(SUBSCRIBERS, received.size());
+            received.forEach(event -> assertEquals("message:hello", event));
+            assertEquals(1, SERIALIZATIONS.get());
+        } finally {
+            eventSources.forEach(SseEventSource::close);
+        }
+    }
+}
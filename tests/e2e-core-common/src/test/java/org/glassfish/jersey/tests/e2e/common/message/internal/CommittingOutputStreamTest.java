@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,6 +19,8 @@ package org.glassfish.jersey.tests.e2e.common.message.internal;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -27,6 +29,7 @@ import jakarta.ws.rs.core.Configuration;
 
 import org.glassfish.jersey.CommonProperties;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.io.spi.FileRegionOutput;
 import org.glassfish.jersey.message.internal.CommittingOutputStream;
 import org.glassfish.jersey.message.internal.OutboundMessageContext;
 import org.glassfish.jersey.model.internal.CommonConfig;
@@ -34,6 +37,7 @@ import org.glassfish.jersey.model.internal.ComponentBag;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -355,7 +359,106 @@ public class CommittingOutputStreamTest {
         }
     }
 
-}
+    private static class FileRegionStream extends ByteArrayOutputStream implements FileRegionOutput {
+        private long position = -1;
+        private long count = -1;
 
+        @Override
+        public boolean writeFileRegion(Path file, long position, long count) {
+            this.position = position;
+            this.count = count;
+            return true;
+        }
+    }
 
+    private static Path createFile() throws IOException {
+        final Path file = Files.createTempFile("jersey-file-region", ".bin");
+        Files.write(file, new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+        return file;
+    }
+
+    @Test
+    public void testFileRegionBuffered() throws IOException {
+        final Path file = createFile();
+        try {
+            final Passed passed = new Passed();
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream(1000);
+            CommittingOutputStream cos = new CommittingOutputStream();
+            setupBufferedStreamProvider(passed, baos, cos, 2);
+
+            FileRegionOutput.write(cos, file, 3, 2);
+            checkNotYetCommitted(passed, baos, cos);
+            cos.close();
+            check(baos, new byte[]{3, 4});
+            assertTrue(passed.b);
+        } finally {
+            Files.delete(file);
+        }
+    }
 
+    @Test
+    public void testFileRegionHandedOver() throws IOException {
+        final Path file = createFile();
+        try {
+            final Passed passed = new Passed();
+            final FileRegionStream out = new FileRegionStream();
+            CommittingOutputStream cos = new CommittingOutputStream();
+            cos.setStreamProvider(contentLength -> {
+                assertEquals(5, contentLength);
+                passed.pass();
+                return out;
+            });
+            cos.enableBuffering(3);
+
+            FileRegionOutput.write(cos, file, 2, 5);
+            checkCommitted(passed, cos);
+            cos.close();
+            assertEquals(2, out.position);
+            assertEquals(5, out.count);
+            assertEquals(0, out.size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testFileRegionCopied() throws IOException {
+        final Path file = createFile();
+        try {
+            final Passed passed = new Passed();
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream(1000);
+            CommittingOutputStream cos = new CommittingOutputStream();
+            setupBufferedStreamProvider(passed, baos, cos, 5);
+
+            FileRegionOutput.write(cos, file, 2, 5);
+            checkCommitted(passed, cos);
+            cos.close();
+            check(baos, new byte[]{2, 3, 4, 5, 6});
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testFileRegionAfterWrite() throws IOException {
+        final Path file = createFile();
+        try {
+            final Passed passed = new Passed();
+            final FileRegionStream out = new FileRegionStream();
+            CommittingOutputStream cos = new CommittingOutputStream();
+            cos.setStreamProvider(contentLength -> {
+                assertEquals(-1, contentLength);
+                passed.pass();
+                return out;
+            });
+
+            cos.write(9);
+            FileRegionOutput.write(cos, file, 0, 10);
+            cos.close();
+            assertEquals(-1, out.count);
+            assertArrayEquals(new byte[]{9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, out.toByteArray());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,9 +17,15 @@
 package org.glassfish.jersey.tests.e2e.common.process.internal;
 
 import java.lang.reflect.Type;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.glassfish.jersey.inject.hk2.Hk2RequestScope;
 import org.glassfish.jersey.internal.inject.ForeignDescriptor;
@@ -227,6 +233,37 @@ public class RequestScopeTest {
         Assertions.assertTrue(passed.get());
     }
 
+    @Test
+    public void testPropagate() throws Exception {
+        final RequestScope requestScope = new Hk2RequestScope();
+        final Runnable notInScope = () -> { };
+        assertEquals(notInScope, requestScope.propagate(notInScope));
+
+        final Hk2RequestScope.Instance instance = (Hk2RequestScope.Instance) requestScope.createContext();
+        final ForeignDescriptor inhab = ForeignDescriptor.wrap(new TestProvider("a"));
+        instance.put(inhab, "1");
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final AtomicBoolean propagated = new AtomicBoolean();
+            final Callable<CompletableFuture<String>> task = () -> {
+                executor.submit(requestScope.propagate(() -> propagated.set(requestScope.current() == instance)))
+                        .get(10, TimeUnit.SECONDS);
+                final Supplier<String> supplier = requestScope.propagate(
+                        () -> ((Hk2RequestScope.Instance) requestScope.current()).get(inhab));
+                return CompletableFuture.supplyAsync(supplier, executor);
+            };
+            final CompletableFuture<String> result = requestScope.runInScope(instance, task);
+            assertEquals("1", result.get(10, TimeUnit.SECONDS));
+            assertTrue(propagated.get());
+            assertEquals("1", instance.get(inhab));
+            // the propagated tasks released their references
+            instance.release();
+            assertNull(instance.get(inhab));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Test request scope inhabitant.
      */
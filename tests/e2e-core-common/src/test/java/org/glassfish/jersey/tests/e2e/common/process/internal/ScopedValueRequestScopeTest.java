@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.e2e.common.process.internal;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.CommonProperties;
+import org.glassfish.jersey.inject.hk2.Hk2RequestScope;
+import org.glassfish.jersey.internal.inject.ForeignDescriptor;
+import org.glassfish.jersey.process.internal.RequestContext;
+import org.glassfish.jersey.process.internal.RequestScope;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test of the {@link RequestScope request scope} keeping the current scope context in a {@code ScopedValue}.
+ * <p>
+ * The scoped value is chosen once per JVM, the test is therefore run by a separate surefire execution
+ * with the {@value CommonProperties#REQUEST_SCOPE_SCOPED_VALUE} system property enabled on JDK 25+.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = CommonProperties.REQUEST_SCOPE_SCOPED_VALUE, matches = "true")
+public class ScopedValueRequestScopeTest {
+
+    private RequestScope requestScope;
+    private ForeignDescriptor inhab;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        requestScope = new Hk2RequestScope();
+        inhab = ForeignDescriptor.wrap(new RequestScopeTest.TestProvider("a"));
+
+        final Field binding = RequestScope.class.getDeclaredField("scopedRequestContext");
+        binding.setAccessible(true);
+        assertNotNull(binding.get(requestScope), "The request scope does not use the scoped value.");
+    }
+
+    @Test
+    public void testNestedScopes() throws Exception {
+        final Hk2RequestScope.Instance outer = (Hk2RequestScope.Instance) requestScope.createContext();
+        outer.put(inhab, "outer");
+
+        final Hk2RequestScope.Instance inner = requestScope.runInScope(outer, () -> {
+            assertSame(outer, requestScope.current());
+
+            final Hk2RequestScope.Instance implicit = requestScope.runInScope(() -> {
+                final Hk2RequestScope.Instance current = (Hk2RequestScope.Instance) requestScope.suspendCurrent();
+                assertNotSame(outer, current);
+                assertNull(current.get(inhab));
+                current.put(inhab, "inner");
+
+                // re-entering the outer context from the inner scope
+                requestScope.runInScope(outer, () -> assertEquals("outer",
+                        ((Hk2RequestScope.Instance) requestScope.current()).get(inhab)));
+                assertSame(current, requestScope.current());
+                return current;
+            });
+
+            assertSame(outer, requestScope.current());
+            assertEquals("outer", outer.get(inhab));
+            return implicit;
+        });
+
+        assertThrows(IllegalStateException.class, requestScope::current);
+        assertEquals("inner", inner.get(inhab));
+        inner.release();
+        assertNull(inner.get(inhab));
+        assertEquals("outer", outer.get(inhab));
+        outer.release();
+        assertNull(outer.get(inhab));
+    }
+
+    @Test
+    public void testCheckedExceptionPropagation() {
+        final IOException failure = new IOException("failure");
+        final Hk2RequestScope.Instance[] context = new Hk2RequestScope.Instance[1];
+
+        final IOException thrown = assertThrows(IOException.class, () -> requestScope.runInScope((Callable<Void>) () -> {
+            context[0] = (Hk2RequestScope.Instance) requestScope.current();
+            context[0].put(inhab, "1");
+            throw failure;
+        }));
+
+        assertSame(failure, thrown);
+        assertThrows(IllegalStateException.class, requestScope::current);
+        assertNull(context[0].get(inhab));
+    }
+
+    @Test
+    public void testNestedRuntimeExceptionPropagation() {
+        final Hk2RequestScope.Instance outer = (Hk2RequestScope.Instance) requestScope.createContext();
+        outer.put(inhab, "outer");
+        final IllegalArgumentException failure = new IllegalArgumentException("failure");
+
+        requestScope.runInScope(outer, () -> {
+            final Hk2RequestScope.Instance[] context = new Hk2RequestScope.Instance[1];
+            final IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                    () -> requestScope.runInScope((Runnable) () -> {
+                        context[0] = (Hk2RequestScope.Instance) requestScope.current();
+                        context[0].put(inhab, "inner");
+                        throw failure;
+                    }));
+
+            assertSame(failure, thrown);
+            assertNull(context[0].get(inhab));
+            assertSame(outer, requestScope.current());
+        });
+
+        assertThrows(IllegalStateException.class, requestScope::current);
+        assertEquals("outer", outer.get(inhab));
+        outer.release();
+        assertNull(outer.get(inhab));
+    }
+
+    @Test
+    public void testPropagate() throws Exception {
+        final Hk2RequestScope.Instance instance = (Hk2RequestScope.Instance) requestScope.createContext();
+        instance.put(inhab, "1");
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final RequestContext[] propagated = new RequestContext[1];
+            final Runnable task = requestScope.runInScope(instance, () -> requestScope.propagate(() -> {
+                propagated[0] = requestScope.current();
+            }));
+            executor.submit(task).get(10, TimeUnit.SECONDS);
+            assertSame(instance, propagated[0]);
+
+            // the scoped value is not bound on the executor thread outside of the propagated task
+            executor.submit(() -> assertThrows(IllegalStateException.class, requestScope::current))
+                    .get(10, TimeUnit.SECONDS);
+
+            assertEquals("1", instance.get(inhab));
+            instance.release();
+            assertNull(instance.get(inhab));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.e2e.entity.filtering.json;
+
+import java.lang.annotation.Annotation;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Providers;
+
+import org.glassfish.jersey.jackson.JacksonFeature;
+import org.glassfish.jersey.jackson.internal.FilteringJacksonJaxbJsonProvider;
+import org.glassfish.jersey.message.filtering.EntityFilteringFeature;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.tests.e2e.entity.filtering.PrimaryDetailedView;
+import org.glassfish.jersey.tests.e2e.entity.filtering.domain.ComplexEntity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+/**
+ * Tests that the object writers with the entity-filtering filters applied are cached per the entity-filtering scopes.
+ */
+public class JsonEntityFilteringWriterCacheTest extends JerseyTest {
+
+    public JsonEntityFilteringWriterCacheTest() {
+        super(new ResourceConfig(Resource.class, EntityFilteringFeature.class, JacksonFeature.class));
+    }
+
+    @Path("/")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class Resource {
+
+        @Context
+        private Providers providers;
+
+        @GET
+        @Path("primary")
+        @PrimaryDetailedView
+        public ComplexEntity primary() {
+            return ComplexEntity.INSTANCE;
+        }
+
+        @GET
+        @Path("default")
+        public ComplexEntity defaultView() {
+            return ComplexEntity.INSTANCE;
+        }
+
+        @GET
+        @Path("hits")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String hits() {
+            final FilteringJacksonJaxbJsonProvider provider = (FilteringJacksonJaxbJsonProvider) providers.getMessageBodyWriter(
+                    ComplexEntity.class, ComplexEntity.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE);
+            return String.valueOf(provider.getWriterCacheHitCount());
+        }
+    }
+
+    @Test
+    public void testCachedWritersPerScope() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(target("primary").request().get(ComplexEntity.class).getProperty(), is("property"));
+            assertThat(target("default").request().get(ComplexEntity.class).getProperty(), nullValue());
+        }
+
+        assertThat(Long.parseLong(target("hits").request().get(String.class)), greaterThanOrEqualTo(4L));
+    }
+}
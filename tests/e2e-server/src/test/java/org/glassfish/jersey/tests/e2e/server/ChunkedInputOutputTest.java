@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,11 +17,16 @@
 package org.glassfish.jersey.tests.e2e.server;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -72,6 +77,30 @@ public class ChunkedInputOutputTest extends JerseyTest {
                              .chunkDelimiter("\r\n".getBytes()).build());
         }
 
+        /**
+         * Get chunk stream with the chunks coalesced.
+         *
+         * @return chunk stream.
+         */
+        @GET
+        @Path("/coalesced")
+        public ChunkedOutput<String> getCoalesced() {
+            return getOutput(ChunkedOutput.<String>builder(String.class).coalesce(1024, 0, TimeUnit.MILLISECONDS)
+                             .chunkDelimiter("\r\n".getBytes()).build());
+        }
+
+        /**
+         * Get chunk stream with the chunks coalesced for a while.
+         *
+         * @return chunk stream.
+         */
+        @GET
+        @Path("/coalescedWithDelay")
+        public ChunkedOutput<String> getCoalescedWithDelay() {
+            return getOutput(ChunkedOutput.<String>builder(String.class).coalesce(1024, 50, TimeUnit.MILLISECONDS)
+                             .chunkDelimiter("\r\n".getBytes()).build());
+        }
+
         /**
          * Get chunk stream.
          *
@@ -82,20 +111,41 @@ public class ChunkedInputOutputTest extends JerseyTest {
             return getOutput(new ChunkedOutput<>(String.class, "\r\n"));
         }
 
+        /**
+         * Get chunk stream of distinct chunks.
+         *
+         * @return chunk stream.
+         */
+        @GET
+        @Path("distinct")
+        public ChunkedOutput<String> getDistinct() {
+            return getOutput(new ChunkedOutput<>(String.class, "\r\n"), "first", "second", "third");
+        }
+
         /**
          * Get chunk stream.
          *
          * @return chunk stream.
          */
         private ChunkedOutput<String> getOutput(ChunkedOutput<String> output) {
+            return getOutput(output, "test", "test", "test");
+        }
+
+        /**
+         * Get chunk stream.
+         *
+         * @param chunks chunks to write.
+         * @return chunk stream.
+         */
+        private ChunkedOutput<String> getOutput(ChunkedOutput<String> output, String... chunks) {
 
             new Thread() {
                 @Override
                 public void run() {
                     try {
-                        output.write("test");
-                        output.write("test");
-                        output.write("test");
+                        for (final String chunk : chunks) {
+                            output.write(chunk);
+                        }
                     } catch (final IOException e) {
                         LOGGER.log(Level.SEVERE, "Error writing chunk.", e);
                     } finally {
@@ -215,6 +265,38 @@ public class ChunkedInputOutputTest extends JerseyTest {
                 "Unexpected value of chunked response unmarshalled as a single string.");
     }
 
+    /**
+     * Test retrieving coalesced chunked response stream as a single response string.
+     *
+     * @throws Exception in case of a failure during the test execution.
+     */
+    @Test
+    public void testCoalescedChunkedOutputToSingleString() throws Exception {
+        assertEquals("test\r\ntest\r\ntest\r\n", target().path("test/coalesced").request().get(String.class));
+        assertEquals("test\r\ntest\r\ntest\r\n", target().path("test/coalescedWithDelay").request().get(String.class));
+    }
+
+    /**
+     * Test retrieving coalesced chunked response stream sequentially as individual chunks using chunked input.
+     *
+     * @throws Exception in case of a failure during the test execution.
+     */
+    @Test
+    public void testCoalescedChunkedOutputToChunkInput() throws Exception {
+        final ChunkedInput<String> input = target().path("test/coalescedWithDelay").request()
+                .get(new GenericType<ChunkedInput<String>>() {
+                });
+
+        int counter = 0;
+        String chunk;
+        while ((chunk = input.read()) != null) {
+            assertEquals("test", chunk, "Unexpected value of chunk " + counter);
+            counter++;
+        }
+
+        assertEquals(3, counter, "Unexpected numbed of received chunks.");
+    }
+
     /**
      * Test retrieving chunked response stream sequentially as individual chunks using chunked input.
      *
@@ -235,6 +317,29 @@ public class ChunkedInputOutputTest extends JerseyTest {
         assertEquals(3, counter, "Unexpected numbed of received chunks.");
     }
 
+    /**
+     * Test the chunks read as input streams stay intact while the next chunks are read.
+     *
+     * @throws Exception in case of a failure during the test execution.
+     */
+    @Test
+    public void testChunkedOutputToInputStreamChunks() throws Exception {
+        final ChunkedInput<InputStream> input = target().path("test/distinct").request()
+                .get(new GenericType<ChunkedInput<InputStream>>() {
+                });
+
+        final List<InputStream> chunks = new ArrayList<>();
+        InputStream chunk;
+        while ((chunk = input.read()) != null) {
+            chunks.add(chunk);
+        }
+
+        assertEquals(3, chunks.size(), "Unexpected number of received chunks.");
+        assertEquals("first", new String(chunks.get(0).readAllBytes(), StandardCharsets.US_ASCII));
+        assertEquals("second", new String(chunks.get(1).readAllBytes(), StandardCharsets.US_ASCII));
+        assertEquals("third", new String(chunks.get(2).readAllBytes(), StandardCharsets.US_ASCII));
+    }
+
     /**
      * Test retrieving intercepted chunked response stream sequentially as individual chunks using chunked input.
      *
@@ -37,6 +37,9 @@ public class AllBenchmarks {
                 .include(LocatorBenchmark.class.getSimpleName())
                 .include(JerseyUriBuilderBenchmark.class.getSimpleName())
                 .include(HeadersServerBenchmark.class.getName())
+                .include(ResourceMethodInvocationBenchmark.class.getSimpleName())
+                .include(JettyContainerRequestBenchmark.class.getSimpleName())
+                .include(WebResourceFactoryBenchmark.class.getSimpleName())
                 // Measure throughput in seconds (ops/s).
                 .mode(Mode.Throughput)
                 .timeUnit(TimeUnit.SECONDS)
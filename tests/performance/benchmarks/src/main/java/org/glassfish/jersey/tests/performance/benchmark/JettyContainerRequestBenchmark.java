@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.HttpHeaders;
+
+import org.eclipse.jetty.http.HttpFields;
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.jetty.internal.HttpFieldsMultivaluedMap;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the Jersey request construction done by the Jetty HTTP container for every request. Compares creating
+ * the request URI and copying the Jetty request headers eagerly with creating the request URI lazily and reading
+ * the Jetty request headers through a view. Both variants reuse the base URI, as the container caches it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JettyContainerRequestBenchmark {
+
+    private static final String SERVER_ADDRESS = "http://localhost:8080";
+    private static final String PATH = "/app/resources/items/42";
+
+    private volatile Configuration configuration;
+    private volatile HttpFields fields;
+    private volatile URI baseUri;
+
+    @Setup
+    public void start() throws Exception {
+        configuration = new ApplicationHandler(new ResourceConfig()).getConfiguration();
+        fields = HttpFields.build()
+                .add(HttpHeaders.HOST, "localhost:8080")
+                .add(HttpHeaders.USER_AGENT, "Mozilla/5.0 (X11; Linux x86_64; rv:128.0) Gecko/20100101 Firefox/128.0")
+                .add(HttpHeaders.ACCEPT, "application/json")
+                .add(HttpHeaders.ACCEPT_LANGUAGE, "en-US,en;q=0.5")
+                .add(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br")
+                .add("Connection", "keep-alive")
+                .add(HttpHeaders.COOKIE, "session=3f2a9c7e1b")
+                .add(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .asImmutable();
+        baseUri = new URI("http", null, "localhost", 8080, "/app/", null, null);
+    }
+
+    @Benchmark
+    public void eager(final Blackhole blackhole) throws URISyntaxException {
+        final ContainerRequest request = new ContainerRequest(
+                baseUri,
+                new URI(SERVER_ADDRESS + PATH),
+                "GET",
+                null,
+                new MapPropertiesDelegate(),
+                configuration);
+        fields.forEach(field -> request.headers(field.getName(), field.getValue() == null ? "" : field.getValue()));
+
+        consume(request, blackhole);
+    }
+
+    @Benchmark
+    public void lazy(final Blackhole blackhole) {
+        final ContainerRequest request = new ContainerRequest(
+                baseUri,
+                PATH,
+                () -> URI.create(SERVER_ADDRESS + PATH),
+                "GET",
+                null,
+                new MapPropertiesDelegate(),
+                configuration,
+                new HttpFieldsMultivaluedMap(fields));
+
+        consume(request, blackhole);
+    }
+
+    private static void consume(final ContainerRequest request, final Blackhole blackhole) {
+        // what the routing and the content negotiation read for a typical request
+        blackhole.consume(request.getPath(false));
+        blackhole.consume(request.getAcceptableMediaTypes());
+        blackhole.consume(request.getHeaderString(HttpHeaders.CONTENT_TYPE));
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(JettyContainerRequestBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
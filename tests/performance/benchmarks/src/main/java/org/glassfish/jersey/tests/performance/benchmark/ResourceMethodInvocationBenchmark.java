@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the reflective and the method handle based resource method invocation, both in isolation and as a part
+ * of the whole request processing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResourceMethodInvocationBenchmark {
+
+    @Path("invocation")
+    public static class InvocationResource {
+
+        @GET
+        public String get(@QueryParam("a") final int a, @QueryParam("b") final String b) {
+            return b + a;
+        }
+    }
+
+    @Param({"false", "true"})
+    private boolean methodHandleInvocationDisabled;
+
+    private ApplicationHandler handler;
+
+    private InvocationResource resource;
+    private Method method;
+    private MethodHandle methodHandle;
+    private Object[] args;
+
+    @Setup
+    public void start() throws Exception {
+        handler = new ApplicationHandler(new ResourceConfig(InvocationResource.class)
+                .property(ServerProperties.METHOD_HANDLE_INVOCATION_DISABLE, methodHandleInvocationDisabled));
+
+        resource = new InvocationResource();
+        method = InvocationResource.class.getMethod("get", int.class, String.class);
+        // The same adaptation as done by the server runtime.
+        final MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+        methodHandle = handle.asType(handle.type().generic())
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        args = new Object[] {42, "value"};
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return method.invoke(resource, args);
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Throwable {
+        return (Object) methodHandle.invokeExact((Object) resource, args);
+    }
+
+    @Benchmark
+    public Object request() throws Exception {
+        final ContainerResponse response = handler.apply(ContainerRequestBuilder
+                .from("invocation?a=42&b=value", "GET", handler.getConfiguration())
+                .build()).get();
+        return response.getEntity();
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(ResourceMethodInvocationBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
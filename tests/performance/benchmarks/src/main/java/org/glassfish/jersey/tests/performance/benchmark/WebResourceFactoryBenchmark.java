@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.proxy.WebResourceFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the client proxies created by {@link WebResourceFactory}. Compares invoking a proxy method with
+ * building the same request using the client API directly. The requests are aborted by a client request filter,
+ * so that the benchmark measures the request construction only.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WebResourceFactoryBenchmark {
+
+    @Path("items")
+    @Produces(MediaType.TEXT_PLAIN)
+    public interface ItemsResource {
+
+        @GET
+        @Path("{id}")
+        String get(@PathParam("id") String id, @QueryParam("fields") String fields, @HeaderParam("X-Trace") String trace);
+
+        @POST
+        @Consumes(MediaType.TEXT_PLAIN)
+        String create(String item);
+    }
+
+    private volatile Client client;
+    private volatile WebTarget target;
+    private volatile ItemsResource proxy;
+
+    @Setup
+    public void start() {
+        client = ClientBuilder.newClient()
+                .register((ClientRequestFilter) requestContext ->
+                        requestContext.abortWith(Response.ok("OK", MediaType.TEXT_PLAIN_TYPE).build()));
+        target = client.target("http://localhost:8080/app");
+        proxy = WebResourceFactory.newResource(ItemsResource.class, target);
+    }
+
+    @TearDown
+    public void shutdown() {
+        client.close();
+    }
+
+    @Benchmark
+    public String proxyGet() {
+        return proxy.get("42", "name", "trace");
+    }
+
+    @Benchmark
+    public String clientGet() {
+        return target.path("items").path("{id}").resolveTemplate("id", "42")
+                .queryParam("fields", "name")
+                .request(MediaType.TEXT_PLAIN)
+                .header("X-Trace", "trace")
+                .get(String.class);
+    }
+
+    @Benchmark
+    public String proxyPost() {
+        return proxy.create("item");
+    }
+
+    @Benchmark
+    public String clientPost() {
+        return target.path("items")
+                .request(MediaType.TEXT_PLAIN)
+                .post(Entity.entity("item", MediaType.TEXT_PLAIN), String.class);
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(WebResourceFactoryBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}